@@ -0,0 +1,4895 @@
+package jreversepro.corpus;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Huge class of the benchmark corpus: the methods of {@link Medium},
+ * repeated 40 times, and a large constant table.
+ */
+public class Huge {
+
+    private static final int[] TABLE = {
+            0, 39193, 12850, 52043, 25700, 64893, 38550, 12207, 51400, 25057, 64250, 37907, 11564, 50757, 24414, 63607,
+            7919, 47112, 20769, 59962, 33619, 7276, 46469, 20126, 59319, 32976, 6633, 45826, 19483, 58676, 32333, 5990,
+            15838, 55031, 28688, 2345, 41538, 15195, 54388, 28045, 1702, 40895, 14552, 53745, 27402, 1059, 40252, 13909,
+            23757, 62950, 36607, 10264, 49457, 23114, 62307, 35964, 9621, 48814, 22471, 61664, 35321, 8978, 48171, 21828,
+            31676, 5333, 44526, 18183, 57376, 31033, 4690, 43883, 17540, 56733, 30390, 4047, 43240, 16897, 56090, 29747,
+            39595, 13252, 52445, 26102, 65295, 38952, 12609, 51802, 25459, 64652, 38309, 11966, 51159, 24816, 64009, 37666,
+            47514, 21171, 60364, 34021, 7678, 46871, 20528, 59721, 33378, 7035, 46228, 19885, 59078, 32735, 6392, 45585,
+            55433, 29090, 2747, 41940, 15597, 54790, 28447, 2104, 41297, 14954, 54147, 27804, 1461, 40654, 14311, 53504,
+            63352, 37009, 10666, 49859, 23516, 62709, 36366, 10023, 49216, 22873, 62066, 35723, 9380, 48573, 22230, 61423,
+            5735, 44928, 18585, 57778, 31435, 5092, 44285, 17942, 57135, 30792, 4449, 43642, 17299, 56492, 30149, 3806,
+            13654, 52847, 26504, 161, 39354, 13011, 52204, 25861, 65054, 38711, 12368, 51561, 25218, 64411, 38068, 11725,
+            21573, 60766, 34423, 8080, 47273, 20930, 60123, 33780, 7437, 46630, 20287, 59480, 33137, 6794, 45987, 19644,
+            29492, 3149, 42342, 15999, 55192, 28849, 2506, 41699, 15356, 54549, 28206, 1863, 41056, 14713, 53906, 27563,
+            37411, 11068, 50261, 23918, 63111, 36768, 10425, 49618, 23275, 62468, 36125, 9782, 48975, 22632, 61825, 35482,
+            45330, 18987, 58180, 31837, 5494, 44687, 18344, 57537, 31194, 4851, 44044, 17701, 56894, 30551, 4208, 43401,
+            53249, 26906, 563, 39756, 13413, 52606, 26263, 65456, 39113, 12770, 51963, 25620, 64813, 38470, 12127, 51320,
+            61168, 34825, 8482, 47675, 21332, 60525, 34182, 7839, 47032, 20689, 59882, 33539, 7196, 46389, 20046, 59239,
+            3551, 42744, 16401, 55594, 29251, 2908, 42101, 15758, 54951, 28608, 2265, 41458, 15115, 54308, 27965, 1622,
+            11470, 50663, 24320, 63513, 37170, 10827, 50020, 23677, 62870, 36527, 10184, 49377, 23034, 62227, 35884, 9541,
+            19389, 58582, 32239, 5896, 45089, 18746, 57939, 31596, 5253, 44446, 18103, 57296, 30953, 4610, 43803, 17460,
+            27308, 965, 40158, 13815, 53008, 26665, 322, 39515, 13172, 52365, 26022, 65215, 38872, 12529, 51722, 25379,
+            35227, 8884, 48077, 21734, 60927, 34584, 8241, 47434, 21091, 60284, 33941, 7598, 46791, 20448, 59641, 33298,
+            43146, 16803, 55996, 29653, 3310, 42503, 16160, 55353, 29010, 2667, 41860, 15517, 54710, 28367, 2024, 41217,
+            51065, 24722, 63915, 37572, 11229, 50422, 24079, 63272, 36929, 10586, 49779, 23436, 62629, 36286, 9943, 49136,
+            58984, 32641, 6298, 45491, 19148, 58341, 31998, 5655, 44848, 18505, 57698, 31355, 5012, 44205, 17862, 57055,
+            1367, 40560, 14217, 53410, 27067, 724, 39917, 13574, 52767, 26424, 81, 39274, 12931, 52124, 25781, 64974,
+            9286, 48479, 22136, 61329, 34986, 8643, 47836, 21493, 60686, 34343, 8000, 47193, 20850, 60043, 33700, 7357,
+            17205, 56398, 30055, 3712, 42905, 16562, 55755, 29412, 3069, 42262, 15919, 55112, 28769, 2426, 41619, 15276,
+            25124, 64317, 37974, 11631, 50824, 24481, 63674, 37331, 10988, 50181, 23838, 63031, 36688, 10345, 49538, 23195,
+            33043, 6700, 45893, 19550, 58743, 32400, 6057, 45250, 18907, 58100, 31757, 5414, 44607, 18264, 57457, 31114,
+            40962, 14619, 53812, 27469, 1126, 40319, 13976, 53169, 26826, 483, 39676, 13333, 52526, 26183, 65376, 39033,
+            48881, 22538, 61731, 35388, 9045, 48238, 21895, 61088, 34745, 8402, 47595, 21252, 60445, 34102, 7759, 46952,
+            56800, 30457, 4114, 43307, 16964, 56157, 29814, 3471, 42664, 16321, 55514, 29171, 2828, 42021, 15678, 54871,
+            64719, 38376, 12033, 51226, 24883, 64076, 37733, 11390, 50583, 24240, 63433, 37090, 10747, 49940, 23597, 62790,
+            7102, 46295, 19952, 59145, 32802, 6459, 45652, 19309, 58502, 32159, 5816, 45009, 18666, 57859, 31516, 5173,
+            15021, 54214, 27871, 1528, 40721, 14378, 53571, 27228, 885, 40078, 13735, 52928, 26585, 242, 39435, 13092,
+            22940, 62133, 35790, 9447, 48640, 22297, 61490, 35147, 8804, 47997, 21654, 60847, 34504, 8161, 47354, 21011,
+            30859, 4516, 43709, 17366, 56559, 30216, 3873, 43066, 16723, 55916, 29573, 3230, 42423, 16080, 55273, 28930,
+            38778, 12435, 51628, 25285, 64478, 38135, 11792, 50985, 24642, 63835, 37492, 11149, 50342, 23999, 63192, 36849,
+            46697, 20354, 59547, 33204, 6861, 46054, 19711, 58904, 32561, 6218, 45411, 19068, 58261, 31918, 5575, 44768,
+            54616, 28273, 1930, 41123, 14780, 53973, 27630, 1287, 40480, 14137, 53330, 26987, 644, 39837, 13494, 52687,
+            62535, 36192, 9849, 49042, 22699, 61892, 35549, 9206, 48399, 22056, 61249, 34906, 8563, 47756, 21413, 60606,
+            4918, 44111, 17768, 56961, 30618, 4275, 43468, 17125, 56318, 29975, 3632, 42825, 16482, 55675, 29332, 2989,
+            12837, 52030, 25687, 64880, 38537, 12194, 51387, 25044, 64237, 37894, 11551, 50744, 24401, 63594, 37251, 10908,
+            20756, 59949, 33606, 7263, 46456, 20113, 59306, 32963, 6620, 45813, 19470, 58663, 32320, 5977, 45170, 18827,
+            28675, 2332, 41525, 15182, 54375, 28032, 1689, 40882, 14539, 53732, 27389, 1046, 40239, 13896, 53089, 26746,
+            36594, 10251, 49444, 23101, 62294, 35951, 9608, 48801, 22458, 61651, 35308, 8965, 48158, 21815, 61008, 34665,
+            44513, 18170, 57363, 31020, 4677, 43870, 17527, 56720, 30377, 4034, 43227, 16884, 56077, 29734, 3391, 42584,
+            52432, 26089, 65282, 38939, 12596, 51789, 25446, 64639, 38296, 11953, 51146, 24803, 63996, 37653, 11310, 50503,
+            60351, 34008, 7665, 46858, 20515, 59708, 33365, 7022, 46215, 19872, 59065, 32722, 6379, 45572, 19229, 58422,
+            2734, 41927, 15584, 54777, 28434, 2091, 41284, 14941, 54134, 27791, 1448, 40641, 14298, 53491, 27148, 805,
+            10653, 49846, 23503, 62696, 36353, 10010, 49203, 22860, 62053, 35710, 9367, 48560, 22217, 61410, 35067, 8724,
+            18572, 57765, 31422, 5079, 44272, 17929, 57122, 30779, 4436, 43629, 17286, 56479, 30136, 3793, 42986, 16643,
+            26491, 148, 39341, 12998, 52191, 25848, 65041, 38698, 12355, 51548, 25205, 64398, 38055, 11712, 50905, 24562,
+            34410, 8067, 47260, 20917, 60110, 33767, 7424, 46617, 20274, 59467, 33124, 6781, 45974, 19631, 58824, 32481,
+            42329, 15986, 55179, 28836, 2493, 41686, 15343, 54536, 28193, 1850, 41043, 14700, 53893, 27550, 1207, 40400,
+            50248, 23905, 63098, 36755, 10412, 49605, 23262, 62455, 36112, 9769, 48962, 22619, 61812, 35469, 9126, 48319,
+            58167, 31824, 5481, 44674, 18331, 57524, 31181, 4838, 44031, 17688, 56881, 30538, 4195, 43388, 17045, 56238,
+            550, 39743, 13400, 52593, 26250, 65443, 39100, 12757, 51950, 25607, 64800, 38457, 12114, 51307, 24964, 64157,
+            8469, 47662, 21319, 60512, 34169, 7826, 47019, 20676, 59869, 33526, 7183, 46376, 20033, 59226, 32883, 6540,
+            16388, 55581, 29238, 2895, 42088, 15745, 54938, 28595, 2252, 41445, 15102, 54295, 27952, 1609, 40802, 14459,
+            24307, 63500, 37157, 10814, 50007, 23664, 62857, 36514, 10171, 49364, 23021, 62214, 35871, 9528, 48721, 22378,
+            32226, 5883, 45076, 18733, 57926, 31583, 5240, 44433, 18090, 57283, 30940, 4597, 43790, 17447, 56640, 30297,
+            40145, 13802, 52995, 26652, 309, 39502, 13159, 52352, 26009, 65202, 38859, 12516, 51709, 25366, 64559, 38216
+    };
+
+    private final Map counts = new HashMap();
+    private final List words = new ArrayList();
+    private final Object lock = new Object();
+    private int total;
+
+    public int classify0(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name0(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse0(int code) {
+        int result;
+        switch (code) {
+            case 10:
+                result = 1;
+                break;
+            case 200:
+                result = 2;
+                break;
+            case 3000:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum0(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count0(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add0(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read0(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join0(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix0(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average0(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 0");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify1(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name1(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse1(int code) {
+        int result;
+        switch (code) {
+            case 11:
+                result = 1;
+                break;
+            case 201:
+                result = 2;
+                break;
+            case 3001:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum1(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count1(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add1(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read1(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join1(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix1(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average1(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 1");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify2(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name2(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse2(int code) {
+        int result;
+        switch (code) {
+            case 12:
+                result = 1;
+                break;
+            case 202:
+                result = 2;
+                break;
+            case 3002:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum2(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count2(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add2(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read2(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join2(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix2(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average2(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 2");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify3(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name3(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse3(int code) {
+        int result;
+        switch (code) {
+            case 13:
+                result = 1;
+                break;
+            case 203:
+                result = 2;
+                break;
+            case 3003:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum3(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count3(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add3(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read3(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join3(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix3(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average3(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 3");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify4(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name4(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse4(int code) {
+        int result;
+        switch (code) {
+            case 14:
+                result = 1;
+                break;
+            case 204:
+                result = 2;
+                break;
+            case 3004:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum4(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count4(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add4(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read4(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join4(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix4(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average4(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 4");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify5(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name5(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse5(int code) {
+        int result;
+        switch (code) {
+            case 15:
+                result = 1;
+                break;
+            case 205:
+                result = 2;
+                break;
+            case 3005:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum5(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count5(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add5(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read5(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join5(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix5(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average5(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 5");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify6(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name6(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse6(int code) {
+        int result;
+        switch (code) {
+            case 16:
+                result = 1;
+                break;
+            case 206:
+                result = 2;
+                break;
+            case 3006:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum6(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count6(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add6(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read6(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join6(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix6(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average6(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 6");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify7(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name7(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse7(int code) {
+        int result;
+        switch (code) {
+            case 17:
+                result = 1;
+                break;
+            case 207:
+                result = 2;
+                break;
+            case 3007:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum7(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count7(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add7(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read7(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join7(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix7(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average7(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 7");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify8(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name8(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse8(int code) {
+        int result;
+        switch (code) {
+            case 18:
+                result = 1;
+                break;
+            case 208:
+                result = 2;
+                break;
+            case 3008:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum8(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count8(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add8(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read8(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join8(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix8(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average8(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 8");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify9(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name9(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse9(int code) {
+        int result;
+        switch (code) {
+            case 19:
+                result = 1;
+                break;
+            case 209:
+                result = 2;
+                break;
+            case 3009:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum9(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count9(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add9(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read9(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join9(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix9(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average9(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 9");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify10(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name10(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse10(int code) {
+        int result;
+        switch (code) {
+            case 20:
+                result = 1;
+                break;
+            case 210:
+                result = 2;
+                break;
+            case 3010:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum10(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count10(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add10(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read10(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join10(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix10(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average10(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 10");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify11(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name11(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse11(int code) {
+        int result;
+        switch (code) {
+            case 21:
+                result = 1;
+                break;
+            case 211:
+                result = 2;
+                break;
+            case 3011:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum11(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count11(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add11(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read11(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join11(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix11(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average11(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 11");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify12(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name12(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse12(int code) {
+        int result;
+        switch (code) {
+            case 22:
+                result = 1;
+                break;
+            case 212:
+                result = 2;
+                break;
+            case 3012:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum12(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count12(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add12(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read12(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join12(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix12(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average12(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 12");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify13(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name13(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse13(int code) {
+        int result;
+        switch (code) {
+            case 23:
+                result = 1;
+                break;
+            case 213:
+                result = 2;
+                break;
+            case 3013:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum13(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count13(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add13(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read13(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join13(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix13(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average13(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 13");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify14(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name14(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse14(int code) {
+        int result;
+        switch (code) {
+            case 24:
+                result = 1;
+                break;
+            case 214:
+                result = 2;
+                break;
+            case 3014:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum14(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count14(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add14(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read14(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join14(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix14(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average14(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 14");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify15(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name15(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse15(int code) {
+        int result;
+        switch (code) {
+            case 25:
+                result = 1;
+                break;
+            case 215:
+                result = 2;
+                break;
+            case 3015:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum15(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count15(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add15(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read15(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join15(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix15(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average15(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 15");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify16(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name16(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse16(int code) {
+        int result;
+        switch (code) {
+            case 26:
+                result = 1;
+                break;
+            case 216:
+                result = 2;
+                break;
+            case 3016:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum16(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count16(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add16(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read16(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join16(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix16(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average16(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 16");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify17(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name17(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse17(int code) {
+        int result;
+        switch (code) {
+            case 27:
+                result = 1;
+                break;
+            case 217:
+                result = 2;
+                break;
+            case 3017:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum17(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count17(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add17(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read17(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join17(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix17(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average17(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 17");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify18(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name18(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse18(int code) {
+        int result;
+        switch (code) {
+            case 28:
+                result = 1;
+                break;
+            case 218:
+                result = 2;
+                break;
+            case 3018:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum18(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count18(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add18(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read18(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join18(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix18(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average18(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 18");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify19(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name19(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse19(int code) {
+        int result;
+        switch (code) {
+            case 29:
+                result = 1;
+                break;
+            case 219:
+                result = 2;
+                break;
+            case 3019:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum19(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count19(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add19(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read19(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join19(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix19(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average19(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 19");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify20(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name20(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse20(int code) {
+        int result;
+        switch (code) {
+            case 30:
+                result = 1;
+                break;
+            case 220:
+                result = 2;
+                break;
+            case 3020:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum20(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count20(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add20(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read20(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join20(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix20(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average20(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 20");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify21(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name21(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse21(int code) {
+        int result;
+        switch (code) {
+            case 31:
+                result = 1;
+                break;
+            case 221:
+                result = 2;
+                break;
+            case 3021:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum21(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count21(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add21(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read21(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join21(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix21(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average21(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 21");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify22(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name22(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse22(int code) {
+        int result;
+        switch (code) {
+            case 32:
+                result = 1;
+                break;
+            case 222:
+                result = 2;
+                break;
+            case 3022:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum22(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count22(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add22(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read22(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join22(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix22(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average22(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 22");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify23(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name23(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse23(int code) {
+        int result;
+        switch (code) {
+            case 33:
+                result = 1;
+                break;
+            case 223:
+                result = 2;
+                break;
+            case 3023:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum23(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count23(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add23(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read23(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join23(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix23(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average23(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 23");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify24(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name24(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse24(int code) {
+        int result;
+        switch (code) {
+            case 34:
+                result = 1;
+                break;
+            case 224:
+                result = 2;
+                break;
+            case 3024:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum24(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count24(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add24(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read24(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join24(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix24(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average24(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 24");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify25(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name25(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse25(int code) {
+        int result;
+        switch (code) {
+            case 35:
+                result = 1;
+                break;
+            case 225:
+                result = 2;
+                break;
+            case 3025:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum25(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count25(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add25(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read25(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join25(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix25(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average25(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 25");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify26(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name26(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse26(int code) {
+        int result;
+        switch (code) {
+            case 36:
+                result = 1;
+                break;
+            case 226:
+                result = 2;
+                break;
+            case 3026:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum26(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count26(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add26(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read26(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join26(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix26(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average26(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 26");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify27(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name27(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse27(int code) {
+        int result;
+        switch (code) {
+            case 37:
+                result = 1;
+                break;
+            case 227:
+                result = 2;
+                break;
+            case 3027:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum27(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count27(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add27(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read27(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join27(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix27(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average27(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 27");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify28(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name28(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse28(int code) {
+        int result;
+        switch (code) {
+            case 38:
+                result = 1;
+                break;
+            case 228:
+                result = 2;
+                break;
+            case 3028:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum28(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count28(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add28(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read28(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join28(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix28(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average28(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 28");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify29(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name29(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse29(int code) {
+        int result;
+        switch (code) {
+            case 39:
+                result = 1;
+                break;
+            case 229:
+                result = 2;
+                break;
+            case 3029:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum29(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count29(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add29(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read29(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join29(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix29(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average29(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 29");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify30(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name30(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse30(int code) {
+        int result;
+        switch (code) {
+            case 40:
+                result = 1;
+                break;
+            case 230:
+                result = 2;
+                break;
+            case 3030:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum30(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count30(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add30(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read30(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join30(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix30(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average30(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 30");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify31(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name31(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse31(int code) {
+        int result;
+        switch (code) {
+            case 41:
+                result = 1;
+                break;
+            case 231:
+                result = 2;
+                break;
+            case 3031:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum31(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count31(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add31(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read31(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join31(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix31(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average31(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 31");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify32(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name32(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse32(int code) {
+        int result;
+        switch (code) {
+            case 42:
+                result = 1;
+                break;
+            case 232:
+                result = 2;
+                break;
+            case 3032:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum32(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count32(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add32(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read32(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join32(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix32(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average32(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 32");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify33(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name33(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse33(int code) {
+        int result;
+        switch (code) {
+            case 43:
+                result = 1;
+                break;
+            case 233:
+                result = 2;
+                break;
+            case 3033:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum33(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count33(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add33(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read33(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join33(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix33(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average33(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 33");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify34(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name34(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse34(int code) {
+        int result;
+        switch (code) {
+            case 44:
+                result = 1;
+                break;
+            case 234:
+                result = 2;
+                break;
+            case 3034:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum34(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count34(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add34(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read34(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join34(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix34(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average34(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 34");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify35(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name35(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse35(int code) {
+        int result;
+        switch (code) {
+            case 45:
+                result = 1;
+                break;
+            case 235:
+                result = 2;
+                break;
+            case 3035:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum35(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count35(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add35(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read35(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join35(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix35(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average35(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 35");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify36(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name36(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse36(int code) {
+        int result;
+        switch (code) {
+            case 46:
+                result = 1;
+                break;
+            case 236:
+                result = 2;
+                break;
+            case 3036:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum36(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count36(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add36(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read36(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join36(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix36(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average36(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 36");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify37(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name37(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse37(int code) {
+        int result;
+        switch (code) {
+            case 47:
+                result = 1;
+                break;
+            case 237:
+                result = 2;
+                break;
+            case 3037:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum37(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count37(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add37(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read37(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join37(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix37(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average37(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 37");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify38(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name38(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse38(int code) {
+        int result;
+        switch (code) {
+            case 48:
+                result = 1;
+                break;
+            case 238:
+                result = 2;
+                break;
+            case 3038:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum38(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count38(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add38(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read38(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join38(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix38(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average38(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 38");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int classify39(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name39(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse39(int code) {
+        int result;
+        switch (code) {
+            case 49:
+                result = 1;
+                break;
+            case 239:
+                result = 2;
+                break;
+            case 3039:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum39(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count39(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add39(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read39(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join39(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix39(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average39(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values 39");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int lookup(int index) {
+        return TABLE[index % TABLE.length];
+    }
+
+    public int getTotal() {
+        return total;
+    }
+}
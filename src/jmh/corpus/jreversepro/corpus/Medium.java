@@ -0,0 +1,144 @@
+package jreversepro.corpus;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Medium class of the benchmark corpus: branches, loops, switches,
+ * exception handlers and synchronized blocks.
+ */
+public class Medium {
+
+    private final Map counts = new HashMap();
+    private final List words = new ArrayList();
+    private final Object lock = new Object();
+    private int total;
+
+    public int classify(int value) {
+        if (value < 0) {
+            return -1;
+        } else if (value == 0) {
+            return 0;
+        } else if (value < 10) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public String name(int day) {
+        switch (day) {
+            case 1:
+                return "monday";
+            case 2:
+                return "tuesday";
+            case 3:
+                return "wednesday";
+            case 4:
+                return "thursday";
+            case 5:
+                return "friday";
+            default:
+                return "weekend";
+        }
+    }
+
+    public int sparse(int code) {
+        int result;
+        switch (code) {
+            case 10:
+                result = 1;
+                break;
+            case 200:
+                result = 2;
+                break;
+            case 3000:
+                result = 3;
+                break;
+            default:
+                result = 0;
+        }
+        return result;
+    }
+
+    public int sum(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public int count(String text, char c) {
+        int n = 0;
+        int i = text.indexOf(c);
+        while (i != -1) {
+            n++;
+            i = text.indexOf(c, i + 1);
+        }
+        return n;
+    }
+
+    public void add(String word) {
+        synchronized (lock) {
+            words.add(word);
+            Integer old = (Integer) counts.get(word);
+            counts.put(word, new Integer(old == null ? 1 : old.intValue() + 1));
+            total++;
+        }
+    }
+
+    public int read(Reader reader) {
+        int n = 0;
+        try {
+            while (reader.read() != -1) {
+                n++;
+            }
+        } catch (IOException e) {
+            n = -1;
+        } finally {
+            total += n;
+        }
+        return n;
+    }
+
+    public String join(String separator) {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append((String) words.get(i));
+        }
+        return sb.toString();
+    }
+
+    public long[][] matrix(int rows, int cols) {
+        long[][] m = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i][j] = (long) i * cols + j;
+            }
+        }
+        return m;
+    }
+
+    public double average(double[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("No values");
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum / values.length;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+}
@@ -0,0 +1,79 @@
+package jreversepro.corpus;
+
+import java.io.Serializable;
+
+/**
+ * Small class of the benchmark corpus: a plain bean.
+ */
+public class Small implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String name;
+    private int count;
+    private long total;
+    private boolean enabled;
+
+    public Small() {
+    }
+
+    public Small(String name, int count) {
+        this.name = name;
+        this.count = count;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void add(long amount) {
+        total += amount;
+        count++;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int hashCode() {
+        return name == null ? count : name.hashCode() * 31 + count;
+    }
+
+    public boolean equals(Object obj) {
+        if (!(obj instanceof Small)) {
+            return false;
+        }
+        Small other = (Small) obj;
+        if (count != other.count || total != other.total) {
+            return false;
+        }
+        if (name == null) {
+            return other.name == null;
+        }
+        return name.equals(other.name);
+    }
+
+    public String toString() {
+        return "Small[" + name + ", " + count + ", " + total + "]";
+    }
+}
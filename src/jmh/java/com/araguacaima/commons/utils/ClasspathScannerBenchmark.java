@@ -0,0 +1,74 @@
+package com.araguacaima.commons.utils;
+
+import org.apache.commons.io.IOUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Measures scanning a whole jar the way {@link ClassLoaderUtils} does through the {@link ClasspathScanner}, on a jar
+ * holding copies of the jreversepro benchmark corpus classes, first with a cold index and then with the in-memory
+ * jar index already built.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClasspathScannerBenchmark {
+
+    private static final String[] CORPUS = {"Small", "Medium", "Huge"};
+
+    // no index directory, so that cold scans do not read a persisted index
+    private final ClasspathScanner scanner = new ClasspathScanner(null);
+    @Param({"100", "1000"})
+    private int copies;
+    private List<File> roots;
+
+    @Setup
+    public void setUp()
+            throws IOException {
+        File jar = File.createTempFile("corpus", ".jar");
+        jar.deleteOnExit();
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+            for (String name : CORPUS) {
+                byte[] bytes;
+                try (InputStream in = ClasspathScannerBenchmark.class.getResourceAsStream(
+                        "/jreversepro/corpus/" + name + ".class")) {
+                    bytes = IOUtils.toByteArray(in);
+                }
+                for (int i = 0; i < copies; i++) {
+                    out.putNextEntry(new ZipEntry("jreversepro/corpus/copy" + i + "/" + name + ".class"));
+                    out.write(bytes);
+                    out.closeEntry();
+                }
+            }
+        }
+        roots = Collections.singletonList(jar);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ClasspathScanner.clearCache();
+    }
+
+    @Benchmark
+    public List<ClasspathScanner.Entry> coldScan() {
+        ClasspathScanner.clearCache();
+        return scanner.scan(roots);
+    }
+
+    @Benchmark
+    public List<ClasspathScanner.Entry> indexedScan() {
+        return scanner.scan(roots);
+    }
+}
@@ -0,0 +1,77 @@
+package com.araguacaima.commons.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the reflective deep copier against the former serialization round-trip on a small DTO graph
+ * (nested beans, a list, a map, a primitive array and a back reference).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeepCloneBenchmark {
+
+    private final ReflectionUtils reflectionUtils = ReflectionUtils.getInstance();
+    @Param({"10", "100"})
+    private int lines;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        order = new Order();
+        order.id = 1L;
+        order.date = LocalDate.of(2017, 1, 1);
+        order.customer = new Customer();
+        order.customer.name = "araguacaima";
+        order.customer.orders = Collections.singletonList(order);
+        order.attributes.put("channel", "web");
+        order.attributes.put("priority", "high");
+        for (int i = 0; i < lines; i++) {
+            Line line = new Line();
+            line.sku = "SKU-" + i;
+            line.quantity = i;
+            line.price = BigDecimal.valueOf(i * 10L);
+            line.dimensions = new double[]{i, i, i};
+            order.lines.add(line);
+        }
+    }
+
+    @Benchmark
+    public Object reflective() {
+        return reflectionUtils.deepClone(order);
+    }
+
+    @Benchmark
+    public Object serialization() {
+        return reflectionUtils.deepClone(order, true);
+    }
+
+    public static class Customer implements Serializable {
+        String name;
+        List<Order> orders;
+    }
+
+    public static class Line implements Serializable {
+        double[] dimensions;
+        BigDecimal price;
+        int quantity;
+        String sku;
+    }
+
+    public static class Order implements Serializable {
+        final Map<String, String> attributes = new HashMap<>();
+        final List<Line> lines = new ArrayList<>();
+        Customer customer;
+        LocalDate date;
+        long id;
+    }
+}
@@ -0,0 +1,75 @@
+package jreversepro;
+
+import jreversepro.parser.JClassParser;
+import jreversepro.reflect.JClassInfo;
+import jreversepro.reflect.JConstantPool;
+import jreversepro.reflect.JMethod;
+import jreversepro.revengine.JDecompiler;
+import jreversepro.revengine.JDisAssembler;
+import org.apache.commons.io.IOUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing, disassembling and decompiling the classes of the checked-in corpus under
+ * {@code src/jmh/resources/jreversepro/corpus}: a small bean, a medium class with branches, loops, switches and
+ * exception handlers, and a huge class repeating the medium one 40 times. The classes are compiled from
+ * {@code src/jmh/corpus} with {@code javac -source 1.4 -target 1.4}, the newest class file version the parser
+ * accepts.
+ * <p>Disassembling and decompiling change the methods they run on, so both start from a fresh parse: subtract
+ * {@link #parse()} to get the cost of {@code genCode} alone.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReverseEngineerBenchmark {
+
+    private final JClassParser parser = new JClassParser();
+    private byte[] bytes;
+    @Param({"Small", "Medium", "Huge"})
+    private String corpusClass;
+
+    @Setup
+    public void setUp()
+            throws IOException {
+        try (InputStream in = ReverseEngineerBenchmark.class.getResourceAsStream("corpus/" + corpusClass + ".class")) {
+            bytes = IOUtils.toByteArray(in);
+        }
+    }
+
+    @Benchmark
+    public JClassInfo parse()
+            throws Exception {
+        parser.parse(ByteBuffer.wrap(bytes), corpusClass);
+        return parser.getClassInfo();
+    }
+
+    @Benchmark
+    public JClassInfo disassemble()
+            throws Exception {
+        JClassInfo infoClass = parse();
+        JConstantPool cpInfo = infoClass.getConstantPool();
+        for (Object method : infoClass.getMethods()) {
+            new JDisAssembler((JMethod) method, cpInfo).genCode();
+        }
+        return infoClass;
+    }
+
+    @Benchmark
+    public JClassInfo decompile()
+            throws Exception {
+        JClassInfo infoClass = parse();
+        JConstantPool cpInfo = infoClass.getConstantPool();
+        for (Object method : infoClass.getMethods()) {
+            new JDecompiler((JMethod) method, cpInfo).genCode();
+        }
+        return infoClass;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2017 araguacaima
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.araguacaima.commons.utils;
+
+import jreversepro.common.KeyWords;
+import jreversepro.parser.ClassParserException;
+import jreversepro.parser.JClassParser;
+import jreversepro.reflect.JClassInfo;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The identity of a class file as declared in its header: access flags, class name, superclass and directly
+ * implemented interfaces, all of them as binary names ({@code java.util.ArrayList}).
+ * <p>Headers are read by a {@link JClassParser} in {@link JClassParser#PARSE_HEADER} mode: only the constant pool
+ * and the few words that follow it are read, fields, methods and attributes are never reached, so reading a header
+ * costs a small fraction of a full parse.
+ */
+public final class ClassFileHeader {
+
+    public static final int MAGIC = 0xCAFEBABE;
+
+    private static final int ACC_ANNOTATION = 0x2000;
+    private static final int ACC_INTERFACE = 0x0200;
+    private static final String[] NO_INTERFACES = new String[0];
+
+    private final int access;
+    private final String className;
+    private final String[] interfaces;
+    private final String superClassName;
+
+    public ClassFileHeader(int access, String className, String superClassName, String[] interfaces) {
+        this.access = access;
+        this.className = className;
+        this.superClassName = superClassName;
+        this.interfaces = interfaces.length == 0 ? NO_INTERFACES : interfaces;
+    }
+
+    /**
+     * Read the header of the class file available from the given stream. The stream is left positioned right after
+     * the interfaces table and is not closed.
+     *
+     * @param in the class file contents
+     * @return the header of the class file
+     * @throws IOException if the stream can not be read or does not hold a class file
+     */
+    public static ClassFileHeader read(InputStream in)
+            throws IOException {
+        return read((DataInput) new DataInputStream(in));
+    }
+
+    static ClassFileHeader read(DataInput in)
+            throws IOException {
+        JClassParser parser = new JClassParser();
+        parser.setParseMode(JClassParser.PARSE_HEADER);
+        JClassInfo classInfo;
+        try {
+            parser.parse(in, StringUtils.EMPTY);
+            classInfo = parser.getClassInfo();
+        } catch (ClassParserException | RuntimeException e) {
+            // RuntimeException stands for references out of the constant pool
+            throw new IOException("Malformed class file header: " + e, e);
+        }
+        List<?> interfaceNames = classInfo.getInterfaces();
+        String[] interfaces = new String[interfaceNames.size()];
+        for (int i = 0; i < interfaces.length; i++) {
+            interfaces[i] = binaryName((String) interfaceNames.get(i));
+        }
+        // the constant pool names a missing superclass, as only java.lang.Object has, ANY
+        String superClassName = KeyWords.ANY.equals(classInfo.getSuperClass()) ? null : binaryName(classInfo
+                .getSuperClass());
+        return new ClassFileHeader(classInfo.getAccess() & 0xFFFF, binaryName(classInfo.getThisClass()),
+                superClassName, interfaces);
+    }
+
+    private static String binaryName(String internalName)
+            throws IOException {
+        if (internalName == null || KeyWords.ANY.equals(internalName)) {
+            throw new IOException("Malformed class file header");
+        }
+        return internalName.replace('/', '.');
+    }
+
+    static ClassFileHeader readFrom(DataInput in)
+            throws IOException {
+        int access = in.readInt();
+        String className = in.readUTF();
+        String superClassName = in.readBoolean() ? in.readUTF() : null;
+        String[] interfaces = new String[in.readUnsignedShort()];
+        for (int i = 0; i < interfaces.length; i++) {
+            interfaces[i] = in.readUTF();
+        }
+        return new ClassFileHeader(access, className, superClassName, interfaces);
+    }
+
+    void writeTo(DataOutput out)
+            throws IOException {
+        out.writeInt(access);
+        out.writeUTF(className);
+        out.writeBoolean(superClassName != null);
+        if (superClassName != null) {
+            out.writeUTF(superClassName);
+        }
+        out.writeShort(interfaces.length);
+        for (String anInterface : interfaces) {
+            out.writeUTF(anInterface);
+        }
+    }
+
+    public int getAccess() {
+        return access;
+    }
+
+    /**
+     * @return the binary name of the class, e.g. {@code java.util.Map$Entry}
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * @return the binary name of the superclass, {@code null} for {@code java.lang.Object} and module descriptors
+     */
+    public String getSuperClassName() {
+        return superClassName;
+    }
+
+    /**
+     * @return the binary names of the interfaces directly implemented (or extended, for interfaces)
+     */
+    public List<String> getInterfaces() {
+        return interfaces.length == 0 ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(
+                interfaces));
+    }
+
+    public boolean isInterface() {
+        return (access & ACC_INTERFACE) != 0;
+    }
+
+    public boolean isAnnotation() {
+        return (access & ACC_ANNOTATION) != 0;
+    }
+
+    @Override
+    public String toString() {
+        return className + (superClassName == null ? StringUtils.EMPTY : " extends " + superClassName) +
+                (interfaces.length == 0 ? StringUtils.EMPTY : " implements " + String.join(", ", interfaces));
+    }
+}
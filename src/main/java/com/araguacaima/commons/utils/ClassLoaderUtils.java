@@ -1,9 +1,6 @@
 package com.araguacaima.commons.utils;
 
 import com.araguacaima.commons.utils.file.FileUtilsFilenameFilter;
-import jreversepro.parser.ClassParserException;
-import jreversepro.reflect.JClassInfo;
-import jreversepro.revengine.JSerializer;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.IterableUtils;
 import org.slf4j.Logger;
@@ -13,7 +10,6 @@ import javax.annotation.PostConstruct;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.StreamCorruptedException;
 import java.lang.reflect.Method;
 import java.net.*;
 import java.util.*;
@@ -42,6 +38,7 @@ public class ClassLoaderUtils {
     private URLClassLoader sysloader;
     private boolean sysloaderDirty;
     private ReflectionUtils reflectionUtils = ReflectionUtils.getInstance();
+    private ClasspathScanner classpathScanner = ClasspathScanner.getInstance();
 
     private ClassLoaderUtils() {
     }
@@ -183,8 +180,7 @@ public class ClassLoaderUtils {
      */
 
     public Collection<Class<?>> findClasses(NotNullsLinkedHashSet<FileUtilsFilenameFilter> filters) {
-        Collection<File> classpath = findResources(filters, new NotNullsLinkedHashSet<>());
-        return getClassesFromClasspath(classpath);
+        return getClassesFromClasspath(findEntries(filters, new NotNullsLinkedHashSet<>(), null));
     }
 
     /**
@@ -203,106 +199,32 @@ public class ClassLoaderUtils {
         return findResources(filters, filesExclusions, null);
     }
 
-    private Collection<Class<?>> getClassesFromClasspath(Collection<File> classpath) {
+    private Collection<Class<?>> getClassesFromClasspath(Collection<ClasspathScanner.Entry> classpath) {
         NotNullsLinkedHashSet<Class<?>> result = new NotNullsLinkedHashSet<>();
 
-        for (File fileClassPath : classpath) {
+        for (ClasspathScanner.Entry entry : classpath) {
+            File fileClassPath = entry.getFile();
             String name = fileClassPath.getPath();
 
             boolean isValidClass = name.endsWith(".class");
 
             if (isValidClass) {
                 Class<?> clazz = Object.class;
-                JSerializer jSerializer = new JSerializer();
-                JClassInfo infoClass;
-                try {
-                    log.debug("Attempting to load class identified by path: " + name);
-                    File file = new File(name);
-                    infoClass = jSerializer.loadClass(file);
-                    log.debug("Bytecode for Class '" + infoClass.getThisClass(true) + "' reached!");
-                    clazz = Class.forName(infoClass.getThisClass(true).replaceAll(StringUtils.SLASH, "."));
-                    log.debug("Class '" + clazz.getName() + "' loaded!");
-                } catch (ClassNotFoundException e) {
-                    log.debug("ClassNotFoundException: " + e.getMessage());
-                } catch (FileNotFoundException e) {
-                    log.debug("FileNotFoundException: " + e.getMessage());
-                } catch (StreamCorruptedException e) {
-                    log.debug("StreamCorruptedException: " + e.getMessage());
-                } catch (IOException e) {
-                    log.debug("IOException: " + e.getMessage());
-                } catch (ClassParserException e) {
-                    log.debug("ClassParserException: " + e.getMessage());
-                } catch (NoClassDefFoundError e) {
-                    log.debug("NoClassDefFoundError: " + e.getMessage());
-                } catch (NullPointerException e) {
-                    log.debug("NullPointerException: " + e.getMessage());
-                } catch (Exception e) {
-                    log.debug("Exception: " + e.getMessage());
-                } catch (Throwable e) {
-                    log.debug("Throwable: " + e.getMessage());
-                }
-                if (clazz == Object.class) {
-                    ClassLoaderUtils classLoaderUtils = new ClassLoaderUtils();
-
+                ClassFileHeader header = entry.getHeader();
+                if (header != null) {
                     try {
-                        String[] jarTokens = name.split(".jar");
-                        String classFile = jarTokens[1].replaceFirst("\\.class", StringUtils.EMPTY).replaceAll(
-                                StringUtils.DOUBLEBACKSLASH,
-                                ".").replaceAll(StringUtils.SLASH, ".");
-                        log.debug("classFile (1): " + classFile);
-                        classFile = classFile.indexOf(".") == 0 ? classFile.replaceFirst(".",
-                                StringUtils.EMPTY) : classFile;
-                        log.debug("classFile (2): " + classFile);
-                        clazz = classLoaderUtils.getClassLoader().loadClass(classFile);
-                        log.debug("clazz: " + clazz.getName());
+                        log.debug("Attempting to load class '" + header.getClassName() + "' from path: " + name);
+                        clazz = Class.forName(header.getClassName());
+                        log.debug("Class '" + clazz.getName() + "' loaded!");
                     } catch (ClassNotFoundException e) {
                         log.debug("ClassNotFoundException: " + e.getMessage());
-                    } catch (NoClassDefFoundError e) {
-                        log.debug("NoClassDefFoundError: " + e.getMessage());
-                    } catch (StringIndexOutOfBoundsException e) {
-                        log.debug("StringIndexOutOfBoundsException: " + e.getMessage());
-                    } catch (ArrayIndexOutOfBoundsException e) {
-                        log.debug("ArrayIndexOutOfBoundsException: " + e.getMessage());
-                        String classname = stringUtils.replaceLast(fileClassPath.getName().replaceAll(StringUtils
-                                        .BACKSLASH + StringUtils.BACKSLASH,
-                                ".").replaceAll(StringUtils.SLASH, "."), ".class", StringUtils.EMPTY);
-                        log.debug("Classname: " + classname);
-                        String path = stringUtils.replaceLast(name, ".class", StringUtils.EMPTY);
-                        log.debug("Path: " + classname);
-                        try {
-                            clazz = classLoaderUtils.getClassLoader().loadClass(classname);
-                            log.debug("Class '" + clazz.getName() + "' loaded thru ClassLoader: " + classLoaderUtils
-                                    .getClassLoader().getClass().getName());
-                        } catch (ClassNotFoundException ignored2) {
-                            try {
-                                List folders = Arrays.asList(path.split(File.separator.equals(StringUtils.SLASH) ?
-                                        StringUtils.SLASH : StringUtils.DOUBLEBACKSLASH));
-                                Collections.reverse(folders);
-                                log.debug("Folders reversed: '" + folders);
-                                String classPackage = StringUtils.EMPTY;
-                                for (Object folder : folders) {
-                                    try {
-                                        classPackage = folder + "." + classPackage;
-                                        log.debug("classPackage + classname: '" + classPackage + classname);
-                                        clazz = classLoaderUtils.getClassLoader().loadClass(classPackage + classname);
-                                        break;
-                                    } catch (ClassNotFoundException e4) {
-                                        log.debug("ClassNotFoundException: " + classname + ". " + e4.getMessage
-                                                ());
-                                    }
-                                }
-                                if (clazz == Object.class) {
-                                    throw new Exception("The related classname '" + name + "' is not found");
-                                }
-                            } catch (ClassNotFoundException e3) {
-                                log.debug("ClassNotFoundException: " + classname + ". " + e3.getMessage());
-                            } catch (Exception e3) {
-                                log.debug("Exception: " + classname + ". " + e3.getMessage());
-                            }
-                        }
-                    } catch (NullPointerException ignored) {
+                    } catch (LinkageError e) {
+                        log.debug(e.getClass().getSimpleName() + ": " + e.getMessage());
                     }
                 }
+                if (clazz == Object.class) {
+                    clazz = loadClassFromPath(fileClassPath);
+                }
                 if (clazz != Object.class) {
                     log.debug("Class: '" + clazz.getName() + " added!");
                     result.add(clazz);
@@ -315,6 +237,76 @@ public class ClassLoaderUtils {
         return classesOrdered;
     }
 
+    /**
+     * Derive the name of a class from its path, for class files whose header could not be read or whose class can
+     * not be loaded by name, trying every package its folders could stand for.
+     */
+    private Class<?> loadClassFromPath(File fileClassPath) {
+        String name = fileClassPath.getPath();
+        Class<?> clazz = Object.class;
+        ClassLoaderUtils classLoaderUtils = new ClassLoaderUtils();
+
+        try {
+            String[] jarTokens = name.split(".jar");
+            String classFile = jarTokens[1].replaceFirst("\\.class", StringUtils.EMPTY).replaceAll(
+                    StringUtils.DOUBLEBACKSLASH,
+                    ".").replaceAll(StringUtils.SLASH, ".");
+            log.debug("classFile (1): " + classFile);
+            classFile = classFile.indexOf(".") == 0 ? classFile.replaceFirst(".",
+                    StringUtils.EMPTY) : classFile;
+            log.debug("classFile (2): " + classFile);
+            clazz = classLoaderUtils.getClassLoader().loadClass(classFile);
+            log.debug("clazz: " + clazz.getName());
+        } catch (ClassNotFoundException e) {
+            log.debug("ClassNotFoundException: " + e.getMessage());
+        } catch (NoClassDefFoundError e) {
+            log.debug("NoClassDefFoundError: " + e.getMessage());
+        } catch (StringIndexOutOfBoundsException e) {
+            log.debug("StringIndexOutOfBoundsException: " + e.getMessage());
+        } catch (ArrayIndexOutOfBoundsException e) {
+            log.debug("ArrayIndexOutOfBoundsException: " + e.getMessage());
+            String classname = stringUtils.replaceLast(fileClassPath.getName().replaceAll(StringUtils
+                            .BACKSLASH + StringUtils.BACKSLASH,
+                    ".").replaceAll(StringUtils.SLASH, "."), ".class", StringUtils.EMPTY);
+            log.debug("Classname: " + classname);
+            String path = stringUtils.replaceLast(name, ".class", StringUtils.EMPTY);
+            log.debug("Path: " + classname);
+            try {
+                clazz = classLoaderUtils.getClassLoader().loadClass(classname);
+                log.debug("Class '" + clazz.getName() + "' loaded thru ClassLoader: " + classLoaderUtils
+                        .getClassLoader().getClass().getName());
+            } catch (ClassNotFoundException ignored2) {
+                try {
+                    List folders = Arrays.asList(path.split(File.separator.equals(StringUtils.SLASH) ?
+                            StringUtils.SLASH : StringUtils.DOUBLEBACKSLASH));
+                    Collections.reverse(folders);
+                    log.debug("Folders reversed: '" + folders);
+                    String classPackage = StringUtils.EMPTY;
+                    for (Object folder : folders) {
+                        try {
+                            classPackage = folder + "." + classPackage;
+                            log.debug("classPackage + classname: '" + classPackage + classname);
+                            clazz = classLoaderUtils.getClassLoader().loadClass(classPackage + classname);
+                            break;
+                        } catch (ClassNotFoundException e4) {
+                            log.debug("ClassNotFoundException: " + classname + ". " + e4.getMessage
+                                    ());
+                        }
+                    }
+                    if (clazz == Object.class) {
+                        throw new Exception("The related classname '" + name + "' is not found");
+                    }
+                } catch (ClassNotFoundException e3) {
+                    log.debug("ClassNotFoundException: " + classname + ". " + e3.getMessage());
+                } catch (Exception e3) {
+                    log.debug("Exception: " + classname + ". " + e3.getMessage());
+                }
+            }
+        } catch (NullPointerException ignored) {
+        }
+        return clazz;
+    }
+
     /**
      * Searches the classpath for all resources matching a specified search criteria, excluding fileExclusions Set
      * criterias
@@ -330,6 +322,22 @@ public class ClassLoaderUtils {
     public Collection<File> findResources(NotNullsLinkedHashSet<FileUtilsFilenameFilter> filters,
                                           final NotNullsLinkedHashSet<FileUtilsFilenameFilter> filesExclusions,
                                           final ClassLoader classLoader) {
+        List<ClasspathScanner.Entry> entries = findEntries(filters, filesExclusions, classLoader);
+        List<File> filesPathsOrdered = new ArrayList<>(entries.size());
+        for (ClasspathScanner.Entry entry : entries) {
+            filesPathsOrdered.add(entry.getFile());
+        }
+        return filesPathsOrdered;
+    }
+
+    /**
+     * Scans the classpath locations the filters point to with the {@link ClasspathScanner}, keeping the entries
+     * accepted by the filters, sorted by path.
+     */
+    private List<ClasspathScanner.Entry> findEntries(NotNullsLinkedHashSet<FileUtilsFilenameFilter> filters,
+                                                     final NotNullsLinkedHashSet<FileUtilsFilenameFilter>
+                                                             filesExclusions,
+                                                     final ClassLoader classLoader) {
 
         final NotNullsLinkedHashSet<URL> classPaths = new NotNullsLinkedHashSet<>();
 
@@ -370,18 +378,23 @@ public class ClassLoaderUtils {
 
         });
 
-        NotNullsLinkedHashSet<Class> filesPaths = new NotNullsLinkedHashSet<>();
-
         fileUtils.addFilters(filters);
+        final Collection<FileUtilsFilenameFilter> criterias = fileUtils.getFilters();
         final StringBuffer strbuff = new StringBuffer();
         strbuff.append("\n");
-        IterableUtils.forEach(filters, filter -> strbuff.append(filter.printCriterias()).append("\n"));
+        IterableUtils.forEach(criterias, filter -> strbuff.append(filter.printCriterias()).append("\n"));
         log.debug("Searching the following criterias: " + strbuff.toString() + ". on classpaths: '" + classPaths);
-        List<File> filesPathsOrdered = new ArrayList<>(fileUtils.listFiles(classPath_));
-        log.debug("filesPaths before sorting: " + filesPathsOrdered);
-        filesPathsOrdered.sort(FileUtils.getFileUtilsFilenameFilterCompare());
-        log.debug("filesPathsOrdered after sorting: " + filesPathsOrdered);
-        return filesPathsOrdered;
+        List<ClasspathScanner.Entry> entries = new ArrayList<>();
+        // filters are not thread safe, only the scan itself runs in parallel
+        for (ClasspathScanner.Entry entry : classpathScanner.scan(classPath_)) {
+            if (FileUtils.accept(FileUtils.typed(criterias), FileUtils.DEFAULT_FILTER_TYPE, entry.getDirectory(),
+                    entry.getName())) {
+                entries.add(entry);
+            }
+        }
+        entries.sort(Comparator.comparing(entry -> entry.getFile().getPath()));
+        log.debug("filesPathsOrdered after sorting: " + entries);
+        return entries;
 
     }
 
@@ -410,8 +423,7 @@ public class ClassLoaderUtils {
      */
     public Collection<Class<?>> findClasses(NotNullsLinkedHashSet<FileUtilsFilenameFilter> filters,
                                             final NotNullsLinkedHashSet<FileUtilsFilenameFilter> filesExclusions) {
-        Collection<File> classpath = findResources(filters, filesExclusions);
-        return getClassesFromClasspath(classpath);
+        return getClassesFromClasspath(findEntries(filters, filesExclusions, null));
     }
 
     /**
@@ -750,7 +762,7 @@ public class ClassLoaderUtils {
 
     public void removeClass(Class clazz) {
         if (clazz != null) {
-
+            ReflectionUtils.clearCache(clazz);
             try {
                 URLClassLoader cl = (URLClassLoader) clazz.getClassLoader();
                 cl.close();
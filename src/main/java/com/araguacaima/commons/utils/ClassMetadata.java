@@ -0,0 +1,300 @@
+/*
+ * Copyright 2017 araguacaima
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.araguacaima.commons.utils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable index of the members a class declares or inherits.
+ * <p>The superclass chain is walked once, and every filtered view requested afterwards (by modifier mask, by
+ * field type or by getter/setter role) is computed once and kept as an unmodifiable list backed by an array.
+ * Members keep the order {@link ReflectionUtils#doWithFields} and {@link ReflectionUtils#doWithMethods} visit
+ * them: the leaf class first, then its superclasses.
+ * <p>Indexes are kept in a {@link ConcurrentReferenceHashMap}, so they do not pin their classes (nor the class
+ * loaders behind them) in memory, and they are explicitly dropped by {@link #evict(Class)}, which
+ * {@link ClassLoaderUtils#removeClass(Class)} relies on.
+ */
+public final class ClassMetadata {
+
+    /**
+     * Modifiers of the fields left out by {@link #getFields()} and
+     * {@link ReflectionUtils#getAllFieldsIncludingParents(Class)}.
+     */
+    public static final int DEFAULT_FIELD_MODIFIERS_EXCLUSION = Modifier.STATIC | Modifier.VOLATILE | Modifier
+            .NATIVE | Modifier.TRANSIENT;
+    /**
+     * Modifiers of the methods left out by {@link #getMethods()} and
+     * {@link ReflectionUtils#getAllMethodsIncludingParents(Class)}.
+     */
+    public static final int DEFAULT_METHOD_MODIFIERS_EXCLUSION = Modifier.VOLATILE | Modifier.NATIVE | Modifier
+            .TRANSIENT;
+    private static final Field[] EMPTY_FIELD_ARRAY = new Field[0];
+    private static final Method[] EMPTY_METHOD_ARRAY = new Method[0];
+    private static final Map<Class<?>, ClassMetadata> metadataCache = new ConcurrentReferenceHashMap<>(256);
+
+    private final Field[] fields;
+    private final Map<Long, List<Field>> fieldsByModifiers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<Field>> fieldsByType = new ConcurrentHashMap<>();
+    private final List<Method> getterMethods;
+    private final Method[] methods;
+    private final Map<Long, List<Method>> methodsByModifiers = new ConcurrentHashMap<>();
+    private final List<Method> setterMethods;
+    private final Class<?> type;
+
+    private ClassMetadata(Class<?> type) {
+        this.type = type;
+        final List<Field> allFields = new ArrayList<>();
+        ReflectionUtils.doWithFields(type, allFields::add);
+        this.fields = allFields.toArray(EMPTY_FIELD_ARRAY);
+        final List<Method> allMethods = new ArrayList<>();
+        ReflectionUtils.doWithMethods(type, allMethods::add);
+        this.methods = allMethods.toArray(EMPTY_METHOD_ARRAY);
+
+        List<Method> defaultMethods = getMethods(null, DEFAULT_METHOD_MODIFIERS_EXCLUSION);
+        List<Method> getters = new ArrayList<>();
+        List<Method> setters = new ArrayList<>();
+        for (Method method : defaultMethods) {
+            String name = method.getName();
+            if (hasPrefix(name, "get") || hasPrefix(name, "is")) {
+                getters.add(method);
+            } else if (hasPrefix(name, "set")) {
+                setters.add(method);
+            }
+        }
+        this.getterMethods = view(getters.toArray(EMPTY_METHOD_ARRAY));
+        this.setterMethods = view(setters.toArray(EMPTY_METHOD_ARRAY));
+    }
+
+    /**
+     * Obtain the member index of the given class, building it on first use.
+     *
+     * @param clazz the class to introspect
+     * @return the cached index
+     */
+    public static ClassMetadata forClass(Class<?> clazz) {
+        ClassMetadata metadata = metadataCache.get(clazz);
+        if (metadata == null) {
+            metadata = new ClassMetadata(clazz);
+            ClassMetadata existing = metadataCache.putIfAbsent(clazz, metadata);
+            if (existing != null) {
+                metadata = existing;
+            }
+        }
+        return metadata;
+    }
+
+    /**
+     * Drop the index of the given class, if any.
+     *
+     * @param clazz the class whose index must be rebuilt on next use
+     */
+    public static void evict(Class<?> clazz) {
+        metadataCache.remove(clazz);
+    }
+
+    /**
+     * Drop every index.
+     */
+    public static void clearCache() {
+        metadataCache.clear();
+    }
+
+    /**
+     * Same check as {@link ReflectionUtils#METHOD_IS_GETTER_PREDICATE} and
+     * {@link ReflectionUtils#METHOD_IS_SETTER_PREDICATE} regular expressions (prefix followed by an uppercase
+     * letter), without compiling any pattern.
+     */
+    private static boolean hasPrefix(String name, String prefix) {
+        int length = prefix.length();
+        if (name.length() <= length || !name.startsWith(prefix)) {
+            return false;
+        }
+        char next = name.charAt(length);
+        return next >= 'A' && next <= 'Z';
+    }
+
+    private static long maskKey(Integer modifiersInclusion, Integer modifiersExclusion) {
+        long inclusion = modifiersInclusion == null ? 0xFFFFFFFFL : (modifiersInclusion & 0xFFFFFFFFL);
+        long exclusion = modifiersExclusion == null ? 0xFFFFFFFFL : (modifiersExclusion & 0xFFFFFFFFL);
+        return (inclusion << 32) | exclusion;
+    }
+
+    private static boolean matches(int modifiers, Integer modifiersInclusion, Integer modifiersExclusion) {
+        if (modifiersInclusion != null) {
+            return (modifiers & modifiersInclusion) != 0;
+        }
+        return modifiersExclusion == null || (modifiers & modifiersExclusion) == 0;
+    }
+
+    private static <T> List<T> view(T[] array) {
+        return array.length == 0 ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(array));
+    }
+
+    /**
+     * @return the class this index was built for
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Fields of the class and its superclasses, but {@link Object}, excluding the
+     * {@link #DEFAULT_FIELD_MODIFIERS_EXCLUSION default modifiers}.
+     *
+     * @return an unmodifiable view of the matching fields
+     */
+    public List<Field> getFields() {
+        return getFields(null, DEFAULT_FIELD_MODIFIERS_EXCLUSION);
+    }
+
+    /**
+     * Fields of the class and its superclasses, filtered by modifiers. When an inclusion mask is given, fields
+     * having at least one of its modifiers are kept and the exclusion mask is ignored; otherwise fields having
+     * any of the exclusion modifiers are discarded.
+     *
+     * @param modifiersInclusion modifiers a field must have (any of them), may be {@code null}
+     * @param modifiersExclusion modifiers a field must not have (none of them), may be {@code null}
+     * @return an unmodifiable view of the matching fields
+     */
+    public List<Field> getFields(Integer modifiersInclusion, Integer modifiersExclusion) {
+        long key = maskKey(modifiersInclusion, modifiersExclusion);
+        List<Field> result = fieldsByModifiers.get(key);
+        if (result == null) {
+            List<Field> matching = new ArrayList<>(fields.length);
+            for (Field field : fields) {
+                if (matches(field.getModifiers(), modifiersInclusion, modifiersExclusion)) {
+                    matching.add(field);
+                }
+            }
+            result = view(matching.toArray(EMPTY_FIELD_ARRAY));
+            fieldsByModifiers.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Fields (as returned by {@link #getFields()}) whose declared type is exactly the given one.
+     *
+     * @param fieldType the type to look for
+     * @return an unmodifiable view of the matching fields
+     */
+    public List<Field> getFieldsOfType(Class<?> fieldType) {
+        List<Field> result = fieldsByType.get(fieldType);
+        if (result == null) {
+            List<Field> matching = new ArrayList<>();
+            for (Field field : getFields()) {
+                if (field.getType() == fieldType) {
+                    matching.add(field);
+                }
+            }
+            result = view(matching.toArray(EMPTY_FIELD_ARRAY));
+            fieldsByType.put(fieldType, result);
+        }
+        return result;
+    }
+
+    /**
+     * Find a field (among {@link #getFields()}) by its exact name.
+     *
+     * @param name the field name
+     * @return the first matching field, leaf class first, or {@code null} if there is none
+     */
+    public Field getField(String name) {
+        if (StringUtils.isBlank(name)) {
+            return null;
+        }
+        for (Field field : getFields()) {
+            if (field.getName().equals(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Methods of the class and its superclasses (including {@link Object}), excluding the
+     * {@link #DEFAULT_METHOD_MODIFIERS_EXCLUSION default modifiers}.
+     *
+     * @return an unmodifiable view of the matching methods
+     */
+    public List<Method> getMethods() {
+        return getMethods(null, DEFAULT_METHOD_MODIFIERS_EXCLUSION);
+    }
+
+    /**
+     * Methods of the class and its superclasses, filtered by modifiers with the same rules as
+     * {@link #getFields(Integer, Integer)}.
+     *
+     * @param modifiersInclusion modifiers a method must have (any of them), may be {@code null}
+     * @param modifiersExclusion modifiers a method must not have (none of them), may be {@code null}
+     * @return an unmodifiable view of the matching methods
+     */
+    public List<Method> getMethods(Integer modifiersInclusion, Integer modifiersExclusion) {
+        long key = maskKey(modifiersInclusion, modifiersExclusion);
+        List<Method> result = methodsByModifiers.get(key);
+        if (result == null) {
+            List<Method> matching = new ArrayList<>(methods.length);
+            for (Method method : methods) {
+                if (matches(method.getModifiers(), modifiersInclusion, modifiersExclusion)) {
+                    matching.add(method);
+                }
+            }
+            result = view(matching.toArray(EMPTY_METHOD_ARRAY));
+            methodsByModifiers.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Find a method (among {@link #getMethods()}) by its exact name.
+     *
+     * @param name the method name
+     * @return the first matching method, leaf class first, or {@code null} if there is none
+     */
+    public Method getMethod(String name) {
+        if (StringUtils.isBlank(name)) {
+            return null;
+        }
+        for (Method method : getMethods()) {
+            if (method.getName().equals(name)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return an unmodifiable view of the {@link #getMethods() methods} named {@code getXxx} or {@code isXxx}
+     */
+    public List<Method> getGetterMethods() {
+        return getterMethods;
+    }
+
+    /**
+     * @return an unmodifiable view of the {@link #getMethods() methods} named {@code setXxx}
+     */
+    public List<Method> getSetterMethods() {
+        return setterMethods;
+    }
+}
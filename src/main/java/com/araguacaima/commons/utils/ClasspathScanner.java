@@ -0,0 +1,472 @@
+/*
+ * Copyright 2017 araguacaima
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.araguacaima.commons.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.file.*;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Walks classpath roots (directories, jars, or {@code jar!/package} locations) in parallel, reading only the
+ * {@link ClassFileHeader} of every class file found.
+ * <p>The entries of every jar are indexed once, keyed by the jar path, size and last modification time. Indexes
+ * are kept in memory and, when an index directory is configured, also persisted there, so that scanning an
+ * unchanged jar again, even from another JVM, does not open it at all.
+ * <p>The shared instance persists indexes only when the {@value #INDEX_DIRECTORY_PROPERTY} system property names
+ * an index directory. That directory is created readable by its owner only and, since indexes decide which classes
+ * are reported, an index is only used when both the file and its directory belong to the current user, can not be
+ * written by anyone else, and match their checksum.
+ * <p>A file that looks like an archive but can not be read as one is reported as a plain file.
+ */
+public final class ClasspathScanner {
+
+    public static final String INDEX_DIRECTORY_PROPERTY = "com.araguacaima.commons.utils.classpath.index.dir";
+
+    private static final int INDEX_MAGIC = 0x4A494458;
+    private static final int INDEX_VERSION = 2;
+    private static final ClasspathScanner INSTANCE = new ClasspathScanner(System.getProperty(
+            INDEX_DIRECTORY_PROPERTY) == null ? null : new File(System.getProperty(INDEX_DIRECTORY_PROPERTY)));
+    private static final boolean POSIX = FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+    // directories are listed as FileUtils.listFiles does, archives being indexed here rather than expanded
+    private static final FileWalker DIRECTORY_WALKER = new FileWalker(null, FileUtils.DEFAULT_FILTER_TYPE, -1,
+            false);
+    private static final Map<String, JarIndex> jarIndexes = new ConcurrentReferenceHashMap<>(256);
+    private static final Logger log = LoggerFactory.getLogger(ClasspathScanner.class);
+
+    private final File indexDirectory;
+
+    /**
+     * @param indexDirectory the directory where jar indexes are persisted, or {@code null} to keep them in memory
+     *                       only
+     */
+    public ClasspathScanner(File indexDirectory) {
+        this.indexDirectory = indexDirectory;
+    }
+
+    public static ClasspathScanner getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Drop the in-memory index of the given jar. The persisted index is left as is, since it is validated against
+     * the jar size and modification time before being used.
+     *
+     * @param jar the indexed jar
+     */
+    public static void evict(File jar) {
+        try {
+            jarIndexes.remove(jar.getCanonicalPath());
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * Drop every in-memory jar index.
+     */
+    public static void clearCache() {
+        jarIndexes.clear();
+    }
+
+    /**
+     * @param path an index file or directory
+     * @return true if the path belongs to the current user and, where permissions are known, no one else may write
+     * it
+     */
+    static boolean isTrusted(Path path) {
+        try {
+            if (!Files.getOwner(path).getName().equals(System.getProperty("user.name"))) {
+                return false;
+            }
+            if (POSIX) {
+                Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(path);
+                return !permissions.contains(PosixFilePermission.GROUP_WRITE) && !permissions.contains(
+                        PosixFilePermission.OTHERS_WRITE);
+            }
+            return true;
+        } catch (IOException | UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    private static ClassFileHeader readHeader(File file) {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            return ClassFileHeader.read(in);
+        } catch (IOException e) {
+            log.debug("Unable to read the class header of '" + file + "': " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Scan the given roots. Directories are walked up to {@link FileUtils#RECURSION_LIMIT} levels deep, skipping
+     * version control folders, and archives found along the way are scanned as jars. A root like
+     * {@code /lib/foo.jar!/com/foo} limits the scan to the entries of the jar under that prefix.
+     * <p>Entries of directories are returned in walking order, those of jars in the jar order, and roots are kept
+     * in the given order.
+     *
+     * @param roots the classpath roots to scan
+     * @return every directory, file and jar entry found
+     */
+    public List<Entry> scan(Collection<File> roots) {
+        return roots.parallelStream().filter(Objects::nonNull).flatMap(root -> scan(root).stream()).collect(
+                Collectors.toList());
+    }
+
+    /**
+     * Get the header of a single class file, as listed by {@link FileUtils#listFiles}: a file inside a directory, or
+     * an entry inside a jar, in which case the jar index is used.
+     *
+     * @param directory the directory holding the class file, or the jar holding the entry
+     * @param name      the name of the class file relative to directory
+     * @return the header of the class file, or {@code null} if it is not a readable class file
+     */
+    public ClassFileHeader getHeader(File directory, String name) {
+        if (directory.isFile()) {
+            JarIndex index = index(directory);
+            return index == null ? null : index.headerOf(name.replace('\\', '/'));
+        }
+        return readHeader(new File(directory, name));
+    }
+
+    private List<Entry> scan(File root) {
+        String path = root.getPath();
+        if (path.startsWith("file:")) {
+            path = path.substring("file:".length());
+        }
+        int separator = path.indexOf('!');
+        if (separator != -1) {
+            String prefix = path.substring(separator + 1).replace('\\', '/');
+            while (prefix.startsWith("/")) {
+                prefix = prefix.substring(1);
+            }
+            return jarEntries(new File(path.substring(0, separator)), prefix);
+        }
+        File file = new File(path);
+        if (file.isDirectory()) {
+            return walk(file);
+        }
+        if (file.isFile()) {
+            return fileEntries(file);
+        }
+        log.debug("Classpath root '" + root + "' does not exist");
+        return Collections.emptyList();
+    }
+
+    private List<Entry> walk(File directory) {
+        List<File> files;
+        try (Stream<File> walk = DIRECTORY_WALKER.stream(Collections.singletonList(directory))) {
+            files = walk.collect(Collectors.toList());
+        }
+        // listing is cheap, reading headers and indexing nested jars is what runs in parallel
+        return files.parallelStream().flatMap(file -> {
+            if (file.isDirectory()) {
+                return Stream.of(new Entry(file, file, StringUtils.EMPTY, null));
+            }
+            return fileEntries(file).stream();
+        }).collect(Collectors.toList());
+    }
+
+    private List<Entry> fileEntries(File file) {
+        String name = file.getName();
+        if (name.endsWith(".class")) {
+            return Collections.singletonList(new Entry(file, file.getParentFile(), name, readHeader(file)));
+        }
+        if (FileWalker.isArchive(file)) {
+            if (index(file) != null) {
+                return jarEntries(file, StringUtils.EMPTY);
+            }
+            log.debug("'" + file + "' is not a readable archive, reporting it as a plain file");
+        }
+        return Collections.singletonList(new Entry(file, file.getParentFile(), name, null));
+    }
+
+    private List<Entry> jarEntries(File jar, String prefix) {
+        JarIndex index = index(jar);
+        if (index == null) {
+            return Collections.emptyList();
+        }
+        // com/foo must not match com/foobar
+        String directoryPrefix = prefix.isEmpty() || prefix.endsWith("/") ? prefix : prefix + "/";
+        List<Entry> entries = new ArrayList<>(index.names.length);
+        for (int i = 0; i < index.names.length; i++) {
+            String name = index.names[i];
+            if (name.startsWith(directoryPrefix) || name.equals(prefix)) {
+                entries.add(new Entry(new File(jar.getPath() + File.separator + name), jar, name,
+                        index.headers[i]));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Get the index of the given jar, from memory, from the index directory or, if none of them is up to date,
+     * by reading the jar itself.
+     *
+     * @param jar the jar to index
+     * @return the index of the jar, or {@code null} if it can not be read
+     */
+    JarIndex index(File jar) {
+        String path;
+        try {
+            path = jar.getCanonicalPath();
+        } catch (IOException e) {
+            log.debug("Unable to resolve '" + jar + "': " + e.getMessage());
+            return null;
+        }
+        long size = jar.length();
+        long lastModified = jar.lastModified();
+        JarIndex index = jarIndexes.get(path);
+        if (index != null && index.isValid(size, lastModified)) {
+            return index;
+        }
+        File indexFile = indexDirectory == null ? null : new File(indexDirectory,
+                Integer.toHexString(path.hashCode()) + "-" + jar.getName() + ".idx");
+        index = indexFile == null ? null : JarIndex.load(indexFile, path);
+        if (index == null || !index.isValid(size, lastModified)) {
+            index = JarIndex.build(jar, path, size, lastModified);
+            if (index == null) {
+                return null;
+            }
+            if (indexFile != null) {
+                index.store(indexFile);
+            }
+        }
+        jarIndexes.put(path, index);
+        return index;
+    }
+
+    /**
+     * A scanned classpath entry: a directory, a file, or an entry inside a jar.
+     */
+    public static final class Entry {
+
+        private final File directory;
+        private final File file;
+        private final ClassFileHeader header;
+        private final String name;
+
+        Entry(File file, File directory, String name, ClassFileHeader header) {
+            this.file = file;
+            this.directory = directory;
+            this.name = name;
+            this.header = header;
+        }
+
+        /**
+         * @return the entry as a file; entries inside jars are represented as {@code <jar path>/<entry name>}
+         */
+        public File getFile() {
+            return file;
+        }
+
+        /**
+         * @return the directory holding the entry: the directory itself for directories, the parent directory for
+         * files and the jar for jar entries
+         */
+        public File getDirectory() {
+            return directory;
+        }
+
+        /**
+         * @return the name of the entry relative to {@link #getDirectory()}, empty for directories
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the header of the class file, or {@code null} if the entry is not a readable class file
+         */
+        public ClassFileHeader getHeader() {
+            return header;
+        }
+
+        @Override
+        public String toString() {
+            return file.getPath();
+        }
+    }
+
+    static final class JarIndex {
+
+        final ClassFileHeader[] headers;
+        final long lastModified;
+        final String[] names;
+        final String path;
+        final long size;
+        private volatile Map<String, Integer> positions;
+
+        private JarIndex(String path, long size, long lastModified, String[] names, ClassFileHeader[] headers) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.names = names;
+            this.headers = headers;
+        }
+
+        static JarIndex build(File jar, String path, long size, long lastModified) {
+            List<String> names = new ArrayList<>();
+            List<ClassFileHeader> headers = new ArrayList<>();
+            try (ZipFile zipFile = new ZipFile(jar)) {
+                Enumeration<? extends ZipEntry> entries = zipFile.entries();
+                while (entries.hasMoreElements()) {
+                    ZipEntry entry = entries.nextElement();
+                    if (entry.isDirectory()) {
+                        continue;
+                    }
+                    ClassFileHeader header = null;
+                    if (entry.getName().endsWith(".class")) {
+                        try (InputStream in = new BufferedInputStream(zipFile.getInputStream(entry))) {
+                            header = ClassFileHeader.read(in);
+                        } catch (IOException e) {
+                            log.debug("Unable to read the class header of '" + entry.getName() + "' in '" + jar +
+                                    "': " + e.getMessage());
+                        }
+                    }
+                    names.add(entry.getName());
+                    headers.add(header);
+                }
+            } catch (IOException | RuntimeException e) {
+                // truncated archives, malformed entry names and the like
+                log.debug("Unable to index '" + jar + "': " + e.getMessage());
+                return null;
+            }
+            return new JarIndex(path, size, lastModified, names.toArray(new String[names.size()]),
+                    headers.toArray(new ClassFileHeader[headers.size()]));
+        }
+
+        static JarIndex load(File indexFile, String path) {
+            if (!indexFile.isFile()) {
+                return null;
+            }
+            if (!isTrusted(indexFile.toPath()) || !isTrusted(indexFile.getParentFile().toPath())) {
+                log.debug("Ignoring index '" + indexFile + "', which may have been written by another user");
+                return null;
+            }
+            try {
+                byte[] bytes = Files.readAllBytes(indexFile.toPath());
+                int length = bytes.length - 8;
+                if (length < 0) {
+                    return null;
+                }
+                CRC32 crc = new CRC32();
+                crc.update(bytes, 0, length);
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+                in.skipBytes(length);
+                if (in.readLong() != crc.getValue()) {
+                    log.debug("Discarding corrupted index '" + indexFile + "'");
+                    return null;
+                }
+                in = new DataInputStream(new ByteArrayInputStream(bytes, 0, length));
+                if (in.readInt() != INDEX_MAGIC || in.readInt() != INDEX_VERSION || !path.equals(in.readUTF())) {
+                    return null;
+                }
+                long size = in.readLong();
+                long lastModified = in.readLong();
+                int count = in.readInt();
+                String[] names = new String[count];
+                ClassFileHeader[] headers = new ClassFileHeader[count];
+                for (int i = 0; i < count; i++) {
+                    names[i] = in.readUTF();
+                    headers[i] = in.readBoolean() ? ClassFileHeader.readFrom(in) : null;
+                }
+                return new JarIndex(path, size, lastModified, names, headers);
+            } catch (IOException e) {
+                log.debug("Discarding unreadable index '" + indexFile + "': " + e.getMessage());
+                return null;
+            }
+        }
+
+        ClassFileHeader headerOf(String name) {
+            Map<String, Integer> positions = this.positions;
+            if (positions == null) {
+                positions = new HashMap<>(names.length * 2);
+                for (int i = 0; i < names.length; i++) {
+                    positions.put(names[i], i);
+                }
+                this.positions = positions;
+            }
+            Integer position = positions.get(name);
+            return position == null ? null : headers[position];
+        }
+
+        boolean isValid(long size, long lastModified) {
+            return this.size == size && this.lastModified == lastModified;
+        }
+
+        void store(File indexFile) {
+            Path directory = indexFile.getParentFile().toPath();
+            try {
+                if (POSIX) {
+                    Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(
+                            PosixFilePermissions.fromString("rwx------")));
+                } else {
+                    Files.createDirectories(directory);
+                }
+                if (!isTrusted(directory)) {
+                    log.debug("Not storing the index of '" + path + "' into '" + directory + "', which may be " +
+                            "written by another user");
+                    return;
+                }
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (DataOutputStream out = new DataOutputStream(bytes)) {
+                    out.writeInt(INDEX_MAGIC);
+                    out.writeInt(INDEX_VERSION);
+                    out.writeUTF(path);
+                    out.writeLong(size);
+                    out.writeLong(lastModified);
+                    out.writeInt(names.length);
+                    for (int i = 0; i < names.length; i++) {
+                        out.writeUTF(names[i]);
+                        out.writeBoolean(headers[i] != null);
+                        if (headers[i] != null) {
+                            headers[i].writeTo(out);
+                        }
+                    }
+                    CRC32 crc = new CRC32();
+                    crc.update(bytes.toByteArray());
+                    out.writeLong(crc.getValue());
+                }
+                // temporary files are created readable and writable by their owner only
+                Path temp = Files.createTempFile(directory, indexFile.getName(), ".tmp");
+                try {
+                    Files.write(temp, bytes.toByteArray());
+                    Files.move(temp, indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                            StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    Files.deleteIfExists(temp);
+                    throw e;
+                }
+            } catch (IOException e) {
+                log.debug("Unable to store the index of '" + path + "' into '" + indexFile + "': " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,547 @@
+/*
+ * Copyright 2017 araguacaima
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.araguacaima.commons.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.objenesis.Objenesis;
+import org.objenesis.ObjenesisStd;
+import org.objenesis.instantiator.ObjectInstantiator;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Reflective deep copier for object graphs.
+ * <p>Every object is copied at most once per invocation (an identity map keeps track of the copies already
+ * made), so shared references and cycles are preserved in the copy. Immutable JDK values (strings, boxed
+ * primitives, enums, {@code java.time} values and so on) are shared instead of copied, arrays of primitives
+ * or immutable values are bulk copied with {@link System#arraycopy}, and the way of copying each class is
+ * computed once and cached.
+ * <p>Unlike Java serialization, objects do not need to be {@link Serializable} and no constructor is run on the
+ * copies, which are instantiated through Objenesis (when it is not on the classpath, classes need a no-arg
+ * constructor). Transient fields are not copied (they keep their default value), as serialization would do.
+ * Serializable classes that declare or inherit {@code writeObject}, {@code readObject}, {@code writeReplace} or
+ * {@code readResolve}, and thus may keep their state in transient fields, are copied through serialization.
+ * <p>Collections and maps are created empty with the state their elements do not carry: through the
+ * {@code clone()} of the JDK class, then cleared, when it has one (so that access ordered {@link LinkedHashMap}s,
+ * {@link EnumMap}s and comparators are kept), otherwise through a constructor taking the comparator of the source
+ * ({@link PriorityQueue} and the like) or a no-arg constructor. Their elements are then copied one by one.
+ * <p>Serialization is still used for JDK types that can not be copied otherwise, and can be explicitly requested
+ * through {@link #deepCloneBySerialization(Object)}.
+ */
+public final class DeepCloner {
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(Object.class,
+            String.class,
+            Boolean.class,
+            Character.class,
+            Byte.class,
+            Short.class,
+            Integer.class,
+            Long.class,
+            Float.class,
+            Double.class,
+            Void.class,
+            BigInteger.class,
+            BigDecimal.class,
+            Class.class,
+            UUID.class,
+            Locale.class,
+            Currency.class,
+            Pattern.class,
+            URI.class,
+            URL.class,
+            File.class));
+    private static final DeepCloner INSTANCE = new DeepCloner();
+    private static final String[] JDK_PACKAGE_PREFIXES = {"java.", "javax.", "sun.", "com.sun.", "jdk."};
+    private static final Logger log = LoggerFactory.getLogger(DeepCloner.class);
+    private final Map<Class<?>, ClonePlan> plansCache = new ConcurrentReferenceHashMap<>(256);
+
+    private DeepCloner() {
+        if (INSTANCE != null) {
+            throw new IllegalStateException("Already instantiated");
+        }
+    }
+
+    public static DeepCloner getInstance() {
+        return INSTANCE;
+    }
+
+    private static boolean isJdkType(Class<?> clazz) {
+        String name = clazz.getName();
+        for (String prefix : JDK_PACKAGE_PREFIXES) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isImmutable(Class<?> clazz) {
+        return IMMUTABLE_TYPES.contains(clazz)
+                || Enum.class.isAssignableFrom(clazz)
+                || clazz.getName().startsWith("java.time.")
+                || Charset.class.isAssignableFrom(clazz)
+                || Path.class.isAssignableFrom(clazz)
+                || ClassLoader.class.isAssignableFrom(clazz)
+                || Thread.class.isAssignableFrom(clazz)
+                || Member.class.isAssignableFrom(clazz)
+                || Proxy.isProxyClass(clazz)
+                || clazz.getName().contains("$$Lambda");
+    }
+
+    /**
+     * Elements of an array whose component type is immutable and can not be subclassed need no copy at all.
+     */
+    private static boolean isImmutableComponent(Class<?> componentType) {
+        return componentType.isEnum() || (Modifier.isFinal(componentType.getModifiers()) && isImmutable(
+                componentType));
+    }
+
+    /**
+     * Deep copy the given object graph.
+     *
+     * @param object the root of the graph to copy, may be {@code null}
+     * @param <T>    the type of the root object
+     * @return the copy of the root object
+     * @throws IllegalStateException if some object of the graph could not be copied
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T deepClone(T object) {
+        return (T) copy(object, new IdentityHashMap<>());
+    }
+
+    /**
+     * Deep copy the given object graph through a Java serialization round-trip. Every object in the graph must
+     * be {@link Serializable}.
+     *
+     * @param object the root of the graph to copy, may be {@code null}
+     * @param <T>    the type of the root object
+     * @return the copy of the root object
+     * @throws IllegalStateException if the graph could not be serialized or deserialized
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T deepCloneBySerialization(T object) {
+        if (object == null) {
+            return null;
+        }
+        try {
+            ByteArrayOutputStream bo = new ByteArrayOutputStream();
+            try (ObjectOutputStream oo = new ObjectOutputStream(bo)) {
+                oo.writeObject(object);
+            }
+            try (ObjectInputStream oi = new ObjectInputStream(new ByteArrayInputStream(bo.toByteArray()))) {
+                return (T) oi.readObject();
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Unable to clone an instance of " + object.getClass().getName() + " " +
+                    "through serialization: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Drop the copy plan of the given class, if any.
+     *
+     * @param clazz the class whose plan must be rebuilt on next use
+     */
+    public void evict(Class<?> clazz) {
+        plansCache.remove(clazz);
+    }
+
+    /**
+     * Drop every cached copy plan.
+     */
+    public void clearCache() {
+        plansCache.clear();
+    }
+
+    private ClonePlan planFor(Class<?> clazz) {
+        ClonePlan plan = plansCache.get(clazz);
+        if (plan == null) {
+            plan = buildPlan(clazz);
+            plansCache.put(clazz, plan);
+        }
+        return plan;
+    }
+
+    private ClonePlan buildPlan(Class<?> clazz) {
+        if (isImmutable(clazz)) {
+            return new ClonePlan(CloneKind.SHARED);
+        }
+        if (clazz.isArray()) {
+            Class<?> componentType = clazz.getComponentType();
+            return new ClonePlan(componentType.isPrimitive() || isImmutableComponent(componentType) ? CloneKind
+                    .BULK_ARRAY : CloneKind.ARRAY);
+        }
+        boolean jdkType = isJdkType(clazz);
+        try {
+            boolean container = Collection.class.isAssignableFrom(clazz) || Map.class.isAssignableFrom(clazz);
+            if (container) {
+                ClonePlan plan = buildContainerPlan(clazz, jdkType);
+                if (plan != null) {
+                    return plan;
+                }
+            }
+            if (!container && !jdkType && hasSerializationHooks(clazz)) {
+                return new ClonePlan(CloneKind.SERIALIZATION);
+            }
+            // containers without a usable constructor (unmodifiable or singleton wrappers and the like) are
+            // copied field by field, their wrapped collections getting their own plans
+            if (container || !jdkType) {
+                ClonePlan plan = new ClonePlan(CloneKind.FIELDS);
+                plan.factory = objectFactory(clazz);
+                plan.fields = fieldCopiers(clazz, false);
+                return plan;
+            }
+            if (Cloneable.class.isAssignableFrom(clazz)) {
+                Method cloneMethod = clazz.getMethod("clone");
+                ReflectionUtils.makeAccessible(cloneMethod);
+                ClonePlan plan = new ClonePlan(CloneKind.CLONEABLE);
+                plan.cloneMethod = cloneMethod;
+                return plan;
+            }
+        } catch (NoSuchMethodException | RuntimeException e) {
+            log.debug("Instances of '" + clazz.getName() + "' can not be copied reflectively: " + e.getMessage());
+        }
+        if (Serializable.class.isAssignableFrom(clazz)) {
+            return new ClonePlan(CloneKind.SERIALIZATION);
+        }
+        if (jdkType) {
+            log.debug("Instances of '" + clazz.getName() + "' will be shared by clones");
+            return new ClonePlan(CloneKind.SHARED);
+        }
+        return new ClonePlan(CloneKind.UNSUPPORTED);
+    }
+
+    /**
+     * @param clazz a class to be copied field by field
+     * @return a factory of instances of the class that runs none of its constructors, or runs its no-arg
+     * constructor when Objenesis is not available
+     * @throws NoSuchMethodException if Objenesis is not available and the class has no no-arg constructor
+     */
+    private static ObjectFactory objectFactory(Class<?> clazz) throws NoSuchMethodException {
+        try {
+            return ObjenesisFactories.forClass(clazz);
+        } catch (LinkageError e) {
+            Constructor<?> constructor = clazz.getDeclaredConstructor();
+            ReflectionUtils.makeAccessible(constructor);
+            return constructor::newInstance;
+        }
+    }
+
+    /**
+     * @param clazz a serializable class
+     * @return true if the class is serializable and some class of its hierarchy customizes its serialized form
+     */
+    private static boolean hasSerializationHooks(Class<?> clazz) {
+        if (!Serializable.class.isAssignableFrom(clazz)) {
+            return false;
+        }
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current
+                .getSuperclass()) {
+            if (declares(current, "writeObject", ObjectOutputStream.class) || declares(current, "readObject",
+                    ObjectInputStream.class) || declares(current, "writeReplace") || declares(current,
+                    "readResolve")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean declares(Class<?> clazz, String name, Class<?>... parameterTypes) {
+        try {
+            clazz.getDeclaredMethod(name, parameterTypes);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static Constructor<?> constructor(Class<?> clazz, boolean jdkType, Class<?>... parameterTypes) {
+        try {
+            Constructor<?> constructor = clazz.getDeclaredConstructor(parameterTypes);
+            return jdkType && !Modifier.isPublic(constructor.getModifiers()) ? null : constructor;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param clazz a collection or map class
+     * @return its public {@code clone()}, if it is cloneable and inherits it from a JDK class
+     */
+    private static Method jdkCloneMethod(Class<?> clazz) {
+        if (!Cloneable.class.isAssignableFrom(clazz)) {
+            return null;
+        }
+        try {
+            Method cloneMethod = clazz.getMethod("clone");
+            return isJdkType(cloneMethod.getDeclaringClass()) ? cloneMethod : null;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private ClonePlan buildContainerPlan(Class<?> clazz, boolean jdkType) {
+        ClonePlan plan = new ClonePlan(Map.class.isAssignableFrom(clazz) ? CloneKind.MAP : CloneKind.COLLECTION);
+        Method cloneMethod = jdkCloneMethod(clazz);
+        if (cloneMethod != null) {
+            ReflectionUtils.makeAccessible(cloneMethod);
+            plan.cloneMethod = cloneMethod;
+        } else {
+            Method comparatorMethod = null;
+            try {
+                comparatorMethod = clazz.getMethod("comparator");
+            } catch (NoSuchMethodException ignored) {
+            }
+            if (comparatorMethod != null && Comparator.class.equals(comparatorMethod.getReturnType())) {
+                plan.instantiator = constructor(clazz, jdkType, int.class, Comparator.class);
+                plan.withCapacity = plan.instantiator != null;
+                if (plan.instantiator == null) {
+                    plan.instantiator = constructor(clazz, jdkType, Comparator.class);
+                }
+                if (plan.instantiator != null) {
+                    ReflectionUtils.makeAccessible(comparatorMethod);
+                    plan.comparatorMethod = comparatorMethod;
+                }
+            }
+            if (plan.instantiator == null) {
+                plan.instantiator = constructor(clazz, jdkType);
+                if (plan.instantiator == null) {
+                    return null;
+                }
+            }
+            ReflectionUtils.makeAccessible(plan.instantiator);
+        }
+        plan.fields = jdkType ? new FieldCopier[0] : fieldCopiers(clazz, true);
+        return plan;
+    }
+
+    private FieldCopier[] fieldCopiers(Class<?> clazz, boolean skipJdkFields) {
+        final List<FieldCopier> copiers = new ArrayList<>();
+        ReflectionUtils.doWithFields(clazz, field -> {
+            ReflectionUtils.makeAccessible(field);
+            copiers.add(new FieldCopier(field));
+        }, field -> {
+            int modifiers = field.getModifiers();
+            return !Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !(skipJdkFields &&
+                    isJdkType(field.getDeclaringClass()));
+        });
+        return copiers.toArray(new FieldCopier[0]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object copy(Object source, Map<Object, Object> copies) {
+        if (source == null) {
+            return null;
+        }
+        Class<?> clazz = source.getClass();
+        ClonePlan plan = planFor(clazz);
+        if (plan.kind == CloneKind.SHARED) {
+            return source;
+        }
+        Object target = copies.get(source);
+        if (target != null) {
+            return target;
+        }
+        try {
+            switch (plan.kind) {
+                case BULK_ARRAY: {
+                    int length = Array.getLength(source);
+                    target = Array.newInstance(clazz.getComponentType(), length);
+                    System.arraycopy(source, 0, target, 0, length);
+                    copies.put(source, target);
+                    break;
+                }
+                case ARRAY: {
+                    Object[] sourceArray = (Object[]) source;
+                    Object[] targetArray = (Object[]) Array.newInstance(clazz.getComponentType(), sourceArray.length);
+                    copies.put(source, targetArray);
+                    for (int i = 0; i < sourceArray.length; i++) {
+                        targetArray[i] = copy(sourceArray[i], copies);
+                    }
+                    target = targetArray;
+                    break;
+                }
+                case COLLECTION: {
+                    Collection<Object> targetCollection = (Collection<Object>) newContainer(plan, source);
+                    copies.put(source, targetCollection);
+                    copyFields(plan, source, targetCollection, copies);
+                    for (Object element : (Collection<Object>) source) {
+                        targetCollection.add(copy(element, copies));
+                    }
+                    target = targetCollection;
+                    break;
+                }
+                case MAP: {
+                    Map<Object, Object> targetMap = (Map<Object, Object>) newContainer(plan, source);
+                    copies.put(source, targetMap);
+                    copyFields(plan, source, targetMap, copies);
+                    for (Map.Entry<Object, Object> entry : ((Map<Object, Object>) source).entrySet()) {
+                        targetMap.put(copy(entry.getKey(), copies), copy(entry.getValue(), copies));
+                    }
+                    target = targetMap;
+                    break;
+                }
+                case FIELDS: {
+                    target = plan.factory.newInstance();
+                    copies.put(source, target);
+                    copyFields(plan, source, target, copies);
+                    break;
+                }
+                case CLONEABLE: {
+                    target = plan.cloneMethod.invoke(source);
+                    copies.put(source, target);
+                    break;
+                }
+                case SERIALIZATION: {
+                    target = deepCloneBySerialization(source);
+                    copies.put(source, target);
+                    break;
+                }
+                default:
+                    throw new IllegalStateException("Unable to clone an instance of " + clazz.getName() + ". It is " +
+                            "neither reflectively instantiable nor serializable");
+            }
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Unable to clone an instance of " + clazz.getName() + ": " + e
+                    .getMessage(), e);
+        }
+        return target;
+    }
+
+    private Object newContainer(ClonePlan plan, Object source)
+            throws IllegalAccessException, InvocationTargetException, InstantiationException {
+        if (plan.cloneMethod != null) {
+            Object container = plan.cloneMethod.invoke(source);
+            if (container instanceof Map) {
+                ((Map<?, ?>) container).clear();
+            } else {
+                ((Collection<?>) container).clear();
+            }
+            return container;
+        }
+        if (plan.comparatorMethod != null) {
+            Object comparator = plan.comparatorMethod.invoke(source);
+            if (plan.withCapacity) {
+                return plan.instantiator.newInstance(Math.max(1, ((Collection<?>) source).size()), comparator);
+            }
+            return plan.instantiator.newInstance(comparator);
+        }
+        return plan.instantiator.newInstance();
+    }
+
+    private void copyFields(ClonePlan plan, Object source, Object target, Map<Object, Object> copies)
+            throws IllegalAccessException {
+        for (FieldCopier fieldCopier : plan.fields) {
+            fieldCopier.copy(source, target, copies);
+        }
+    }
+
+    private enum CloneKind {
+        SHARED, BULK_ARRAY, ARRAY, COLLECTION, MAP, FIELDS, CLONEABLE, SERIALIZATION, UNSUPPORTED
+    }
+
+    /**
+     * Creates the instances of a class copied field by field.
+     */
+    private interface ObjectFactory {
+
+        Object newInstance() throws InstantiationException, IllegalAccessException, InvocationTargetException;
+    }
+
+    /**
+     * Keeps the references to Objenesis apart, so that its absence only shows up when a factory is asked for.
+     */
+    private static final class ObjenesisFactories {
+
+        // plans are already cached per class
+        private static final Objenesis OBJENESIS = new ObjenesisStd(false);
+
+        private static ObjectFactory forClass(Class<?> clazz) {
+            ObjectInstantiator<?> instantiator = OBJENESIS.getInstantiatorOf(clazz);
+            return instantiator::newInstance;
+        }
+    }
+
+    private static final class ClonePlan {
+
+        private final CloneKind kind;
+        private Method cloneMethod;
+        private Method comparatorMethod;
+        private FieldCopier[] fields;
+        private ObjectFactory factory;
+        private Constructor<?> instantiator;
+        private boolean withCapacity;
+
+        private ClonePlan(CloneKind kind) {
+            this.kind = kind;
+        }
+    }
+
+    /**
+     * Copies one field, avoiding boxing for primitives and recursion for immutable values.
+     */
+    private final class FieldCopier {
+
+        private final Field field;
+        private final boolean shared;
+        private final Class<?> type;
+
+        private FieldCopier(Field field) {
+            this.field = field;
+            this.type = field.getType();
+            this.shared = type.isPrimitive() || isImmutableComponent(type);
+        }
+
+        private void copy(Object source, Object target, Map<Object, Object> copies)
+                throws IllegalAccessException {
+            if (!type.isPrimitive()) {
+                Object value = field.get(source);
+                field.set(target, shared ? value : DeepCloner.this.copy(value, copies));
+            } else if (type == int.class) {
+                field.setInt(target, field.getInt(source));
+            } else if (type == long.class) {
+                field.setLong(target, field.getLong(source));
+            } else if (type == boolean.class) {
+                field.setBoolean(target, field.getBoolean(source));
+            } else if (type == double.class) {
+                field.setDouble(target, field.getDouble(source));
+            } else if (type == float.class) {
+                field.setFloat(target, field.getFloat(source));
+            } else if (type == char.class) {
+                field.setChar(target, field.getChar(source));
+            } else if (type == short.class) {
+                field.setShort(target, field.getShort(source));
+            } else {
+                field.setByte(target, field.getByte(source));
+            }
+        }
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2017 araguacaima
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.araguacaima.commons.utils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Copies files, streams and directory trees through NIO channels.
+ * <p>File to file copies go through {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)},
+ * which lets the kernel move the bytes ({@code sendfile} or {@code copy_file_range} on Linux) instead of copying them
+ * through the heap. Streams are copied through large direct buffers, taken from a pool shared by all the instances.
+ * <p>Directory trees are copied in parallel: their directories are created first, then their files are copied by at
+ * most {@link #getParallelism()} threads at a time. An optional {@link ProgressListener} is told about every chunk
+ * transferred, along with the throughput so far.
+ * <p>Instances are immutable and may be shared between threads.
+ */
+public final class FileTransfer {
+
+    /**
+     * Size of the pooled direct buffers.
+     */
+    static final int BUFFER_SIZE = 1024 * 1024;
+    /**
+     * Greatest number of direct buffers kept in the pool.
+     */
+    static final int MAX_POOLED_BUFFERS = 16;
+    /**
+     * Greatest number of bytes handed to a single transferTo call, so that progress is reported while copying big
+     * files.
+     */
+    static final long TRANSFER_CHUNK_SIZE = 8L * 1024 * 1024;
+    private static final Queue<ByteBuffer> bufferPool = new ConcurrentLinkedQueue<>();
+
+    private final ProgressListener listener;
+    private final int parallelism;
+
+    public FileTransfer() {
+        this(Runtime.getRuntime().availableProcessors(), null);
+    }
+
+    /**
+     * @param parallelism Greatest number of files copied at a time when copying a directory tree
+     * @param listener    Listener of the progress of the copies, or null
+     * @throws IllegalArgumentException If parallelism is not positive
+     */
+    public FileTransfer(int parallelism, ProgressListener listener) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive, got " + parallelism);
+        }
+        this.parallelism = parallelism;
+        this.listener = listener;
+    }
+
+    private static ByteBuffer acquireBuffer() {
+        ByteBuffer buffer = bufferPool.poll();
+        return buffer == null ? ByteBuffer.allocateDirect(BUFFER_SIZE) : buffer;
+    }
+
+    private static void releaseBuffer(ByteBuffer buffer) {
+        // the pool is only roughly bounded, extra buffers are left to the garbage collector
+        if (bufferPool.size() < MAX_POOLED_BUFFERS) {
+            buffer.clear();
+            bufferPool.offer(buffer);
+        }
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public ProgressListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Copy a file, replacing the target if it exists.
+     *
+     * @param source File to copy
+     * @param target File to create
+     * @return The number of bytes copied
+     * @throws IOException If the source can not be read or the target can not be written
+     */
+    public long copy(File source, File target)
+            throws IOException {
+        return copy(source.toPath(), target.toPath(), new Progress(System.nanoTime()));
+    }
+
+    private long copy(Path source, Path target, Progress progress)
+            throws IOException {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                long transferred = in.transferTo(position, Math.min(size - position, TRANSFER_CHUNK_SIZE), out);
+                if (transferred <= 0) {
+                    // the source shrunk while being copied
+                    break;
+                }
+                position += transferred;
+                progress.transferred(target, transferred);
+            }
+            return position;
+        }
+    }
+
+    /**
+     * Copy a stream into a file, replacing the file if it exists. The stream is read to its end but not closed.
+     *
+     * @param source Stream to copy
+     * @param target File to create
+     * @return The number of bytes copied
+     * @throws IOException If the stream can not be read or the target can not be written
+     */
+    public long copy(InputStream source, File target)
+            throws IOException {
+        Progress progress = new Progress(System.nanoTime());
+        Path path = target.toPath();
+        try (FileChannel out = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (source instanceof FileInputStream) {
+                return transferFrom(((FileInputStream) source).getChannel(), out, path, progress);
+            }
+            ReadableByteChannel in = Channels.newChannel(source);
+            ByteBuffer buffer = acquireBuffer();
+            try {
+                long copied = 0;
+                boolean eof = false;
+                while (!eof) {
+                    // fill the whole buffer, channels over streams read a few KB at a time
+                    while (buffer.hasRemaining() && !eof) {
+                        eof = in.read(buffer) == -1;
+                    }
+                    buffer.flip();
+                    int transferred = buffer.remaining();
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                    buffer.clear();
+                    if (transferred > 0) {
+                        copied += transferred;
+                        progress.transferred(path, transferred);
+                    }
+                }
+                return copied;
+            } finally {
+                releaseBuffer(buffer);
+            }
+        }
+    }
+
+    private long transferFrom(FileChannel in, FileChannel out, Path target, Progress progress)
+            throws IOException {
+        long copied = 0;
+        long transferred;
+        while (in.position() < in.size()
+                && (transferred = out.transferFrom(in, copied, TRANSFER_CHUNK_SIZE)) > 0) {
+            copied += transferred;
+            progress.transferred(target, transferred);
+        }
+        return copied;
+    }
+
+    /**
+     * Copy a directory tree, merging it into the target directory if it exists. Files keep their last modified
+     * date.
+     *
+     * @param source Directory to copy
+     * @param target Directory to copy it into
+     * @return The number of bytes copied
+     * @throws IOException If the source is not a directory, or any of its files can not be copied, in which case
+     *                     the files not copied yet are skipped
+     * @throws RuntimeException If copying a file failed unexpectedly, such as a SecurityException thrown by a
+     *                          security manager
+     */
+    public long copyDirectory(File source, File target)
+            throws IOException {
+        Path sourceRoot = source.toPath();
+        Path targetRoot = target.toPath();
+        if (!Files.isDirectory(sourceRoot)) {
+            throw new IOException("Source '" + source + "' is not a directory");
+        }
+        Progress progress = new Progress(System.nanoTime());
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        Semaphore permits = new Semaphore(parallelism * 2);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        AtomicLong copied = new AtomicLong();
+        try {
+            Files.walkFileTree(sourceRoot, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs)
+                        throws IOException {
+                    Files.createDirectories(targetRoot.resolve(sourceRoot.relativize(dir).toString()));
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
+                        throws IOException {
+                    if (failure.get() != null) {
+                        return FileVisitResult.TERMINATE;
+                    }
+                    Path targetFile = targetRoot.resolve(sourceRoot.relativize(file).toString());
+                    try {
+                        permits.acquire();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException("Interrupted while copying '" + file + "'");
+                    }
+                    executor.execute(() -> {
+                        try {
+                            if (failure.get() == null) {
+                                copied.addAndGet(copy(file, targetFile, progress));
+                                Files.setLastModifiedTime(targetFile, attrs.lastModifiedTime());
+                            }
+                        } catch (IOException | RuntimeException e) {
+                            failure.compareAndSet(null, e);
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } finally {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+                failure.compareAndSet(null, new InterruptedIOException("Interrupted while copying '" + source + "'"));
+            }
+        }
+        Exception e = failure.get();
+        if (e instanceof IOException) {
+            throw (IOException) e;
+        } else if (e != null) {
+            throw (RuntimeException) e;
+        }
+        return copied.get();
+    }
+
+    /**
+     * Listener of the progress of the copies.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+
+        /**
+         * Called from the copying thread after every chunk transferred. It may be called from several threads at a
+         * time when copying a directory tree.
+         *
+         * @param target         File being written
+         * @param bytes          Number of bytes of the chunk
+         * @param totalBytes     Number of bytes transferred since the copy began, for all of its files
+         * @param bytesPerSecond Throughput since the copy began
+         */
+        void transferred(Path target, long bytes, long totalBytes, double bytesPerSecond);
+    }
+
+    /**
+     * Progress of a copy, over all of its files.
+     */
+    private final class Progress {
+
+        private final long startNanos;
+        private final AtomicLong totalBytes = new AtomicLong();
+
+        private Progress(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        private void transferred(Path target, long bytes) {
+            if (listener != null) {
+                long total = totalBytes.addAndGet(bytes);
+                long elapsed = Math.max(System.nanoTime() - startNanos, 1);
+                listener.transferred(target, bytes, total, total * 1e9 / elapsed);
+            }
+        }
+    }
+}
@@ -21,9 +21,7 @@ package com.araguacaima.commons.utils;
 
 import com.araguacaima.commons.utils.file.FileUtilsFilenameFilter;
 import com.araguacaima.commons.utils.file.FileUtilsFilenameFilterImpl;
-import org.apache.commons.beanutils.BeanUtils;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.collections4.IterableUtils;
 import org.apache.commons.collections4.Predicate;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.filefilter.DirectoryFileFilter;
@@ -33,17 +31,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
-import java.lang.reflect.InvocationTargetException;
 import java.net.JarURLConnection;
 import java.net.URL;
-import java.net.URLConnection;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.JarOutputStream;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -103,6 +102,7 @@ public class FileUtils extends org.apache.commons.io.FileUtils {
     private int recursionLevel;
     private int searchType;
     private StringUtils stringUtils = StringUtils.getInstance();
+    private final FileTransfer fileTransfer = new FileTransfer();
 
     public FileUtils() {
         setSearchType(DEFAULT_SEARCH_TYPE);
@@ -143,6 +143,7 @@ public class FileUtils extends org.apache.commons.io.FileUtils {
      * @return A collection of objects resulting from binding source file with incoming class
      * @throws Exception If it's not possible to read the file or if internal information could not be ssociated to
      *                   the desired class
+     * @see RecordBinder for streaming the records instead of holding them all
      */
 
     public static Collection<Object> bindRecordsFromFileToObject(File file,
@@ -150,24 +151,9 @@ public class FileUtils extends org.apache.commons.io.FileUtils {
                                                                  char fieldSeparator,
                                                                  Class classToBind)
             throws Exception {
-        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
-        String buffer;
-        Collection<Object> result = new ArrayList<>();
-        while ((buffer = randomAccessFile.readLine()) != null) {
-            final Iterator<String> bufferSplitted = Arrays.asList(buffer.split(Character.toString(fieldSeparator)))
-                    .iterator();
-            final Object objectToBind = classToBind.newInstance();
-            IterableUtils.forEach(orderedFields, methodName -> {
-                try {
-                    String value = bufferSplitted.next();
-                    BeanUtils.setProperty(objectToBind, methodName, value);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    e.printStackTrace();
-                }
-            });
-            result.add(objectToBind);
-        }
-        return result;
+        @SuppressWarnings("unchecked")
+        Class<Object> objectClass = (Class<Object>) classToBind;
+        return new RecordBinder<>(objectClass, orderedFields, fieldSeparator).bindAll(file);
     }
 
     public static File getFileFromClassPath(String fileName) {
@@ -195,82 +181,64 @@ public class FileUtils extends org.apache.commons.io.FileUtils {
     }
 
     /**
-     * Obtains the String staring from the initial position until refered word
+     * Obtains the String enclosed by the refered word around the initial position, delimiters included: from the
+     * last occurrence of the word starting at or before the initial position, or the beginning of the file if there
+     * is none, to the end of the next occurrence of the word, or the end of the file if there is none.
      *
      * @param sourcefile    The path for the file to searching for
-     * @param startPosition The relative initial position to start to searching for
+     * @param startPosition The initial position, as a byte offset in the file, to start to searching for
      * @param searchFor     The String to be searched
-     * @return total number of occurences of the String especified in searchFor parameter in a text file identified
-     * by sourcefile
+     * @return the String enclosed by the refered word, or an empty String if the initial position is past the end
+     * of the file
      * @throws Exception If any error occur
+     * @see MappedTextSearch
      */
 
     public static String getStringFromStartPositionEnclosedBy(String sourcefile, long startPosition, String searchFor)
             throws Exception {
-        File file = new File(sourcefile);
-        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
-        long fileLength = randomAccessFile.length();
-        StringBuilder buffer = new StringBuilder(StringUtils.EMPTY);
-        if (startPosition < fileLength) {
-            randomAccessFile.seek(startPosition);
-            boolean recordStartingPointFound = false;
-            long i = startPosition - 1;
-
-            for (; i > 0 && !recordStartingPointFound; randomAccessFile.seek(i--)) {
-                Character character = randomAccessFile.readChar();
-                buffer.insert(0, character);
-                if (buffer.toString().startsWith(searchFor)) {
-                    recordStartingPointFound = true;
-                }
+        MappedTextSearch search = new MappedTextSearch(searchFor);
+        try (FileChannel channel = FileChannel.open(new File(sourcefile).toPath(), StandardOpenOption.READ)) {
+            long fileLength = channel.size();
+            if (startPosition >= fileLength) {
+                return StringUtils.EMPTY;
             }
-            recordStartingPointFound = false;
-            i = startPosition;
-            for (; i < fileLength && !recordStartingPointFound; ) {
-                Character character = randomAccessFile.readChar();
-                buffer.insert(0, character);
-                if (buffer.toString().endsWith(searchFor)) {
-                    recordStartingPointFound = true;
-                }
-                randomAccessFile.seek(i++);
+            long begin = search.lastIndexOf(channel, startPosition);
+            long from = startPosition;
+            if (begin == -1) {
+                begin = 0;
+            } else {
+                from = Math.max(from, begin + search.length());
             }
+            long end = search.indexOf(channel, from);
+            end = end == -1 ? fileLength : end + search.length();
+            return MappedTextSearch.read(channel, begin, end);
         }
-        return buffer.toString();
     }
 
     /**
-     * Obtains the String staring from the initial position until refered word
+     * Obtains the String staring from the initial position until refered word, the word excluded, or until the end
+     * of the file if the word is not found.
      *
      * @param sourcefile    The path for the file to searching for
-     * @param startPosition The relative initial position to start to searching for
+     * @param startPosition The initial position, as a byte offset in the file, to start to searching for
      * @param searchFor     The String to be searched
-     * @return total number of occurences of the String especified in searchFor parameter in a text file identified
-     * by sourcefile
+     * @return the String from the initial position until the refered word, or an empty String if the initial
+     * position is past the end of the file
      * @throws Exception If any error occur
+     * @see MappedTextSearch
      */
 
     public static String getStringFromStartPositionUntilWord(String sourcefile, long startPosition, String searchFor)
             throws Exception {
-        File file = new File(sourcefile);
-        BufferedReader bout = new BufferedReader(new FileReader(file));
-        char character;
-        StringBuilder buffer = new StringBuilder();
-        int i = 0;
-        if (startPosition < file.length()) {
-            while ((character = (char) bout.read()) != 0 && i < startPosition) {
-                i++;
-            }
-            if (character != 0) {
-                while (character != 0) {
-                    buffer.append(character);
-                    if (buffer.toString().endsWith(searchFor)) {
-                        buffer.delete(buffer.length() - searchFor.length(), buffer.length());
-                        break;
-                    }
-                    character = (char) bout.read();
-                }
+        MappedTextSearch search = new MappedTextSearch(searchFor);
+        try (FileChannel channel = FileChannel.open(new File(sourcefile).toPath(), StandardOpenOption.READ)) {
+            long fileLength = channel.size();
+            if (startPosition >= fileLength) {
+                return StringUtils.EMPTY;
             }
+            long end = search.indexOf(channel, startPosition);
+            return MappedTextSearch.read(channel, startPosition, end == -1 ? fileLength : end);
         }
-        return buffer.toString();
     }
 
     public static boolean isCompressedFile(File file) {
@@ -278,25 +246,20 @@ public class FileUtils extends org.apache.commons.io.FileUtils {
     }
 
     /**
-     * Count total number of occurences of a String in a text file
+     * Count total number of occurences of a String in a text file. Occurrences are literal, not regular expressions,
+     * and do not overlap: after an occurrence, counting goes on right after it.
      *
      * @param sourcefile The path for the file to searching for
      * @param searchFor  The String to be searched
      * @return total number of occurences of the String especified in searchFor parameter in a text file identified
      * by sourcefile
      * @throws Exception If any error occur
+     * @see MappedTextSearch
      */
 
     public static long wordCount(String sourcefile, String searchFor)
             throws Exception {
-
-        long searchCount = 0;
-        BufferedReader bout = new BufferedReader(new FileReader(sourcefile));
-        String ffline;
-        while ((ffline = bout.readLine()) != null) {
-            searchCount += ffline.split(searchFor).length;
-        }
-        return searchCount;
+        return new MappedTextSearch(searchFor).count(new File(sourcefile));
     }
 
     public static File getFile(String path) throws FileNotFoundException {
@@ -654,37 +617,10 @@ public class FileUtils extends org.apache.commons.io.FileUtils {
      * @param output String con el nombre del archivo destino
      */
     public void copyFile(String input, String output) {
-        InputStream in = null;
-        OutputStream out = null;
-
         try {
-            in = new FileInputStream(new File(input));
-            out = new FileOutputStream(new File(output));
-
-            // Transfer bytes from in to out
-            byte[] buf = new byte[1024];
-            int len;
-            while ((len = in.read(buf)) > 0) {
-                out.write(buf, 0, len);
-            }
-
+            fileTransfer.copy(new File(input), new File(output));
         } catch (Exception e) {
             log.error("Error copying the file '" + input + "' to file '" + output + "'", e);
-        } finally {
-            try {
-                if (in != null) {
-                    in.close();
-                }
-            } catch (Exception e) {
-                log.error("Error closing file '" + input + "'", e);
-            }
-            try {
-                if (out != null) {
-                    out.close();
-                }
-            } catch (Exception e) {
-                log.error("Error closing file '" + output + "'", e);
-            }
         }
     }
 
@@ -707,7 +643,7 @@ public class FileUtils extends org.apache.commons.io.FileUtils {
                     break;
                 case "file":
                     String file = url.getFile();
-                    copyDirectory(new File(file).getCanonicalFile(), dest);
+                    fileTransfer.copyDirectory(new File(file).getCanonicalFile(), dest);
                     break;
                 case "vfs":
                     break;
@@ -717,22 +653,9 @@ public class FileUtils extends org.apache.commons.io.FileUtils {
 
     public void copyURLToDirectory(URL url, File dest)
             throws IOException {
-
-        URLConnection urlC = url.openConnection();
-        // Copy resource to local file, use remote file
-        // if no local file name specified
-        InputStream is = url.openStream();
-        // Print info about resource
-        Date date = new Date(urlC.getLastModified());
-        System.out.flush();
-        FileOutputStream fos = new FileOutputStream(dest);
-        int oneChar;
-        while ((oneChar = is.read()) != -1) {
-            fos.write(oneChar);
+        try (InputStream is = url.openStream()) {
+            fileTransfer.copy(is, dest);
         }
-        is.close();
-        fos.close();
-
     }
 
     /**
@@ -754,13 +677,8 @@ public class FileUtils extends org.apache.commons.io.FileUtils {
                     parent.mkdirs();
                 }
 
-                try (FileOutputStream out = new FileOutputStream(dest); InputStream in = fromJar.getInputStream(entry)) {
-                    byte[] buffer = new byte[8 * 1024];
-
-                    int s;
-                    while ((s = in.read(buffer)) > 0) {
-                        out.write(buffer, 0, s);
-                    }
+                try (InputStream in = fromJar.getInputStream(entry)) {
+                    fileTransfer.copy(in, dest);
                 } catch (IOException e) {
                     throw new IOException("Could not copy asset from jar file", e);
                 }
@@ -806,33 +724,7 @@ public class FileUtils extends org.apache.commons.io.FileUtils {
      * @return All classes that extends of provided super class.
      */
     private ArrayList<Class> findClassesThatExtends(File directory, Class<?> superClass) {
-        ArrayList<Class> results = new ArrayList<>();
-        if (directory.isFile() && directory.getName().endsWith(".class")) {
-            String nativeNotation = directory.getAbsolutePath();
-            nativeNotation = deleteUntilFirstDot(nativeNotation);
-            nativeNotation = replaceAllDiferentToCharacter(nativeNotation);
-
-            Class clazz;
-            try {
-                clazz = myClassForName(nativeNotation);
-                if (superClass.isAssignableFrom(clazz)) {
-                    results.add(clazz);
-                }
-            } catch (Throwable e) {
-                log.error(e.getMessage());
-                // log.warn("Error loading class = " + nativeNotation);
-                // TODO: Validar si colocamos o no esta traza
-                // Todas las clases internas fallan y pasan por aqui.
-                // log.warn("Is not a valid class = " + nativeNotation, e);
-            }
-            return results;
-        }
-
-        File[] files = directory.listFiles();
-        for (int i = 0; files != null && i < files.length; i++) {
-            results.addAll(findClassesThatExtends(files[i], superClass));
-        }
-        return results;
+        return new ArrayList<>(findSubtypes(directory, superClass.getName()));
     }
 
     /**
@@ -841,41 +733,23 @@ public class FileUtils extends org.apache.commons.io.FileUtils {
      * @param directory            Directory to find implemented classes
      * @param implementedClassName Interface class name of those classes in directory that implement it
      * @return All classes that implement the provided implemented class.
-     * @throws ClassNotFoundException ClassNotFoundException
      */
-    private ArrayList<Class> findClassesThatImplemented(File directory, String implementedClassName)
-            throws ClassNotFoundException {
-        ArrayList<Class> results = new ArrayList<>();
-        //log.debug("Directory: "+directory.isFile() + " y "+
-        // directory.getName());
-        if (directory.isFile() && directory.getName().endsWith(".class")) {
-            String nativeNotation = directory.getAbsolutePath();
-            //log.debug("nativeNotation: "+nativeNotation);
-            // String property =
-            // properties.getProperty(BASE_PATH_PROPERTY_NAME);
-            // nativeNotation = nativeNotation.substring(
-            // nativeNotation.indexOf(property) + property.length() + 1,
-            // nativeNotation.length());
-            nativeNotation = deleteUntilFirstDot(nativeNotation);
-            //log.debug("nativeNotation: "+nativeNotation);
-            nativeNotation = replaceAllDiferentToCharacter(nativeNotation);
-            //log.debug("nativeNotation luego: "+nativeNotation);
-
-            Class clazz = myClassForName(nativeNotation);
-            final Class[] interfaces = clazz.getInterfaces();
-            Collection<String> classes = CollectionUtils.collect(Arrays.asList(interfaces),
-                    ReflectionUtils.CLASS_NAME_TRANSFORMER);
-            if (classes.contains(implementedClassName)) {
-                results.add(clazz);
-            }
-            return results;
-        }
+    private ArrayList<Class> findClassesThatImplemented(File directory, String implementedClassName) {
+        return new ArrayList<>(findSubtypes(directory, implementedClassName));
+    }
 
-        File[] files = directory.listFiles();
-        for (int i = 0; files != null && i < files.length; i++) {
-            results.addAll(findClassesThatImplemented(files[i], implementedClassName));
-        }
-        return results;
+    /**
+     * Scans the directory or jar reading only class file headers, and loads, without initializing them, just the
+     * classes that extend or implement, directly or not, the provided type.
+     *
+     * @param location Directory or jar to scan
+     * @param typeName Name of the class or interface
+     * @return Subtypes found, sorted by name
+     */
+    private List<Class<?>> findSubtypes(File location, String typeName) {
+        List<ClasspathScanner.Entry> entries = ClasspathScanner.getInstance().scan(Collections.singletonList(
+                location));
+        return SubtypeIndex.of(entries, FileUtils.class.getClassLoader()).loadSubtypes(typeName);
     }
 
     public String findFileOnDirRecursive(String fileName, String folderName, boolean onlyOne, int tab) {
@@ -1027,16 +901,9 @@ public class FileUtils extends org.apache.commons.io.FileUtils {
     public void flushInputStreamToFile(InputStream stream, String filepath)
             throws IOException {
         File file = createFile(filepath);
-        OutputStream out;
         log.debug("file: " + file);
         log.debug("filepath: " + filepath);
-        out = new FileOutputStream(file);
-        byte[] buf = new byte[1024];
-        int len;
-        while ((len = stream.read(buf)) > 0) {
-            out.write(buf, 0, len);
-        }
-        out.close();
+        fileTransfer.copy(stream, file);
     }
 
     public File createFile(String filepath)
@@ -1215,109 +1082,21 @@ public class FileUtils extends org.apache.commons.io.FileUtils {
     private ArrayList<Class> findClassesThatImplementedFromJar(File jar, Class implementedClass, String jarName) {
         ArrayList<Class> results = new ArrayList<>();
 
-        boolean isFile = jar.isFile();
-        //log.debug("[fJAR] jar.isFile() = " + isFile);
-
-        boolean endsWithJar = jar.getName().endsWith(".jar");
-        //log.debug("[fJAR] endsWithJar = " + endsWithJar);
-
-        if (isFile && endsWithJar) {
-            //log.debug("[fJAR] jar valido");
-            ArrayList<String> clazzez = jarUtils.listClassesOnJar(jarName);
-            for (String aClasses : clazzez) {
-                String nativeNotation = aClasses;
-                if (nativeNotation.contains("$")) {
-                    log.debug("*** Clase interna " + nativeNotation + " sera ignorada.");
+        if (jar.isFile() && jar.getName().endsWith(".jar")) {
+            for (Class<?> clazz : findSubtypes(new File(jarName), implementedClass.getName())) {
+                if (clazz.getName().contains("$")) {
+                    log.debug("*** Clase interna " + clazz.getName() + " sera ignorada.");
                     // TODO: Estamos ignorando las clases internas. Se puede
                     // parametrizar este comportamiento.
                     continue;
                 }
-                //log.debug("[fJAR] nativeNotation: " +
-                // nativeNotation);
-                log.debug("*** Validando clase: " + nativeNotation);
-                nativeNotation = deleteUntilFirstDot(nativeNotation);
-                //log.debug("[fJAR] nativeNotation luego de borrar punto: "
-                // + nativeNotation);
-                nativeNotation = replaceAllDiferentToCharacter(nativeNotation);
-                //log.debug("[fJAR] nativeNotation luego de cambiarlo a puntos: "
-                // + nativeNotation);
-                //log.debug(" -> " + nativeNotation);
-
-                Class clazz;
-                try {
-                    clazz = myClassForName(nativeNotation);
-                    log.debug("    clazz = " + clazz.getName() + " -> # interfaces = " + clazz.getInterfaces().length);
-
-                    if (Arrays.asList(clazz.getInterfaces()).contains(implementedClass)) {
-                        //log.debug("[fJAR] implements = " +
-                        // implementedClass.getName());
-                        results.add(clazz);
-                    }
-                } catch (ClassNotFoundException e) {
-                    // TODO: Cuando se vea esta traza es que hay una inconsistencia en el codigo.
-                    log.error("    Error buscando la clase '" + nativeNotation + "'.");
-                    // Si no se consigue una clase, es que su paquete y su
-                    // directorio estan inconsistentes
-                    log.error("    Probablemente hay inconsistencia entre su package y " + "su path...");
-                    // log.error(e.getMessage());
-                } catch (Throwable e) {
-                    // TODO: Cuando se vea esta traza es que hay una inconsistencia en el codigo.
-                    log.error("    Error desconocido buscando la clase '" + nativeNotation + "'.");
-                    // Todas las clases internas fallan y pasan por aqui.
-                    log.error("    Ignorar esta traza si la clase es una clase interna." + "." + ".");
-                    // log.error(e.getMessage());
-                }
+                results.add(clazz);
             }
-            //log.debug("El tamanio de results en findClassesThatImplementedFromJar es
-            // "+results.size());
-            log.debug("");
-            return results;
         }
 
         return results;
     }
 
-    /**
-     * get fileName without first dot
-     *
-     * @param fileName String
-     * @return fileName without first dot.
-     */
-    private String deleteUntilFirstDot(String fileName) {
-        int index;
-        if (fileName != null && (index = fileName.indexOf(".")) != -1) {
-            return fileName.substring(0, index);
-        }
-        return fileName;
-    }
-
-    /**
-     * Delete all slash in nativeNotation.
-     *
-     * @param nativeNotation String
-     * @return Delete all slash in nativeNotation
-     */
-    private String replaceAllDiferentToCharacter(String nativeNotation) {
-        String pattern = "\\W";
-        return nativeNotation.replaceAll(pattern, ".");
-    }
-
-    /**
-     * @param nativeNotation className
-     * @return Class
-     * @throws ClassNotFoundException ClassNotFoundException
-     */
-    private Class myClassForName(String nativeNotation)
-            throws ClassNotFoundException {
-        // return Da algun error ->
-        // getClass().getClassLoader().loadClass(nativeNotation);
-        // return Da NullPointer ->
-        // "".getClass().getClassLoader().loadClass(nativeNotation);
-        // return Da OutOfMemory ->
-        // ClassLoader.getSystemClassLoader().loadClass(nativeNotation);
-        return Class.forName(nativeNotation);
-    }
-
     public File getFile(String fileStr, String tempPath)
             throws IOException {
         return getFile(new File(fileStr), tempPath);
@@ -1650,8 +1429,8 @@ public class FileUtils extends org.apache.commons.io.FileUtils {
      * @param recurse       Recursion level
      * @param searchType    Searching type
      * @return Collection of files that has matched filters
+     * @see FileWalker for walking the files lazily or in parallel
      */
-    @SuppressWarnings("ConstantConditions")
     public NotNullsLinkedHashSet<File> listFiles(final Collection<File> files,
                                                  final Collection<FileUtilsFilenameFilter> filters,
                                                  final int filteringType,
@@ -1662,152 +1441,52 @@ public class FileUtils extends org.apache.commons.io.FileUtils {
             filters.addAll(getFilters());
         }
         final NotNullsLinkedHashSet<File> listedFiles = new NotNullsLinkedHashSet<>();
+        try (Stream<File> walk = new FileWalker(typed(filters), filteringType, recurse).stream(files)) {
+            walk.forEach(listedFiles::add);
+        }
+        return listedFiles;
+    }
 
-        for (File file1 : files) {
-            final NotNullsLinkedHashSet<File> filteredFiles = new NotNullsLinkedHashSet<>();
-            final File entry = file1;
-            try {
-                JarFile module = new JarFile(entry);
-                final ArrayList<JarEntry> list = Collections.list(module.entries());
-                IterableUtils.forEach(list, o -> filteredFiles.add(new File(entry + File.separator + o.toString())));
-            } catch (IOException ignored) {
-                try {
-                    final File[] listFiles = entry.listFiles();
-                    assert listFiles != null;
-                    filteredFiles.addAll(Arrays.asList(listFiles));
-                } catch (NullPointerException npe) {
-                    filteredFiles.add(entry);
-                }
-            }
-
-            CollectionUtils.filter(filteredFiles, o -> {
-                String value = o.toString();
-                return !value.endsWith(StringUtils.SLASH) && !value.endsWith("CVS") && !value.endsWith(".svn") &&
-                        !value.endsWith(
-                                "cvs") && !value.endsWith(".SVN");
-            });
-
-            final NotNullsLinkedHashSet<File> filteredFilesTemp = new NotNullsLinkedHashSet<>();
-            final NotNullsLinkedHashSet<File> filesToRemove = new NotNullsLinkedHashSet<>();
-            for (Object filteredFile : filteredFiles) {
-                File fileEntry = (File) filteredFile;
-                try {
-                    new JarFile(fileEntry);
-                    filesToRemove.add(fileEntry);
-                    filteredFilesTemp.addAll(listFiles(new NotNullsLinkedHashSet<>(Collections.singletonList
-                                    (fileEntry)),
-                            filters,
-                            filteringType,
-                            recurse,
-                            searchType));
-                } catch (IOException ignored) {
-                }
-            }
-            filteredFiles.removeAll(filesToRemove);
-            filteredFiles.addAll(filteredFilesTemp);
-
-            for (Object filteredFile : filteredFiles) {
-                File fileEntry = (File) filteredFile;
-                String directory;
-                String file;
-                File incomingFile;
-
-                String entryPath = fileEntry.getPath();
-                incomingFile = new File(entryPath);
-
-                String[] jarTokens = entryPath.split("!");
-                try {
-                    directory = jarTokens[1].replaceAll(StringUtils.DOUBLEBACKSLASH, StringUtils.SLASH);
-                    incomingFile = new File(jarTokens[0]);
-                    if (directory.startsWith(StringUtils.SLASH)) {
-                        directory = directory.replaceFirst(StringUtils.SLASH, StringUtils.EMPTY);
-                    }
-                    file = incomingFile.getName();
-                } catch (Exception ignored2) {
-                    try {
-                        jarTokens = entryPath.split(".jar");
-                        directory = jarTokens[1].replaceAll(StringUtils.DOUBLEBACKSLASH, StringUtils.SLASH);
-                        incomingFile = new File(jarTokens[0] + ".jar");
-                        if (directory.startsWith(StringUtils.SLASH)) {
-                            directory = directory.replaceFirst(StringUtils.SLASH, StringUtils.EMPTY);
-                        }
-                        file = directory;
-                        directory = incomingFile.getPath();
-                    } catch (Exception ignored3) {
-                        directory = incomingFile.getPath();
-                        file = incomingFile.getName();
-                        if (incomingFile.isFile()) {
-                            directory = stringUtils.replaceLast(directory, file, StringUtils.EMPTY);
-                            if (directory.lastIndexOf("\\") == directory.length() - 1) {
-                                directory = stringUtils.replaceLast(directory,
-                                        StringUtils.DOUBLEBACKSLASH,
-                                        StringUtils.EMPTY);
-                            }
-                            if (directory.lastIndexOf(StringUtils.SLASH) == directory.length() - 1) {
-                                directory = stringUtils.replaceLast(directory, StringUtils.SLASH, StringUtils.EMPTY);
-                            }
-                        } else {
-                            file = StringUtils.EMPTY;
-                        }
-                    }
-                }
-
-                final String fileName = file;
-                final File directoryFile = new File(directory);
-
-                boolean applyFilter = filters != null;
-
-                Collection<FileUtilsFilenameFilter> filteredEntries;
-
-                if (applyFilter) {
-                    filteredEntries = CollectionUtils.select(filters,
-                            filterImpl -> filterImpl.accept(directoryFile, fileName));
-
-                    switch (filteringType) {
-                        case FILTER_TYPE_ALL:
-                            applyFilter = filteredEntries.size() == filters.size();
-                            break;
-                        case FILTER_TYPE_SOME:
-                            applyFilter = filteredEntries.size() > 0;
-                            break;
-                        case FILTER_TYPE_NONE:
-                            applyFilter = filteredEntries.size() == 0;
-                            break;
-                        case FILTER_TYPE_UNKNOWN:
-                        default:
-                            break;
-                    }
-
-                    if (applyFilter) {
-                        listedFiles.add(fileEntry);
-                    }
-
-                    if (isCompressedFile(fileEntry)) {
-                        if (Math.abs(recurse) < RECURSION_LIMIT && !incomingFile.getPath().equals(entryPath) &&
-                                !fileEntry.getName().contains(
-                                        ".")) {
-                            recurse--;
-                            listedFiles.addAll(listFiles(incomingFile, filters, filteringType, recurse, searchType));
-                            recurse++;
-                        }
-                    } else if (Math.abs(recurse) < RECURSION_LIMIT && !fileEntry.isFile() && ((recurse <= -1) ||
-                            (recurse > 0 && fileEntry.isDirectory()))) {
-                        recurse--;
-                        listedFiles.addAll(listFiles(fileEntry, filters, filteringType, recurse, searchType));
-                        recurse++;
-                    }
-                } else {
-                    if (Math.abs(recurse) < RECURSION_LIMIT && !fileEntry.isFile() && ((recurse <= -1) || (recurse >
-                            0 && fileEntry.isDirectory()))) {
-                        recurse--;
-                        listedFiles.addAll(listFiles(filteredFiles, filters, filteringType, recurse, searchType));
-                        recurse++;
-                    }
-                }
+    /**
+     * @param filters Filters held in a collection of the raw filter type, or null
+     * @return The same collection, typed for {@link FileWalker} and {@link #accept(Collection, int, File, String)}
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Collection<? extends FileUtilsFilenameFilter<?>> typed(Collection<FileUtilsFilenameFilter> filters) {
+        return (Collection) filters;
+    }
 
+    /**
+     * Check an entry against a chain of filters, as {@link #listFiles(Collection, Collection, int, int, int)} does
+     * for every listed entry.
+     *
+     * @param filters       Filters to apply
+     * @param filteringType How filters are combined: FILTER_TYPE_ALL, FILTER_TYPE_SOME or FILTER_TYPE_NONE
+     * @param directory     Directory holding the entry, or the jar for entries inside jars
+     * @param name          Name of the entry relative to directory
+     * @return Whether the entry is accepted
+     */
+    public static boolean accept(Collection<? extends FileUtilsFilenameFilter<?>> filters,
+                                 int filteringType,
+                                 File directory,
+                                 String name) {
+        int accepted = 0;
+        for (FileUtilsFilenameFilter<?> filter : filters) {
+            if (filter.accept(directory, name)) {
+                accepted++;
             }
         }
-        return listedFiles;
+        switch (filteringType) {
+            case FILTER_TYPE_ALL:
+                return accepted == filters.size();
+            case FILTER_TYPE_SOME:
+                return accepted > 0;
+            case FILTER_TYPE_NONE:
+                return accepted == 0;
+            case FILTER_TYPE_UNKNOWN:
+            default:
+                return true;
+        }
     }
 
     public NotNullsLinkedHashSet<File> listPaths(File file) {
@@ -0,0 +1,419 @@
+/*
+ * Copyright 2017 araguacaima
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.araguacaima.commons.utils;
+
+import com.araguacaima.commons.utils.file.FileUtilsFilenameFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Walks directory trees the way {@link FileUtils#listFiles(Collection, Collection, int, int, int)} lists them,
+ * applying a chain of {@link FileUtilsFilenameFilter}s to every entry as it is found.
+ * <p>Version control folders are skipped. Archives, told apart by their extension or their {@code PK\3\4} magic
+ * bytes, are replaced by their entries, listed as {@code archive/entry} files and filtered with the archive as
+ * directory and the entry name as name; directories are filtered with an empty name, and other files with their
+ * parent as directory and their name as name. The roots themselves are never listed, except for plain files.
+ * <p>{@link #stream(Collection)} yields the accepted entries lazily, keeping open one directory per level of the
+ * tree, so that the memory used does not grow with the number of files. {@link #walk(Collection, Consumer)} walks
+ * every directory as a task of the common {@link ForkJoinPool} instead.
+ * <p>Instances are immutable and may be shared between threads, as long as their filters may.
+ */
+public final class FileWalker {
+
+    private static final Set<String> ARCHIVE_EXTENSIONS = new HashSet<>(Arrays.asList(".jar", ".zip", ".war",
+            ".ear"));
+    private static final Set<String> VCS_DIRECTORIES = new HashSet<>(Arrays.asList("CVS", "cvs", ".svn", ".SVN"));
+    private static final Logger log = LoggerFactory.getLogger(FileWalker.class);
+
+    private final boolean expandArchives;
+    private final Collection<? extends FileUtilsFilenameFilter<?>> filters;
+    private final int filteringType;
+    private final int maxDepth;
+
+    /**
+     * @param filters        Filters to be applied, or null to accept every entry
+     * @param filteringType  How filters are combined: FILTER_TYPE_ALL, FILTER_TYPE_SOME or FILTER_TYPE_NONE
+     * @param recursionLevel Levels of directories listed below the roots' own entries, any negative value for as
+     *                       many as {@link FileUtils#RECURSION_LIMIT}
+     */
+    public FileWalker(Collection<? extends FileUtilsFilenameFilter<?>> filters, int filteringType,
+                      int recursionLevel) {
+        this(filters, filteringType, recursionLevel, true);
+    }
+
+    /**
+     * @param filters        Filters to be applied, or null to accept every entry
+     * @param filteringType  How filters are combined: FILTER_TYPE_ALL, FILTER_TYPE_SOME or FILTER_TYPE_NONE
+     * @param recursionLevel Levels of directories listed below the roots' own entries, any negative value for as
+     *                       many as {@link FileUtils#RECURSION_LIMIT}
+     * @param expandArchives Whether archives are replaced by their entries, or listed as plain files
+     */
+    FileWalker(Collection<? extends FileUtilsFilenameFilter<?>> filters, int filteringType, int recursionLevel,
+               boolean expandArchives) {
+        this.filters = filters;
+        this.filteringType = filteringType;
+        this.maxDepth = recursionLevel < 0 ? FileUtils.RECURSION_LIMIT : recursionLevel + 1;
+        this.expandArchives = expandArchives;
+    }
+
+    /**
+     * @param file A file
+     * @return true if the file is a zip archive, judging by its extension or, failing that, by its first bytes
+     */
+    static boolean isArchive(File file) {
+        String name = file.getName();
+        int dot = name.lastIndexOf('.');
+        if (dot != -1 && ARCHIVE_EXTENSIONS.contains(name.substring(dot).toLowerCase())) {
+            return true;
+        }
+        try (InputStream in = new FileInputStream(file)) {
+            // local file header signature "PK\3\4"
+            return in.read() == 'P' && in.read() == 'K' && in.read() == 3 && in.read() == 4;
+        } catch (IOException ignored) {
+            return false;
+        }
+    }
+
+    private static String entryName(ZipEntry entry) {
+        String name = entry.getName();
+        return name.endsWith("/") ? name.substring(0, name.length() - 1) : name;
+    }
+
+    private boolean accept(File directory, String name) {
+        return filters == null || FileUtils.accept(filters, filteringType, directory, name);
+    }
+
+    /**
+     * Lists the accepted entries of the given roots lazily, in walking order. The stream holds open directories
+     * and archives, hence it must be closed.
+     *
+     * @param roots Directories, archives or files to walk
+     * @return The accepted entries
+     */
+    public Stream<File> stream(Collection<File> roots) {
+        Walk walk = new Walk(roots);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(walk, Spliterator.NONNULL), false).onClose(
+                walk::close);
+    }
+
+    /**
+     * Walks the given roots in parallel, handing every accepted entry to the consumer as it is found.
+     *
+     * @param roots    Directories, archives or files to walk
+     * @param consumer Consumer of the accepted entries, called from several threads at a time
+     */
+    public void walk(Collection<File> roots, Consumer<? super File> consumer) {
+        List<RecursiveAction> tasks = new ArrayList<>();
+        for (File root : roots) {
+            if (root == null) {
+                continue;
+            }
+            if (root.isDirectory()) {
+                tasks.add(new DirectoryTask(root, 1, consumer));
+            } else {
+                tasks.add(new RecursiveAction() {
+                    private static final long serialVersionUID = 1L;
+
+                    @Override
+                    protected void compute() {
+                        visitFile(root, consumer);
+                    }
+                });
+            }
+        }
+        ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+    }
+
+    private void visitFile(File file, Consumer<? super File> consumer) {
+        if (expandArchives && file.isFile() && isArchive(file)) {
+            try (ZipFile archive = new ZipFile(file)) {
+                for (Enumeration<? extends ZipEntry> entries = archive.entries(); entries.hasMoreElements(); ) {
+                    String name = entryName(entries.nextElement());
+                    if (accept(file, name)) {
+                        consumer.accept(new File(file.getPath() + File.separator + name));
+                    }
+                }
+                return;
+            } catch (IOException e) {
+                log.debug("Unable to read archive '" + file + "': " + e.getMessage());
+            }
+        }
+        if (accept(file.getParentFile(), file.getName())) {
+            consumer.accept(file);
+        }
+    }
+
+    /**
+     * Lists a directory, forking a task for every subdirectory to be walked.
+     */
+    private final class DirectoryTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Consumer<? super File> consumer;
+        private final int depth;
+        private final File directory;
+
+        private DirectoryTask(File directory, int depth, Consumer<? super File> consumer) {
+            this.directory = directory;
+            this.depth = depth;
+            this.consumer = consumer;
+        }
+
+        @Override
+        protected void compute() {
+            List<DirectoryTask> subtasks = new ArrayList<>();
+            try (DirectoryStream<Path> children = Files.newDirectoryStream(directory.toPath())) {
+                for (Path child : children) {
+                    File file = child.toFile();
+                    if (!file.isDirectory()) {
+                        visitFile(file, consumer);
+                    } else if (!VCS_DIRECTORIES.contains(file.getName())) {
+                        if (accept(file, StringUtils.EMPTY)) {
+                            consumer.accept(file);
+                        }
+                        if (depth < maxDepth) {
+                            DirectoryTask subtask = new DirectoryTask(file, depth + 1, consumer);
+                            subtask.fork();
+                            subtasks.add(subtask);
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                log.debug("Unable to list '" + directory + "': " + e.getMessage());
+            }
+            for (DirectoryTask subtask : subtasks) {
+                subtask.join();
+            }
+        }
+    }
+
+    /**
+     * Lazy walk of a collection of roots, keeping a stack of the directories being listed.
+     */
+    private final class Walk implements Iterator<File> {
+
+        private final Deque<Level> levels = new ArrayDeque<>();
+        private final Iterator<File> roots;
+        private File next;
+
+        private Walk(Collection<File> roots) {
+            this.roots = roots.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                Level level = levels.peek();
+                if (level == null) {
+                    if (!roots.hasNext()) {
+                        return false;
+                    }
+                    File root = roots.next();
+                    if (root != null) {
+                        push(root, 0);
+                    }
+                    continue;
+                }
+                if (!level.hasNext()) {
+                    levels.pop().close();
+                    continue;
+                }
+                next = level.next();
+            }
+            return true;
+        }
+
+        @Override
+        public File next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            File result = next;
+            next = null;
+            return result;
+        }
+
+        /**
+         * Opens the level of a root or directory, or lists it at once if it is a plain file.
+         */
+        private void push(File file, int depth) {
+            if (file.isDirectory()) {
+                try {
+                    levels.push(new DirectoryLevel(file, depth + 1));
+                } catch (IOException e) {
+                    log.debug("Unable to list '" + file + "': " + e.getMessage());
+                }
+            } else if (expandArchives && file.isFile() && isArchive(file)) {
+                try {
+                    levels.push(new ArchiveLevel(file));
+                } catch (IOException e) {
+                    log.debug("Unable to read archive '" + file + "': " + e.getMessage());
+                    levels.push(new FileLevel(file));
+                }
+            } else {
+                levels.push(new FileLevel(file));
+            }
+        }
+
+        private void close() {
+            while (!levels.isEmpty()) {
+                levels.pop().close();
+            }
+        }
+
+        private abstract class Level {
+
+            /**
+             * @return true if the level may have more entries, which may still all be rejected by the filters
+             */
+            abstract boolean hasNext();
+
+            /**
+             * @return the next accepted entry, or null if the entry found was rejected or opened a new level
+             */
+            abstract File next();
+
+            void close() {
+            }
+        }
+
+        private final class FileLevel extends Level {
+
+            private File file;
+
+            private FileLevel(File file) {
+                this.file = file;
+            }
+
+            @Override
+            boolean hasNext() {
+                return file != null;
+            }
+
+            @Override
+            File next() {
+                File result = file;
+                file = null;
+                return accept(result.getParentFile(), result.getName()) ? result : null;
+            }
+        }
+
+        private final class DirectoryLevel extends Level {
+
+            private final Iterator<Path> children;
+            private final int depth;
+            private final DirectoryStream<Path> stream;
+
+            private DirectoryLevel(File directory, int depth)
+                    throws IOException {
+                this.stream = Files.newDirectoryStream(directory.toPath());
+                this.children = stream.iterator();
+                this.depth = depth;
+            }
+
+            @Override
+            boolean hasNext() {
+                return children.hasNext();
+            }
+
+            @Override
+            File next() {
+                File file = children.next().toFile();
+                if (!file.isDirectory()) {
+                    push(file, depth);
+                    return null;
+                }
+                if (VCS_DIRECTORIES.contains(file.getName())) {
+                    return null;
+                }
+                if (depth < maxDepth) {
+                    // the directory is listed right away, then its entries as soon as this one is consumed
+                    push(file, depth);
+                }
+                return accept(file, StringUtils.EMPTY) ? file : null;
+            }
+
+            @Override
+            void close() {
+                try {
+                    stream.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+
+        private final class ArchiveLevel extends Level {
+
+            private final ZipFile archive;
+            private final Enumeration<? extends ZipEntry> entries;
+            private final File file;
+
+            private ArchiveLevel(File file)
+                    throws IOException {
+                this.file = file;
+                this.archive = new ZipFile(file);
+                this.entries = archive.entries();
+            }
+
+            @Override
+            boolean hasNext() {
+                return entries.hasMoreElements();
+            }
+
+            @Override
+            File next() {
+                String name = entryName(entries.nextElement());
+                return accept(file, name) ? new File(file.getPath() + File.separator + name) : null;
+            }
+
+            @Override
+            void close() {
+                try {
+                    archive.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,504 @@
+/*
+ * Copyright 2017 araguacaima
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.araguacaima.commons.utils;
+
+import io.github.benas.randombeans.api.EnhancedRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Compiled recipe to build and fully initialize instances of a class.
+ * <p>The class structure is resolved once: the constructor to use, the fields to populate, the generic types of
+ * their collections, maps and arrays (type variables being bound against the superclass chain) and the factories
+ * creating those containers. Executing the plan then only instantiates and assigns. Simple values (strings,
+ * numbers, dates, enums...) and types the plan can not instantiate by itself (interfaces, abstract classes,
+ * classes without an empty constructor) are delegated to the given {@link EnhancedRandom}, so its configuration
+ * (seed, string lengths, date ranges, custom type randomizers) still applies to them.
+ * <p>Nested beans are populated up to a maximum depth, past which they are left {@code null}. A bean whose class
+ * is already being populated higher in the same graph is left {@code null} as well (or skipped, for collection
+ * elements), which breaks cycles between classes.
+ * <p>Plans are immutable and thread safe. {@link #newInstances(int, LongFunction, ForkJoinPool)} hands every chunk
+ * of work the random source it is given for it: a single source may serve all chunks, but only a source per chunk
+ * makes the outcome independent of how chunks are scheduled among threads.
+ *
+ * @param <T> the type of the instances this plan builds
+ */
+public final class InitializationPlan<T> {
+
+    public static final int DEFAULT_MAX_COLLECTION_SIZE = 5;
+    public static final int DEFAULT_MAX_DEPTH = 5;
+    public static final int DEFAULT_MIN_COLLECTION_SIZE = 1;
+    private static final int BULK_CHUNK_SIZE = 256;
+    private static final Step[] EMPTY_STEP_ARRAY = new Step[0];
+    private static final Logger log = LoggerFactory.getLogger(InitializationPlan.class);
+    private static final Map<Class<?>, InitializationPlan<?>> plansCache = new ConcurrentReferenceHashMap<>(256);
+
+    private final Constructor<T> constructor;
+    private final Map<Boolean, Field[]> legacyFields = new ConcurrentHashMap<>(2);
+    private final Step[] steps;
+    private final Class<T> type;
+
+    private InitializationPlan(Class<T> type) {
+        this.type = type;
+        this.constructor = emptyConstructor(type);
+        Map<TypeVariable<?>, Type> bindings = typeBindings(type);
+        List<Step> steps = new ArrayList<>();
+        for (Field field : ClassMetadata.forClass(type).getFields()) {
+            if (Modifier.isFinal(field.getModifiers())) {
+                continue;
+            }
+            try {
+                ReflectionUtils.makeAccessible(field);
+            } catch (RuntimeException e) {
+                log.debug("Field '" + field.getName() + "' of " + type.getName() + " will not be initialized: " + e
+                        .getMessage());
+                continue;
+            }
+            steps.add(new Step(field, generatorFor(field.getGenericType(), bindings)));
+        }
+        this.steps = steps.toArray(EMPTY_STEP_ARRAY);
+    }
+
+    /**
+     * Obtain the initialization plan of the given class, compiling it on first use.
+     *
+     * @param clazz the class to build instances of
+     * @param <T>   the type of the class
+     * @return the cached plan
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> InitializationPlan<T> forClass(Class<T> clazz) {
+        InitializationPlan<T> plan = (InitializationPlan<T>) plansCache.get(clazz);
+        if (plan == null) {
+            plan = new InitializationPlan<>(clazz);
+            InitializationPlan<T> existing = (InitializationPlan<T>) plansCache.putIfAbsent(clazz, plan);
+            if (existing != null) {
+                plan = existing;
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Drop the plan of the given class, if any.
+     *
+     * @param clazz the class whose plan must be compiled again on next use
+     */
+    public static void evict(Class<?> clazz) {
+        plansCache.remove(clazz);
+    }
+
+    /**
+     * Drop every plan.
+     */
+    public static void clearCache() {
+        plansCache.clear();
+    }
+
+    private static <T> Constructor<T> emptyConstructor(Class<T> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers()) || type.isEnum() || type.isArray() || type
+                .isPrimitive() || (type.isMemberClass() && !Modifier.isStatic(type.getModifiers()))) {
+            return null;
+        }
+        try {
+            Constructor<T> constructor = type.getDeclaredConstructor();
+            ReflectionUtils.makeAccessible(constructor);
+            return constructor;
+        } catch (NoSuchMethodException | RuntimeException ignored) {
+            return null;
+        }
+    }
+
+    /**
+     * Bind the type variables of every superclass of the given type to the actual arguments its subclasses
+     * declare, e.g. {@code T} of {@code Base<T>} to {@code String} for {@code class Foo extends Base<String>}.
+     */
+    private static Map<TypeVariable<?>, Type> typeBindings(Class<?> type) {
+        Map<TypeVariable<?>, Type> bindings = new HashMap<>();
+        Class<?> current = type;
+        while (current != null && current != Object.class) {
+            Type superclass = current.getGenericSuperclass();
+            if (superclass instanceof ParameterizedType) {
+                ParameterizedType parameterized = (ParameterizedType) superclass;
+                TypeVariable<?>[] variables = ((Class<?>) parameterized.getRawType()).getTypeParameters();
+                Type[] arguments = parameterized.getActualTypeArguments();
+                for (int i = 0; i < variables.length; i++) {
+                    bindings.put(variables[i], arguments[i]);
+                }
+            }
+            current = current.getSuperclass();
+        }
+        return bindings;
+    }
+
+    private static Type resolve(Type type, Map<TypeVariable<?>, Type> bindings) {
+        Type resolved = type;
+        while (resolved instanceof TypeVariable && bindings.containsKey(resolved)) {
+            resolved = bindings.get(resolved);
+        }
+        if (resolved instanceof WildcardType) {
+            Type[] upperBounds = ((WildcardType) resolved).getUpperBounds();
+            resolved = upperBounds.length == 1 ? resolve(upperBounds[0], bindings) : Object.class;
+        }
+        return resolved instanceof TypeVariable ? null : resolved;
+    }
+
+    private static Class<?> rawType(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        if (type instanceof GenericArrayType) {
+            Class<?> component = rawType(((GenericArrayType) type).getGenericComponentType());
+            return component == null ? null : Array.newInstance(component, 0).getClass();
+        }
+        return null;
+    }
+
+    private static Type typeArgument(Type type, int index, Map<TypeVariable<?>, Type> bindings) {
+        if (type instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+            if (index < arguments.length) {
+                return resolve(arguments[index], bindings);
+            }
+        }
+        return null;
+    }
+
+    private static boolean isSimpleType(Class<?> clazz) {
+        if (clazz.isPrimitive() || clazz.isEnum() || clazz == Object.class) {
+            return true;
+        }
+        String name = clazz.getName();
+        return name.startsWith("java.") || name.startsWith("javax.");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<Object> containerFactory(Class<?> clazz) {
+        if (!clazz.isInterface() && !Modifier.isAbstract(clazz.getModifiers())) {
+            final Constructor<?> constructor;
+            try {
+                constructor = clazz.getDeclaredConstructor();
+                ReflectionUtils.makeAccessible(constructor);
+            } catch (NoSuchMethodException | RuntimeException ignored) {
+                return null;
+            }
+            return () -> {
+                try {
+                    return constructor.newInstance();
+                } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                    throw new IllegalStateException("Unable to instantiate " + clazz.getName(), e);
+                }
+            };
+        }
+        if (Map.class.isAssignableFrom(clazz)) {
+            if (clazz.isAssignableFrom(TreeMap.class)) {
+                return clazz.isAssignableFrom(HashMap.class) ? HashMap::new : TreeMap::new;
+            }
+            return clazz.isAssignableFrom(ConcurrentHashMap.class) ? ConcurrentHashMap::new : null;
+        }
+        if (clazz.isAssignableFrom(ArrayList.class)) {
+            return ArrayList::new;
+        }
+        if (clazz.isAssignableFrom(HashSet.class)) {
+            return HashSet::new;
+        }
+        if (clazz.isAssignableFrom(TreeSet.class)) {
+            return TreeSet::new;
+        }
+        if (clazz.isAssignableFrom(ArrayDeque.class)) {
+            return ArrayDeque::new;
+        }
+        return clazz.isAssignableFrom(LinkedList.class) ? LinkedList::new : null;
+    }
+
+    private static Generator generatorFor(Type genericType, Map<TypeVariable<?>, Type> bindings) {
+        Type type = resolve(genericType, bindings);
+        final Class<?> clazz = type == null ? null : rawType(type);
+        if (clazz == null) {
+            return Generator.NONE;
+        }
+        if (clazz.isArray()) {
+            Type componentType = type instanceof GenericArrayType ? ((GenericArrayType) type)
+                    .getGenericComponentType() : clazz.getComponentType();
+            final Class<?> component = clazz.getComponentType();
+            final Generator elements = generatorFor(componentType, bindings);
+            return (context, depth) -> {
+                int size = context.collectionSize();
+                Object array = Array.newInstance(component, size);
+                for (int i = 0; i < size; i++) {
+                    Object element = elements.generate(context, depth);
+                    if (element != null || !component.isPrimitive()) {
+                        Array.set(array, i, element);
+                    }
+                }
+                return array;
+            };
+        }
+        if (Collection.class.isAssignableFrom(clazz) && !EnumSet.class.isAssignableFrom(clazz)) {
+            final Supplier<Object> factory = containerFactory(clazz);
+            if (factory != null) {
+                final Generator elements = generatorFor(typeArgument(type, 0, bindings), bindings);
+                return (context, depth) -> {
+                    @SuppressWarnings("unchecked") Collection<Object> collection = (Collection<Object>) factory.get();
+                    if (elements != Generator.NONE) {
+                        int size = context.collectionSize();
+                        try {
+                            for (int i = 0; i < size; i++) {
+                                Object element = elements.generate(context, depth);
+                                if (element != null) {
+                                    collection.add(element);
+                                }
+                            }
+                        } catch (ClassCastException e) {
+                            log.debug("Elements of " + clazz.getName() + " are not comparable: " + e.getMessage());
+                        }
+                    }
+                    return collection;
+                };
+            }
+        } else if (Map.class.isAssignableFrom(clazz) && !EnumMap.class.isAssignableFrom(clazz)) {
+            final Supplier<Object> factory = containerFactory(clazz);
+            if (factory != null) {
+                final Generator keys = generatorFor(typeArgument(type, 0, bindings), bindings);
+                final Generator values = generatorFor(typeArgument(type, 1, bindings), bindings);
+                return (context, depth) -> {
+                    @SuppressWarnings("unchecked") Map<Object, Object> map = (Map<Object, Object>) factory.get();
+                    if (keys != Generator.NONE && values != Generator.NONE) {
+                        int size = context.collectionSize();
+                        try {
+                            for (int i = 0; i < size; i++) {
+                                Object key = keys.generate(context, depth);
+                                Object value = values.generate(context, depth);
+                                if (key != null && value != null) {
+                                    map.put(key, value);
+                                }
+                            }
+                        } catch (ClassCastException e) {
+                            log.debug("Keys of " + clazz.getName() + " are not comparable: " + e.getMessage());
+                        }
+                    }
+                    return map;
+                };
+            }
+        }
+        if (isSimpleType(clazz) || emptyConstructor(clazz) == null) {
+            return (context, depth) -> context.random.nextObject(clazz);
+        }
+        // nested plans are looked up lazily, as classes may refer to each other
+        return (context, depth) -> depth < context.maxDepth && !context.path.contains(clazz) ? forClass(clazz)
+                .populate(context, depth + 1) : null;
+    }
+
+    /**
+     * @return the class this plan builds instances of
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Build a new, fully initialized, instance with the default depth and collection sizes.
+     *
+     * @param random the source of simple values
+     * @return the new instance
+     * @throws IllegalStateException if the instance could not be built
+     */
+    public T newInstance(EnhancedRandom random) {
+        return newInstance(random, DEFAULT_MAX_DEPTH, DEFAULT_MIN_COLLECTION_SIZE, DEFAULT_MAX_COLLECTION_SIZE);
+    }
+
+    /**
+     * Build a new, fully initialized, instance.
+     *
+     * @param random            the source of simple values
+     * @param maxDepth          how many levels of nested beans are populated
+     * @param minCollectionSize the minimum number of elements of collections, maps and arrays
+     * @param maxCollectionSize the maximum number of elements of collections, maps and arrays
+     * @return the new instance
+     * @throws IllegalStateException if the instance could not be built
+     */
+    public T newInstance(EnhancedRandom random, int maxDepth, int minCollectionSize, int maxCollectionSize) {
+        return populate(new Context(random, maxDepth, minCollectionSize, maxCollectionSize), 0);
+    }
+
+    /**
+     * Build many instances in parallel. Work is split in fixed chunks, each of them drawing its values from the
+     * random source obtained by applying {@code randomSources} to the chunk index; when every chunk gets its own
+     * source, the outcome does not depend on how chunks are scheduled among threads.
+     *
+     * @param count         how many instances to build
+     * @param randomSources factory of the random source of each chunk, given its index
+     * @param pool          the pool to run on, the common pool if {@code null}
+     * @return the new instances, in a fixed order
+     * @throws IllegalStateException if some instance could not be built
+     */
+    public List<T> newInstances(int count, LongFunction<? extends EnhancedRandom> randomSources, ForkJoinPool pool) {
+        if (count <= 0) {
+            return new ArrayList<>();
+        }
+        Object[] instances = new Object[count];
+        ForkJoinPool forkJoinPool = pool == null ? ForkJoinPool.commonPool() : pool;
+        forkJoinPool.invoke(new BulkTask(instances, randomSources, 0, (count + BULK_CHUNK_SIZE - 1) /
+                BULK_CHUNK_SIZE));
+        @SuppressWarnings("unchecked") List<T> result = (List<T>) new ArrayList<>(Arrays.asList(instances));
+        return result;
+    }
+
+    /**
+     * Fields {@link ReflectionUtils#deepInitialization(Object, Set, boolean)} looks at: every field (either
+     * inherited or just declared ones) but those of enum, primitive or simple java types. Computed once per
+     * class, as telling simple java types apart is rather expensive.
+     */
+    Field[] getLegacyFields(boolean includeParent) {
+        Field[] fields = legacyFields.get(includeParent);
+        if (fields == null) {
+            ReflectionUtils reflectionUtils = ReflectionUtils.getInstance();
+            Collection<Field> candidates = includeParent ? ClassMetadata.forClass(type).getFields() : Arrays
+                    .asList(type.getDeclaredFields());
+            List<Field> result = new ArrayList<>();
+            for (Field field : candidates) {
+                Class<?> fieldClass = field.getType();
+                if (fieldClass.isEnum() || fieldClass.isAssignableFrom(Enum.class) || fieldClass.isPrimitive() || (
+                        !reflectionUtils.isCollectionImplementation(fieldClass) && StringUtils.isNotBlank(
+                                reflectionUtils.getSimpleJavaTypeOrNull(fieldClass.getSimpleName(), false)))) {
+                    continue;
+                }
+                result.add(field);
+            }
+            fields = result.toArray(new Field[0]);
+            legacyFields.put(includeParent, fields);
+        }
+        return fields;
+    }
+
+    private T populate(Context context, int depth) {
+        if (constructor == null) {
+            return context.random.nextObject(type);
+        }
+        T instance;
+        try {
+            instance = constructor.newInstance();
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Unable to instantiate " + type.getName() + ": " + e.getMessage(), e);
+        }
+        context.path.add(type);
+        try {
+            for (Step step : steps) {
+                Object value = step.generator.generate(context, depth);
+                if (value != null || !step.field.getType().isPrimitive()) {
+                    try {
+                        step.field.set(instance, value);
+                    } catch (IllegalAccessException | IllegalArgumentException e) {
+                        log.debug("Unable to initialize field '" + step.field.getName() + "' of " + type.getName()
+                                + ": " + e.getMessage());
+                    }
+                }
+            }
+        } finally {
+            context.path.remove(type);
+        }
+        return instance;
+    }
+
+    @FunctionalInterface
+    private interface Generator {
+
+        Generator NONE = (context, depth) -> null;
+
+        Object generate(Context context, int depth);
+    }
+
+    private static final class Context {
+
+        private final int maxCollectionSize;
+        private final int maxDepth;
+        private final int minCollectionSize;
+        private final Set<Class<?>> path = new HashSet<>();
+        private final EnhancedRandom random;
+
+        private Context(EnhancedRandom random, int maxDepth, int minCollectionSize, int maxCollectionSize) {
+            this.random = random;
+            this.maxDepth = maxDepth;
+            this.minCollectionSize = Math.max(0, minCollectionSize);
+            this.maxCollectionSize = Math.max(this.minCollectionSize, maxCollectionSize);
+        }
+
+        private int collectionSize() {
+            return minCollectionSize + random.nextInt(maxCollectionSize - minCollectionSize + 1);
+        }
+    }
+
+    private static final class Step {
+
+        private final Field field;
+        private final Generator generator;
+
+        private Step(Field field, Generator generator) {
+            this.field = field;
+            this.generator = generator;
+        }
+    }
+
+    private final class BulkTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+        private final int fromChunk;
+        private final Object[] instances;
+        private final LongFunction<? extends EnhancedRandom> randomSources;
+        private final int toChunk;
+
+        private BulkTask(Object[] instances,
+                         LongFunction<? extends EnhancedRandom> randomSources,
+                         int fromChunk,
+                         int toChunk) {
+            this.instances = instances;
+            this.randomSources = randomSources;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk > 1) {
+                int middle = (fromChunk + toChunk) >>> 1;
+                invokeAll(new BulkTask(instances, randomSources, fromChunk, middle),
+                        new BulkTask(instances, randomSources, middle, toChunk));
+                return;
+            }
+            Context context = new Context(randomSources.apply(fromChunk),
+                    DEFAULT_MAX_DEPTH,
+                    DEFAULT_MIN_COLLECTION_SIZE,
+                    DEFAULT_MAX_COLLECTION_SIZE);
+            int end = Math.min(instances.length, (fromChunk + 1) * BULK_CHUNK_SIZE);
+            for (int i = fromChunk * BULK_CHUNK_SIZE; i < end; i++) {
+                instances[i] = populate(context, 0);
+            }
+        }
+    }
+}
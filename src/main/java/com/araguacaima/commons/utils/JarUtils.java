@@ -45,6 +45,7 @@ public class JarUtils {
     private static final Logger log = LoggerFactory.getLogger(JarUtils.class);
 
     private static final JarUtils INSTANCE = new JarUtils();
+    private final ZipExtractor zipExtractor = new ZipExtractor();
 
     private JarUtils() {
         if (INSTANCE != null) {
@@ -258,44 +259,17 @@ public class JarUtils {
         return result;
     }
 
+    /**
+     * Extract a jar into a directory.
+     *
+     * @param destinationDir Directory to extract the jar into
+     * @param jarPath        Jar to extract
+     * @throws IOException If the jar can not be read, if any of its entries resolves outside of the destination
+     *                     directory, or if a file can not be written
+     * @see ZipExtractor
+     */
     public void unZip(String destinationDir, String jarPath) throws IOException {
-        File file = new File(jarPath);
-        JarFile jar = new JarFile(file);
-
-        // fist get all directories,
-        // then make those directory on the destination Path
-        for (Enumeration<JarEntry> enums = jar.entries(); enums.hasMoreElements(); ) {
-            JarEntry entry = enums.nextElement();
-
-            String fileName = destinationDir + File.separator + entry.getName();
-            File f = new File(fileName);
-
-            if (fileName.endsWith("/")) {
-                f.mkdirs();
-            }
-
-        }
-
-        //now create all files
-        for (Enumeration<JarEntry> enums = jar.entries(); enums.hasMoreElements(); ) {
-            JarEntry entry = enums.nextElement();
-
-            String fileName = destinationDir + File.separator + entry.getName();
-            File f = new File(fileName);
-
-            if (!fileName.endsWith("/")) {
-                InputStream is = jar.getInputStream(entry);
-                FileOutputStream fos = new FileOutputStream(f);
-
-                // write contents of 'is' to 'fos'
-                while (is.available() > 0) {
-                    fos.write(is.read());
-                }
-
-                fos.close();
-                is.close();
-            }
-        }
+        zipExtractor.extract(new File(jarPath), new File(destinationDir));
     }
 
 }
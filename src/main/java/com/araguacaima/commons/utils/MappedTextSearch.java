@@ -0,0 +1,302 @@
+/*
+ * Copyright 2017 araguacaima
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.araguacaima.commons.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.LongStream;
+
+/**
+ * Searches a literal pattern in files of any size, through read-only memory-mapped segments of the file and a
+ * Boyer-Moore-Horspool matcher: every segment is scanned once, skipping up to the length of the pattern at each step.
+ * <p>Positions are byte offsets in the file and the pattern is matched on its UTF-8 bytes. Segments overlap by the
+ * length of the pattern minus one, so that matches crossing a segment boundary are found exactly once, in the
+ * segment where they start. Counting splits the file by segment across the common fork-join pool.
+ * <p>Instances are immutable and may be shared between threads.
+ */
+public final class MappedTextSearch {
+
+    /**
+     * Default size of the mapped segments, the last one of a file being shorter.
+     */
+    static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+    /**
+     * Size under which segments are read instead of mapped.
+     */
+    static final int MAP_THRESHOLD = 1024 * 1024;
+
+    private final byte[] pattern;
+    private final int segmentSize;
+    private final boolean selfOverlapping;
+    private final int[] shifts = new int[256];
+
+    /**
+     * @param pattern the text to search for
+     * @throws IllegalArgumentException if the pattern is empty
+     */
+    public MappedTextSearch(String pattern) {
+        this(pattern.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param pattern the bytes to search for
+     * @throws IllegalArgumentException if the pattern is empty
+     */
+    public MappedTextSearch(byte[] pattern) {
+        this(pattern, SEGMENT_SIZE);
+    }
+
+    /**
+     * @param pattern     the bytes to search for
+     * @param segmentSize the size of the mapped segments
+     * @throws IllegalArgumentException if the pattern is empty or the segment size is not positive
+     */
+    MappedTextSearch(byte[] pattern, int segmentSize) {
+        if (pattern.length == 0) {
+            throw new IllegalArgumentException("The pattern to search for can not be empty");
+        }
+        if (segmentSize < 1) {
+            throw new IllegalArgumentException("Segment size must be positive, got " + segmentSize);
+        }
+        this.pattern = pattern.clone();
+        this.segmentSize = segmentSize;
+        int last = pattern.length - 1;
+        for (int i = 0; i < shifts.length; i++) {
+            shifts[i] = pattern.length;
+        }
+        for (int i = 0; i < last; i++) {
+            shifts[pattern[i] & 0xFF] = last - i;
+        }
+        this.selfOverlapping = hasBorder(pattern);
+    }
+
+    /**
+     * @param pattern a non empty pattern
+     * @return true if a proper prefix of the pattern is also a suffix of it, that is, if two occurrences of the
+     * pattern can overlap
+     */
+    private static boolean hasBorder(byte[] pattern) {
+        int[] failure = new int[pattern.length];
+        for (int i = 1, k = 0; i < pattern.length; i++) {
+            while (k > 0 && pattern[i] != pattern[k]) {
+                k = failure[k - 1];
+            }
+            if (pattern[i] == pattern[k]) {
+                k++;
+            }
+            failure[i] = k;
+        }
+        return failure[pattern.length - 1] > 0;
+    }
+
+    /**
+     * @return the length in bytes of the pattern
+     */
+    public int length() {
+        return pattern.length;
+    }
+
+    /**
+     * Count the occurrences of the pattern in a file. Occurrences do not overlap: after a match, the search goes on
+     * right after it.
+     *
+     * @param file the file to search
+     * @return the number of occurrences of the pattern
+     * @throws IOException if the file can not be read
+     */
+    public long count(File file)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < pattern.length) {
+                return 0;
+            }
+            if (selfOverlapping || size <= segmentSize) {
+                // where a match ends decides where the next one may start, so segments can not be counted apart
+                return count(channel, 0, size);
+            }
+            long segments = (size + segmentSize - 1) / segmentSize;
+            try {
+                return LongStream.range(0, segments).parallel().map(segment -> {
+                    long from = segment * segmentSize;
+                    try {
+                        return count(channel, from, Math.min(from + segmentSize, size));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }).sum();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * Count the non overlapping occurrences of the pattern starting between two positions.
+     *
+     * @param channel the file
+     * @param from    the position of the first byte where a match may start
+     * @param to      the position after the last byte where a match may start
+     * @return the number of occurrences
+     * @throws IOException if the file can not be read
+     */
+    private long count(FileChannel channel, long from, long to)
+            throws IOException {
+        long count = 0;
+        long size = channel.size();
+        long next = from;
+        while (next < to) {
+            long end = Math.min(next + segmentSize, to);
+            ByteBuffer segment = map(channel, next, Math.min(end + pattern.length - 1, size));
+            int limit = (int) (end - next);
+            int skip = 0;
+            for (int i = find(segment, 0); i != -1 && i < limit; i = find(segment, skip)) {
+                count++;
+                skip = i + pattern.length;
+            }
+            // the last match may end past the segment, the next one can only start after it
+            next += Math.max(skip, limit);
+        }
+        return count;
+    }
+
+    /**
+     * Find the first occurrence of the pattern starting at or after a position.
+     *
+     * @param channel the file
+     * @param from    the position where the search starts
+     * @return the position of the occurrence, or -1 if there is none
+     * @throws IOException if the file can not be read
+     */
+    public long indexOf(FileChannel channel, long from)
+            throws IOException {
+        long size = channel.size();
+        for (long start = Math.max(from, 0); start + pattern.length <= size; start += segmentSize) {
+            ByteBuffer segment = map(channel, start, Math.min(start + segmentSize + pattern.length - 1, size));
+            int i = find(segment, 0);
+            if (i != -1) {
+                return start + i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the last occurrence of the pattern starting at or before a position.
+     *
+     * @param channel the file
+     * @param from    the position where the search starts, going backwards
+     * @return the position of the occurrence, or -1 if there is none
+     * @throws IOException if the file can not be read
+     */
+    public long lastIndexOf(FileChannel channel, long from)
+            throws IOException {
+        long size = channel.size();
+        long end = Math.min(from + 1, size - pattern.length + 1);
+        while (end > 0) {
+            long start = Math.max(end - segmentSize, 0);
+            ByteBuffer segment = map(channel, start, end + pattern.length - 1);
+            int limit = (int) (end - start);
+            int found = -1;
+            for (int i = find(segment, 0); i != -1 && i < limit; i = find(segment, i + 1)) {
+                found = i;
+            }
+            if (found != -1) {
+                return start + found;
+            }
+            end = start;
+        }
+        return -1;
+    }
+
+    /**
+     * Read the text between two positions of a file.
+     *
+     * @param channel the file
+     * @param from    the position of the first byte
+     * @param to      the position after the last byte
+     * @return the text, decoded as UTF-8
+     * @throws IOException if the file can not be read, or the text is too long to fit in a String
+     */
+    public static String read(FileChannel channel, long from, long to)
+            throws IOException {
+        if (to - from > Integer.MAX_VALUE - 8) {
+            throw new IOException("Text from " + from + " to " + to + " is too long to be read at once");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) (to - from));
+        while (buffer.hasRemaining() && channel.read(buffer, from + buffer.position()) != -1) {
+            // keep reading until the whole range is in the buffer
+        }
+        return new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param channel the file
+     * @param from    the position of the first byte
+     * @param to      the position after the last byte
+     * @return the bytes between both positions: mapped, or read to the heap when there are less than
+     * {@link #MAP_THRESHOLD} of them, as mappings are only released by the garbage collector
+     * @throws IOException if the file can not be read
+     */
+    private static ByteBuffer map(FileChannel channel, long from, long to)
+            throws IOException {
+        if (to - from >= MAP_THRESHOLD) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) (to - from));
+        while (buffer.hasRemaining() && channel.read(buffer, from + buffer.position()) != -1) {
+            // keep reading until the whole range is in the buffer
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Find the first match in a buffer.
+     *
+     * @param buffer the bytes to search, from 0 to its limit
+     * @param from   the index of the first byte where a match may start
+     * @return the index of the first match, or -1 if there is none
+     */
+    int find(ByteBuffer buffer, int from) {
+        int last = pattern.length - 1;
+        byte lastByte = pattern[last];
+        int limit = buffer.limit() - last;
+        for (int i = from; i < limit; ) {
+            byte b = buffer.get(i + last);
+            if (b == lastByte) {
+                int j = last - 1;
+                while (j >= 0 && buffer.get(i + j) == pattern[j]) {
+                    j--;
+                }
+                if (j < 0) {
+                    return i;
+                }
+            }
+            i += shifts[b & 0xFF];
+        }
+        return -1;
+    }
+}
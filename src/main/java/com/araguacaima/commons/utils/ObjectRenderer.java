@@ -0,0 +1,405 @@
+/*
+ * Copyright 2017 araguacaima
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.araguacaima.commons.utils;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.temporal.TemporalAccessor;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Thread safe renderer of object values for diagnostics.
+ * <p>The properties of each class (its fields, read through their getters when there are any) are resolved once
+ * and kept in a per-class plan, and values are written straight into the target {@link Appendable}, without
+ * building any intermediate string or collection.
+ * <p>Output is bounded by a budget: nested beans are expanded up to a maximum depth, only the first elements of
+ * arrays, collections and maps are written, and rendering stops once the maximum number of characters has been
+ * written. Objects already being rendered higher in the same graph are not expanded again.
+ */
+public final class ObjectRenderer {
+
+    public static final int DEFAULT_MAX_DEPTH = 3;
+    public static final int DEFAULT_MAX_ELEMENTS = 20;
+    public static final int DEFAULT_MAX_LENGTH = 16384;
+    private static final String HEADER_LINE = "==============================================================";
+    private static final String SUBHEADER_LINE = "--------------------------------------------------------------";
+    private static final String TRUNCATED = "...";
+    private static final Map<Class<?>, RenderPlan> plansCache = new ConcurrentReferenceHashMap<>(256);
+
+    private final boolean considerHierarchy;
+    private final int maxDepth;
+    private final int maxElements;
+    private final int maxLength;
+
+    /**
+     * Renderer with the default budget, expanding inherited fields as well.
+     */
+    public ObjectRenderer() {
+        this(DEFAULT_MAX_DEPTH, DEFAULT_MAX_ELEMENTS, DEFAULT_MAX_LENGTH, true);
+    }
+
+    /**
+     * @param maxDepth          how many levels of nested beans are expanded
+     * @param maxElements       how many elements of each array, collection or map are written
+     * @param maxLength         how many characters are written at most, header included
+     * @param considerHierarchy whether inherited fields are written, or only the ones declared by the class itself
+     */
+    public ObjectRenderer(int maxDepth, int maxElements, int maxLength, boolean considerHierarchy) {
+        this.maxDepth = maxDepth;
+        this.maxElements = maxElements;
+        this.maxLength = maxLength;
+        this.considerHierarchy = considerHierarchy;
+    }
+
+    /**
+     * Drop the plan of the given class, if any.
+     *
+     * @param clazz the class whose plan must be rebuilt on next use
+     */
+    public static void evict(Class<?> clazz) {
+        plansCache.remove(clazz);
+    }
+
+    /**
+     * Drop every plan.
+     */
+    public static void clearCache() {
+        plansCache.clear();
+    }
+
+    private static RenderPlan planFor(Class<?> clazz) {
+        RenderPlan plan = plansCache.get(clazz);
+        if (plan == null) {
+            plan = new RenderPlan(clazz);
+            plansCache.put(clazz, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * Hand every field value of the given object (inherited fields included, static and transient ones excluded)
+     * to the consumer, reading it through its getter when there is one. Values that can not be read are handed
+     * as {@code null}.
+     *
+     * @param object   the object to read
+     * @param consumer receives each field name along with its value
+     */
+    public static void forEachFieldValue(Object object, BiConsumer<String, Object> consumer) {
+        if (object == null) {
+            return;
+        }
+        for (Property property : planFor(object.getClass()).getProperties(true)) {
+            consumer.accept(property.name, property.read(object, null));
+        }
+    }
+
+    /**
+     * Render the given object into a string.
+     *
+     * @param object        the object to render
+     * @param includeHeader whether to enclose the values in a header naming the object class
+     * @return the rendered object
+     */
+    public String render(Object object, boolean includeHeader) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            render(object, sb, includeHeader);
+        } catch (IOException ignored) {
+            // StringBuilder does not throw
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Render the given object into the given output, stopping once the length budget is exhausted.
+     *
+     * @param object        the object to render
+     * @param out           where to write
+     * @param includeHeader whether to enclose the values in a header naming the object class
+     * @throws IOException if the output can not be written
+     */
+    public void render(Object object, Appendable out, boolean includeHeader) throws IOException {
+        Output output = new Output(out, maxLength);
+        try {
+            if (includeHeader && object != null) {
+                output.append(HEADER_LINE).append(StringUtils.NEW_LINE).append(StringUtils.TAB).append(
+                        "Values retrieved for incoming object (that belongs to: ").append(object.getClass()
+                        .getSimpleName()).append(")").append(StringUtils.NEW_LINE).append(SUBHEADER_LINE).append(
+                        StringUtils.NEW_LINE);
+            }
+            writeValue(object, output, 0, Collections.newSetFromMap(new IdentityHashMap<>()));
+            if (includeHeader && object != null) {
+                output.append(StringUtils.NEW_LINE).append(HEADER_LINE);
+            }
+        } catch (BudgetExhaustedException ignored) {
+            // the output has already been marked as truncated
+        }
+    }
+
+    private void writeValue(Object value, Output output, int depth, Set<Object> path) throws IOException {
+        if (value == null) {
+            output.append("null");
+            return;
+        }
+        RenderPlan plan = planFor(value.getClass());
+        if (plan.kind == Kind.SIMPLE) {
+            output.append(String.valueOf(value));
+            return;
+        }
+        if (!path.add(value)) {
+            output.append("<cycle: ").append(plan.simpleName).append(">");
+            return;
+        }
+        try {
+            switch (plan.kind) {
+                case ARRAY:
+                    writeElements(value, Array.getLength(value), null, output, depth, path);
+                    break;
+                case COLLECTION:
+                    Collection<?> collection = (Collection<?>) value;
+                    writeElements(value, collection.size(), collection.iterator(), output, depth, path);
+                    break;
+                case MAP:
+                    writeEntries((Map<?, ?>) value, output, depth, path);
+                    break;
+                default:
+                    writeBean(value, plan, output, depth, path);
+            }
+        } finally {
+            path.remove(value);
+        }
+    }
+
+    private void writeElements(Object container,
+                               int size,
+                               Iterator<?> iterator,
+                               Output output,
+                               int depth,
+                               Set<Object> path) throws IOException {
+        output.append("[");
+        int limit = Math.min(size, maxElements);
+        for (int i = 0; i < limit; i++) {
+            Object element = iterator == null ? Array.get(container, i) : iterator.next();
+            newLine(output, depth + 1).append("[").append(String.valueOf(i)).append("] = ");
+            writeValue(element, output, depth + 1, path);
+        }
+        if (size > limit) {
+            newLine(output, depth + 1).append("... ").append(String.valueOf(size - limit)).append(" more");
+        }
+        if (size > 0) {
+            newLine(output, depth);
+        }
+        output.append("]");
+    }
+
+    private void writeEntries(Map<?, ?> map, Output output, int depth, Set<Object> path) throws IOException {
+        output.append("{");
+        int size = map.size();
+        int written = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (written++ == maxElements) {
+                break;
+            }
+            newLine(output, depth + 1);
+            writeValue(entry.getKey(), output, depth + 1, path);
+            output.append(" = ");
+            writeValue(entry.getValue(), output, depth + 1, path);
+        }
+        if (size > maxElements) {
+            newLine(output, depth + 1).append("... ").append(String.valueOf(size - maxElements)).append(" more");
+        }
+        if (size > 0) {
+            newLine(output, depth);
+        }
+        output.append("}");
+    }
+
+    private void writeBean(Object bean, RenderPlan plan, Output output, int depth, Set<Object> path)
+            throws IOException {
+        output.append(plan.simpleName);
+        if (depth >= maxDepth) {
+            output.append(" {...}");
+            return;
+        }
+        output.append(" {");
+        Property[] properties = plan.getProperties(considerHierarchy);
+        for (Property property : properties) {
+            Object value = property.read(bean, ReflectionUtils.UNKNOWN_VALUE);
+            newLine(output, depth + 1).append(property.name).append(" (").append(value == null ? property.typeName
+                    : planFor(value.getClass()).simpleName).append(") = ");
+            writeValue(value, output, depth + 1, path);
+        }
+        if (properties.length > 0) {
+            newLine(output, depth);
+        }
+        output.append("}");
+    }
+
+    private Output newLine(Output output, int depth) throws IOException {
+        output.append(StringUtils.NEW_LINE);
+        for (int i = 0; i < depth; i++) {
+            output.append(StringUtils.TAB);
+        }
+        return output;
+    }
+
+    private enum Kind {
+        SIMPLE, ARRAY, COLLECTION, MAP, BEAN
+    }
+
+    /**
+     * Thrown, without any stack trace, once the length budget is exhausted, so that rendering stops right away
+     * instead of walking the remaining graph.
+     */
+    private static final class BudgetExhaustedException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private BudgetExhaustedException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Appendable wrapper enforcing the length budget.
+     */
+    private static final class Output {
+
+        private final Appendable out;
+        private int remaining;
+
+        private Output(Appendable out, int maxLength) {
+            this.out = out;
+            this.remaining = maxLength;
+        }
+
+        private Output append(char c) throws IOException {
+            if (remaining > 0) {
+                out.append(c);
+                remaining--;
+                return this;
+            }
+            out.append(TRUNCATED);
+            throw new BudgetExhaustedException();
+        }
+
+        private Output append(String text) throws IOException {
+            int length = text.length();
+            if (length <= remaining) {
+                out.append(text);
+                remaining -= length;
+                return this;
+            }
+            out.append(text, 0, Math.max(0, remaining)).append(TRUNCATED);
+            remaining = 0;
+            throw new BudgetExhaustedException();
+        }
+    }
+
+    private static final class Property {
+
+        private final String name;
+        private final PropertyAccessors.Accessor fieldReader;
+        private final PropertyAccessors.Accessor reader;
+        private final String typeName;
+
+        private Property(Field field, PropertyAccessors accessors) {
+            this.name = field.getName();
+            this.typeName = field.getType().getSimpleName();
+            this.reader = accessors.getReader(name);
+            this.fieldReader = accessors.getFieldReader(name);
+        }
+
+        private Object read(Object object, Object unknownValue) {
+            try {
+                if (reader != null) {
+                    return reader.get(object);
+                }
+            } catch (Throwable ignored) {
+                // falls back to the field itself
+            }
+            try {
+                if (fieldReader != null && fieldReader != reader) {
+                    return fieldReader.get(object);
+                }
+            } catch (Throwable ignored) {
+            }
+            return unknownValue;
+        }
+    }
+
+    private static final class RenderPlan {
+
+        private final Class<?> clazz;
+        private final Kind kind;
+        private final String simpleName;
+        private volatile Property[] declaredProperties;
+        private volatile Property[] properties;
+
+        private RenderPlan(Class<?> clazz) {
+            this.clazz = clazz;
+            this.simpleName = clazz.getSimpleName();
+            if (clazz.isArray()) {
+                this.kind = Kind.ARRAY;
+            } else if (Collection.class.isAssignableFrom(clazz)) {
+                this.kind = Kind.COLLECTION;
+            } else if (Map.class.isAssignableFrom(clazz)) {
+                this.kind = Kind.MAP;
+            } else if (isSimple(clazz)) {
+                this.kind = Kind.SIMPLE;
+            } else {
+                this.kind = Kind.BEAN;
+            }
+        }
+
+        private static boolean isSimple(Class<?> clazz) {
+            return clazz.isPrimitive() || clazz.isEnum() || CharSequence.class.isAssignableFrom(clazz) || Number
+                    .class.isAssignableFrom(clazz) || Boolean.class == clazz || Character.class == clazz || Date
+                    .class.isAssignableFrom(clazz) || Calendar.class.isAssignableFrom(clazz) || TemporalAccessor
+                    .class.isAssignableFrom(clazz) || Class.class == clazz || clazz.getName().startsWith("java.");
+        }
+
+        private Property[] getProperties(boolean considerHierarchy) {
+            Property[] result = considerHierarchy ? properties : declaredProperties;
+            if (result == null) {
+                PropertyAccessors accessors = PropertyAccessors.forClass(clazz);
+                List<Property> list = new ArrayList<>();
+                Collection<Field> fields = considerHierarchy ? ClassMetadata.forClass(clazz).getFields() : Arrays
+                        .asList(clazz.getDeclaredFields());
+                for (Field field : fields) {
+                    int modifiers = field.getModifiers();
+                    if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic()) {
+                        list.add(new Property(field, accessors));
+                    }
+                }
+                result = list.toArray(new Property[0]);
+                if (considerHierarchy) {
+                    properties = result;
+                } else {
+                    declaredProperties = result;
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright 2017 araguacaima
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.araguacaima.commons.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-class table of compiled property accessors.
+ * <p>Getters, setters and fields of a class (including its superclasses) are resolved once and turned into
+ * {@link MethodHandle}s, so that reading or writing a property by name costs a map lookup plus a handle
+ * invocation. Name resolution follows {@link ReflectionUtils#invokeGetter(Object, String)} rules: an exact
+ * property name is tried first, then a case-insensitive one, and finally a field with the very same name.
+ * <p>Tables are kept in a {@link ConcurrentReferenceHashMap}, hence they can be reclaimed once their class
+ * is no longer reachable.
+ */
+public final class PropertyAccessors {
+
+    private static final Accessor[] EMPTY_ACCESSOR_ARRAY = new Accessor[0];
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final Map<Class<?>, PropertyAccessors> accessorsCache = new ConcurrentReferenceHashMap<>(256);
+
+    private final Map<String, Accessor> fieldReaders = new HashMap<>();
+    private final Map<String, Accessor> fieldWriters = new HashMap<>();
+    private final Map<String, Accessor> getters = new HashMap<>();
+    private final Map<String, Accessor> gettersIgnoreCase = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Map<String, Accessor> resolvedReaders = new ConcurrentHashMap<>();
+    private final Map<String, Accessor[]> resolvedWriters = new ConcurrentHashMap<>();
+    private final Map<String, List<Accessor>> setters = new HashMap<>();
+    private final Map<String, List<Accessor>> settersIgnoreCase = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Class<?> type;
+
+    private PropertyAccessors(Class<?> type) {
+        this.type = type;
+        ReflectionUtils.doWithMethods(type, this::addMethod, method -> !method.isBridge() && !method.isSynthetic());
+        ReflectionUtils.doWithFields(type, this::addField, field -> !Modifier.isStatic(field.getModifiers()));
+    }
+
+    /**
+     * Obtain the accessor table for the given class, building it on first use.
+     *
+     * @param clazz the class to introspect
+     * @return the cached accessor table
+     */
+    public static PropertyAccessors forClass(Class<?> clazz) {
+        PropertyAccessors accessors = accessorsCache.get(clazz);
+        if (accessors == null) {
+            accessors = new PropertyAccessors(clazz);
+            PropertyAccessors existing = accessorsCache.putIfAbsent(clazz, accessors);
+            if (existing != null) {
+                accessors = existing;
+            }
+        }
+        return accessors;
+    }
+
+    /**
+     * Drop the accessor table of the given class, if any.
+     *
+     * @param clazz the class whose accessors must be rebuilt on next use
+     */
+    public static void evict(Class<?> clazz) {
+        accessorsCache.remove(clazz);
+    }
+
+    /**
+     * Drop every accessor table.
+     */
+    public static void clearCache() {
+        accessorsCache.clear();
+    }
+
+    private static String propertyName(String methodName, int prefixLength) {
+        return methodName.length() > prefixLength ? methodName.substring(prefixLength) : null;
+    }
+
+    private static boolean startsWithUpperCase(String name, int prefixLength) {
+        return name.length() > prefixLength && Character.isUpperCase(name.charAt(prefixLength));
+    }
+
+    private static Class<?> wrapperOf(Class<?> clazz) {
+        if (clazz.isPrimitive()) {
+            Class<?> wrapper = (Class<?>) ReflectionUtils.PRIMITIVE_AND_BASIC_TYPES.get(clazz);
+            return wrapper == null ? Void.class : wrapper;
+        }
+        return clazz;
+    }
+
+    private static MethodHandle unreflect(Method method, MethodType methodType) {
+        try {
+            ReflectionUtils.makeAccessible(method);
+        } catch (RuntimeException ignored) {
+            // not opened to us, a public method can still be unreflected
+        }
+        try {
+            return LOOKUP.unreflect(method).asType(methodType);
+        } catch (IllegalAccessException | RuntimeException ignored) {
+            return null;
+        }
+    }
+
+    private void addMethod(Method method) {
+        if (Modifier.isStatic(method.getModifiers())) {
+            return;
+        }
+        String name = method.getName();
+        int parameterCount = method.getParameterCount();
+        Class<?> returnType = method.getReturnType();
+        if (parameterCount == 0 && returnType != void.class) {
+            int prefixLength;
+            if (name.startsWith("get") && startsWithUpperCase(name, 3)) {
+                prefixLength = 3;
+            } else if (name.startsWith("is") && startsWithUpperCase(name, 2) && (returnType == boolean.class
+                    || returnType == Boolean.class)) {
+                prefixLength = 2;
+            } else {
+                return;
+            }
+            String property = propertyName(name, prefixLength);
+            Accessor existing = gettersIgnoreCase.get(property);
+            // "get" accessors win over "is" ones, and subclasses (visited first) win over superclasses
+            if (existing != null && (prefixLength == 2 || existing.member.getName().startsWith("get"))) {
+                return;
+            }
+            MethodHandle handle = unreflect(method, GETTER_TYPE);
+            if (handle != null) {
+                Accessor accessor = new Accessor(property, returnType, handle, method, false);
+                gettersIgnoreCase.put(property, accessor);
+                getters.put(StringUtils.uncapitalize(property), accessor);
+                getters.put(property, accessor);
+            }
+        } else if (parameterCount == 1 && name.startsWith("set") && name.length() > 3) {
+            String property = propertyName(name, 3);
+            Class<?> parameterType = method.getParameterTypes()[0];
+            List<Accessor> candidates = settersIgnoreCase.computeIfAbsent(property, key -> new ArrayList<>());
+            for (Accessor candidate : candidates) {
+                if (candidate.type == parameterType) {
+                    return;
+                }
+            }
+            MethodHandle handle = unreflect(method, SETTER_TYPE);
+            if (handle != null) {
+                candidates.add(new Accessor(property, parameterType, handle, method, false));
+                setters.put(StringUtils.uncapitalize(property), candidates);
+                setters.put(property, candidates);
+            }
+        }
+    }
+
+    private void addField(Field field) {
+        String name = field.getName();
+        if (fieldReaders.containsKey(name)) {
+            return;
+        }
+        try {
+            ReflectionUtils.makeAccessible(field);
+        } catch (RuntimeException ignored) {
+            // not opened to us, only public fields will be reachable
+        }
+        Class<?> fieldType = field.getType();
+        try {
+            MethodHandle getter = LOOKUP.unreflectGetter(field).asType(GETTER_TYPE);
+            fieldReaders.put(name, new Accessor(name, fieldType, getter, field, true));
+            if (!Modifier.isFinal(field.getModifiers())) {
+                MethodHandle setter = LOOKUP.unreflectSetter(field).asType(SETTER_TYPE);
+                fieldWriters.put(name, new Accessor(name, fieldType, setter, field, true));
+            }
+        } catch (IllegalAccessException | RuntimeException ignored) {
+        }
+    }
+
+    /**
+     * @return the class this table was built for
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Resolve the accessor used to read the given property: a getter if there is one (matched exactly or
+     * ignoring case), the field with the same name otherwise.
+     *
+     * @param property the property (field) name
+     * @return the accessor, or {@code null} if the property can not be read
+     */
+    public Accessor getReader(String property) {
+        Accessor accessor = resolvedReaders.get(property);
+        if (accessor == null) {
+            accessor = getters.get(property);
+            if (accessor == null) {
+                accessor = gettersIgnoreCase.get(property);
+            }
+            if (accessor == null) {
+                accessor = fieldReaders.get(property);
+            }
+            if (accessor == null) {
+                // misses are not cached, the names asked for are not bounded by the class
+                return null;
+            }
+            resolvedReaders.put(property, accessor);
+        }
+        return accessor;
+    }
+
+    /**
+     * Obtain the direct field reader for the given property, bypassing any getter.
+     *
+     * @param fieldName the field name
+     * @return the accessor, or {@code null} if there is no such (readable) field
+     */
+    public Accessor getFieldReader(String fieldName) {
+        return fieldReaders.get(fieldName);
+    }
+
+    /**
+     * Resolve the accessor used to write the given value into the given property: the first setter whose
+     * parameter accepts the value, or the non final field with the same name if no setter fits.
+     *
+     * @param property the property (field) name
+     * @param value    the value that is going to be written
+     * @return the accessor, or {@code null} if the value can not be written into the property
+     */
+    public Accessor getWriter(String property, Object value) {
+        Accessor[] candidates = resolvedWriters.get(property);
+        if (candidates == null) {
+            List<Accessor> resolved = new ArrayList<>();
+            List<Accessor> methods = setters.get(property);
+            if (methods == null) {
+                methods = settersIgnoreCase.get(property);
+            }
+            if (methods != null) {
+                resolved.addAll(methods);
+            }
+            Accessor field = fieldWriters.get(property);
+            if (field != null) {
+                resolved.add(field);
+            }
+            if (resolved.isEmpty()) {
+                return null;
+            }
+            candidates = resolved.toArray(EMPTY_ACCESSOR_ARRAY);
+            resolvedWriters.put(property, candidates);
+        }
+        for (Accessor candidate : candidates) {
+            if (candidate.accepts(value)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A compiled getter, setter or field access.
+     */
+    public static final class Accessor {
+
+        private final MethodHandle handle;
+        private final Member member;
+        private final String name;
+        private final Class<?> type;
+        private final boolean viaField;
+        private final Class<?> wrapperType;
+
+        private Accessor(String name, Class<?> type, MethodHandle handle, Member member, boolean viaField) {
+            this.name = name;
+            this.type = type;
+            this.handle = handle;
+            this.member = member;
+            this.viaField = viaField;
+            this.wrapperType = type == null ? null : wrapperOf(type);
+        }
+
+        /**
+         * Read the property from the given target.
+         *
+         * @param target the object to read from
+         * @return the property value (boxed if it is a primitive one)
+         * @throws Throwable whatever the underlying getter throws
+         */
+        public Object get(Object target) throws Throwable {
+            return (Object) handle.invokeExact(target);
+        }
+
+        /**
+         * Write the property into the given target.
+         *
+         * @param target the object to write into
+         * @param value  the new value
+         * @throws Throwable whatever the underlying setter throws
+         */
+        public void set(Object target, Object value) throws Throwable {
+            handle.invokeExact(target, value);
+        }
+
+        /**
+         * @param value the candidate value
+         * @return whether the value can be handed to this accessor without conversion
+         */
+        public boolean accepts(Object value) {
+            return value == null ? !type.isPrimitive() : wrapperType.isInstance(value);
+        }
+
+        public Member getMember() {
+            return member;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Class<?> getType() {
+            return type;
+        }
+
+        /**
+         * @return {@code true} if this accessor reaches the field directly instead of a getter or setter
+         */
+        public boolean isViaField() {
+            return viaField;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2017 araguacaima
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.araguacaima.commons.utils;
+
+import org.apache.commons.beanutils.BeanUtils;
+import org.apache.commons.beanutils.ConvertUtils;
+import org.apache.commons.beanutils.Converter;
+import org.apache.commons.beanutils.PropertyUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.beans.PropertyDescriptor;
+import java.io.*;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Binds the records of a flat file to objects of a class, one record per line and one field per separated value.
+ * <p>Lines are read through a buffered NIO reader and split by hand on the separator char, with no regular
+ * expression. The setter and the commons-beanutils {@link Converter} of every field are resolved once, when the
+ * binder is built, so that binding a value costs a conversion plus a method handle invocation; fields that are not
+ * simple properties (nested, indexed or mapped ones) are still bound through {@link BeanUtils#setProperty(Object,
+ * String, Object)}.
+ * <p>Records are streamed, never held all at once: {@link #stream(File)} binds them lazily, and the stream can be
+ * made parallel to bind chunks of lines concurrently when the order of the records does not matter.
+ * {@link #bind(File, int, Consumer)} pushes them in batches instead.
+ * <p>A value that can not be bound is logged and its field is left untouched; missing trailing values leave their
+ * fields untouched as well. Instances are immutable and may be shared between threads.
+ *
+ * @param <T> the class to bind the records to
+ */
+public final class RecordBinder<T> {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final Logger log = LoggerFactory.getLogger(RecordBinder.class);
+
+    private final Charset charset;
+    private final Class<T> classToBind;
+    private final Constructor<T> constructor;
+    private final Field[] fields;
+    private final char fieldSeparator;
+
+    /**
+     * @param classToBind    Class to bind objects, with a public no-arg constructor
+     * @param orderedFields  Fields of the object that will be associated to the values of each record, in order
+     * @param fieldSeparator Separator for identifying each field
+     * @throws IllegalArgumentException If the class has no no-arg constructor
+     */
+    public RecordBinder(Class<T> classToBind, Collection<String> orderedFields, char fieldSeparator) {
+        this(classToBind, orderedFields, fieldSeparator, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param classToBind    Class to bind objects, with a public no-arg constructor
+     * @param orderedFields  Fields of the object that will be associated to the values of each record, in order
+     * @param fieldSeparator Separator for identifying each field
+     * @param charset        Charset of the files to bind
+     * @throws IllegalArgumentException If the class has no no-arg constructor
+     */
+    public RecordBinder(Class<T> classToBind, Collection<String> orderedFields, char fieldSeparator, Charset charset) {
+        this.classToBind = classToBind;
+        try {
+            this.constructor = classToBind.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(classToBind.getName() + " has no no-arg constructor", e);
+        }
+        this.fieldSeparator = fieldSeparator;
+        this.charset = charset;
+        Map<String, PropertyDescriptor> descriptors = new HashMap<>();
+        for (PropertyDescriptor descriptor : PropertyUtils.getPropertyDescriptors(classToBind)) {
+            descriptors.put(descriptor.getName(), descriptor);
+        }
+        this.fields = new Field[orderedFields.size()];
+        int i = 0;
+        for (String name : orderedFields) {
+            fields[i++] = new Field(name, descriptors.get(name));
+        }
+    }
+
+    /**
+     * Bind every record of a file.
+     *
+     * @param file File holding the records
+     * @return A stream of the objects bound, in the order of the file, that must be closed to close the file
+     * @throws IOException If it's not possible to open the file
+     */
+    public Stream<T> stream(File file)
+            throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(file.toPath()),
+                charset), BUFFER_SIZE);
+        return reader.lines().map(this::bind).onClose(() -> {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Bind every record of a file, handing them to the consumer in batches, in the order of the file.
+     *
+     * @param file      File holding the records
+     * @param batchSize Greatest number of objects of a batch
+     * @param consumer  Consumer of the batches, the lists handed to it are not reused
+     * @return The number of objects bound
+     * @throws IOException If it's not possible to read the file
+     */
+    public long bind(File file, int batchSize, Consumer<? super List<T>> consumer)
+            throws IOException {
+        long count = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(file.toPath()),
+                charset), BUFFER_SIZE)) {
+            List<T> batch = new ArrayList<>(batchSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                batch.add(bind(line));
+                if (batch.size() == batchSize) {
+                    consumer.accept(batch);
+                    count += batch.size();
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                consumer.accept(batch);
+                count += batch.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Bind every record of a file at once.
+     *
+     * @param file File holding the records
+     * @return The objects bound, in the order of the file
+     * @throws IOException If it's not possible to read the file
+     */
+    public List<T> bindAll(File file)
+            throws IOException {
+        try (Stream<T> records = stream(file)) {
+            return records.collect(Collectors.toCollection(ArrayList::new));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Bind a single record.
+     *
+     * @param record A line of the file, without its line terminator
+     * @return The object bound
+     * @throws IllegalStateException If the class to bind can not be instantiated, or its constructor throws an
+     *                               exception
+     */
+    public T bind(String record) {
+        T objectToBind;
+        try {
+            objectToBind = constructor.newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new IllegalStateException("Unable to instantiate " + classToBind.getName(), e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Unable to instantiate " + classToBind.getName(), e.getCause());
+        }
+        int length = record.length();
+        int start = 0;
+        for (int i = 0; i < fields.length && start <= length; i++) {
+            int end = record.indexOf(fieldSeparator, start);
+            if (end == -1) {
+                end = length;
+            }
+            fields[i].set(objectToBind, record.substring(start, end));
+            start = end + 1;
+        }
+        return objectToBind;
+    }
+
+    /**
+     * A field of the records, with its setter and converter resolved.
+     */
+    private static final class Field {
+
+        private final Converter converter;
+        private final String name;
+        private final MethodHandle setter;
+        private final Class<?> type;
+
+        private Field(String name, PropertyDescriptor descriptor) {
+            this.name = name;
+            Method writeMethod = descriptor == null ? null : PropertyUtils.getWriteMethod(descriptor);
+            MethodHandle handle = null;
+            if (writeMethod != null) {
+                try {
+                    handle = LOOKUP.unreflect(writeMethod).asType(SETTER_TYPE);
+                } catch (IllegalAccessException ignored) {
+                    // bound through BeanUtils, which may still reach it
+                }
+            }
+            this.setter = handle;
+            this.type = handle == null ? null : writeMethod.getParameterTypes()[0];
+            this.converter = type == null || type == String.class ? null : ConvertUtils.lookup(type);
+        }
+
+        private void set(Object target, String value) {
+            try {
+                if (setter == null || (converter == null && type != String.class)) {
+                    BeanUtils.setProperty(target, name, value);
+                } else {
+                    setter.invokeExact(target, converter == null ? (Object) value : converter.convert(type, value));
+                }
+            } catch (Throwable t) {
+                if (t instanceof Error) {
+                    throw (Error) t;
+                }
+                log.error("Unable to bind value '" + value + "' to field '" + name + "'", t);
+            }
+        }
+    }
+}
@@ -46,6 +46,8 @@ import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongFunction;
 
 @SuppressWarnings({"unchecked", "UnusedReturnValue"})
 
@@ -113,6 +115,7 @@ public class ReflectionUtils implements Serializable {
     private static final FieldCompare FIELD_COMPARE = new FieldCompare();
     private static final DataTypesConverter dataTypesConverter = new DataTypesConverter();
     private static final Logger log = LoggerFactory.getLogger(ReflectionUtils.class);
+    private static final long DEFAULT_RANDOM_SEED = 123L;
     private static final EnhancedRandomBuilder randomBuilder;
     private static final ReflectionUtils INSTANCE = new ReflectionUtils();
 
@@ -200,13 +203,27 @@ public class ReflectionUtils implements Serializable {
         PRIMITIVE_AND_BASIC_TYPE_DEFAULT_VALUES.put(Double.class, (double) -1);
         PRIMITIVE_AND_BASIC_TYPE_DEFAULT_VALUES.put(String.class, StringUtils.EMPTY);
 
+        randomBuilder = newRandomBuilder(DEFAULT_RANDOM_SEED);
+    }
+
+    private final ReflectionFactory reflectionFactory = ReflectionFactory.getReflectionFactory();
+    private StringUtils stringUtils;
+    ;
+
+    private ReflectionUtils() {
+        if (INSTANCE != null) {
+            throw new IllegalStateException("Already instantiated");
+        }
+    }
+
+    private static EnhancedRandomBuilder newRandomBuilder(long seed) {
         LocalTime timeLower = LocalTime.of(0, 0);
         LocalTime timeUpper = LocalTime.of(0, 0);
         LocalDate dateLower = LocalDate.of(2000, 1, 1);
         LocalDate dateUpper = LocalDate.of(2040, 12, 31);
 
-        randomBuilder = EnhancedRandomBuilder.aNewEnhancedRandomBuilder()
-                .seed(123L)
+        return EnhancedRandomBuilder.aNewEnhancedRandomBuilder()
+                .seed(seed)
                 .objectPoolSize(100)
                 .charset(StandardCharsets.UTF_8)
                 .timeRange(timeLower, timeUpper)
@@ -218,13 +235,32 @@ public class ReflectionUtils implements Serializable {
                 .objectPoolSize(3);
     }
 
-    private final ReflectionFactory reflectionFactory = ReflectionFactory.getReflectionFactory();
-    private StringUtils stringUtils;
-    ;
-
-    private ReflectionUtils() {
-        if (INSTANCE != null) {
-            throw new IllegalStateException("Already instantiated");
+    /**
+     * Random builders look their randomizer registries up through the context class loader, which fails when
+     * that loader does not share random-beans classes with ours (e.g. on pool threads of containers or under
+     * instrumenting test runners); such a loader is temporarily replaced with the random-beans one.
+     */
+    private static EnhancedRandom buildRandom(EnhancedRandomBuilder builder) {
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        ClassLoader randomClassLoader = EnhancedRandomBuilder.class.getClassLoader();
+        boolean replace = contextClassLoader != randomClassLoader;
+        if (replace && contextClassLoader != null) {
+            try {
+                replace = Class.forName(EnhancedRandomBuilder.class.getName(), false, contextClassLoader)
+                        != EnhancedRandomBuilder.class;
+            } catch (ClassNotFoundException e) {
+                replace = true;
+            }
+        }
+        if (!replace) {
+            return builder.build();
+        }
+        thread.setContextClassLoader(randomClassLoader);
+        try {
+            return builder.build();
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
         }
     }
 
@@ -263,35 +299,24 @@ public class ReflectionUtils implements Serializable {
         return result;
     }
 
+    /**
+     * Obtains the type of the elements of the given collection or array class, resolving the collection type
+     * arguments through the whole class hierarchy (see {@link ResolvedType}).
+     *
+     * @param clazz The class to inspect
+     * @return The element type (Object if it can not be determined), or the class itself if it is neither a
+     * collection nor an array
+     */
     public Class extractGenerics(Class clazz) {
         if (clazz == null) {
             return null;
         }
-        if (!isCollectionImplementation(clazz)) {
-            return clazz;
-        }
-        Class generics;
-        if (Collection.class.isAssignableFrom(clazz)) {
-            Type genericSuperclass = clazz.getGenericSuperclass();
-            if (genericSuperclass == null) {
-                generics = Object.class;
-            } else {
-                try {
-                    Object type = ((ParameterizedType) genericSuperclass).getActualTypeArguments()[0];
-                    generics = (Class) type;
-                } catch (ClassCastException ignored) {
-                    try {
-                        generics = (Class) clazz.getGenericInterfaces()[0];
-                    } catch (Throwable t) {
-                        generics = Object.class;
-                    }
-                }
-            }
-        } else
-            generics = getClass(clazz);
-
-        return generics;
+        return genericsOf(ResolvedType.of(clazz));
+    }
 
+    private Class genericsOf(ResolvedType type) {
+        ResolvedType elementType = type.getElementType();
+        return elementType == null ? type.getRawType() : elementType.getRawType();
     }
 
     private Object getObject_(Class<?> clazz, Object value, Class<?> generics) {
@@ -328,73 +353,20 @@ public class ReflectionUtils implements Serializable {
                 || clazz.isArray());
     }
 
-    private Class getClass(Class clazz) {
-        Class generics = null;
-        if (Object[].class.isAssignableFrom(clazz)) {
-            try {
-                generics = Class.forName(clazz.toString().replaceFirst("class \\[L", StringUtils.EMPTY).replace(";",
-                        StringUtils.EMPTY));
-            } catch (ClassNotFoundException e) {
-                log.error(e.getMessage());
-            }
-
-        } else if (clazz.isArray()) {
-            try {
-                Method method = Class.class.getDeclaredMethod("getPrimitiveClass", String.class);
-                method.setAccessible(true);
-                generics = (Class) method.invoke(Class.forName("java.lang.Class"),
-                        clazz.getSimpleName().replace("[]", StringUtils.EMPTY));
-            } catch (InvocationTargetException | ClassNotFoundException | NoSuchMethodException |
-                    IllegalAccessException | NullPointerException ignored) {
-            }
-        }
-        return generics;
-    }
-
+    /**
+     * Obtains the type parameter of the given field: the element type of collections and arrays, the value type of
+     * parameterized maps, or the field type itself otherwise. Nested types are resolved from the field generic
+     * signature, so a {@code List<Map<String, Foo>>} field yields {@code Map}.
+     *
+     * @param field The field to inspect
+     * @return The type parameter of the field
+     */
     public Class extractGenerics(Field field) {
-        Class clazz;
-        final Type genericType = field.getGenericType();
-        Type[] typeArguments = null;
-        if (genericType instanceof Class) {
-            clazz = (Class) genericType;
-        } else {
-            clazz = getType(genericType);
-        }
-        if (clazz == null) {
-            clazz = field.getType();
-        }
-        return extractGenerics(clazz);
-    }
-
-    private Class getType(Type genericType) {
-        Type[] typeArguments = null;
-        Class clazz = null;
-        try {
-            Field rawTypeField = genericType.getClass().getDeclaredField("rawType");
-            rawTypeField.setAccessible(true);
-            Class clazz_ = (Class) rawTypeField.get(genericType);
-            typeArguments = ((ParameterizedType) genericType).getActualTypeArguments();
-            if (isMapImplementation(clazz_)) {
-                clazz = (Class) typeArguments[1];
-            } else {
-                clazz = (Class) typeArguments[0];
-            }
-        } catch (ClassCastException ignored) {
-            Type type = Objects.requireNonNull(typeArguments)[0];
-            try {
-                Field rawTypeField = type.getClass().getDeclaredField("rawType");
-                rawTypeField.setAccessible(true);
-                clazz = (Class) rawTypeField.get(type);
-            } catch (NoSuchFieldException | IllegalAccessException e) {
-                e.printStackTrace();
-            }
-        } catch (NoSuchFieldException | NullPointerException | IndexOutOfBoundsException ignored) {
-            typeArguments = ((TypeVariable) genericType).getBounds();
-            clazz = (Class) typeArguments[0];
-        } catch (Throwable ignored) {
-
+        ResolvedType type = ResolvedType.of(field);
+        if (type.isMap() && !type.getTypeArguments().isEmpty()) {
+            return type.getValueType().getRawType();
         }
-        return clazz;
+        return genericsOf(type);
     }
 
     private boolean fieldIsNotContainedIn(Field field, Collection<String> excludeFields) {
@@ -426,16 +398,7 @@ public class ReflectionUtils implements Serializable {
     public Collection<Field> getAllFieldsIncludingParents(Class clazz,
                                                           final Integer modifiersInclusion,
                                                           final Integer modifiersExclusion) {
-        final Collection<Field> fields = new ArrayList<>();
-        FieldFilter fieldFilterModifierInclusion = field -> modifiersInclusion == null || (field.getModifiers() &
-                modifiersInclusion) != 0;
-        FieldFilter fieldFilterModifierExclusion = field -> modifiersExclusion == null || (field.getModifiers() &
-                modifiersExclusion) == 0;
-        doWithFields(clazz,
-                fields::add,
-                modifiersInclusion == null ? (modifiersExclusion == null ? null : fieldFilterModifierExclusion) :
-                        fieldFilterModifierInclusion);
-        return fields;
+        return new ArrayList<>(ClassMetadata.forClass(clazz).getFields(modifiersInclusion, modifiersExclusion));
     }
 
     public Collection<String> getAllFieldsNamesOfType(Object object, final Class type) {
@@ -451,13 +414,13 @@ public class ReflectionUtils implements Serializable {
     public Collection<Field> getAllFieldsOfType(Class clazz,
                                                 Collection<String> excludeFields,
                                                 final Class type) {
-        final Collection<Field> result = new ArrayList();
+        final Collection<Field> result = new ArrayList<>();
         if (clazz != null) {
-            IterableUtils.forEach(getAllFieldsIncludingParents(clazz, excludeFields), field -> {
-                if (field.getType().getName().equals(type.getName())) {
+            for (Field field : ClassMetadata.forClass(clazz).getFieldsOfType(type)) {
+                if (CollectionUtils.isEmpty(excludeFields) || fieldIsNotContainedIn(field, excludeFields)) {
                     result.add(field);
                 }
-            });
+            }
         }
         return result;
     }
@@ -472,21 +435,24 @@ public class ReflectionUtils implements Serializable {
     }
 
     public Collection<Field> getAllFieldsIncludingParents(Class clazz) {
-        return getAllFieldsIncludingParents(clazz,
-                null,
-                Modifier.STATIC | Modifier.VOLATILE | Modifier.NATIVE | Modifier.TRANSIENT);
+        return getAllFieldsIncludingParents(clazz, null, ClassMetadata.DEFAULT_FIELD_MODIFIERS_EXCLUSION);
     }
 
+    /**
+     * Obtains the type argument written inside the outermost angle brackets of the given type name, e.g.
+     * {@code Map<String, Foo>} out of {@code List<Map<String, Foo>>}.
+     *
+     * @param s The type name
+     * @return The type argument, or the trimmed type name if it has none
+     */
     public String getExtractedGenerics(String s) {
         String s1 = s.trim();
-        try {
-            String firstPartType = s1.split("<")[1];
-            if (firstPartType.endsWith(">")) {
-                return firstPartType.substring(0, firstPartType.length() - 1);
-            }
-        } catch (Throwable ignored) {
+        int start = s1.indexOf('<');
+        int end = s1.lastIndexOf('>');
+        if (start < 0 || end <= start) {
+            return s1;
         }
-        return s1;
+        return s1.substring(start + 1, end).trim();
     }
 
     /**
@@ -545,22 +511,36 @@ public class ReflectionUtils implements Serializable {
         return clazz != null && Map.class.isAssignableFrom(clazz);
     }
 
+    /**
+     * Deep copy the given object graph reflectively (see {@link DeepCloner}). Shared references and cycles are
+     * preserved, and objects do not need to be {@link Serializable}.
+     *
+     * @param e   the root of the graph to copy
+     * @param <E> the type of the root object
+     * @param <F> the type the copy is expected to be assigned to
+     * @return the copy, or {@code null} if the graph could not be copied
+     */
     public <E, F> F deepClone(E e) {
-        ByteArrayOutputStream bo = new ByteArrayOutputStream();
-        ObjectOutputStream oo;
-        try {
-            oo = new ObjectOutputStream(bo);
-            oo.writeObject(e);
-        } catch (IOException ex) {
-            ex.printStackTrace();
-        }
-        ByteArrayInputStream bi = new ByteArrayInputStream(bo.toByteArray());
-        ObjectInputStream oi;
+        return deepClone(e, false);
+    }
+
+    /**
+     * Deep copy the given object graph, either reflectively or through a Java serialization round-trip.
+     *
+     * @param e                the root of the graph to copy
+     * @param useSerialization whether to copy it by serializing and deserializing it, which requires every object
+     *                         of the graph to be serializable, instead of reflectively
+     * @param <E>              the type of the root object
+     * @param <F>              the type the copy is expected to be assigned to
+     * @return the copy, or {@code null} if the graph could not be copied
+     */
+    @SuppressWarnings("unchecked")
+    public <E, F> F deepClone(E e, boolean useSerialization) {
+        DeepCloner deepCloner = DeepCloner.getInstance();
         try {
-            oi = new ObjectInputStream(bi);
-            return (F) (oi.readObject());
-        } catch (IOException | ClassNotFoundException ex) {
-            ex.printStackTrace();
+            return (F) (useSerialization ? deepCloner.deepCloneBySerialization(e) : deepCloner.deepClone(e));
+        } catch (IllegalStateException ex) {
+            log.error(ex.getMessage(), ex);
             return null;
         }
     }
@@ -1057,6 +1037,8 @@ public class ReflectionUtils implements Serializable {
 
     /**
      * Perform a deep initialization of the given class according to the default random builder configuration.
+     * Each call draws its values from a new random source with the default seed, so consecutive calls provide
+     * equal instances.
      *
      * @param clazz The class to initialize
      * @param <T>   This is the type parameter
@@ -1064,12 +1046,69 @@ public class ReflectionUtils implements Serializable {
      * @see io.github.benas.randombeans.EnhancedRandomBuilder
      */
     public <T> T deepInitialization(Class<T> clazz) {
-        return deepInitialization(clazz, randomBuilder);
+        return deepInitialization(clazz, buildRandom(randomBuilder));
+    }
+
+    /**
+     * Perform a deep initialization of the given class through its compiled {@link InitializationPlan}, drawing
+     * simple values from the provided random source. Unlike
+     * {@link #deepInitialization(Class, EnhancedRandomBuilder)}, neither the random source nor the class structure
+     * are built again on each call, so it is the one to use when many instances are needed.
+     *
+     * @param clazz  The class to initialize
+     * @param random The random source, which should not be shared among threads.
+     * @param <T>    This is the type parameter
+     * @return A new instance of the given class full initialized.
+     * @throws IllegalStateException If is not possible to instantiate provided class.
+     */
+    public <T> T deepInitialization(Class<T> clazz, EnhancedRandom random) {
+        return InitializationPlan.forClass(clazz).newInstance(random);
+    }
+
+    /**
+     * Perform a deep initialization of 'count' instances of the given class in parallel, on the common fork-join
+     * pool, according to the default random builder configuration. A single random source with the default seed
+     * is built for the call and shared by all chunks of work, so which instance gets which values depends on how
+     * chunks are scheduled; use {@link #deepInitialization(Class, int, LongFunction, ForkJoinPool)} with a source
+     * per chunk when the outcome must be repeatable.
+     *
+     * @param clazz The class to initialize
+     * @param count How many instances are needed
+     * @param <T>   This is the type parameter
+     * @return The new instances of the given class full initialized.
+     * @throws IllegalStateException If is not possible to instantiate provided class.
+     */
+    public <T> List<T> deepInitialization(Class<T> clazz, int count) {
+        EnhancedRandom random = buildRandom(randomBuilder);
+        return deepInitialization(clazz, count, chunk -> random, null);
+    }
+
+    /**
+     * Perform a deep initialization of 'count' instances of the given class in parallel.
+     *
+     * @param clazz         The class to initialize
+     * @param count         How many instances are needed
+     * @param randomSources Factory of the random source of each chunk of work, given the chunk index.
+     * @param pool          The pool to run on, or null for the common fork-join pool.
+     * @param <T>           This is the type parameter
+     * @return The new instances of the given class full initialized.
+     * @throws IllegalStateException If is not possible to instantiate provided class.
+     * @see InitializationPlan#newInstances(int, LongFunction, ForkJoinPool)
+     */
+    public <T> List<T> deepInitialization(Class<T> clazz,
+                                          int count,
+                                          LongFunction<? extends EnhancedRandom> randomSources,
+                                          ForkJoinPool pool) {
+        return InitializationPlan.forClass(clazz).newInstances(count, randomSources, pool);
     }
 
     /**
      * Perform a deep initialization of the given class according to the provided random builder configuration.
      *
+     * The whole random configuration (including field level randomizers and exclusions) is honored, at the cost of
+     * building a new random source and introspecting the class again on each call; see
+     * {@link #deepInitialization(Class, EnhancedRandom)} when many instances are needed.
+     *
      * @param clazz         The class to initialize
      * @param randomBuilder The random builder configuration.
      * @param <T>           This is the type parameter
@@ -1095,23 +1134,10 @@ public class ReflectionUtils implements Serializable {
     public void deepInitialization(Object object, Set<String> packages, boolean includeParent)
             throws IllegalArgumentException, IllegalAccessException {
 
-        Field[] fields;
-
-        if (includeParent) {
-            Collection<Field> fields_ = getAllFieldsIncludingParents(object);
-            fields = fields_.toArray(new Field[0]);
-        } else {
-            fields = object.getClass().getDeclaredFields();
-        }
+        // enums, primitives and simple java types are already skipped
+        Field[] fields = InitializationPlan.forClass(object.getClass()).getLegacyFields(includeParent);
         for (Field field : fields) {
-            String fieldName = field.getName();
             Class<?> fieldClass = field.getType();
-            // skip primitives
-            if (fieldClass.isEnum() || fieldClass.isAssignableFrom(Enum.class) || fieldClass.isPrimitive() || (!isCollectionImplementation(fieldClass) && StringUtils.isNotBlank(getSimpleJavaTypeOrNull
-                    (fieldClass.getSimpleName(),
-                            false)))) {
-                continue;
-            }
             // allow access to private fields
             boolean isAccessible = field.isAccessible();
             Object fieldValue;
@@ -1234,50 +1260,41 @@ public class ReflectionUtils implements Serializable {
         return IterableUtils.find(PRIMITIVE_TYPES, o -> ((Class) o).getName().equals(clazz.getName())) != null;
     }
 
+    /**
+     * Obtains the key or value type of the given map field, further reduced to its element type when it is a
+     * collection or an array. For fields other than maps, the element type of the field itself is returned.
+     *
+     * @param field      The field to inspect
+     * @param extractKey Whether to obtain the key type, or the value type
+     * @return The requested type
+     */
     public Class extractGenericsKeyValue(Field field, boolean extractKey) {
-        Class clazz = null;
-        if (Map.class.isAssignableFrom(field.getType())) {
-            try {
-                clazz = (Class) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[extractKey ? 0
-                        : 1];
-            } catch (Throwable ignored) {
-            }
-            if (clazz == null) {
-                clazz = field.getType();
-            }
-        } else {
-            clazz = field.getType();
+        ResolvedType type = ResolvedType.of(field);
+        if (type.isMap() && !type.getTypeArguments().isEmpty()) {
+            return genericsOf(extractKey ? type.getKeyType() : type.getValueType());
         }
-        return extractGenerics(clazz);
+        return genericsOf(type);
     }
 
+    /**
+     * Obtains the declared bound of the type parameter of the given collection class (Object for {@code List<E>}),
+     * or its element type when the class declares no type parameter. Arrays yield their component type, and any
+     * other class yields itself.
+     *
+     * @param clazz The class to inspect
+     * @return The type parameter bound
+     */
     public Class extractTypedGenericsParameter(Class clazz) {
         if (clazz == null) {
             return null;
         }
-        if (!isCollectionImplementation(clazz)) {
-            return clazz;
-        }
-        Class generics;
         if (Collection.class.isAssignableFrom(clazz)) {
             TypeVariable[] typedGenerics = clazz.getTypeParameters();
-            if (typedGenerics == null) {
-                generics = Object.class;
-            } else {
-                try {
-                    Object type = (typedGenerics[0]).getBounds()[0];
-                    generics = (Class) type;
-                } catch (ClassCastException | IndexOutOfBoundsException ignored) {
-                    try {
-                        generics = (Class) clazz.getGenericInterfaces()[0];
-                    } catch (Throwable t) {
-                        generics = Object.class;
-                    }
-                }
+            if (typedGenerics.length > 0) {
+                return ResolvedType.of(typedGenerics[0]).getRawType();
             }
-        } else
-            generics = getClass(clazz);
-        return generics;
+        }
+        return genericsOf(ResolvedType.of(clazz));
     }
 
     public void fillObjectWithMap(Object object, Map arg) {
@@ -1291,41 +1308,24 @@ public class ReflectionUtils implements Serializable {
     }
 
     /**
+     * Invokes the setter of the given field, or assigns the field directly if there is no setter whose parameter
+     * accepts the incoming value. Accessors are resolved once per class through {@link PropertyAccessors}.
+     *
      * @param object    The object for simple setter invokation
      * @param fieldName The field on which the simple setter will be performed
      * @param value     The value to be assigned as parameter to the setter method
      */
     public void invokeSimpleSetter(Object object, final String fieldName, final Object value) {
-        Method method = IterableUtils.find(getDeclaredSetterMethods(object.getClass()), innerMethod -> {
-            boolean result = false;
-            boolean setterFound = (innerMethod.getName().toUpperCase().equals(("set" + fieldName).toUpperCase()));
-            if (setterFound) {
-                result = innerMethod.getParameterTypes()[0].getName().equals(value.getClass().getName());
-                if (!result) {
-                    Class clazz = getPrimitive(innerMethod.getParameterTypes()[0]);
-                    if (clazz != null) {
-                        String primitive = getClassFromPrimitive(clazz).getName();
-                        if (StringUtils.isNotBlank(primitive)) {
-                            result = (innerMethod.getName().toUpperCase().equals(("set" + fieldName).toUpperCase()))
-                                    && (primitive.equals(
-                                    value.getClass().getName()));
-                        }
-                    }
-                }
-            }
-            return result;
-        });
-        Object[] args = {value};
-
+        PropertyAccessors.Accessor setter = PropertyAccessors.forClass(object.getClass()).getWriter(fieldName, value);
+        if (setter == null) {
+            log.error("Impossible to invoke method: " + fieldName + ", may be the incoming field:" + fieldName +
+                    " have not a setter for values of type " + (value == null ? null : value.getClass().getName()));
+            return;
+        }
         try {
-            object = method.invoke(object, args);
-        } catch (IllegalAccessException e) {
-            log.error("Impossible to invoke method: " + fieldName + " because of an IllegalAccessException");
-        } catch (InvocationTargetException e) {
-            log.error("Impossible to invoke method: " + fieldName + " because of an InvocationTargetException");
-        } catch (NullPointerException e) {
-            log.error("Impossible to invoke method: " + fieldName + " because of an NullPointerException, " + "may "
-                    + "be" + " the incoming field:" + fieldName + " have not a setter");
+            setter.set(object, value);
+        } catch (Throwable t) {
+            log.error("Impossible to invoke method: " + fieldName + " because of an " + t.getClass().getName());
         }
     }
 
@@ -1343,6 +1343,25 @@ public class ReflectionUtils implements Serializable {
 
     }
 
+    /**
+     * Write the values of the given object straight into the given output, within the default
+     * {@link ObjectRenderer} budget (nesting depth, elements per collection and overall length), so that dumping
+     * big graphs into diagnostic logs stays cheap.
+     *
+     * @param object            The object to format
+     * @param out               Where to write the values
+     * @param includeHeader     Indicates whether or not enclose the values in a header naming the object class
+     * @param considerHierarchy Indicates whether or not include the parent's fields
+     * @throws IOException If the output can not be written
+     */
+    public void formatObjectValues(Object object, Appendable out, boolean includeHeader, boolean considerHierarchy)
+            throws IOException {
+        new ObjectRenderer(ObjectRenderer.DEFAULT_MAX_DEPTH,
+                ObjectRenderer.DEFAULT_MAX_ELEMENTS,
+                ObjectRenderer.DEFAULT_MAX_LENGTH,
+                considerHierarchy).render(object, out, includeHeader);
+    }
+
     public String formatObjectValues(Object object,
                                      boolean includeHeader,
                                      boolean newLine,
@@ -1553,16 +1572,7 @@ public class ReflectionUtils implements Serializable {
     public Collection<Method> getAllMethodsIncludingParents(Class clazz,
                                                             final Integer modifiersInclusion,
                                                             final Integer modifiersExclusion) {
-        final Collection<Method> methods = new ArrayList<>();
-        MethodFilter fieldFilterModifierInclusion = method -> modifiersInclusion == null || (method.getModifiers() &
-                modifiersInclusion) != 0;
-        MethodFilter fieldFilterModifierExclusion = method -> modifiersExclusion == null || (method.getModifiers() &
-                modifiersExclusion) == 0;
-        doWithMethods(clazz,
-                methods::add,
-                modifiersInclusion == null ? modifiersExclusion == null ? null : fieldFilterModifierExclusion :
-                        fieldFilterModifierInclusion);
-        return methods;
+        return new ArrayList<>(ClassMetadata.forClass(clazz).getMethods(modifiersInclusion, modifiersExclusion));
     }
 
     public Collection<String> getAllMethodsIncludingParentsNames(Class clazz) {
@@ -1581,7 +1591,7 @@ public class ReflectionUtils implements Serializable {
     }
 
     public Collection<Method> getAllMethodsIncludingParents(Class clazz) {
-        return getAllMethodsIncludingParents(clazz, null, Modifier.VOLATILE | Modifier.NATIVE | Modifier.TRANSIENT);
+        return getAllMethodsIncludingParents(clazz, null, ClassMetadata.DEFAULT_METHOD_MODIFIERS_EXCLUSION);
     }
 
     private boolean methodNameIsContainedIn(String methodName, Collection<String> excludeMethods) {
@@ -1660,8 +1670,7 @@ public class ReflectionUtils implements Serializable {
     }
 
     public Field getField(Class clazz, String fieldName) {
-        return IterableUtils.find(getAllFieldsIncludingParents(clazz),
-                field -> fieldNameEqualsToPredicate(field, fieldName));
+        return ClassMetadata.forClass(clazz).getField(fieldName);
     }
 
     public FieldCompare getFieldCompare() {
@@ -1677,7 +1686,7 @@ public class ReflectionUtils implements Serializable {
     }
 
     public Collection<String> getFieldNames(Class clazz, Collection<String> excludeFields) {
-        Collection<Field> fields = getAllFieldsIncludingParents(clazz);
+        Collection<Field> fields = ClassMetadata.forClass(clazz).getFields();
         Collection<String> result = CollectionUtils.collect(fields, FIELD_NAME_TRANSFORMER);
         if (CollectionUtils.isEmpty(excludeFields)) {
             return result;
@@ -1713,13 +1722,7 @@ public class ReflectionUtils implements Serializable {
             if (object != null) {
                 Class clazz = object.getClass();
                 if (!isPrimitive(clazz) && !isBasic(clazz)) {
-                    Collection<Field> fields = getAllFieldsIncludingParents(clazz);
-                    String fieldName;
-                    Object[] args = new Object[0];
-                    for (Field field : fields) {
-                        fieldName = field.getName();
-                        objectFieldValueMap.put(fieldName, invokeGetter(object, fieldName));
-                    }
+                    ObjectRenderer.forEachFieldValue(object, objectFieldValueMap::put);
                 } else {
                     objectFieldValueMap.put("[".concat(getSimpleClassName(clazz)).concat("]"), object);
                 }
@@ -1730,42 +1733,41 @@ public class ReflectionUtils implements Serializable {
         return objectFieldValueMap;
     }
 
+    /**
+     * Invokes the getter of the given field, falling back to read the field directly if there is no getter for it
+     * or if the getter fails. Accessors are resolved once per class through {@link PropertyAccessors}.
+     *
+     * @param object    The object to read from
+     * @param fieldName The field whose value is requested
+     * @return The field value, or null if it could not be obtained
+     */
     public Object invokeGetter(Object object, final String fieldName) {
-        Object value = null;
-        Method method = IterableUtils.find(getGetterMethods(object.getClass()),
-                innerMethod -> innerMethod.getName().toUpperCase().equals(("get" + fieldName).toUpperCase()));
-        Object[] args = {};
+        PropertyAccessors accessors = PropertyAccessors.forClass(object.getClass());
+        PropertyAccessors.Accessor getter = accessors.getReader(fieldName);
+        if (getter == null) {
+            log.error("Impossible to invoke method: " + "get" + fieldName + ", may be the incoming field :" +
+                    fieldName + " have not a getter");
+            return null;
+        }
         try {
-            value = method.invoke(object, args);
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            log.error("Impossible to invoke method: " + "get" + fieldName + " because of an " + e.getClass().getName());
-            try {
-                Field field = getField(object, fieldName);
-                field.setAccessible(true);
-                value = field.get(object);
-            } catch (IllegalAccessException e1) {
-                log.error("Impossible to get the value of the field: " + fieldName + " directly from the object: " +
-                        object + " because of an " + e1.getClass().getName());
-            }
-        } catch (NullPointerException e) {
-            log.error("Impossible to invoke method: " + "get" + fieldName + " because of an NullPointerException, " +
-                    "may be the incoming field :" + fieldName + " have not a getter");
-            try {
-                Field field = getField(object, fieldName);
-                if (field != null) {
-                    field.setAccessible(true);
-                    value = field.get(object);
+            return getter.get(object);
+        } catch (Throwable t) {
+            log.error("Impossible to invoke method: " + "get" + fieldName + " because of an " + t.getClass().getName());
+            PropertyAccessors.Accessor field = accessors.getFieldReader(fieldName);
+            if (field != null && field != getter) {
+                try {
+                    return field.get(object);
+                } catch (Throwable t1) {
+                    log.error("Impossible to get the value of the field: " + fieldName + " directly from the object: " +
+                            object + " because of an " + t1.getClass().getName());
                 }
-            } catch (IllegalAccessException e1) {
-                log.error("Impossible to get the value of the field: " + fieldName + " directly from the object: " +
-                        object + " because of an IllegalAccessException");
             }
         }
-        return value;
+        return null;
     }
 
     public Collection<Method> getGetterMethods(Class clazz) {
-        return CollectionUtils.select(getAllMethodsIncludingParents(clazz), METHOD_IS_GETTER_PREDICATE);
+        return new ArrayList<>(ClassMetadata.forClass(clazz).getGetterMethods());
     }
 
     public Field getField(Object object, final String fieldName) {
@@ -1781,7 +1783,7 @@ public class ReflectionUtils implements Serializable {
     }
 
     public Collection<Method> getGetterMethodsForField(Class clazz, final String fieldName) {
-        return CollectionUtils.select(getGetterMethods(clazz),
+        return CollectionUtils.select(ClassMetadata.forClass(clazz).getGetterMethods(),
                 method -> methodNameEqualsToPredicate(method, "get".concat(StringUtils.capitalize(fieldName))));
     }
 
@@ -1790,17 +1792,16 @@ public class ReflectionUtils implements Serializable {
     }
 
     public Method getMethod(Class clazz, String methodName) {
-        return IterableUtils.find(getAllMethodsIncludingParents(clazz),
-                method -> methodNameEqualsToPredicate(method, methodName));
+        return ClassMetadata.forClass(clazz).getMethod(methodName);
     }
 
     public Collection<Method> getSetterMethodsForField(Class clazz, final String fieldName) {
-        return CollectionUtils.select(getSetterMethods(clazz),
+        return CollectionUtils.select(ClassMetadata.forClass(clazz).getSetterMethods(),
                 method -> methodNameEqualsToPredicate(method, "set".concat(StringUtils.capitalize(fieldName))));
     }
 
     public Collection<Method> getSetterMethods(Class clazz) {
-        return CollectionUtils.select(getAllMethodsIncludingParents(clazz), METHOD_IS_SETTER_PREDICATE);
+        return new ArrayList<>(ClassMetadata.forClass(clazz).getSetterMethods());
     }
 
     public Object getValueFromCollectionImplementation(Object value) {
@@ -1843,7 +1844,7 @@ public class ReflectionUtils implements Serializable {
         Object result;
         final List<Object> objectClasses = new ArrayList(Arrays.asList(args));
         CollectionUtils.transform(objectClasses, CLASS_FROM_OBJECT_TRANSFORMER);
-        Collection<Method> methods = CollectionUtils.select(getAllMethodsIncludingParents(object.getClass()),
+        Collection<Method> methods = CollectionUtils.select(ClassMetadata.forClass(object.getClass()).getMethods(),
                 method -> methodNameEqualsToPredicate(method, methodName));
 
         Method method = IterableUtils.find(methods, (Predicate) o -> {
@@ -1897,7 +1898,7 @@ public class ReflectionUtils implements Serializable {
         final Collection<Object> objectClasses = new ArrayList(Arrays.asList(args));
 
         CollectionUtils.transform(objectClasses, CLASS_FROM_OBJECT_TRANSFORMER);
-        Collection<Method> methods = CollectionUtils.select(getAllMethodsIncludingParents(object.getClass()),
+        Collection<Method> methods = CollectionUtils.select(ClassMetadata.forClass(object.getClass()).getMethods(),
                 method -> methodNameEqualsToPredicate(method, voidName));
 
         Method method = IterableUtils.find(methods, (Predicate) o -> {
@@ -2994,6 +2995,30 @@ public class ReflectionUtils implements Serializable {
     public static void clearCache() {
         declaredMethodsCache.clear();
         declaredFieldsCache.clear();
+        ClassMetadata.clearCache();
+        PropertyAccessors.clearCache();
+        DeepCloner.getInstance().clearCache();
+        InitializationPlan.clearCache();
+        ObjectRenderer.clearCache();
+        ResolvedType.clearCache();
+    }
+
+    /**
+     * Clear every cached introspection result of the given class, e.g. once it has been
+     * removed from (or reloaded into) its class loader.
+     *
+     * @param clazz the class whose cached members must be dropped
+     */
+    public static void clearCache(Class<?> clazz) {
+        if (clazz != null) {
+            declaredMethodsCache.remove(clazz);
+            declaredFieldsCache.remove(clazz);
+            ClassMetadata.evict(clazz);
+            PropertyAccessors.evict(clazz);
+            DeepCloner.getInstance().evict(clazz);
+            InitializationPlan.evict(clazz);
+            ObjectRenderer.evict(clazz);
+        }
     }
 
 
@@ -0,0 +1,302 @@
+/*
+ * Copyright 2017 araguacaima
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.araguacaima.commons.utils;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+/**
+ * Immutable, fully resolved view of a {@link Type}: its raw class plus the resolved types of its arguments
+ * (or of its components, for arrays), nested at any depth, e.g. {@code List<Map<String, Foo>>}.
+ * <p>Wildcards are resolved to their bound ({@code ? extends Foo} and {@code ? super Foo} both to {@code Foo})
+ * and type variables to their first bound. The element type of collections and the key and value types of maps
+ * are resolved through the whole type hierarchy, so that {@code class FooList extends ArrayList<Foo>} is known
+ * to hold {@code Foo} elements.
+ * <p>Instances are memoized per {@link Type} and per {@link Field}, in {@link ConcurrentReferenceHashMap}s.
+ */
+public final class ResolvedType {
+
+    private static final ResolvedType[] EMPTY_ARRAY = new ResolvedType[0];
+    private static final Map<Field, ResolvedType> fieldsCache = new ConcurrentReferenceHashMap<>(256);
+    private static final Map<Type, ResolvedType> typesCache = new ConcurrentReferenceHashMap<>(256);
+    private static final ResolvedType OBJECT = new ResolvedType(Object.class, EMPTY_ARRAY, null);
+
+    private final ResolvedType componentType;
+    private final Class<?> rawType;
+    private final ResolvedType[] typeArguments;
+    private volatile ResolvedType[] collectionArguments;
+    private volatile ResolvedType[] mapArguments;
+
+    private ResolvedType(Class<?> rawType, ResolvedType[] typeArguments, ResolvedType componentType) {
+        this.rawType = rawType;
+        this.typeArguments = typeArguments;
+        this.componentType = componentType;
+    }
+
+    /**
+     * Resolve the given type, reusing the memoized result if it was already resolved.
+     *
+     * @param type the type to resolve
+     * @return the resolved type, or {@code null} if the given type is {@code null}
+     */
+    public static ResolvedType of(Type type) {
+        if (type == null) {
+            return null;
+        }
+        if (type == Object.class) {
+            return OBJECT;
+        }
+        ResolvedType resolved = typesCache.get(type);
+        if (resolved == null) {
+            resolved = resolve(type, Collections.emptyMap());
+            typesCache.put(type, resolved);
+        }
+        return resolved;
+    }
+
+    /**
+     * Resolve the generic type of the given field, reusing the memoized result if it was already resolved.
+     *
+     * @param field the field whose type must be resolved
+     * @return the resolved type
+     */
+    public static ResolvedType of(Field field) {
+        ResolvedType resolved = fieldsCache.get(field);
+        if (resolved == null) {
+            resolved = of(field.getGenericType());
+            fieldsCache.put(field, resolved);
+        }
+        return resolved;
+    }
+
+    /**
+     * Drop every memoized type.
+     */
+    public static void clearCache() {
+        fieldsCache.clear();
+        typesCache.clear();
+    }
+
+    private static ResolvedType resolve(Type type, Map<TypeVariable<?>, ResolvedType> bindings) {
+        if (type instanceof Class) {
+            Class<?> clazz = (Class<?>) type;
+            if (clazz == Object.class) {
+                return OBJECT;
+            }
+            return new ResolvedType(clazz, EMPTY_ARRAY, clazz.isArray() ? of(clazz.getComponentType()) : null);
+        }
+        if (type instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+            ResolvedType[] resolvedArguments = new ResolvedType[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                resolvedArguments[i] = resolve(arguments[i], bindings);
+            }
+            return new ResolvedType((Class<?>) ((ParameterizedType) type).getRawType(), resolvedArguments, null);
+        }
+        if (type instanceof GenericArrayType) {
+            ResolvedType component = resolve(((GenericArrayType) type).getGenericComponentType(), bindings);
+            return new ResolvedType(Array.newInstance(component.rawType, 0).getClass(), EMPTY_ARRAY, component);
+        }
+        if (type instanceof WildcardType) {
+            Type[] lowerBounds = ((WildcardType) type).getLowerBounds();
+            Type[] upperBounds = ((WildcardType) type).getUpperBounds();
+            return resolve(lowerBounds.length > 0 ? lowerBounds[0] : upperBounds.length > 0 ? upperBounds[0] :
+                    Object.class, bindings);
+        }
+        if (type instanceof TypeVariable) {
+            ResolvedType bound = bindings.get(type);
+            if (bound != null) {
+                return bound;
+            }
+            Type[] bounds = ((TypeVariable<?>) type).getBounds();
+            // a self referencing bound (T extends Comparable<T>) is resolved to its raw class only
+            return bounds.length == 0 ? OBJECT : of(rawClassOf(bounds[0]));
+        }
+        return OBJECT;
+    }
+
+    private static Class<?> rawClassOf(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        return Object.class;
+    }
+
+    /**
+     * Look for the given supertype in the hierarchy of {@code clazz} and resolve its type arguments, binding the
+     * type variables of {@code clazz} to the given arguments.
+     */
+    private static ResolvedType[] supertypeArguments(Class<?> clazz, ResolvedType[] arguments, Class<?> supertype) {
+        if (clazz == supertype) {
+            return arguments;
+        }
+        if (!supertype.isAssignableFrom(clazz)) {
+            return null;
+        }
+        TypeVariable<?>[] variables = clazz.getTypeParameters();
+        Map<TypeVariable<?>, ResolvedType> bindings = new HashMap<>();
+        for (int i = 0; i < variables.length && i < arguments.length; i++) {
+            bindings.put(variables[i], arguments[i]);
+        }
+        List<Type> parents = new ArrayList<>(Arrays.asList(clazz.getGenericInterfaces()));
+        if (clazz.getGenericSuperclass() != null) {
+            parents.add(0, clazz.getGenericSuperclass());
+        }
+        for (Type parent : parents) {
+            Class<?> parentClass = rawClassOf(parent);
+            if (!supertype.isAssignableFrom(parentClass)) {
+                continue;
+            }
+            ResolvedType[] parentArguments = EMPTY_ARRAY;
+            if (parent instanceof ParameterizedType) {
+                Type[] actualArguments = ((ParameterizedType) parent).getActualTypeArguments();
+                parentArguments = new ResolvedType[actualArguments.length];
+                for (int i = 0; i < actualArguments.length; i++) {
+                    parentArguments[i] = resolve(actualArguments[i], bindings);
+                }
+            }
+            ResolvedType[] result = supertypeArguments(parentClass, parentArguments, supertype);
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    public Class<?> getRawType() {
+        return rawType;
+    }
+
+    /**
+     * @return the resolved arguments declared for this type, empty if it is not a parameterized one
+     */
+    public List<ResolvedType> getTypeArguments() {
+        return Collections.unmodifiableList(Arrays.asList(typeArguments));
+    }
+
+    /**
+     * @param index the argument position
+     * @return the resolved argument at the given position, or {@code null} if there is none
+     */
+    public ResolvedType getTypeArgument(int index) {
+        return index < typeArguments.length ? typeArguments[index] : null;
+    }
+
+    /**
+     * @return the component type, if this is an array type, {@code null} otherwise
+     */
+    public ResolvedType getComponentType() {
+        return componentType;
+    }
+
+    public boolean isArray() {
+        return componentType != null;
+    }
+
+    public boolean isCollection() {
+        return Collection.class.isAssignableFrom(rawType);
+    }
+
+    public boolean isMap() {
+        return Map.class.isAssignableFrom(rawType);
+    }
+
+    /**
+     * @return the component type of arrays, the element type of collections ({@link Object} if unknown), or
+     * {@code null} for any other type
+     */
+    public ResolvedType getElementType() {
+        if (componentType != null) {
+            return componentType;
+        }
+        if (!isCollection()) {
+            return null;
+        }
+        ResolvedType[] arguments = collectionArguments;
+        if (arguments == null) {
+            arguments = supertypeArguments(rawType, typeArguments, Collection.class);
+            collectionArguments = arguments = arguments == null || arguments.length == 0 ? new ResolvedType[]{OBJECT} :
+                    arguments;
+        }
+        return arguments[0];
+    }
+
+    /**
+     * @return the key type of maps ({@link Object} if unknown), or {@code null} for any other type
+     */
+    public ResolvedType getKeyType() {
+        return isMap() ? mapArguments()[0] : null;
+    }
+
+    /**
+     * @return the value type of maps ({@link Object} if unknown), or {@code null} for any other type
+     */
+    public ResolvedType getValueType() {
+        return isMap() ? mapArguments()[1] : null;
+    }
+
+    private ResolvedType[] mapArguments() {
+        ResolvedType[] arguments = mapArguments;
+        if (arguments == null) {
+            arguments = supertypeArguments(rawType, typeArguments, Map.class);
+            mapArguments = arguments = arguments == null || arguments.length < 2 ? new ResolvedType[]{OBJECT, OBJECT}
+                    : arguments;
+        }
+        return arguments;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ResolvedType that = (ResolvedType) o;
+        return rawType == that.rawType && Arrays.equals(typeArguments, that.typeArguments);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * rawType.hashCode() + Arrays.hashCode(typeArguments);
+    }
+
+    @Override
+    public String toString() {
+        if (componentType != null) {
+            return componentType + "[]";
+        }
+        if (typeArguments.length == 0) {
+            return rawType.getName();
+        }
+        StringBuilder sb = new StringBuilder(rawType.getName()).append('<');
+        for (int i = 0; i < typeArguments.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(typeArguments[i]);
+        }
+        return sb.append('>').toString();
+    }
+}
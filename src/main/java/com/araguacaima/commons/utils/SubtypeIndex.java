@@ -0,0 +1,276 @@
+/*
+ * Copyright 2017 araguacaima
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.araguacaima.commons.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+/**
+ * Superclass/interface graph built from {@link ClassFileHeader}s, answering hierarchy questions without loading
+ * (hence without initializing) any class.
+ * <p>Classes are indexed explicitly, usually from a {@link ClasspathScanner} scan, and only indexed classes are
+ * returned as subtypes. Supertypes that are not indexed ({@code java.util.ArrayList} for a scanned
+ * {@code FooList extends ArrayList<Foo>}) have their headers read, as resources, through the class loader of the
+ * index, so that {@code FooList} is still known to implement {@code java.util.List}. At most
+ * {@link #MAX_RESOLVED} of those are kept at a time: past that, they are dropped and read again when needed.
+ */
+public final class SubtypeIndex {
+
+    /**
+     * Number of supertypes resolved through the class loader, found or not, kept before they are dropped.
+     */
+    static final int MAX_RESOLVED = 8192;
+    private static final Map<ClassLoader, SubtypeIndex> classLoadersCache = new ConcurrentReferenceHashMap<>(16);
+    private static final Logger log = LoggerFactory.getLogger(SubtypeIndex.class);
+
+    private final ClassLoader classLoader;
+    private final Map<String, Set<String>> directSubtypes = new HashMap<>();
+    private final Map<String, ClassFileHeader> headers = new HashMap<>();
+    private final Set<String> indexed = new LinkedHashSet<>();
+    private final Set<String> unresolvable = new HashSet<>();
+
+    /**
+     * @param classLoader the class loader used to resolve supertypes that are not indexed and to load matches,
+     *                    {@code null} for the system class loader
+     */
+    public SubtypeIndex(ClassLoader classLoader) {
+        this.classLoader = classLoader == null ? ClassLoader.getSystemClassLoader() : classLoader;
+    }
+
+    /**
+     * Get the shared, initially empty, index of the given class loader, meant for hierarchy queries about single
+     * classes: every class asked for is resolved through the class loader and kept.
+     *
+     * @param classLoader the class loader to resolve classes with, {@code null} for the system class loader
+     * @return the index of the class loader
+     */
+    public static SubtypeIndex forClassLoader(ClassLoader classLoader) {
+        ClassLoader key = classLoader == null ? ClassLoader.getSystemClassLoader() : classLoader;
+        return classLoadersCache.computeIfAbsent(key, SubtypeIndex::new);
+    }
+
+    /**
+     * Build an index holding every class found in the given scanned entries.
+     *
+     * @param entries     the scanned entries; those that are not class files are ignored
+     * @param classLoader the class loader of the index
+     * @return a new index
+     */
+    public static SubtypeIndex of(Collection<ClasspathScanner.Entry> entries, ClassLoader classLoader) {
+        SubtypeIndex index = new SubtypeIndex(classLoader);
+        for (ClasspathScanner.Entry entry : entries) {
+            if (entry.getHeader() != null) {
+                index.add(entry.getHeader());
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Drop the shared indexes of every class loader.
+     */
+    public static void clearCache() {
+        classLoadersCache.clear();
+    }
+
+    public synchronized void add(ClassFileHeader header) {
+        indexed.add(header.getClassName());
+        if (!headers.containsKey(header.getClassName())) {
+            register(header);
+        }
+    }
+
+    private void register(ClassFileHeader header) {
+        headers.put(header.getClassName(), header);
+        for (String parent : parentsOf(header)) {
+            directSubtypes.computeIfAbsent(parent, key -> new LinkedHashSet<>()).add(header.getClassName());
+            resolve(parent);
+        }
+    }
+
+    private static List<String> parentsOf(ClassFileHeader header) {
+        List<String> parents = new ArrayList<>(header.getInterfaces());
+        if (header.getSuperClassName() != null) {
+            parents.add(0, header.getSuperClassName());
+        }
+        return parents;
+    }
+
+    private ClassFileHeader resolve(String className) {
+        ClassFileHeader header = headers.get(className);
+        if (header != null || unresolvable.contains(className)) {
+            return header;
+        }
+        if (headers.size() - indexed.size() + unresolvable.size() >= MAX_RESOLVED) {
+            // indexed headers are kept, and the subtype links of those dropped are registered again when read
+            headers.keySet().retainAll(indexed);
+            unresolvable.clear();
+        }
+        try (InputStream in = classLoader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+            if (in != null) {
+                header = ClassFileHeader.read(new BufferedInputStream(in));
+            }
+        } catch (IOException e) {
+            log.debug("Unable to read the class header of '" + className + "': " + e.getMessage());
+        }
+        if (header == null) {
+            unresolvable.add(className);
+        } else {
+            register(header);
+        }
+        return header;
+    }
+
+    /**
+     * @param className the binary name of a class
+     * @return the header of the class, whether indexed or resolved through the class loader, or {@code null} if it
+     * can not be found
+     */
+    public synchronized ClassFileHeader getHeader(String className) {
+        return resolve(className);
+    }
+
+    /**
+     * @param className the binary name of a class
+     * @return the binary names of its superclasses, the nearest first, up to the last one that could be resolved
+     */
+    public synchronized List<String> getSuperclasses(String className) {
+        return getSuperclasses(resolve(className));
+    }
+
+    /**
+     * @param header the header of a class, which is not added to the index
+     * @return the binary names of its superclasses, the nearest first, up to the last one that could be resolved
+     */
+    public synchronized List<String> getSuperclasses(ClassFileHeader header) {
+        List<String> superclasses = new ArrayList<>();
+        while (header != null && header.getSuperClassName() != null) {
+            superclasses.add(header.getSuperClassName());
+            header = resolve(header.getSuperClassName());
+        }
+        return superclasses;
+    }
+
+    /**
+     * @param className the binary name of a class
+     * @return the binary names of all its superclasses and interfaces, direct or not
+     */
+    public synchronized Set<String> getSupertypes(String className) {
+        return getSupertypes(resolve(className));
+    }
+
+    /**
+     * @param header the header of a class, which is not added to the index
+     * @return the binary names of all its superclasses and interfaces, direct or not
+     */
+    public synchronized Set<String> getSupertypes(ClassFileHeader header) {
+        Set<String> supertypes = new LinkedHashSet<>();
+        Deque<ClassFileHeader> pending = new ArrayDeque<>();
+        if (header != null) {
+            pending.add(header);
+        }
+        while (!pending.isEmpty()) {
+            header = pending.poll();
+            for (String parent : parentsOf(header)) {
+                if (supertypes.add(parent)) {
+                    ClassFileHeader parentHeader = resolve(parent);
+                    if (parentHeader != null) {
+                        pending.add(parentHeader);
+                    }
+                }
+            }
+        }
+        return supertypes;
+    }
+
+    /**
+     * @param className the binary name of a class
+     * @return the binary names of all the interfaces it implements, directly, through its superclasses or
+     * through other interfaces
+     */
+    public synchronized Set<String> getInterfaces(String className) {
+        return getInterfaces(resolve(className));
+    }
+
+    /**
+     * @param header the header of a class, which is not added to the index
+     * @return the binary names of all the interfaces it implements, directly, through its superclasses or
+     * through other interfaces
+     */
+    public synchronized Set<String> getInterfaces(ClassFileHeader header) {
+        Set<String> interfaces = new LinkedHashSet<>();
+        for (String supertype : getSupertypes(header)) {
+            ClassFileHeader supertypeHeader = resolve(supertype);
+            if (supertypeHeader != null && supertypeHeader.isInterface()) {
+                interfaces.add(supertype);
+            }
+        }
+        return interfaces;
+    }
+
+    /**
+     * @param typeName the binary name of a class or interface, indexed or not
+     * @return the binary names, sorted, of every indexed class or interface that extends or implements the given
+     * type, directly or not
+     */
+    public synchronized List<String> getSubtypes(String typeName) {
+        List<String> subtypes = new ArrayList<>();
+        Set<String> visited = new HashSet<>();
+        Deque<String> pending = new ArrayDeque<>();
+        pending.add(typeName);
+        while (!pending.isEmpty()) {
+            for (String subtype : directSubtypes.getOrDefault(pending.poll(), Collections.emptySet())) {
+                if (visited.add(subtype)) {
+                    if (indexed.contains(subtype)) {
+                        subtypes.add(subtype);
+                    }
+                    pending.add(subtype);
+                }
+            }
+        }
+        Collections.sort(subtypes);
+        return subtypes;
+    }
+
+    /**
+     * Load, without initializing them, the indexed subtypes of the given type. Classes that can not be loaded are
+     * skipped.
+     *
+     * @param typeName the binary name of a class or interface, indexed or not
+     * @return the subtypes, sorted by name
+     * @see #getSubtypes(String)
+     */
+    public List<Class<?>> loadSubtypes(String typeName) {
+        List<Class<?>> classes = new ArrayList<>();
+        for (String subtype : getSubtypes(typeName)) {
+            try {
+                classes.add(Class.forName(subtype, false, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                log.debug("Unable to load class '" + subtype + "': " + e.getMessage());
+            }
+        }
+        return classes;
+    }
+}
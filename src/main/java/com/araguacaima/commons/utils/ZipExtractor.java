@@ -0,0 +1,164 @@
+/*
+ * Copyright 2017 araguacaima
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.araguacaima.commons.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Extracts zip and jar archives through the random access of {@link ZipFile}, inflating their entries in parallel.
+ * <p>The whole directory skeleton is created first, once, then the files are written by at most
+ * {@link #getParallelism()} threads at a time through a {@link FileTransfer}, which reuses large buffers between
+ * entries. Files keep the modification time of their entries.
+ * <p>Entries resolving outside of the output folder, through {@code ..} segments or absolute names ("zip slip"),
+ * make the whole extraction fail before anything is written. Entries resolving to the same file, through duplicated
+ * names or names such as {@code a/./b} and {@code a/b}, are written once, from the last of them.
+ * <p>Instances are immutable and may be shared between threads.
+ */
+public final class ZipExtractor {
+
+    private final FileTransfer fileTransfer;
+    private final int parallelism;
+
+    public ZipExtractor() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param parallelism Greatest number of entries extracted at a time
+     * @throws IllegalArgumentException If parallelism is not positive
+     */
+    public ZipExtractor(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive, got " + parallelism);
+        }
+        this.parallelism = parallelism;
+        this.fileTransfer = new FileTransfer(parallelism, null);
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Extract every entry of an archive, replacing the files that already exist.
+     *
+     * @param archive      Zip or jar file to extract
+     * @param outputFolder Folder to extract it into, created if it does not exist
+     * @return The number of files extracted
+     * @throws IOException If the archive can not be read, if any of its entries resolves outside of the output
+     *                     folder, or if a file can not be written, in which case the files not written yet are
+     *                     skipped
+     * @throws RuntimeException If writing a file failed unexpectedly, such as a SecurityException thrown by a
+     *                          security manager
+     */
+    public int extract(File archive, File outputFolder)
+            throws IOException {
+        Path root = outputFolder.toPath().toAbsolutePath().normalize();
+        try (ZipFile zip = new ZipFile(archive)) {
+            Set<Path> directories = new TreeSet<>();
+            directories.add(root);
+            Map<Path, ZipEntry> files = new LinkedHashMap<>();
+            for (Enumeration<? extends ZipEntry> entries = zip.entries(); entries.hasMoreElements(); ) {
+                ZipEntry entry = entries.nextElement();
+                Path target = root.resolve(entry.getName()).normalize();
+                if (!target.startsWith(root)) {
+                    throw new IOException("Entry '" + entry.getName() + "' of '" + archive + "' is outside of the "
+                            + "target directory '" + root + "'");
+                }
+                if (entry.isDirectory()) {
+                    directories.add(target);
+                } else if (!target.equals(root)) {
+                    directories.add(target.getParent());
+                    files.put(target, entry);
+                }
+            }
+            for (Path directory : directories) {
+                Files.createDirectories(directory);
+            }
+            extract(zip, files);
+            return files.size();
+        }
+    }
+
+    private void extract(ZipFile zip, Map<Path, ZipEntry> files)
+            throws IOException {
+        if (parallelism == 1 || files.size() < 2) {
+            for (Map.Entry<Path, ZipEntry> file : files.entrySet()) {
+                extract(zip, file.getValue(), file.getKey());
+            }
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        try {
+            for (Map.Entry<Path, ZipEntry> file : files.entrySet()) {
+                executor.execute(() -> {
+                    try {
+                        if (failure.get() == null) {
+                            extract(zip, file.getValue(), file.getKey());
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+                failure.compareAndSet(null, new InterruptedIOException("Interrupted while extracting '" + zip.getName()
+                        + "'"));
+            }
+        }
+        Exception e = failure.get();
+        if (e instanceof IOException) {
+            throw (IOException) e;
+        } else if (e != null) {
+            throw (RuntimeException) e;
+        }
+    }
+
+    private void extract(ZipFile zip, ZipEntry entry, Path target)
+            throws IOException {
+        try (InputStream in = zip.getInputStream(entry)) {
+            fileTransfer.copy(in, target.toFile());
+        }
+        long time = entry.getTime();
+        if (time != -1) {
+            Files.setLastModifiedTime(target, FileTime.fromMillis(time));
+        }
+    }
+}
@@ -19,22 +19,16 @@
 
 package com.araguacaima.commons.utils;
 
-import org.apache.commons.io.FileUtils;
-
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
-import java.util.zip.ZipInputStream;
 
 @SuppressWarnings("ResultOfMethodCallIgnored")
 
 public class ZipUtils {
 
     private static final ZipUtils INSTANCE = new ZipUtils();
-    ;
+    private final ZipExtractor zipExtractor = new ZipExtractor();
 
     private ZipUtils() {
         if (INSTANCE != null) {
@@ -63,50 +57,11 @@ public class ZipUtils {
      *
      * @param zipFile      input zip file
      * @param outputFolder zip file output folder
+     * @see ZipExtractor
      */
     public void unZip(File zipFile, File outputFolder) {
-
-        byte[] buffer = new byte[1024];
-
         try {
-
-            //create output directory is not exists
-            if (!outputFolder.exists() && !outputFolder.isDirectory()) {
-                outputFolder.mkdir();
-            }
-
-            //get the zip file content
-            ZipInputStream zis = new ZipInputStream(new FileInputStream(zipFile));
-            //get the zipped file list entry
-            ZipEntry ze = zis.getNextEntry();
-
-            while (ze != null) {
-
-                String fileName = ze.getName();
-                File newFile = new File(outputFolder + File.separator + fileName);
-
-                //create all non exists folders
-                //else you will hit FileNotFoundException for compressed folder
-                if (ze.isDirectory()) {
-                    FileUtils.forceMkdir(newFile);
-                } else {
-                    FileUtils.forceMkdir(new File(newFile.getParent()));
-
-                    FileOutputStream fos = new FileOutputStream(newFile);
-
-                    int len;
-                    while ((len = zis.read(buffer)) > 0) {
-                        fos.write(buffer, 0, len);
-                    }
-
-                    fos.close();
-                }
-                ze = zis.getNextEntry();
-            }
-
-            zis.closeEntry();
-            zis.close();
-
+            zipExtractor.extract(zipFile, outputFolder);
         } catch (IOException ex) {
             ex.printStackTrace();
         }
@@ -1,18 +1,16 @@
 package com.araguacaima.commons.utils.file;
 
+import com.araguacaima.commons.utils.ClassFileHeader;
 import com.araguacaima.commons.utils.ClassLoaderUtils;
+import com.araguacaima.commons.utils.ClasspathScanner;
 import com.araguacaima.commons.utils.StringUtils;
-import jreversepro.parser.ClassParserException;
-import jreversepro.reflect.JClassInfo;
-import jreversepro.revengine.JSerializer;
+import com.araguacaima.commons.utils.SubtypeIndex;
 
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
 
 
 public class FileUtilsFilenameFilterExtends extends FileUtilsFilenameFilterImpl {
@@ -43,130 +41,66 @@ public class FileUtilsFilenameFilterExtends extends FileUtilsFilenameFilterImpl
         this.filterType = filterType;
     }
 
+    /**
+     * Accepts class files whose superclasses, other than {@link Object}, include one matching the criteria. The
+     * hierarchy is read from the class file headers, no class is loaded.
+     */
     public boolean accept(File dir, String name) {
 
         if (dir == null || superClassCriteria == null) {
             return true;
         }
-        boolean isValidClass = name.endsWith(".class");
-        boolean result;
-        if (isValidClass) {
-            Class clazz = Object.class;
-            JSerializer jSerializer = new JSerializer();
-            JClassInfo infoClass;
-            try {
-                File file = new File(name);
-                infoClass = jSerializer.loadClass(file);
-                clazz = Class.forName(infoClass.getThisClass(true).replaceAll(StringUtils.SLASH, "."));
-            } catch (ClassNotFoundException | IOException | ClassParserException | NoClassDefFoundError ignored) {
-            }
-            if (clazz == Object.class) {
-                try {
-                    String[] jarTokens = name.split(".jar");
-                    String classFile = jarTokens[1].replaceFirst("\\.class",
-                            StringUtils.EMPTY).replaceAll(StringUtils.DOUBLEBACKSLASH, ".");
-                    classFile = classFile.indexOf(".") == 0 ? classFile.replaceFirst(".",
-                            StringUtils.EMPTY) : classFile;
-                    clazz = classLoader.loadClass(classFile).getSuperclass();
-
-                } catch (ClassNotFoundException | NullPointerException | NoClassDefFoundError |
-                        StringIndexOutOfBoundsException ignored) {
-                } catch (ArrayIndexOutOfBoundsException ignored) {
-                    String classname = stringUtils.replaceLast(name.replaceAll(StringUtils.BACKSLASH + StringUtils
-                                    .BACKSLASH,
-                            ".").replaceAll(StringUtils.SLASH, "."), ".class", StringUtils.EMPTY);
-                    try {
-                        clazz = classLoader.loadClass(classname).getSuperclass();
-                    } catch (NoClassDefFoundError ignored1) {
-                    } catch (ClassNotFoundException ignored2) {
-                        try {
-                            List folders = Arrays.asList(dir.getPath().split(File.separator.equals(StringUtils.SLASH)
-                                    ? StringUtils.SLASH : StringUtils.BACKSLASH + StringUtils.BACKSLASH));
-                            Collections.reverse(folders);
-                            String classPackage = StringUtils.EMPTY;
-                            for (Object folder : folders) {
-                                try {
-                                    classPackage = folder + "." + classPackage;
-                                    clazz = classLoader.loadClass(classPackage + classname);
-                                    break;
-                                } catch (ClassNotFoundException ignored4) {
-                                }
-                            }
-                            if (clazz == Object.class) {
-                                throw new Exception("The related classname '" + name + "' is not found");
-                            }
-                            clazz = clazz.getSuperclass();
-                        } catch (Exception ignored3) {
-
-                        }
-                    }
-                }
+        if (!name.endsWith(".class")) {
+            return false;
+        }
+        ClassFileHeader header = ClasspathScanner.getInstance().getHeader(dir, name);
+        if (header == null) {
+            return false;
+        }
+        for (String superClassName : SubtypeIndex.forClassLoader(classLoader).getSuperclasses(header)) {
+            if (!Object.class.getName().equals(superClassName) && matchesCriteria(superClassName)) {
+                return true;
             }
-            result = checkWhetherOrNotSuperclassesExtendsCriteria(clazz);
-        } else {
-            result = false;
         }
-        return result;
+        return false;
     }
 
-    private boolean checkWhetherOrNotSuperclassesExtendsCriteria(Class clazz) {
-        boolean result;
-        if (clazz != null && clazz != Object.class) {
-            String clazzName = clazz.getName();
-            switch (filterType) {
-                case RESOURCE_FILE_FILTER_EQUALS:
-                case RESOURCE_DIR_OR_FILE_FILTER_EQUALS:
-                    result = clazzName.equals(superClassCriteria.getName());
-                    break;
-                case RESOURCE_FILE_FILTER_MATCHES:
-                case RESOURCE_DIR_OR_FILE_FILTER_MATCHES:
-                    result = clazzName.matches(superClassCriteria.getName());
-                    break;
-                case RESOURCE_FILE_FILTER_STARTS:
-                case RESOURCE_DIR_OR_FILE_FILTER_STARTS:
-                    result = clazzName.startsWith(superClassCriteria.getName());
-                    break;
-                case RESOURCE_FILE_FILTER_ENDS:
-                case RESOURCE_DIR_OR_FILE_FILTER_ENDS:
-                    result = clazzName.endsWith(superClassCriteria.getName());
-                    break;
-                case RESOURCE_FILE_FILTER_CONTAINS:
-                case RESOURCE_DIR_OR_FILE_FILTER_CONTAINS:
-                    result = clazzName.contains(superClassCriteria.getName());
-                    break;
-                case RESOURCE_FILE_FILTER_NOT_EQUAL:
-                case RESOURCE_DIR_OR_FILE_FILTER_NOT_EQUAL:
-                    result = !clazzName.equals(superClassCriteria.getName());
-                    break;
-                case RESOURCE_FILE_FILTER_NOT_MATCHES:
-                case RESOURCE_DIR_OR_FILE_FILTER_NOT_MATCHES:
-                    result = !clazzName.matches(superClassCriteria.getName());
-                    break;
-                case RESOURCE_FILE_FILTER_NOT_STARTS:
-                case RESOURCE_DIR_OR_FILE_FILTER_NOT_STARTS:
-                    result = !clazzName.startsWith(superClassCriteria.getName());
-                    break;
-                case RESOURCE_FILE_FILTER_NOT_ENDS:
-                case RESOURCE_DIR_OR_FILE_FILTER_NOT_ENDS:
-                    result = !clazzName.endsWith(superClassCriteria.getName());
-                    break;
-                case RESOURCE_FILE_FILTER_NOT_CONTAINS:
-                case RESOURCE_DIR_OR_FILE_FILTER_NOT_CONTAINS:
-                    result = !clazzName.contains(superClassCriteria.getName());
-                    break;
-
-                default:
-                    result = false;
-                    break;
-            }
-            if (!result) {
-                Class superClass = clazz.getSuperclass();
-                return checkWhetherOrNotSuperclassesExtendsCriteria(superClass);
-            }
-            return true;
+    private boolean matchesCriteria(String clazzName) {
+        switch (filterType) {
+            case RESOURCE_FILE_FILTER_EQUALS:
+            case RESOURCE_DIR_OR_FILE_FILTER_EQUALS:
+                return clazzName.equals(superClassCriteria.getName());
+            case RESOURCE_FILE_FILTER_MATCHES:
+            case RESOURCE_DIR_OR_FILE_FILTER_MATCHES:
+                return clazzName.matches(superClassCriteria.getName());
+            case RESOURCE_FILE_FILTER_STARTS:
+            case RESOURCE_DIR_OR_FILE_FILTER_STARTS:
+                return clazzName.startsWith(superClassCriteria.getName());
+            case RESOURCE_FILE_FILTER_ENDS:
+            case RESOURCE_DIR_OR_FILE_FILTER_ENDS:
+                return clazzName.endsWith(superClassCriteria.getName());
+            case RESOURCE_FILE_FILTER_CONTAINS:
+            case RESOURCE_DIR_OR_FILE_FILTER_CONTAINS:
+                return clazzName.contains(superClassCriteria.getName());
+            case RESOURCE_FILE_FILTER_NOT_EQUAL:
+            case RESOURCE_DIR_OR_FILE_FILTER_NOT_EQUAL:
+                return !clazzName.equals(superClassCriteria.getName());
+            case RESOURCE_FILE_FILTER_NOT_MATCHES:
+            case RESOURCE_DIR_OR_FILE_FILTER_NOT_MATCHES:
+                return !clazzName.matches(superClassCriteria.getName());
+            case RESOURCE_FILE_FILTER_NOT_STARTS:
+            case RESOURCE_DIR_OR_FILE_FILTER_NOT_STARTS:
+                return !clazzName.startsWith(superClassCriteria.getName());
+            case RESOURCE_FILE_FILTER_NOT_ENDS:
+            case RESOURCE_DIR_OR_FILE_FILTER_NOT_ENDS:
+                return !clazzName.endsWith(superClassCriteria.getName());
+            case RESOURCE_FILE_FILTER_NOT_CONTAINS:
+            case RESOURCE_DIR_OR_FILE_FILTER_NOT_CONTAINS:
+                return !clazzName.contains(superClassCriteria.getName());
+
+            default:
+                return false;
         }
-
-        return false;
     }
 
     public int getFilterType() {
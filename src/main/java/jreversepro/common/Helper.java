@@ -25,7 +25,6 @@ package jreversepro.common;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -69,32 +68,11 @@ public class Helper implements KeyWords {
      * <code>( int , int , java/lang/String )</code>.
      *
      * @param aSignature Signature of the method.
-     * @return The method arguments as a List
+     * @return The method arguments as a List, that can not be modified.
+     * @see JMethodDescriptor
      */
     public static List getArguments(String aSignature) {
-        List<String> args = new ArrayList<>();
-        int endIndex = aSignature.indexOf(")");
-        if (endIndex != 1) {
-            aSignature = aSignature.substring(1, endIndex);
-
-            String origStr = aSignature;
-            int length = origStr.length();
-            //Start Processing Rhs
-            int curIndex = 0;
-
-            while (curIndex < length) {
-                aSignature = origStr.substring(curIndex);
-                int tokenLength = getSignTokenLength(aSignature);
-                String tokenString = aSignature.substring(0, tokenLength);
-                int semiColon = tokenString.indexOf(";");
-                if (semiColon != -1) {
-                    tokenString = tokenString.substring(0, semiColon);
-                }
-                args.add(tokenString);
-                curIndex += tokenLength;
-            }
-        }
-        return args;
+        return JMethodDescriptor.getInstance(aSignature).getArguments();
     }
 
     /**
@@ -124,48 +102,7 @@ public class Helper implements KeyWords {
      * @return Java Language representation of aDataType.
      */
     public static String getJavaDataType(String aDataType, boolean associated) {
-
-        char firstChar = aDataType.charAt(0);
-
-        if (aDataType.length() == 1) {
-            switch (firstChar) {
-                case 'B':
-                    return "byte";
-                case 'C':
-                    return "char";
-                case 'D':
-                    return "double";
-                case 'F':
-                    return "float";
-                case 'I':
-                    return "int";
-                case 'J':
-                    return "long";
-                case 'S':
-                    return "short";
-                case 'V':
-                    return "void";
-                case 'Z':
-                    return "boolean";
-                default:
-                    return "invalid";
-            }
-        } else if (firstChar == '[') {
-            String type = getJavaDataType(aDataType.substring(1), associated);
-            if (!associated) {
-                return type + "[]";
-            } else {
-                return type;
-            }
-        } else if (firstChar == 'L') {
-            int len = aDataType.length();
-            if (!aDataType.contains(";")) {
-                return aDataType.substring(1);
-            } else {
-                return aDataType.substring(1, len - 1);
-            }
-        }
-        return aDataType;
+        return JFieldDescriptor.getInstance(aDataType).getJavaType(associated);
     }
 
     /**
@@ -202,7 +139,10 @@ public class Helper implements KeyWords {
      */
     public static String getReturnType(String aSignature) {
         int index = aSignature.indexOf(")");
-        return aSignature.substring(index + 1);
+        if (index < 1) {
+            return aSignature.substring(index + 1);
+        }
+        return JMethodDescriptor.getInstance(aSignature).getReturnType();
     }
 
     /**
@@ -225,8 +165,24 @@ public class Helper implements KeyWords {
      * @return the length of the first valid datatype.
      */
     public static int getSignTokenLength(String aDataType) {
-        char ch = aDataType.charAt(0);
-        switch (ch) {
+        return getSignTokenLength(aDataType, 0);
+    }
+
+    /**
+     * Determines the length of the JVM datatype representation
+     * that begins at the given index of a signature.
+     *
+     * @param aSignature Signature containing a list of datatypes.
+     * @param aIndex     Index of the first character of the datatype.
+     * @return the length of the datatype, 0 if it is not valid.
+     * @see #getSignTokenLength(String)
+     */
+    static int getSignTokenLength(String aSignature, int aIndex) {
+        int index = aIndex;
+        while (aSignature.charAt(index) == '[') {
+            index++;
+        }
+        switch (aSignature.charAt(index)) {
             case 'B':
             case 'C':
             case 'D':
@@ -236,18 +192,16 @@ public class Helper implements KeyWords {
             case 'S':
             case 'V':
             case 'Z':
-                return 1;
-            case '[':
-                return (getSignTokenLength(aDataType.substring(1)) + 1);
+                return index + 1 - aIndex;
             case 'L':
-                int semiColon = aDataType.indexOf(";");
+                int semiColon = aSignature.indexOf(";", index);
                 if (semiColon == -1) {
-                    return aDataType.length();
+                    return aSignature.length() - aIndex;
                 } else {
-                    return (semiColon + 1);
+                    return semiColon + 1 - aIndex;
                 }
             default:
-                return 0;
+                return index == aIndex ? 0 : index - aIndex;
         }
     }
 
@@ -0,0 +1,200 @@
+/*
+ * @(#)JFieldDescriptor.java
+ *
+ * JReversePro - Java Decompiler / Disassembler.
+ * Copyright (C) 2000 2001 Karthik Kumar.
+ * EMail: akkumar@users.sourceforge.net
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it , under the terms of the GNU General Public License as published
+ * by the Free Software Foundation; either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program.If not, write to
+ *  The Free Software Foundation, Inc.,
+ *  59 Temple Place - Suite 330,
+ *  Boston, MA 02111-1307, USA.
+ */
+package jreversepro.common;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <b>JFieldDescriptor</b> is a parsed JVM data type, such as
+ * <code>I</code>, <code>[J</code> or <code>Ljava/lang/String;</code>,
+ * with its Java representation and the number of local variable
+ * slots it takes.
+ * <br>Descriptors are immutable and interned: there is one instance per
+ * distinct descriptor, shared by all threads.
+ *
+ * @author Karthik Kumar
+ * @see Helper#getJavaDataType(String, boolean)
+ */
+public final class JFieldDescriptor {
+
+    /**
+     * Number of descriptors kept before the cache is emptied.
+     */
+    private static final int MAX_CACHED = 8192;
+    /**
+     * Interned descriptors.
+     * Key - JVM representation, Value - JFieldDescriptor.
+     */
+    private static final Map<String, JFieldDescriptor> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * JVM representation of the data type.
+     */
+    private final String descriptor;
+    /**
+     * Java representation, with the array dimensions.
+     */
+    private final String javaType;
+    /**
+     * Java representation of the array element type.
+     */
+    private final String elementType;
+    /**
+     * Number of local variable slots.
+     */
+    private final int slots;
+
+    /**
+     * @param aDescriptor JVM representation of the data type.
+     */
+    private JFieldDescriptor(String aDescriptor) {
+        descriptor = aDescriptor;
+        char firstChar = aDescriptor.charAt(0);
+        if (aDescriptor.length() == 1) {
+            javaType = getBasicType(firstChar);
+            elementType = javaType;
+        } else if (firstChar == '[') {
+            JFieldDescriptor component = getInstance(aDescriptor.substring(1));
+            javaType = component.javaType + "[]";
+            elementType = component.elementType;
+        } else if (firstChar == 'L') {
+            int len = aDescriptor.length();
+            if (!aDescriptor.contains(";")) {
+                javaType = aDescriptor.substring(1);
+            } else {
+                javaType = aDescriptor.substring(1, len - 1);
+            }
+            elementType = javaType;
+        } else {
+            javaType = aDescriptor;
+            elementType = javaType;
+        }
+        slots = getSlotCount(aDescriptor);
+    }
+
+    /**
+     * Returns the descriptor of the given data type, parsing it
+     * the first time it is asked for.
+     *
+     * @param aDescriptor JVM representation of the data type.
+     * @return the interned descriptor.
+     * @throws StringIndexOutOfBoundsException Thrown if the descriptor
+     *                                         is empty.
+     */
+    public static JFieldDescriptor getInstance(String aDescriptor) {
+        JFieldDescriptor result = CACHE.get(aDescriptor);
+        if (result == null) {
+            result = new JFieldDescriptor(aDescriptor);
+            if (CACHE.size() >= MAX_CACHED) {
+                CACHE.clear();
+            }
+            JFieldDescriptor previous = CACHE.putIfAbsent(aDescriptor, result);
+            if (previous != null) {
+                result = previous;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param aType JVM representation of a basic data type.
+     * @return Java representation of the basic data type.
+     */
+    private static String getBasicType(char aType) {
+        switch (aType) {
+            case 'B':
+                return "byte";
+            case 'C':
+                return "char";
+            case 'D':
+                return "double";
+            case 'F':
+                return "float";
+            case 'I':
+                return "int";
+            case 'J':
+                return "long";
+            case 'S':
+                return "short";
+            case 'V':
+                return "void";
+            case 'Z':
+                return "boolean";
+            default:
+                return "invalid";
+        }
+    }
+
+    /**
+     * @param aDescriptor JVM representation of a data type.
+     * @return Returns the number of local variable slots a value of
+     * that type takes: 2 for long and double, 0 for void and 1 for
+     * the others.
+     */
+    static int getSlotCount(String aDescriptor) {
+        if (aDescriptor.length() != 1) {
+            return aDescriptor.isEmpty() ? 0 : 1;
+        }
+        switch (aDescriptor.charAt(0)) {
+            case 'J':
+            case 'D':
+                return 2;
+            case 'V':
+                return 0;
+            default:
+                return 1;
+        }
+    }
+
+    /**
+     * @return Returns the JVM representation.
+     */
+    public String getDescriptor() {
+        return descriptor;
+    }
+
+    /**
+     * @param associated If set, the type of the array elements is
+     *                   returned, without the dimensions.
+     * @return Returns the Java representation.
+     * @see Helper#getJavaDataType(String, boolean)
+     */
+    public String getJavaType(boolean associated) {
+        return associated ? elementType : javaType;
+    }
+
+    /**
+     * @return Returns the number of local variable slots taken.
+     */
+    public int getSlotCount() {
+        return slots;
+    }
+
+    /**
+     * @return Returns the JVM representation.
+     */
+    public String toString() {
+        return descriptor;
+    }
+}
@@ -22,6 +22,8 @@
  **/
 package jreversepro.common;
 
+import java.util.Arrays;
+
 /**
  * This contains the instruction set of the JVM.
  *
@@ -29,6 +31,37 @@ package jreversepro.common;
  */
 public class JJvmSet implements JJvmOpcodes {
 
+    /**
+     * Property of the conditional branch instructions.
+     */
+    public static final int FLAG_IF = 0x01;
+    /**
+     * Property of tableswitch and lookupswitch.
+     */
+    public static final int FLAG_SWITCH = 0x02;
+    /**
+     * Property of the instructions invoking methods.
+     */
+    public static final int FLAG_INVOKE = 0x04;
+    /**
+     * Property of the instructions that usually end a
+     * statement of the source code.
+     */
+    public static final int FLAG_END_OF_LINE = 0x08;
+    /**
+     * Property of the instructions that may end a catch block.
+     */
+    public static final int FLAG_END_OF_CATCH = 0x10;
+    /**
+     * Variable index of the opcodes that load or store a
+     * variable given by their argument.
+     */
+    public static final int VAR_FROM_ARG = -1;
+    /**
+     * Variable index of the opcodes that neither load nor store
+     * a variable.
+     */
+    public static final int VAR_NONE = -2;
     /**
      * Length of the variable length opcode lookupswitch
      */
@@ -46,6 +79,20 @@ public class JJvmSet implements JJvmOpcodes {
      * opcode.
      */
     private static final String[] sOpCode;
+    /**
+     * sFlags array contains the FLAG_ properties of each opcode.
+     */
+    private static final int[] sFlags;
+    /**
+     * sLoadVar array contains the variable loaded by each opcode,
+     * VAR_FROM_ARG or VAR_NONE.
+     */
+    private static final byte[] sLoadVar;
+    /**
+     * sStoreVar array contains the variable stored by each opcode,
+     * VAR_FROM_ARG or VAR_NONE.
+     */
+    private static final byte[] sStoreVar;
 
     /*
       Initializes thr JVM Opcode set.
@@ -71,6 +118,11 @@ public class JJvmSet implements JJvmOpcodes {
         assign12();
         assign13();
         assign14();
+
+        sFlags = new int[256];
+        sLoadVar = new byte[256];
+        sStoreVar = new byte[256];
+        assignProperties();
     }
     // Not to be instantiated.
 
@@ -80,6 +132,58 @@ public class JJvmSet implements JJvmOpcodes {
     private JJvmSet() {
     }
 
+    /**
+     * Assigns the properties and the variables referred to by each
+     * opcode.
+     */
+    private static void assignProperties() {
+        for (int op = OPCODE_IFEQ; op <= OPCODE_IF_ACMPNE; op++) {
+            sFlags[op] |= FLAG_IF;
+        }
+        sFlags[OPCODE_IFNULL] |= FLAG_IF;
+        sFlags[OPCODE_IFNONNULL] |= FLAG_IF;
+
+        sFlags[OPCODE_TABLESWITCH] |= FLAG_SWITCH;
+        sFlags[OPCODE_LOOKUPSWITCH] |= FLAG_SWITCH;
+
+        sFlags[OPCODE_INVOKESPECIAL] |= FLAG_INVOKE;
+        sFlags[OPCODE_INVOKEVIRTUAL] |= FLAG_INVOKE;
+        sFlags[OPCODE_INVOKESTATIC] |= FLAG_INVOKE;
+        sFlags[OPCODE_INVOKEINTERFACE] |= FLAG_INVOKE;
+
+        for (int op = OPCODE_ISTORE; op <= OPCODE_SASTORE; op++) {
+            sFlags[op] |= FLAG_END_OF_LINE;
+        }
+        int[] endOfLine = {OPCODE_IINC, OPCODE_RETURN, OPCODE_IRETURN, OPCODE_LRETURN, OPCODE_FRETURN,
+                OPCODE_DRETURN, OPCODE_ARETURN, OPCODE_ATHROW, OPCODE_PUTSTATIC, OPCODE_PUTFIELD, OPCODE_POP,
+                OPCODE_POP2};
+        for (int op : endOfLine) {
+            sFlags[op] |= FLAG_END_OF_LINE;
+        }
+        int[] endOfCatch = {OPCODE_ARETURN, OPCODE_IRETURN, OPCODE_LRETURN, OPCODE_FRETURN, OPCODE_DRETURN,
+                OPCODE_RETURN, OPCODE_POP, OPCODE_ATHROW, OPCODE_JSR, OPCODE_JSRW};
+        for (int op : endOfCatch) {
+            sFlags[op] |= FLAG_END_OF_CATCH;
+        }
+
+        Arrays.fill(sLoadVar, (byte) VAR_NONE);
+        Arrays.fill(sStoreVar, (byte) VAR_NONE);
+        //iload, lload, fload, dload, aload and their _0 to _3 forms
+        //are laid out in the same order, and so are the stores.
+        for (int op = OPCODE_ILOAD; op <= OPCODE_ALOAD; op++) {
+            sLoadVar[op] = VAR_FROM_ARG;
+        }
+        for (int op = OPCODE_ILOAD_0; op <= OPCODE_ALOAD_3; op++) {
+            sLoadVar[op] = (byte) ((op - OPCODE_ILOAD_0) % 4);
+        }
+        for (int op = OPCODE_ISTORE; op <= OPCODE_ASTORE; op++) {
+            sStoreVar[op] = VAR_FROM_ARG;
+        }
+        for (int op = OPCODE_ISTORE_0; op <= OPCODE_ASTORE_3; op++) {
+            sStoreVar[op] = (byte) ((op - OPCODE_ISTORE_0) % 4);
+        }
+    }
+
     /**
      * Assigns opcode information for opcodes 0-15.
      */
@@ -952,4 +1056,39 @@ public class JJvmSet implements JJvmOpcodes {
         }
         return sLength[index];
     }
+
+    /**
+     * Tells whether an opcode has a property.
+     *
+     * @param index Index of the Opcode
+     * @param flag  One of the FLAG_ properties.
+     * @return Returns true, if the opcode has the property.
+     */
+    public static boolean hasFlag(int index, int flag) {
+        return (sFlags[index] & flag) != 0;
+    }
+
+    /**
+     * Returns the local variable loaded by an opcode.
+     *
+     * @param index Index of the Opcode
+     * @return Returns the index of the variable for the
+     * _0 to _3 forms, VAR_FROM_ARG if given by the argument
+     * of the instruction, VAR_NONE otherwise.
+     */
+    public static int getLoadVar(int index) {
+        return sLoadVar[index];
+    }
+
+    /**
+     * Returns the local variable stored by an opcode.
+     *
+     * @param index Index of the Opcode
+     * @return Returns the index of the variable for the
+     * _0 to _3 forms, VAR_FROM_ARG if given by the argument
+     * of the instruction, VAR_NONE otherwise.
+     */
+    public static int getStoreVar(int index) {
+        return sStoreVar[index];
+    }
 }
@@ -0,0 +1,203 @@
+/*
+ * @(#)JMethodDescriptor.java
+ *
+ * JReversePro - Java Decompiler / Disassembler.
+ * Copyright (C) 2000 2001 Karthik Kumar.
+ * EMail: akkumar@users.sourceforge.net
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it , under the terms of the GNU General Public License as published
+ * by the Free Software Foundation; either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program.If not, write to
+ *  The Free Software Foundation, Inc.,
+ *  59 Temple Place - Suite 330,
+ *  Boston, MA 02111-1307, USA.
+ */
+package jreversepro.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <b>JMethodDescriptor</b> is a parsed method signature, such as
+ * <code>(ILjava/lang/String;)V</code>: its argument types, its return
+ * type and the number of local variable slots the arguments take.
+ * <br>Descriptors are immutable and interned: there is one instance per
+ * distinct signature, shared by all threads.
+ *
+ * @author Karthik Kumar
+ * @see Helper#getArguments(String)
+ * @see Helper#getReturnType(String)
+ */
+public final class JMethodDescriptor {
+
+    /**
+     * Number of descriptors kept before the cache is emptied.
+     */
+    private static final int MAX_CACHED = 8192;
+    /**
+     * Interned descriptors.
+     * Key - Signature, Value - JMethodDescriptor.
+     */
+    private static final Map<String, JMethodDescriptor> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Signature of the method.
+     */
+    private final String descriptor;
+    /**
+     * Argument types, in the format of Helper.getArguments.
+     */
+    private final List<String> arguments;
+    /**
+     * Argument types.
+     */
+    private final JFieldDescriptor[] argumentTypes;
+    /**
+     * Number of local variable slots of the arguments.
+     */
+    private final int argumentSlots;
+    /**
+     * Return type, in JVM representation.
+     */
+    private final String returnType;
+
+    /**
+     * @param aSignature Signature of the method.
+     * @throws IllegalArgumentException        Thrown if an argument type is
+     *                                         not valid.
+     * @throws StringIndexOutOfBoundsException Thrown if the signature
+     *                                         has no ')'.
+     */
+    private JMethodDescriptor(String aSignature) {
+        descriptor = aSignature;
+        List<JFieldDescriptor> types = new ArrayList<>();
+        int endIndex = aSignature.indexOf(")");
+        if (endIndex != 1) {
+            //A signature without ')' fails here, on the substring.
+            String args = aSignature.substring(1, endIndex);
+            int curIndex = 0;
+            while (curIndex < args.length()) {
+                int tokenLength = Helper.getSignTokenLength(args, curIndex);
+                if (tokenLength == 0) {
+                    throw new IllegalArgumentException("Invalid signature " + aSignature);
+                }
+                int semiColon = args.indexOf(';', curIndex);
+                int tokenEnd = semiColon != -1 && semiColon < curIndex + tokenLength ? semiColon :
+                        curIndex + tokenLength;
+                types.add(JFieldDescriptor.getInstance(args.substring(curIndex, tokenEnd)));
+                curIndex += tokenLength;
+            }
+        }
+        argumentTypes = types.toArray(new JFieldDescriptor[0]);
+        List<String> argList = new ArrayList<>(argumentTypes.length);
+        int numSlots = 0;
+        for (JFieldDescriptor type : argumentTypes) {
+            argList.add(type.getDescriptor());
+            numSlots += type.getSlotCount();
+        }
+        arguments = Collections.unmodifiableList(argList);
+        argumentSlots = numSlots;
+        returnType = aSignature.substring(endIndex + 1);
+    }
+
+    /**
+     * Returns the descriptor of the given signature, parsing it
+     * the first time it is asked for.
+     *
+     * @param aSignature Signature of the method.
+     * @return the interned descriptor.
+     * @throws IllegalArgumentException        Thrown if an argument type is
+     *                                         not valid.
+     * @throws StringIndexOutOfBoundsException Thrown if the signature
+     *                                         has no ')'.
+     */
+    public static JMethodDescriptor getInstance(String aSignature) {
+        JMethodDescriptor result = CACHE.get(aSignature);
+        if (result == null) {
+            result = new JMethodDescriptor(aSignature);
+            if (CACHE.size() >= MAX_CACHED) {
+                CACHE.clear();
+            }
+            JMethodDescriptor previous = CACHE.putIfAbsent(aSignature, result);
+            if (previous != null) {
+                result = previous;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return Returns the signature of the method.
+     */
+    public String getDescriptor() {
+        return descriptor;
+    }
+
+    /**
+     * Returns the argument types in JVM representation, without the
+     * trailing ';' of class types. For example,
+     * <code>(ILjava/lang/String;)V</code> gives
+     * <code>[ I , Ljava/lang/String ]</code>.
+     *
+     * @return Returns the argument types. The list can not be modified.
+     */
+    public List<String> getArguments() {
+        return arguments;
+    }
+
+    /**
+     * @return Returns the number of arguments.
+     */
+    public int getArgumentCount() {
+        return argumentTypes.length;
+    }
+
+    /**
+     * @param aIndex Index of the argument.
+     * @return Returns the type of the argument.
+     */
+    public JFieldDescriptor getArgumentType(int aIndex) {
+        return argumentTypes[aIndex];
+    }
+
+    /**
+     * @return Returns the number of local variable slots taken by
+     * the arguments, long and double taking two.
+     */
+    public int getArgumentSlots() {
+        return argumentSlots;
+    }
+
+    /**
+     * @return Returns the return type in JVM representation.
+     */
+    public String getReturnType() {
+        return returnType;
+    }
+
+    /**
+     * @return Returns the number of operand stack slots taken by the
+     * returned value, 0 for void.
+     */
+    public int getReturnSlots() {
+        return JFieldDescriptor.getSlotCount(returnType);
+    }
+
+    /**
+     * @return Returns the signature of the method.
+     */
+    public String toString() {
+        return descriptor;
+    }
+}
@@ -23,7 +23,8 @@ package jreversepro.parser;
 import jreversepro.reflect.JConstantPool;
 import jreversepro.reflect.JMethod;
 
-import java.io.DataInputStream;
+import java.io.DataInput;
+import java.io.EOFException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -87,13 +88,13 @@ public final class JAttribute {
      * u2 attributes_count;<br>
      * attribute_info attributes[attributes_count]; <br>
      *
-     * @param aDis         DataInputStream containing the bytes of the class.
+     * @param aDis         DataInput containing the bytes of the class.
      * @param aCpInfo      ConstantPool Information.
      * @param aLocalMethod Reference to the current method for which the code
      *                     is to be manipulated.
      * @throws IOException Error in Class Stream of bytes.
      */
-    public static void manipCode(DataInputStream aDis, JMethod aLocalMethod, JConstantPool aCpInfo)
+    public static void manipCode(DataInput aDis, JMethod aLocalMethod, JConstantPool aCpInfo)
             throws IOException {
 
         int len = aDis.readInt();
@@ -136,11 +137,11 @@ public final class JAttribute {
      * Possible attributes of Code are
      * <b> LineNumberTable </b> and  <b> LocalVariableTable </b>
      *
-     * @param aDis    DataInputStream containing the bytes of the class.
+     * @param aDis    DataInput containing the bytes of the class.
      * @param aCpInfo ConstantPool Information.
      * @throws IOException Error in Class Stream of bytes.
      */
-    private static void readCodeAttributes(DataInputStream aDis, JConstantPool aCpInfo)
+    private static void readCodeAttributes(DataInput aDis, JConstantPool aCpInfo)
             throws IOException {
 
         short attrNameIndex = aDis.readShort();
@@ -150,6 +151,8 @@ public final class JAttribute {
             manipLineNumberTable(aDis);
         } else if (attrName.equals(LOCALVARIABLETABLE)) {
             manipLocalVariableTable(aDis);
+        } else {
+            skipAttribute(aDis);
         }
     }
 
@@ -164,10 +167,10 @@ public final class JAttribute {
      * u2 line_number;<br>
      * } line_number_table[line_number_table_length]; <br>
      *
-     * @param aDis DataInputStream containing the bytes of the class.
+     * @param aDis DataInput containing the bytes of the class.
      * @throws IOException Error in Class Stream of bytes.
      */
-    private static void manipLineNumberTable(DataInputStream aDis)
+    private static void manipLineNumberTable(DataInput aDis)
             throws IOException {
         int len = aDis.readInt();
         byte[] btRead = new byte[len];
@@ -194,10 +197,10 @@ public final class JAttribute {
      * u2 line_number;<br>
      * } line_number_table[line_number_table_length]; <br>
      *
-     * @param aDis DataInputStream containing the bytes of the class.
+     * @param aDis DataInput containing the bytes of the class.
      * @throws IOException Error in Class Stream of bytes.
      */
-    private static void manipLocalVariableTable(DataInputStream aDis)
+    private static void manipLocalVariableTable(DataInput aDis)
             throws IOException {
         int len = aDis.readInt();
         byte[] btRead = new byte[len];
@@ -212,14 +215,14 @@ public final class JAttribute {
      * u4 attribute_length;<br>
      * u2 constantvalue_index;<br>
      *
-     * @param aDis    DataInputStream containing the bytes of the class.
+     * @param aDis    DataInput containing the bytes of the class.
      * @param aCpInfo ConstantPool Information.
      * @return a String containing the Constant value, of the field.
      * @throws IOException          Error in Class Stream of bytes.
      * @throws ClassParserException Thrown in case of any wrong
      *                              constantpool reference.
      */
-    public static String manipConstantValue(DataInputStream aDis, JConstantPool aCpInfo)
+    public static String manipConstantValue(DataInput aDis, JConstantPool aCpInfo)
             throws IOException, ClassParserException {
 
         int len = aDis.readInt();
@@ -234,10 +237,10 @@ public final class JAttribute {
      * u2 attribute_name_index; <br>
      * u4 attribute_length;<br>
      *
-     * @param aDis DataInputStream containing the bytes of the class.
+     * @param aDis DataInput containing the bytes of the class.
      * @throws IOException Error in Class Stream of bytes.
      */
-    public static void manipDeprecated(DataInputStream aDis)
+    public static void manipDeprecated(DataInput aDis)
             throws IOException {
         int len = aDis.readInt();//len must be zero.
     }
@@ -254,12 +257,12 @@ public final class JAttribute {
      * Present , if there is a throws clause in the declaration of
      * the method.<br>
      *
-     * @param aDis    DataInputStream containing the bytes of the class.
+     * @param aDis    DataInput containing the bytes of the class.
      * @param aCpInfo ConstantPool Information.
      * @return Set of classes present in the 'throws' clause statement.
      * @throws IOException Error in Class Stream of bytes.
      */
-    public static List manipExceptions(DataInputStream aDis, JConstantPool aCpInfo)
+    public static List manipExceptions(DataInput aDis, JConstantPool aCpInfo)
             throws IOException {
         //Responsible for the 'throws' clause
         List<String> classes = new ArrayList<>(2);
@@ -280,12 +283,12 @@ public final class JAttribute {
      * u4 attribute_length;<br>
      * u2 sourcefile_index;
      *
-     * @param aDis    DataInputStream containing the bytes of the class.
+     * @param aDis    DataInput containing the bytes of the class.
      * @param aCpInfo ConstantPool Information.
      * @return NO_STRING
      * @throws IOException Error in Class Stream of bytes.
      */
-    public static String manipSourceFile(DataInputStream aDis, JConstantPool aCpInfo)
+    public static String manipSourceFile(DataInput aDis, JConstantPool aCpInfo)
 
             throws IOException {
 
@@ -294,6 +297,28 @@ public final class JAttribute {
         return aCpInfo.getUtf8String(srcIndex);
     }
 
+    /**
+     * Skips an attribute whose name has already been read.
+     * <br>
+     * u2 attribute_name_index; <br>
+     * u4 attribute_length;<br>
+     * u1 info[attribute_length];<br>
+     *
+     * @param aDis DataInput containing the bytes of the class.
+     * @throws IOException Error in Class Stream of bytes.
+     */
+    public static void skipAttribute(DataInput aDis)
+            throws IOException {
+        int len = aDis.readInt();
+        while (len > 0) {
+            int skipped = aDis.skipBytes(len);
+            if (skipped <= 0) {
+                throw new EOFException("Truncated attribute");
+            }
+            len -= skipped;
+        }
+    }
+
     /**
      * Manipulates the 'Synthetic' attribute of the Fields.
      * <br>
@@ -301,10 +326,10 @@ public final class JAttribute {
      * u2 attribute_name_index; <br>
      * u4 attribute_length;<br>
      *
-     * @param aDis DataInputStream containing the bytes of the class.
+     * @param aDis DataInput containing the bytes of the class.
      * @throws IOException Error in Class Stream of bytes.
      */
-    public static void manipSynthetic(DataInputStream aDis)
+    public static void manipSynthetic(DataInput aDis)
             throws IOException {
         int len = aDis.readInt();//len must be zero.
     }
@@ -0,0 +1,186 @@
+/*
+ * @(#)JByteBufferInput.java
+ *
+ * JReversePro - Java Decompiler / Disassembler.
+ * Copyright (C) 2000 2001 Karthik Kumar.
+ * EMail: akkumar@users.sourceforge.net
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it , under the terms of the GNU General Public License as published
+ * by the Free Software Foundation; either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program.If not, write to
+ *  The Free Software Foundation, Inc.,
+ *  59 Temple Place - Suite 330,
+ *  Boston, MA 02111-1307, USA.
+ **/
+package jreversepro.parser;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * <b>JByteBufferInput</b> reads the big endian primitives of a class file
+ * straight from a heap, direct or memory mapped <code>ByteBuffer</code>,
+ * with absolute reads.
+ * <br>The bytes between the position and the limit of the buffer are
+ * read; neither the contents nor the position of the buffer are changed.
+ */
+final class JByteBufferInput implements DataInput {
+
+    /**
+     * Big endian view of the buffer being read.
+     */
+    private final ByteBuffer mBuffer;
+    /**
+     * Limit of the bytes to be read.
+     */
+    private final int mLimit;
+    /**
+     * Index of the next byte to be read.
+     */
+    private int mPos;
+
+    /**
+     * Constructor.
+     *
+     * @param aBuffer Buffer containing the bytes of the class.
+     */
+    JByteBufferInput(ByteBuffer aBuffer) {
+        mBuffer = aBuffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        mPos = aBuffer.position();
+        mLimit = aBuffer.limit();
+    }
+
+    /**
+     * Checks that enough bytes are left and moves past them.
+     *
+     * @param aLength Number of bytes to be read.
+     * @return Index of the first of them.
+     * @throws EOFException Thrown if there are not enough bytes left.
+     */
+    private int advance(int aLength)
+            throws EOFException {
+        if (aLength > mLimit - mPos) {
+            mPos = mLimit;
+            throw new EOFException();
+        }
+        int index = mPos;
+        mPos += aLength;
+        return index;
+    }
+
+    public void readFully(byte[] aBytes)
+            throws IOException {
+        readFully(aBytes, 0, aBytes.length);
+    }
+
+    public void readFully(byte[] aBytes, int aOffset, int aLength)
+            throws IOException {
+        int index = advance(aLength);
+        //The duplicate is private, so its position can be used for a bulk get.
+        mBuffer.position(index);
+        mBuffer.get(aBytes, aOffset, aLength);
+    }
+
+    public int skipBytes(int aLength) {
+        int skipped = Math.max(0, Math.min(aLength, mLimit - mPos));
+        mPos += skipped;
+        return skipped;
+    }
+
+    public boolean readBoolean()
+            throws IOException {
+        return readByte() != 0;
+    }
+
+    public byte readByte()
+            throws IOException {
+        return mBuffer.get(advance(1));
+    }
+
+    public int readUnsignedByte()
+            throws IOException {
+        return readByte() & 0xFF;
+    }
+
+    public short readShort()
+            throws IOException {
+        return mBuffer.getShort(advance(2));
+    }
+
+    public int readUnsignedShort()
+            throws IOException {
+        return readShort() & 0xFFFF;
+    }
+
+    public char readChar()
+            throws IOException {
+        return mBuffer.getChar(advance(2));
+    }
+
+    public int readInt()
+            throws IOException {
+        return mBuffer.getInt(advance(4));
+    }
+
+    public long readLong()
+            throws IOException {
+        return mBuffer.getLong(advance(8));
+    }
+
+    public float readFloat()
+            throws IOException {
+        return mBuffer.getFloat(advance(4));
+    }
+
+    public double readDouble()
+            throws IOException {
+        return mBuffer.getDouble(advance(8));
+    }
+
+    /**
+     * Reads the bytes up to the next line terminator, <code>\n</code>,
+     * <code>\r</code> or <code>\r\n</code>, as
+     * <code>DataInputStream.readLine</code> does: every byte is taken as a
+     * Latin-1 char.
+     *
+     * @return the line, without its terminator, or null if there are no
+     * bytes left.
+     */
+    public String readLine() {
+        if (mPos >= mLimit) {
+            return null;
+        }
+        StringBuilder line = new StringBuilder();
+        while (mPos < mLimit) {
+            int c = mBuffer.get(mPos++) & 0xFF;
+            if (c == '\n') {
+                break;
+            }
+            if (c == '\r') {
+                if (mPos < mLimit && mBuffer.get(mPos) == '\n') {
+                    mPos++;
+                }
+                break;
+            }
+            line.append((char) c);
+        }
+        return line.toString();
+    }
+
+    public String readUTF()
+            throws IOException {
+        return DataInputStream.readUTF(this);
+    }
+}
@@ -30,6 +30,12 @@ import jreversepro.reflect.JMethod;
 
 import java.io.*;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 //import jreversepro.common.Helper;
 
@@ -38,18 +44,49 @@ import java.net.URL;
  */
 public class JClassParser implements AppConstants {
 
+    /**
+     * Parses the whole class file: fields, methods with their bytecode and
+     * every attribute. This is the default mode.
+     */
+    public static final int PARSE_FULL = 0;
+    /**
+     * Stops right after the interfaces: only the constant pool, the access
+     * flags, this class, the super class and the interfaces are read.
+     */
+    public static final int PARSE_HEADER = 1;
+    /**
+     * Initial capacity of the buffer owned by each thread.
+     */
+    private static final int POOLED_BUFFER_SIZE = 16 * 1024;
+    /**
+     * Greatest capacity of the buffer kept by each thread. Larger class
+     * files are read into buffers of their own, left to the garbage
+     * collector.
+     */
+    private static final int MAX_POOLED_BUFFER_SIZE = 1024 * 1024;
+    /**
+     * Buffer owned by each thread, that class files read from streams and
+     * jar entries are copied to before being parsed.
+     */
+    private static final ThreadLocal<ByteBuffer> POOLED_BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocate(
+            POOLED_BUFFER_SIZE));
+
     /**
      * ConstantPool Information of the class being reverse engineered.
      */
     private JConstantPool mCpInfo;
     /**
-     * DataInputStream containing the bytes of the class.
+     * DataInput containing the bytes of the class.
      */
-    private DataInputStream mDis;
+    private DataInput mDis;
     /**
      * Information about fields, methods of the class being reverse engineered.
      */
     private JClassInfo mInfoClass;
+    /**
+     * How much of the class file is parsed.
+     */
+    private int mParseMode = PARSE_FULL;
 
     /**
      * @return Returns the data Information of the class.
@@ -65,6 +102,26 @@ public class JClassParser implements AppConstants {
         return mCpInfo;
     }
 
+    /**
+     * @return Returns the parse mode, either PARSE_FULL or PARSE_HEADER.
+     */
+    public final int getParseMode() {
+        return mParseMode;
+    }
+
+    /**
+     * Sets how much of the next class files is parsed. PARSE_HEADER accepts
+     * class files of any version, since no bytecode is interpreted.
+     *
+     * @param aParseMode Either PARSE_FULL or PARSE_HEADER.
+     */
+    public void setParseMode(int aParseMode) {
+        if (aParseMode != PARSE_FULL && aParseMode != PARSE_HEADER) {
+            throw new IllegalArgumentException("Invalid parse mode " + aParseMode);
+        }
+        mParseMode = aParseMode;
+    }
+
     /**
      * Parses the given file and creates the ClassInfo and ConstantPool objects.
      *
@@ -77,10 +134,10 @@ public class JClassParser implements AppConstants {
             throws IOException, ClassParserException {
 
         if (aFile.getName().endsWith(".class")) {
-            try {
+            try (InputStream is = new FileInputStream(aFile)) {
                 // Dangerous conversion of long to int, but nevertheless
                 //all class file streams happen to come under this limit.
-                parse(new FileInputStream(aFile), (int) aFile.length(), aFile.toString());
+                parse(is, (int) aFile.length(), aFile.toString());
             } catch (FileNotFoundException eFNFE) {
                 throw new ClassParserException("Class file to reverse engineer " + aFile.toString() + " not found");
             }
@@ -89,6 +146,40 @@ public class JClassParser implements AppConstants {
         }
     }
 
+    /**
+     * Parses the given file, memory mapping it, and creates the ClassInfo
+     * and ConstantPool objects.
+     *
+     * @param aPath class file to be parsed.
+     * @throws ClassParserException Thrown if class file not in desired format.
+     * @throws IOException          Thrown if error in stream of bytes containing the
+     *                              class file.
+     */
+    public void parse(Path aPath)
+            throws IOException, ClassParserException {
+        try (FileChannel channel = FileChannel.open(aPath, StandardOpenOption.READ)) {
+            parse(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), aPath.toString());
+        }
+    }
+
+    /**
+     * Parses an entry of a jar and creates the ClassInfo and ConstantPool
+     * objects. The entry is read into a buffer owned by the current thread,
+     * that is reused from one entry to the next.
+     *
+     * @param aJar   jar containing the class file.
+     * @param aEntry entry of the class file.
+     * @throws ClassParserException Thrown if class file not in desired format.
+     * @throws IOException          Thrown if error in stream of bytes containing the
+     *                              class file.
+     */
+    public void parse(ZipFile aJar, ZipEntry aEntry)
+            throws IOException, ClassParserException {
+        try (InputStream is = aJar.getInputStream(aEntry)) {
+            parse(readPooled(is, (int) aEntry.getSize()), aJar.getName() + "!/" + aEntry.getName());
+        }
+    }
+
     /**
      * Parses the given file and creates the ClassInfo and ConstantPool objects.
      *
@@ -106,20 +197,42 @@ public class JClassParser implements AppConstants {
             parse((ByteArrayInputStream) is, pathToClass);
             //perform Explicit Casting - safely.
         } else {
-            ByteArrayInputStream bais;
-            ByteArrayOutputStream baos = new ByteArrayOutputStream(length);
+            parse(readPooled(is, length), pathToClass);
+            //Read once into the buffer of the thread, and parse it
+            //from there.
+        }
+    }
 
-            byte[] buf = new byte[length]; // length becomes just a guess
-            int nread;
-            while ((nread = is.read(buf, 0, buf.length)) > 0) {
-                baos.write(buf, 0, nread);
+    /**
+     * Reads a whole stream into the buffer owned by the current thread,
+     * growing it if needed. The grown buffer replaces the one of the thread
+     * unless it is larger than MAX_POOLED_BUFFER_SIZE.
+     *
+     * @param is     InputStream from which bytes are taken.
+     * @param length Expected length of the stream, just a guess.
+     * @return the buffer, flipped, containing the bytes read.
+     * @throws IOException Thrown if error in stream of bytes.
+     */
+    private static ByteBuffer readPooled(InputStream is, int length)
+            throws IOException {
+        ByteBuffer pooled = POOLED_BUFFER.get();
+        ByteBuffer buffer = pooled.capacity() < length ? ByteBuffer.allocate(length) : pooled;
+        buffer.clear();
+        int nread;
+        while ((nread = is.read(buffer.array(), buffer.position(), buffer.remaining())) != -1) {
+            buffer.position(buffer.position() + nread);
+            if (!buffer.hasRemaining()) {
+                ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+                buffer.flip();
+                larger.put(buffer);
+                buffer = larger;
             }
-
-            bais = new ByteArrayInputStream(baos.toByteArray());
-            parse(bais, pathToClass);
-            //Convert to bytestream first since once brought to
-            //memory operations will be easy to perform.
         }
+        if (buffer != pooled && buffer.capacity() <= MAX_POOLED_BUFFER_SIZE) {
+            POOLED_BUFFER.set(buffer);
+        }
+        buffer.flip();
+        return buffer;
     }
 
     /**
@@ -133,11 +246,61 @@ public class JClassParser implements AppConstants {
      */
     public void parse(ByteArrayInputStream is, String pathToClass)
             throws IOException, ClassParserException {
+        parse(new DataInputStream(is), pathToClass);
+    }
+
+    /**
+     * Parses the bytes between the position and the limit of the given
+     * buffer, which may be a heap, direct or memory mapped one, and creates
+     * the ClassInfo and ConstantPool objects. Bytes are read in place,
+     * neither the contents nor the position of the buffer are changed.
+     *
+     * @param aBuffer     buffer containing the bytes.
+     * @param pathToClass path to the class.
+     * @throws ClassParserException Thrown if class file not in desired format.
+     * @throws IOException          Thrown if error in stream of bytes containing the
+     *                              class file.
+     */
+    public void parse(ByteBuffer aBuffer, String pathToClass)
+            throws IOException, ClassParserException {
+        parse(new JByteBufferInput(aBuffer), pathToClass);
+    }
+
+    /**
+     * Parses the bytes between the position and the limit of the given
+     * buffer and creates the ClassInfo and ConstantPool objects.
+     *
+     * @param aBuffer buffer containing the bytes.
+     * @throws ClassParserException Thrown if class file not in desired format.
+     * @throws IOException          Thrown if error in stream of bytes containing the
+     *                              class file.
+     * @see #parse(ByteBuffer, String)
+     */
+    public void parse(ByteBuffer aBuffer)
+            throws IOException, ClassParserException {
+        parse(aBuffer, "");
+        //Path not given.
+    }
+
+    /**
+     * Reads the class from the given input and creates the ClassInfo and
+     * ConstantPool objects. Nothing past the parts of the class file the
+     * parse mode asks for is read, so that in PARSE_HEADER mode the input is
+     * left right after the interfaces.
+     *
+     * @param aInput      DataInput containing the bytes.
+     * @param pathToClass path to the class.
+     * @throws ClassParserException Thrown if class file not in desired format.
+     * @throws IOException          Thrown if error in stream of bytes containing the
+     *                              class file.
+     */
+    public void parse(DataInput aInput, String pathToClass)
+            throws IOException, ClassParserException {
         mCpInfo = null;
         mInfoClass = null;
         mInfoClass = new JClassInfo();
 
-        mDis = new DataInputStream(is);
+        mDis = aInput;
         mInfoClass.setPathName(pathToClass);
         readMagic();
         readVersion();
@@ -146,10 +309,12 @@ public class JClassParser implements AppConstants {
         fillThisClass();
         fillSuperClass();
         readInterfaces();
-        readFields();
-        readMethods();
-        readAttributes();
-        mDis.close();
+        if (mParseMode == PARSE_FULL) {
+            readFields();
+            readMethods();
+            readAttributes();
+        }
+        mDis = null;
         mInfoClass.setConstantPool(mCpInfo);
     }
 
@@ -180,7 +345,7 @@ public class JClassParser implements AppConstants {
         short minor = mDis.readShort();
         short major = mDis.readShort();
 
-        if (!supportedMajorMinor(major, minor)) {
+        if (mParseMode == PARSE_FULL && !supportedMajorMinor(major, minor)) {
             throw new ClassParserException("(Major: " + major + ", Minor: " + minor + ") version not supported");
         }
 
@@ -196,7 +361,7 @@ public class JClassParser implements AppConstants {
      */
     private void readConstantPool()
             throws IOException, ClassParserException {
-        int numCpEntry = mDis.readShort();
+        int numCpEntry = mDis.readUnsignedShort();
         mCpInfo = new JConstantPool(numCpEntry);
         readCpEntries(numCpEntry);
     }
@@ -421,6 +586,18 @@ public class JClassParser implements AppConstants {
                 case JConstantPool.TAG_NAMETYPE:
                     readTagNameType(i);
                     break;
+                case JConstantPool.TAG_METHODHANDLE:
+                    skipTag(3);
+                    break;
+                case JConstantPool.TAG_METHODTYPE:
+                case JConstantPool.TAG_MODULE:
+                case JConstantPool.TAG_PACKAGE:
+                    skipTag(2);
+                    break;
+                case JConstantPool.TAG_DYNAMIC:
+                case JConstantPool.TAG_INVOKEDYNAMIC:
+                    skipTag(4);
+                    break;
                 default:
                     throw new ClassParserException("TagByte " + tagByte + " Invalid for ConstantPool Entry #" + i);
             }
@@ -450,6 +627,8 @@ public class JClassParser implements AppConstants {
             JAttribute.manipSynthetic(mDis);
         } else if (attrName.compareTo(JAttribute.DEPRECATED) == 0) {
             JAttribute.manipDeprecated(mDis);
+        } else {
+            JAttribute.skipAttribute(mDis);
         }
     }
 
@@ -476,6 +655,8 @@ public class JClassParser implements AppConstants {
             JAttribute.manipSynthetic(mDis);
         } else if (attrName.compareTo(JAttribute.DEPRECATED) == 0) {
             JAttribute.manipDeprecated(mDis);
+        } else {
+            JAttribute.skipAttribute(mDis);
         }
     }
 
@@ -497,6 +678,8 @@ public class JClassParser implements AppConstants {
             mInfoClass.setSourceFile(JAttribute.manipSourceFile(mDis, mCpInfo));
         } else if (attrName.compareTo(JAttribute.DEPRECATED) == 0) {
             JAttribute.manipDeprecated(mDis);
+        } else {
+            JAttribute.skipAttribute(mDis);
         }
     }
 
@@ -509,8 +692,9 @@ public class JClassParser implements AppConstants {
      */
     private void readTagUtf8(int aIndex)
             throws IOException {
-        String utfString = mDis.readUTF();
-        mCpInfo.addUtf8Entry(utfString);
+        int length = mDis.readUnsignedShort();
+        mCpInfo.addUtf8Entry(mDis, length);
+        //Decoded by the ConstantPool when first asked for.
     }
 
     /**
@@ -524,7 +708,7 @@ public class JClassParser implements AppConstants {
             throws IOException {
         int intValue = mDis.readInt();
 
-        mCpInfo.addIntegerEntry(String.valueOf(intValue));
+        mCpInfo.addIntegerEntry(intValue);
     }
 
     /**
@@ -538,7 +722,7 @@ public class JClassParser implements AppConstants {
             throws IOException {
         float floatValue = mDis.readFloat();
 
-        mCpInfo.addFloatEntry(floatValue + "f");
+        mCpInfo.addFloatEntry(floatValue);
     }
 
     /**
@@ -553,7 +737,7 @@ public class JClassParser implements AppConstants {
 
         long longValue = mDis.readLong();
 
-        mCpInfo.addLongEntry(longValue + "L");
+        mCpInfo.addLongEntry(longValue);
         mCpInfo.addNullEntry();
     }
 
@@ -569,7 +753,7 @@ public class JClassParser implements AppConstants {
 
         double doubleValue = mDis.readDouble();
 
-        mCpInfo.addDoubleEntry(String.valueOf(doubleValue));
+        mCpInfo.addDoubleEntry(doubleValue);
         mCpInfo.addNullEntry();
     }
 
@@ -586,7 +770,7 @@ public class JClassParser implements AppConstants {
      */
     private void readTagClass(int aIndex)
             throws IOException {
-        int classIndex = mDis.readShort();
+        int classIndex = mDis.readUnsignedShort();
 
         mCpInfo.addClassEntry(classIndex);
     }
@@ -600,7 +784,7 @@ public class JClassParser implements AppConstants {
      */
     private void readTagString(int aIndex)
             throws IOException {
-        int stringIndex = mDis.readShort();
+        int stringIndex = mDis.readUnsignedShort();
         mCpInfo.addStringEntry(stringIndex);
     }
 
@@ -617,8 +801,8 @@ public class JClassParser implements AppConstants {
      */
     private void readTagFieldRef(int aIndex)
             throws IOException {
-        int classIndex = mDis.readShort();
-        int nameType = mDis.readShort();
+        int classIndex = mDis.readUnsignedShort();
+        int nameType = mDis.readUnsignedShort();
 
         mCpInfo.addFieldRefEntry(classIndex, nameType);
     }
@@ -636,8 +820,8 @@ public class JClassParser implements AppConstants {
      */
     private void readTagMethodRef(int aIndex)
             throws IOException {
-        int classIndex = mDis.readShort();
-        int nameType = mDis.readShort();
+        int classIndex = mDis.readUnsignedShort();
+        int nameType = mDis.readUnsignedShort();
 
         mCpInfo.addMethodRefEntry(classIndex, nameType);
     }
@@ -655,8 +839,8 @@ public class JClassParser implements AppConstants {
      */
     private void readTagInterfaceRef(int aIndex)
             throws IOException {
-        int classIndex = mDis.readShort();
-        int nameType = mDis.readShort();
+        int classIndex = mDis.readUnsignedShort();
+        int nameType = mDis.readUnsignedShort();
 
         mCpInfo.addInterfaceRefEntry(classIndex, nameType);
     }
@@ -673,12 +857,27 @@ public class JClassParser implements AppConstants {
      */
     private void readTagNameType(int aIndex)
             throws IOException {
-        int nameIndex = mDis.readShort();
-        int descIndex = mDis.readShort();
+        int nameIndex = mDis.readUnsignedShort();
+        int descIndex = mDis.readUnsignedShort();
 
         mCpInfo.addNameTypeEntry(nameIndex, descIndex);
     }
 
+    /**
+     * Skips an entry of the constant pool that is only found in class
+     * files newer than the ones that can be fully parsed, keeping its slot
+     * as a NULL entry.
+     *
+     * @param aLength Length of the entry, tag excluded.
+     * @throws IOException Thrown if error in stream of bytes containing the
+     *                     class file.
+     */
+    private void skipTag(int aLength)
+            throws IOException {
+        mDis.skipBytes(aLength);
+        mCpInfo.addNullEntry();
+    }
+
     /**
      * Parses the given byte array and creates the ClassInfo and
      * ConstantPool objects.
@@ -691,7 +890,7 @@ public class JClassParser implements AppConstants {
     public void parse(byte[] bytes)
             throws IOException, ClassParserException {
 
-        parse(new ByteArrayInputStream(bytes), bytes.length, "");
+        parse(ByteBuffer.wrap(bytes), "");
         //Path not given.
     }
 
@@ -707,7 +906,9 @@ public class JClassParser implements AppConstants {
     public void parse(URL url)
             throws IOException, ClassParserException {
 
-        parse(url.openConnection().getInputStream(), 1024, // make up a guess
-                url.getPath());
+        try (InputStream is = url.openConnection().getInputStream()) {
+            parse(is, 1024, // make up a guess
+                    url.getPath());
+        }
     }
 }
@@ -29,6 +29,7 @@ import jreversepro.revengine.JDecompiler;
 import jreversepro.revengine.JDisAssembler;
 import jreversepro.revengine.JReverseEngineer;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -257,11 +258,33 @@ public class JClassInfo implements KeyWords {
      * @return Stringified class
      */
     public String getStringifiedClass(boolean getBytecode, boolean includeMetadata) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            writeClass(sb, getBytecode, includeMetadata);
+        } catch (IOException ex) {
+            //Never thrown by a StringBuilder.
+            throw new IllegalStateException(ex);
+        }
+        return sb.toString();
+    }
 
-        return String.valueOf(getHeaders()) + getPackageImports() + getThisSuperClasses() + getStringifiedInterfaces
-                () + "{" + getStringifiedFields() + getStringifiedMethods(
-                getBytecode,
-                includeMetadata) + "\n}";
+    /**
+     * Writes the disassembled/decompiled class to the given output,
+     * method by method, without building the whole class or any of
+     * its methods as a String first.
+     *
+     * @param out             Output the class is written to.
+     * @param getBytecode     If TRUE, writes the disassembled code.
+     *                        If FALSE, writes the decompiled code.
+     * @param includeMetadata TRUE if method stack and exception data should be output.
+     * @throws IOException Thrown in case of any i/o error writing the class.
+     */
+    public void writeClass(Appendable out, boolean getBytecode, boolean includeMetadata)
+            throws IOException {
+        out.append(getHeaders()).append(getPackageImports()).append(getThisSuperClasses()).append(
+                getStringifiedInterfaces()).append("{").append(getStringifiedFields());
+        writeMethods(out, getBytecode, includeMetadata);
+        out.append("\n}");
     }
 
     /**
@@ -369,12 +392,30 @@ public class JClassInfo implements KeyWords {
     public String getStringifiedMethods(boolean getBytecode, boolean includeMetadata) {
 
         StringBuilder sb = new StringBuilder();
+        try {
+            writeMethods(sb, getBytecode, includeMetadata);
+        } catch (IOException ex) {
+            //Never thrown by a StringBuilder.
+            throw new IllegalStateException(ex);
+        }
+        return sb.toString();
+    }
 
+    /**
+     * Writes the disassembled/decompiled methods to the given output.
+     *
+     * @param out             Output the methods are written to.
+     * @param getBytecode     If TRUE, writes the disassembled code.
+     *                        If FALSE, writes the decompiled code.
+     * @param includeMetadata TRUE if method stack and exception data should be output
+     * @throws IOException Thrown in case of any i/o error writing the methods.
+     */
+    private void writeMethods(Appendable out, boolean getBytecode, boolean includeMetadata)
+            throws IOException {
         for (int i = 0; i < this.getMethods().size(); i++) {
             JMethod method = (JMethod) this.getMethods().get(i);
-            sb.append(method.getMethodAsString(getBytecode, includeMetadata));
+            method.writeMethod(out, getBytecode, includeMetadata);
         }
-        return sb.toString();
     }
 
     /**
@@ -521,6 +562,15 @@ public class JClassInfo implements KeyWords {
         this.cpInfo = cpInfo;
     }
 
+    /**
+     * Returns the access flag of the class.
+     *
+     * @return Access flag of the class.
+     */
+    public int getAccess() {
+        return accessFlag;
+    }
+
     /**
      * Sets the access flag of the class.
      *
@@ -23,14 +23,25 @@
 package jreversepro.reflect;
 
 import jreversepro.common.Helper;
+import jreversepro.common.JMethodDescriptor;
 import jreversepro.common.KeyWords;
 import jreversepro.parser.ClassParserException;
 
-import java.util.ArrayList;
+import java.io.DataInput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * <b>JConstantPool</b> represents the abstraction of the ConstantPool.
+ * <br>Entries are kept as parallel arrays indexed by the ConstantPool
+ * index: the tag bytes, two pointers per entry and the values decoded
+ * so far. The pointers of numeric entries hold the bits of their value,
+ * and those of UTF8 entries the offset and length of their bytes in a
+ * single array shared by the whole ConstantPool. Values are turned into
+ * strings when first asked for, and remembered.
  *
  * @author Karthik Kumar
  */
@@ -54,6 +65,10 @@ public class JConstantPool implements KeyWords {
      * TAG_DOUBLE corresponds to CONSTANT_DOUBLE
      */
     public static final int TAG_DOUBLE = 6;
+    /**
+     * TAG_DYNAMIC corresponds to CONSTANT_Dynamic
+     */
+    public static final int TAG_DYNAMIC = 17;
     /**
      * TAG_FIELDREF corresponds to CONSTANT_FIELDREF
      */
@@ -70,14 +85,30 @@ public class JConstantPool implements KeyWords {
      * TAG_INTERFACEREF corresponds to CONSTANT_INTERFACEREF
      */
     public static final int TAG_INTERFACEREF = 11;
+    /**
+     * TAG_INVOKEDYNAMIC corresponds to CONSTANT_InvokeDynamic
+     */
+    public static final int TAG_INVOKEDYNAMIC = 18;
     /**
      * TAG_LONG corresponds to CONSTANT_LONG
      */
     public static final int TAG_LONG = 5;
+    /**
+     * TAG_METHODHANDLE corresponds to CONSTANT_MethodHandle
+     */
+    public static final int TAG_METHODHANDLE = 15;
     /**
      * TAG_METHODREF corresponds to CONSTANT_METHODREF
      */
     public static final int TAG_METHODREF = 10;
+    /**
+     * TAG_METHODTYPE corresponds to CONSTANT_MethodType
+     */
+    public static final int TAG_METHODTYPE = 16;
+    /**
+     * TAG_MODULE corresponds to CONSTANT_Module
+     */
+    public static final int TAG_MODULE = 19;
     /**
      * TAG_NAMETYPE  corresponds to CONSTANT_NAMETYPE
      */
@@ -86,6 +117,10 @@ public class JConstantPool implements KeyWords {
      * TAG_NOTHING means that the ConstantPool Entry is invalid.
      */
     public static final int TAG_NOTHING = -1;
+    /**
+     * TAG_PACKAGE corresponds to CONSTANT_Package
+     */
+    public static final int TAG_PACKAGE = 20;
     /**
      * TAG_STRING corresponds to CONSTANT_STRING
      */
@@ -95,11 +130,38 @@ public class JConstantPool implements KeyWords {
      */
     public static final int TAG_UTF8 = 1;
     /**
-     * listEntries contains the ConstantPool Entries.
-     * The individual elements of the list are
-     * JConstantPoolEntry.
+     * Initial number of bytes of UTF8 strings per entry.
+     */
+    private static final int UTF8_BYTES_PER_ENTRY = 16;
+    /**
+     * Number of entries in the ConstantPool.
+     */
+    private int count;
+    /**
+     * Two pointers per entry. For TAG_INTEGER and TAG_FLOAT the first
+     * one holds the bits of the value, for TAG_LONG and TAG_DOUBLE the
+     * two of them do. For TAG_UTF8 they hold the offset and length of
+     * the string in <code>utf8Bytes</code>.
      */
-    private final List<JConstantPoolEntry> listEntries;
+    private int[] pointers;
+    /**
+     * Tag byte of every entry.
+     */
+    private byte[] tags;
+    /**
+     * Modified UTF8 bytes of all the TAG_UTF8 entries, one after the
+     * other.
+     */
+    private byte[] utf8Bytes;
+    /**
+     * Number of bytes used in <code>utf8Bytes</code>.
+     */
+    private int utf8Length;
+    /**
+     * Values of the entries decoded so far. Entries with no value of
+     * their own are <code>null</code>.
+     */
+    private String[] values;
 
     /**
      * Reference to importedClasses that contains the list
@@ -113,7 +175,11 @@ public class JConstantPool implements KeyWords {
      * @param cpMax Maximum size of the ConstantPool.
      */
     public JConstantPool(int cpMax) {
-        listEntries = new ArrayList<>(cpMax);
+        int capacity = Math.max(cpMax, 2);
+        tags = new byte[capacity];
+        pointers = new int[2 * capacity];
+        values = new String[capacity];
+        utf8Bytes = new byte[capacity * UTF8_BYTES_PER_ENTRY];
         importedClasses = null;
         //Initially set to null.
     }
@@ -161,6 +227,24 @@ public class JConstantPool implements KeyWords {
             case TAG_NAMETYPE:
                 return ("TAG_NAMETYPE");
 
+            case TAG_METHODHANDLE:
+                return ("TAG_METHODHANDLE");
+
+            case TAG_METHODTYPE:
+                return ("TAG_METHODTYPE");
+
+            case TAG_DYNAMIC:
+                return ("TAG_DYNAMIC");
+
+            case TAG_INVOKEDYNAMIC:
+                return ("TAG_INVOKEDYNAMIC");
+
+            case TAG_MODULE:
+                return ("TAG_MODULE");
+
+            case TAG_PACKAGE:
+                return ("TAG_PACKAGE");
+
             case TAG_NOTHING:
                 return ("TAG_NOTHING");
 
@@ -169,6 +253,28 @@ public class JConstantPool implements KeyWords {
         }
     }
 
+    /**
+     * Appends an entry to the ConstantPool.
+     *
+     * @param tagByte Tag of the entry.
+     * @param ptr1    First pointer, or data, of the entry.
+     * @param ptr2    Second pointer, or data, of the entry.
+     * @param value   Value of the entry, if already known.
+     */
+    private void addEntry(int tagByte, int ptr1, int ptr2, String value) {
+        if (count == tags.length) {
+            int capacity = 2 * count;
+            tags = Arrays.copyOf(tags, capacity);
+            pointers = Arrays.copyOf(pointers, 2 * capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        tags[count] = (byte) tagByte;
+        pointers[2 * count] = ptr1;
+        pointers[2 * count + 1] = ptr2;
+        values[count] = value;
+        count++;
+    }
+
     /**
      * Adds a new TAG_CLASS entry to the constantpool.
      *
@@ -176,7 +282,7 @@ public class JConstantPool implements KeyWords {
      *                   class name.
      */
     public void addClassEntry(int classIndex) {
-        listEntries.add(new JConstantPoolEntry(TAG_CLASS, STR_INVALID, classIndex, PTR_INVALID));
+        addEntry(TAG_CLASS, classIndex, PTR_INVALID, null);
     }
 
     /**
@@ -185,7 +291,17 @@ public class JConstantPool implements KeyWords {
      * @param value Value of the double.
      */
     public void addDoubleEntry(String value) {
-        listEntries.add(new JConstantPoolEntry(TAG_DOUBLE, value, PTR_INVALID, PTR_INVALID));
+        addEntry(TAG_DOUBLE, PTR_INVALID, PTR_INVALID, value);
+    }
+
+    /**
+     * Adds a new TAG_DOUBLE entry to the constantpool.
+     *
+     * @param value Value of the double.
+     */
+    public void addDoubleEntry(double value) {
+        long bits = Double.doubleToRawLongBits(value);
+        addEntry(TAG_DOUBLE, (int) (bits >>> 32), (int) bits, null);
     }
 
     /**
@@ -195,7 +311,7 @@ public class JConstantPool implements KeyWords {
      * @param ptr2 Pointer to TAG_NAMETYPE
      */
     public void addFieldRefEntry(int ptr1, int ptr2) {
-        listEntries.add(new JConstantPoolEntry(TAG_FIELDREF, STR_INVALID, ptr1, ptr2));
+        addEntry(TAG_FIELDREF, ptr1, ptr2, null);
     }
 
     /**
@@ -204,7 +320,16 @@ public class JConstantPool implements KeyWords {
      * @param value Value of the float number.
      */
     public void addFloatEntry(String value) {
-        listEntries.add(new JConstantPoolEntry(TAG_FLOAT, value, PTR_INVALID, PTR_INVALID));
+        addEntry(TAG_FLOAT, PTR_INVALID, PTR_INVALID, value);
+    }
+
+    /**
+     * Adds a new TAG_FLOAT entry to the constantpool.
+     *
+     * @param value Value of the float number.
+     */
+    public void addFloatEntry(float value) {
+        addEntry(TAG_FLOAT, Float.floatToRawIntBits(value), PTR_INVALID, null);
     }
 
     /**
@@ -213,7 +338,16 @@ public class JConstantPool implements KeyWords {
      * @param value Value of the integer.
      */
     public void addIntegerEntry(String value) {
-        listEntries.add(new JConstantPoolEntry(TAG_INTEGER, value, PTR_INVALID, PTR_INVALID));
+        addEntry(TAG_INTEGER, PTR_INVALID, PTR_INVALID, value);
+    }
+
+    /**
+     * Adds a new TAG_INTEGER entry to the constantpool.
+     *
+     * @param value Value of the integer.
+     */
+    public void addIntegerEntry(int value) {
+        addEntry(TAG_INTEGER, value, PTR_INVALID, null);
     }
 
     /**
@@ -223,7 +357,7 @@ public class JConstantPool implements KeyWords {
      * @param ptr2 Pointer to TAG_NAMETYPE
      */
     public void addInterfaceRefEntry(int ptr1, int ptr2) {
-        listEntries.add(new JConstantPoolEntry(TAG_INTERFACEREF, STR_INVALID, ptr1, ptr2));
+        addEntry(TAG_INTERFACEREF, ptr1, ptr2, null);
     }
 
     /**
@@ -232,7 +366,16 @@ public class JConstantPool implements KeyWords {
      * @param value Value of the Long.
      */
     public void addLongEntry(String value) {
-        listEntries.add(new JConstantPoolEntry(TAG_LONG, value, PTR_INVALID, PTR_INVALID));
+        addEntry(TAG_LONG, PTR_INVALID, PTR_INVALID, value);
+    }
+
+    /**
+     * Adds a new TAG_LONG entry to the constantpool.
+     *
+     * @param value Value of the Long.
+     */
+    public void addLongEntry(long value) {
+        addEntry(TAG_LONG, (int) (value >>> 32), (int) value, null);
     }
 
     /**
@@ -242,7 +385,7 @@ public class JConstantPool implements KeyWords {
      * @param ptr2 Pointer to TAG_NAMETYPE
      */
     public void addMethodRefEntry(int ptr1, int ptr2) {
-        listEntries.add(new JConstantPoolEntry(TAG_METHODREF, STR_INVALID, ptr1, ptr2));
+        addEntry(TAG_METHODREF, ptr1, ptr2, null);
     }
 
     /**
@@ -252,7 +395,7 @@ public class JConstantPool implements KeyWords {
      * @param ptr2 Pointer to TAG_UTF8
      */
     public void addNameTypeEntry(int ptr1, int ptr2) {
-        listEntries.add(new JConstantPoolEntry(TAG_NAMETYPE, STR_INVALID, ptr1, ptr2));
+        addEntry(TAG_NAMETYPE, ptr1, ptr2, null);
     }
 
     /**
@@ -260,7 +403,7 @@ public class JConstantPool implements KeyWords {
      * Mainly useful when we add long/ double.
      */
     public void addNullEntry() {
-        listEntries.add(new JConstantPoolEntry(TAG_NOTHING, STR_INVALID, PTR_INVALID, PTR_INVALID));
+        addEntry(TAG_NOTHING, PTR_INVALID, PTR_INVALID, null);
     }
 
     /**
@@ -270,7 +413,7 @@ public class JConstantPool implements KeyWords {
      *                    containing the stringvalue.
      */
     public void addStringEntry(int stringIndex) {
-        listEntries.add(new JConstantPoolEntry(TAG_STRING, STR_INVALID, stringIndex, PTR_INVALID));
+        addEntry(TAG_STRING, stringIndex, PTR_INVALID, null);
     }
 
     /**
@@ -279,7 +422,113 @@ public class JConstantPool implements KeyWords {
      * @param value Value of the UTF8 String.
      */
     public void addUtf8Entry(String value) {
-        listEntries.add(new JConstantPoolEntry(TAG_UTF8, value, PTR_INVALID, PTR_INVALID));
+        addEntry(TAG_UTF8, 0, 0, value);
+    }
+
+    /**
+     * Adds a new TAG_UTF8 entry to the constantpool, reading its
+     * modified UTF8 bytes. The string is decoded when first asked for.
+     *
+     * @param aInput  DataInput positioned at the bytes of the string.
+     * @param aLength Number of bytes of the string.
+     * @throws IOException Thrown if error in stream of bytes containing the
+     *                     class file.
+     */
+    public void addUtf8Entry(DataInput aInput, int aLength)
+            throws IOException {
+        if (utf8Bytes.length - utf8Length < aLength) {
+            utf8Bytes = Arrays.copyOf(utf8Bytes, Math.max(2 * utf8Bytes.length, utf8Length + aLength));
+        }
+        aInput.readFully(utf8Bytes, utf8Length, aLength);
+        addEntry(TAG_UTF8, utf8Length, aLength, null);
+        utf8Length += aLength;
+    }
+
+    /**
+     * Returns the value of an entry, decoding it if not done yet.
+     *
+     * @param index Index to ConstantPool
+     * @return Returns the value, STR_INVALID for entries with
+     * no value of their own.
+     */
+    private String valueOf(int index) {
+        String value = values[index];
+        if (value == null) {
+            int ptr1 = pointers[2 * index];
+            int ptr2 = pointers[2 * index + 1];
+            switch (tags[index]) {
+                case TAG_UTF8:
+                    value = decodeUtf8(ptr1, ptr2);
+                    break;
+                case TAG_INTEGER:
+                    value = String.valueOf(ptr1);
+                    break;
+                case TAG_FLOAT:
+                    value = Float.intBitsToFloat(ptr1) + "f";
+                    break;
+                case TAG_LONG:
+                    value = (((long) ptr1 << 32) | (ptr2 & 0xFFFFFFFFL)) + "L";
+                    break;
+                case TAG_DOUBLE:
+                    value = String.valueOf(Double.longBitsToDouble(((long) ptr1 << 32) | (ptr2 & 0xFFFFFFFFL)));
+                    break;
+                default:
+                    return STR_INVALID;
+            }
+            //Strings are immutable, so racing threads at worst decode twice.
+            values[index] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Decodes modified UTF8 bytes of <code>utf8Bytes</code>.
+     *
+     * @param offset Offset of the first byte.
+     * @param length Number of bytes.
+     * @return Returns the decoded string.
+     */
+    private String decodeUtf8(int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        while (i < end && utf8Bytes[i] > 0) {
+            i++;
+        }
+        if (i == end) {
+            //Plain ASCII, the common case.
+            return new String(utf8Bytes, offset, length, StandardCharsets.ISO_8859_1);
+        }
+        char[] chars = new char[length];
+        int n = 0;
+        for (i = offset; i < end; n++) {
+            int c = utf8Bytes[i] & 0xFF;
+            if (c < 0x80) {
+                chars[n] = (char) c;
+                i++;
+            } else if (c < 0xE0 && i + 1 < end) {
+                chars[n] = (char) (((c & 0x1F) << 6) | (utf8Bytes[i + 1] & 0x3F));
+                i += 2;
+            } else if (i + 2 < end) {
+                chars[n] = (char) (((c & 0x0F) << 12) | ((utf8Bytes[i + 1] & 0x3F) << 6) |
+                        (utf8Bytes[i + 2] & 0x3F));
+                i += 3;
+            } else {
+                //Truncated sequence.
+                chars[n] = '\uFFFD';
+                i = end;
+            }
+        }
+        return new String(chars, 0, n);
+    }
+
+    /**
+     * Returns a view of an entry.
+     *
+     * @param index Index to ConstantPool
+     * @return Returns the entry.
+     */
+    private JConstantPoolEntry getEntry(int index) {
+        return new JConstantPoolEntry(getTagByte(index), valueOf(index), getPtr1(index), getPtr2(index));
     }
 
     /**
@@ -314,7 +563,20 @@ public class JConstantPool implements KeyWords {
      * @return Returns the tag byte.
      */
     public int getTagByte(int index) {
-        return (listEntries.get(index)).getTagByte();
+        checkIndex(index);
+        return tags[index];
+    }
+
+    /**
+     * Checks that an index refers to an entry of the ConstantPool.
+     *
+     * @param index Index to ConstantPool
+     * @throws IndexOutOfBoundsException Thrown if it does not.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+        }
     }
 
     /**
@@ -324,7 +586,8 @@ public class JConstantPool implements KeyWords {
      * @return Returns the value of that cp entry.
      */
     public String getCpValue(int index) {
-        return (listEntries.get(index)).getValue();
+        checkIndex(index);
+        return valueOf(index);
     }
 
     /**
@@ -338,10 +601,7 @@ public class JConstantPool implements KeyWords {
      * @return Returns a String a Utf8 value.
      */
     public String getFirstDirectName(int index) {
-        int ptr1 = (listEntries.get(index)).
-                getPtr1();
-        return (listEntries.get(ptr1)).
-                getValue();
+        return getCpValue(getPtr1(index));
     }
 
     /**
@@ -367,12 +627,21 @@ public class JConstantPool implements KeyWords {
 
     /**
      * Returns the constantpool entries.
-     * The individual elements are JConstantPoolEntry.
+     * The individual elements are JConstantPoolEntry, created
+     * on demand.
      *
      * @return Returns list of constantpool entries.
      */
     public List<JConstantPoolEntry> getEntries() {
-        return listEntries;
+        return new AbstractList<JConstantPoolEntry>() {
+            public JConstantPoolEntry get(int index) {
+                return getEntry(index);
+            }
+
+            public int size() {
+                return count;
+            }
+        };
     }
 
     /**
@@ -382,8 +651,8 @@ public class JConstantPool implements KeyWords {
      */
     public String getEntryInfo() {
         StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < listEntries.size(); i++) {
-            sb.append("\n").append(i).append(" : ").append(listEntries.get(i));
+        for (int i = 0; i < count; i++) {
+            sb.append("\n").append(i).append(" : ").append(getEntry(i));
         }
         return sb.toString();
     }
@@ -436,10 +705,7 @@ public class JConstantPool implements KeyWords {
      * @return Returns a String a Utf8 value.
      */
     public String getSecondDirectName(int index) {
-        int ptr2 = (listEntries.get(index)).
-                getPtr2();
-        return (listEntries.get(ptr2)).
-                getValue();
+        return getCpValue(getPtr2(index));
     }
 
     /**
@@ -457,27 +723,24 @@ public class JConstantPool implements KeyWords {
             return importedClasses;
         } else {
             importedClasses = new JImport();
-            for (int i = 0; i < listEntries.size(); i++) {
-                JConstantPoolEntry ent = listEntries.get(i);
-                switch (ent.getTagByte()) {
+            for (int i = 0; i < count; i++) {
+                switch (tags[i]) {
                     case TAG_CLASS:
                         importedClasses.addClass(Helper.getJavaDataType(getFirstDirectName(i), true));
                         break;
 
                     case TAG_FIELDREF:
-                        String type = getType(ent);
+                        String type = getType(i);
                         importedClasses.addClass(Helper.getJavaDataType(type, true));
                         break;
 
                     case TAG_METHODREF:
                     case TAG_INTERFACEREF:
-                        String methodType = getType(ent);
-                        List args = Helper.getArguments(methodType);
-                        for (Object arg : args) {
-                            String argtype = (String) arg;
-                            importedClasses.addClass(Helper.getJavaDataType(argtype, true));
+                        JMethodDescriptor methodType = JMethodDescriptor.getInstance(getType(i));
+                        for (int arg = 0; arg < methodType.getArgumentCount(); arg++) {
+                            importedClasses.addClass(methodType.getArgumentType(arg).getJavaType(true));
                         }
-                        importedClasses.addClass(Helper.getJavaDataType(Helper.getReturnType(methodType), true));
+                        importedClasses.addClass(Helper.getJavaDataType(methodType.getReturnType(), true));
                         break;
                 }
             }
@@ -495,9 +758,19 @@ public class JConstantPool implements KeyWords {
      * pointed to by the Constant Pool Entry.
      */
     public String getType(JConstantPoolEntry ent) {
-        JConstantPoolEntry entNameType = listEntries.get(ent.getPtr2());
-        JConstantPoolEntry entType = listEntries.get(entNameType.getPtr2());
-        return entType.getValue();
+        return getSecondDirectName(ent.getPtr2());
+    }
+
+    /**
+     * Returns the type of the member (field/method/interface)
+     * referred to by the given TAG_FIELDREF, TAG_METHODREF or
+     * TAG_INTERFACEREF entry.
+     *
+     * @param index Index to ConstantPool
+     * @return Returns type of the member.
+     */
+    private String getType(int index) {
+        return getSecondDirectName(getPtr2(index));
     }
 
     /**
@@ -506,7 +779,7 @@ public class JConstantPool implements KeyWords {
      * @return Returns the cp entry count.
      */
     public int getMaxCpEntry() {
-        return listEntries.size();
+        return count;
     }
 
     /**
@@ -516,7 +789,7 @@ public class JConstantPool implements KeyWords {
      * @return Returns the integer.
      */
     public int getPtr1(int index) {
-        return (listEntries.get(index)).getPtr1();
+        return hasPointers(getTagByte(index)) ? pointers[2 * index] : PTR_INVALID;
     }
 
     /**
@@ -526,7 +799,29 @@ public class JConstantPool implements KeyWords {
      * @return Returns the integer.
      */
     public int getPtr2(int index) {
-        return (listEntries.get(index)).getPtr2();
+        return hasPointers(getTagByte(index)) ? pointers[2 * index + 1] : PTR_INVALID;
+    }
+
+    /**
+     * Tells whether the pointers of a tag refer to other entries, rather
+     * than holding data or not being used.
+     *
+     * @param tagByte Tag Byte value
+     * @return Returns true, if the pointers of the tag are indexes to
+     * ConstantPool.
+     */
+    private static boolean hasPointers(int tagByte) {
+        switch (tagByte) {
+            case TAG_CLASS:
+            case TAG_STRING:
+            case TAG_FIELDREF:
+            case TAG_METHODREF:
+            case TAG_INTERFACEREF:
+            case TAG_NAMETYPE:
+                return true;
+            default:
+                return false;
+        }
     }
 
     /**
@@ -541,11 +836,10 @@ public class JConstantPool implements KeyWords {
      * @param cpIndex Index to ConstantPool.
      */
     private void getSingleEntryInfo(StringBuffer sb, int cpIndex) {
-        if (cpIndex >= 1 && cpIndex < listEntries.size()) {
-            JConstantPoolEntry ent = listEntries.get(cpIndex);
-            sb.append("\n").append(cpIndex).append(" : ").append(ent);
-            getSingleEntryInfo(sb, ent.getPtr1());
-            getSingleEntryInfo(sb, ent.getPtr2());
+        if (cpIndex >= 1 && cpIndex < count) {
+            sb.append("\n").append(cpIndex).append(" : ").append(getEntry(cpIndex));
+            getSingleEntryInfo(sb, getPtr1(cpIndex));
+            getSingleEntryInfo(sb, getPtr2(cpIndex));
         }
     }
 
@@ -567,8 +861,7 @@ public class JConstantPool implements KeyWords {
             case TAG_METHODREF:
             case TAG_FIELDREF:
             case TAG_INTERFACEREF:
-                JConstantPoolEntry ent = listEntries.get(index);
-                result.append(getType(ent)).append(",").append(getName(ent));
+                result.append(getType(index)).append(",").append(getFirstDirectName(getPtr2(index)));
                 break;
             case TAG_STRING:
                 result.append(getLdcString(index));
@@ -590,9 +883,7 @@ public class JConstantPool implements KeyWords {
      * pointed to by the Constant Pool Entry.
      */
     public String getName(JConstantPoolEntry ent) {
-        JConstantPoolEntry entNameType = listEntries.get(ent.getPtr2());
-        JConstantPoolEntry entName = listEntries.get(entNameType.getPtr1());
-        return entName.getValue();
+        return getFirstDirectName(ent.getPtr2());
     }
 
     /**
@@ -112,6 +112,14 @@ public class JException {
         return (startPc == exc.startPc && endPc == exc.endPc);
     }
 
+    /**
+     * @return Returns a hash code consistent with equals, that is,
+     * computed from the code block { startpc, endpc } only.
+     */
+    public int hashCode() {
+        return 31 * startPc + endPc;
+    }
+
     /**
      * This minor adjustment of endPc with handler pc is necessary since
      * in some cases the compiled code generated by javac and jikes
@@ -139,6 +147,24 @@ public class JException {
         }
     }
 
+    /**
+     * Same as getEffectiveEndPc(List), finding the instruction at
+     * endPc by a binary search of the instruction stream.
+     *
+     * @param stream Instructions of the method.
+     * @return Effective endPc of the try ..block
+     * @see #getEffectiveEndPc(List)
+     */
+    public int getEffectiveEndPc(JInstructionStream stream) {
+        int ins = stream.indexOf(endPc);
+        if (ins != -1) {
+            return stream.getNextIndex(ins);
+        } else {
+            Helper.log("JException Err: " + endPc);
+            return endPc;
+        }
+    }
+
     /**
      * @return Returns endpc of this code block.
      */
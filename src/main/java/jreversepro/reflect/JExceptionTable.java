@@ -0,0 +1,270 @@
+/*
+  @(#)JExceptionTable.java JReversePro - Java Decompiler / Disassembler.
+ * Copyright (C) 2000 2001 Karthik Kumar.
+ * EMail: akkumar@users.sourceforge.net
+ * <p>
+ * This program is free software; you can redistribute it and/or modify
+ * it , under the terms of the GNU General Public License as published
+ * by the Free Software Foundation; either version 2 of the License,
+ * or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program.If not, write to
+ * The Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+package jreversepro.reflect;
+
+import java.util.*;
+
+/**
+ * <b>JExceptionTable</b> indexes the try blocks of a method, so that
+ * the try blocks covering a pc, the try blocks ending at a pc and
+ * the type caught by a handler are found without going through the
+ * whole exception table.
+ * <br>The try blocks are kept sorted by their start pc, as an implicit
+ * balanced interval tree: every node also holds the greatest end pc of
+ * its subtree, so that subtrees ending before a pc are skipped.
+ * <br>The blocks found are always returned in the order of the
+ * exception table.
+ *
+ * @author Karthik Kumar.
+ * @see JMethod#getExceptionTable()
+ */
+public class JExceptionTable {
+
+    /**
+     * Try blocks in the order of the exception table.
+     */
+    private final JException[] blocks;
+    /**
+     * Position in the exception table of the try blocks,
+     * sorted by start pc.
+     */
+    private final int[] byStart;
+    /**
+     * Start pc of the try blocks, sorted by start pc.
+     */
+    private final int[] startPcs;
+    /**
+     * End pc of the try blocks, sorted by start pc.
+     */
+    private final int[] endPcs;
+    /**
+     * Greatest end pc of the subtree rooted at every node,
+     * sorted by start pc.
+     */
+    private final int[] maxEndPcs;
+    /**
+     * Position in the exception table of the try blocks,
+     * sorted by end pc.
+     */
+    private final int[] byEnd;
+    /**
+     * End pc of the try blocks, sorted by end pc.
+     */
+    private final int[] sortedEndPcs;
+    /**
+     * Map -
+     * Key - Handler Pc beginning
+     * value -Handler datatype.
+     */
+    private final Map<Object, Object> handlers;
+
+    /**
+     * @param excBlocks List of JException, in the order of the
+     *                  exception table.
+     */
+    public JExceptionTable(List<JException> excBlocks) {
+        int count = excBlocks.size();
+        blocks = excBlocks.toArray(new JException[count]);
+
+        Map<Object, Object> handlerMap = new HashMap<>();
+        long[] starts = new long[count];
+        long[] ends = new long[count];
+        for (int i = 0; i < count; i++) {
+            handlerMap.putAll(blocks[i].excCatchTable);
+            //Pc in the high bits, position in the low ones.
+            starts[i] = ((long) blocks[i].getStartPc() << 32) | i;
+            ends[i] = ((long) blocks[i].getEndPc() << 32) | i;
+        }
+        handlers = Collections.unmodifiableMap(handlerMap);
+
+        Arrays.sort(starts);
+        Arrays.sort(ends);
+        byStart = new int[count];
+        startPcs = new int[count];
+        endPcs = new int[count];
+        byEnd = new int[count];
+        sortedEndPcs = new int[count];
+        for (int i = 0; i < count; i++) {
+            byStart[i] = (int) starts[i];
+            startPcs[i] = blocks[byStart[i]].getStartPc();
+            endPcs[i] = blocks[byStart[i]].getEndPc();
+            byEnd[i] = (int) ends[i];
+            sortedEndPcs[i] = blocks[byEnd[i]].getEndPc();
+        }
+        maxEndPcs = new int[count];
+        buildMaxEndPcs(0, count);
+    }
+
+    /**
+     * Fills the greatest end pc of the subtree of the nodes
+     * between lo and hi.
+     *
+     * @param lo First node of the subtree.
+     * @param hi Node after the last node of the subtree.
+     * @return Returns the greatest end pc of the subtree,
+     * Integer.MIN_VALUE if it is empty.
+     */
+    private int buildMaxEndPcs(int lo, int hi) {
+        if (lo >= hi) {
+            return Integer.MIN_VALUE;
+        }
+        int mid = (lo + hi) >>> 1;
+        int max = Math.max(endPcs[mid], Math.max(buildMaxEndPcs(lo, mid), buildMaxEndPcs(mid + 1, hi)));
+        maxEndPcs[mid] = max;
+        return max;
+    }
+
+    /**
+     * Collects the try blocks of the subtree of the nodes between
+     * lo and hi that cover the given pc.
+     *
+     * @param lo     First node of the subtree.
+     * @param hi     Node after the last node of the subtree.
+     * @param pc     Pc to be covered.
+     * @param result Positions of the try blocks found, null if none
+     *               was found yet.
+     * @return Returns the positions found, null if none was found.
+     */
+    private Positions collectCovering(int lo, int hi, int pc, Positions result) {
+        if (lo >= hi) {
+            return result;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (maxEndPcs[mid] <= pc) {
+            return result;
+        }
+        result = collectCovering(lo, mid, pc, result);
+        if (startPcs[mid] <= pc) {
+            if (pc < endPcs[mid]) {
+                if (result == null) {
+                    result = new Positions();
+                }
+                result.add(byStart[mid]);
+            }
+            result = collectCovering(mid + 1, hi, pc, result);
+        }
+        return result;
+    }
+
+    /**
+     * @param pc Pc of an instruction.
+     * @return Returns the try blocks covering the pc, that is, whose
+     * start pc is less than or equal to the pc and whose end pc is
+     * greater than the pc.
+     */
+    public List<JException> getCoveringBlocks(int pc) {
+        return toBlocks(collectCovering(0, blocks.length, pc, null));
+    }
+
+    /**
+     * @param pc Pc of an instruction.
+     * @return Returns the try blocks whose end pc is the given pc.
+     */
+    public List<JException> getBlocksEndingAt(int pc) {
+        int lo = 0;
+        int hi = sortedEndPcs.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sortedEndPcs[mid] < pc) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        Positions positions = null;
+        for (int i = lo; i < sortedEndPcs.length && sortedEndPcs[i] == pc; i++) {
+            if (positions == null) {
+                positions = new Positions();
+            }
+            positions.add(byEnd[i]);
+        }
+        return toBlocks(positions);
+    }
+
+    /**
+     * @param positions Positions in the exception table, null if
+     *                  there are none.
+     * @return Returns the try blocks at those positions, in the order
+     * of the exception table.
+     */
+    private List<JException> toBlocks(Positions positions) {
+        if (positions == null) {
+            return Collections.emptyList();
+        }
+        Arrays.sort(positions.values, 0, positions.count);
+        List<JException> result = new ArrayList<>(positions.count);
+        for (int i = 0; i < positions.count; i++) {
+            result.add(blocks[positions.values[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * @param handlerPc Pc of the beginning of a handler.
+     * @return Returns the datatype caught by the handler,
+     * null if no handler begins at that pc.
+     */
+    public String getHandlerType(int handlerPc) {
+        return (String) handlers.get(handlerPc);
+    }
+
+    /**
+     * @return Returns the handlers of all the try blocks.
+     * Key - Handler Pc beginning, value - Handler datatype.
+     * The map can not be modified.
+     */
+    public Map<Object, Object> getHandlers() {
+        return handlers;
+    }
+
+    /**
+     * @return Returns the number of try blocks.
+     */
+    public int size() {
+        return blocks.length;
+    }
+
+    /**
+     * Growable list of positions in the exception table, sized for
+     * the few try blocks that usually cover or end at a pc.
+     */
+    private static final class Positions {
+
+        /**
+         * Positions found, the first count of them being used.
+         */
+        private int[] values = new int[4];
+        /**
+         * Number of positions found.
+         */
+        private int count;
+
+        /**
+         * @param position Position to be added.
+         */
+        private void add(int position) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = position;
+        }
+    }
+}
@@ -321,7 +321,7 @@ public class JInstruction implements JJvmOpcodes, KeyWords {
      * @return true, if switch instruction. false. otherwise
      */
     public boolean isASwitchIns() {
-        return opcode == OPCODE_TABLESWITCH || opcode == OPCODE_LOOKUPSWITCH;
+        return JJvmSet.hasFlag(opcode, JJvmSet.FLAG_SWITCH);
     }
 
     /**
@@ -331,16 +331,11 @@ public class JInstruction implements JJvmOpcodes, KeyWords {
      * false, otherwise.
      */
     public boolean isAnIfIns() {
-        return (opcode >= OPCODE_IFEQ && opcode <= OPCODE_IF_ACMPNE) || opcode == OPCODE_IFNULL || opcode ==
-                OPCODE_IFNONNULL;
+        return JJvmSet.hasFlag(opcode, JJvmSet.FLAG_IF);
     }
 
     public final boolean isEndOfCatch() {
-        return opcode == OPCODE_ARETURN || opcode == OPCODE_IRETURN || opcode == OPCODE_LRETURN || opcode ==
-                OPCODE_FRETURN || opcode == OPCODE_DRETURN || opcode == OPCODE_RETURN || opcode == OPCODE_POP ||
-                //               opcode == OPCODE_GOTO ||
-                //               opcode == OPCODE_GOTOW ||
-                opcode == OPCODE_ATHROW || opcode == OPCODE_JSR || opcode == OPCODE_JSRW;
+        return JJvmSet.hasFlag(opcode, JJvmSet.FLAG_END_OF_CATCH);
     }
 
     /**
@@ -351,10 +346,7 @@ public class JInstruction implements JJvmOpcodes, KeyWords {
      * false, otherwise.
      */
     public boolean isEndOfLine() {
-        return (opcode >= OPCODE_ISTORE && opcode <= OPCODE_SASTORE) || opcode == OPCODE_IINC || opcode ==
-                OPCODE_RETURN || opcode == OPCODE_IRETURN || opcode == OPCODE_LRETURN || opcode == OPCODE_FRETURN ||
-                opcode == OPCODE_DRETURN || opcode == OPCODE_ARETURN || opcode == OPCODE_ATHROW || opcode ==
-                OPCODE_PUTSTATIC || opcode == OPCODE_PUTFIELD || opcode == OPCODE_POP || opcode == OPCODE_POP2;
+        return JJvmSet.hasFlag(opcode, JJvmSet.FLAG_END_OF_LINE);
     }
 
     /**
@@ -365,8 +357,7 @@ public class JInstruction implements JJvmOpcodes, KeyWords {
      * false, otherwise
      */
     public boolean isInvokeIns() {
-        return opcode == OPCODE_INVOKESPECIAL || opcode == OPCODE_INVOKEVIRTUAL || opcode == OPCODE_INVOKESTATIC ||
-                opcode == OPCODE_INVOKEINTERFACE;
+        return JJvmSet.hasFlag(opcode, JJvmSet.FLAG_INVOKE);
     }
 
     /**
@@ -380,40 +371,7 @@ public class JInstruction implements JJvmOpcodes, KeyWords {
      * INVALID_VAR_INDEX, otherwise.
      */
     public int isStoreInstruction() {
-        switch (opcode) {
-            case OPCODE_ISTORE_0:
-            case OPCODE_FSTORE_0:
-            case OPCODE_LSTORE_0:
-            case OPCODE_DSTORE_0:
-            case OPCODE_ASTORE_0:
-                return 0;
-            case OPCODE_ISTORE_1:
-            case OPCODE_FSTORE_1:
-            case OPCODE_LSTORE_1:
-            case OPCODE_DSTORE_1:
-            case OPCODE_ASTORE_1:
-                return 1;
-            case OPCODE_ISTORE_2:
-            case OPCODE_FSTORE_2:
-            case OPCODE_LSTORE_2:
-            case OPCODE_DSTORE_2:
-            case OPCODE_ASTORE_2:
-                return 2;
-            case OPCODE_ISTORE_3:
-            case OPCODE_FSTORE_3:
-            case OPCODE_LSTORE_3:
-            case OPCODE_DSTORE_3:
-            case OPCODE_ASTORE_3:
-                return 3;
-            case OPCODE_ISTORE:
-            case OPCODE_FSTORE:
-            case OPCODE_LSTORE:
-            case OPCODE_DSTORE:
-            case OPCODE_ASTORE:
-                return getArgUnsignedWide();
-            default:
-                return INVALID_VAR_INDEX;
-        }
+        return toVarIndex(JJvmSet.getStoreVar(opcode));
     }
 
     /**
@@ -465,39 +423,24 @@ public class JInstruction implements JJvmOpcodes, KeyWords {
      * INVALID_VAR_INDEX, otherwise.
      */
     public int referredVariable() {
-        switch (opcode) {
-            case OPCODE_ILOAD_0:
-            case OPCODE_FLOAD_0:
-            case OPCODE_LLOAD_0:
-            case OPCODE_DLOAD_0:
-            case OPCODE_ALOAD_0:
-                return 0;
-            case OPCODE_ILOAD_1:
-            case OPCODE_FLOAD_1:
-            case OPCODE_LLOAD_1:
-            case OPCODE_DLOAD_1:
-            case OPCODE_ALOAD_1:
-                return 1;
-            case OPCODE_ILOAD_2:
-            case OPCODE_FLOAD_2:
-            case OPCODE_LLOAD_2:
-            case OPCODE_DLOAD_2:
-            case OPCODE_ALOAD_2:
-                return 2;
-            case OPCODE_ILOAD_3:
-            case OPCODE_FLOAD_3:
-            case OPCODE_LLOAD_3:
-            case OPCODE_DLOAD_3:
-            case OPCODE_ALOAD_3:
-                return 3;
-            case OPCODE_ILOAD:
-            case OPCODE_FLOAD:
-            case OPCODE_LLOAD:
-            case OPCODE_DLOAD:
-            case OPCODE_ALOAD:
+        return toVarIndex(JJvmSet.getLoadVar(opcode));
+    }
+
+    /**
+     * Resolves a variable index of the opcode tables of JJvmSet.
+     *
+     * @param var Variable index, VAR_FROM_ARG or VAR_NONE.
+     * @return index of the variable referred to.
+     * INVALID_VAR_INDEX, otherwise.
+     */
+    private int toVarIndex(int var) {
+        switch (var) {
+            case JJvmSet.VAR_FROM_ARG:
                 return getArgUnsignedWide();
-            default:
+            case JJvmSet.VAR_NONE:
                 return INVALID_VAR_INDEX;
+            default:
+                return var;
         }
     }
 
@@ -0,0 +1,373 @@
+/*
+ * @(#)JInstructionStream.java
+ *
+ * JReversePro - Java Decompiler / Disassembler.
+ * Copyright (C) 2000 2001 Karthik Kumar.
+ * EMail: akkumar@users.sourceforge.net
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it , under the terms of the GNU General Public License as published
+ * by the Free Software Foundation; either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program.If not, write to
+ *  The Free Software Foundation, Inc.,
+ *  59 Temple Place - Suite 330,
+ *  Boston, MA 02111-1307, USA.
+ */
+package jreversepro.reflect;
+
+import jreversepro.common.JJvmOpcodes;
+import jreversepro.common.JJvmSet;
+
+import java.util.Arrays;
+
+/**
+ * <b>JInstructionStream</b> is the compact form of the instructions
+ * of a method: the opcode and byte offset of each instruction, kept
+ * in arrays, over the bytecode array of the method. Arguments are
+ * read in place and no object is created per instruction.
+ * <br>Instructions are numbered from zero in the order they appear;
+ * a <code>Cursor</code> walks through them.
+ *
+ * @author Karthik Kumar
+ * @see JInstruction
+ */
+public class JInstructionStream implements JJvmOpcodes {
+
+    /**
+     * Bytecode array of the method.
+     */
+    private final byte[] bytecodes;
+    /**
+     * Number of instructions.
+     */
+    private final int count;
+    /**
+     * Byte offset of every instruction, followed by the offset
+     * right after the last one.
+     */
+    private final int[] offsets;
+    /**
+     * Opcode of every instruction.
+     */
+    private final byte[] opcodes;
+
+    /**
+     * Decodes the instructions of a bytecode array.
+     * By default all JVM opcodes are of fixed length in all contexts,
+     * except some.
+     * tableswitch and lookupswitch are basically variable length
+     * opcodes and their length primarily depend on the number
+     * of switch legs in the source code.
+     *
+     * @param bytecodes the bytecode array of the method.
+     * @throws IllegalArgumentException Thrown if the last instruction
+     *                                  is truncated, or a switch has
+     *                                  a malformed key range.
+     */
+    public JInstructionStream(byte[] bytecodes) {
+        this.bytecodes = bytecodes;
+        int maxCode = bytecodes.length;
+        int[] insOffsets = new int[maxCode + 1];
+        byte[] insOpcodes = new byte[maxCode];
+        int n = 0;
+        int index = 0;
+        boolean bWide = false;
+        while (index < maxCode) {
+            int curByte = bytecodes[index] & 0xFF;
+            // long, so that malformed key ranges and pair counts cannot wrap around
+            long nextPc;
+            if (curByte == OPCODE_TABLESWITCH) {
+                int startPc = switchStart(index);
+                long lowByte = readInt(startPc + 4);
+                long highByte = readInt(startPc + 8);
+                nextPc = highByte < lowByte ? index : startPc + 12 + 4 * (highByte - lowByte + 1);
+            } else if (curByte == OPCODE_LOOKUPSWITCH) {
+                int startPc = switchStart(index);
+                nextPc = startPc + 8 + 8L * readInt(startPc + 4);
+            } else {
+                nextPc = index + JJvmSet.getInsLen(curByte, bWide);
+            }
+            if (nextPc <= index || nextPc > maxCode) {
+                throw new IllegalArgumentException("Truncated instruction " + JJvmSet.getIns(curByte) + " at " +
+                        index);
+            }
+            insOffsets[n] = index;
+            insOpcodes[n] = (byte) curByte;
+            n++;
+            bWide = (curByte == OPCODE_WIDE);
+            index = (int) nextPc;
+        }
+        insOffsets[n] = index;
+        count = n;
+        offsets = n == maxCode ? insOffsets : Arrays.copyOf(insOffsets, n + 1);
+        opcodes = n == maxCode ? insOpcodes : Arrays.copyOf(insOpcodes, n);
+    }
+
+    /**
+     * @param index Byte offset of a switch instruction.
+     * @return Returns the offset of its arguments, aligned on four bytes.
+     */
+    private static int switchStart(int index) {
+        return index + 4 - (index % 4);
+    }
+
+    /**
+     * @param pos Byte offset of a big-endian integer.
+     * @return Returns the integer.
+     * @throws IllegalArgumentException Thrown if the integer is
+     *                                  truncated.
+     */
+    private int readInt(int pos) {
+        if (pos + 4 > bytecodes.length) {
+            throw new IllegalArgumentException("Truncated switch at " + pos);
+        }
+        return (bytecodes[pos] << 24) | ((bytecodes[pos + 1] & 0xFF) << 16) | ((bytecodes[pos + 2] & 0xFF) << 8) |
+                (bytecodes[pos + 3] & 0xFF);
+    }
+
+    /**
+     * @return Returns the number of instructions.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @param ins Number of the instruction.
+     * @return Returns the byte offset of the instruction.
+     */
+    public int getIndex(int ins) {
+        return offsets[ins];
+    }
+
+    /**
+     * @param ins Number of the instruction.
+     * @return Returns the byte offset of the following instruction,
+     * or the length of the code for the last one.
+     */
+    public int getNextIndex(int ins) {
+        return offsets[ins + 1];
+    }
+
+    /**
+     * @param ins Number of the instruction.
+     * @return Returns the opcode of the instruction.
+     */
+    public int getOpcode(int ins) {
+        return opcodes[ins] & 0xFF;
+    }
+
+    /**
+     * @param ins Number of the instruction.
+     * @return Returns true, if the previous instruction was a
+     * wide instruction.
+     */
+    public boolean isWide(int ins) {
+        return ins > 0 && (opcodes[ins - 1] & 0xFF) == OPCODE_WIDE;
+    }
+
+    /**
+     * @param ins Number of the instruction.
+     * @return Returns the byte offset of its arguments.
+     */
+    public int getArgStart(int ins) {
+        return JJvmSet.hasFlag(getOpcode(ins), JJvmSet.FLAG_SWITCH) ? switchStart(offsets[ins]) : offsets[ins] + 1;
+    }
+
+    /**
+     * @param ins Number of the instruction.
+     * @return Returns the number of bytes of its arguments.
+     */
+    public int getArgLength(int ins) {
+        return offsets[ins + 1] - getArgStart(ins);
+    }
+
+    /**
+     * Finds an instruction by byte offset.
+     *
+     * @param index Byte offset of the instruction.
+     * @return Returns the number of the instruction, -1 if no
+     * instruction starts at that offset.
+     */
+    public int indexOf(int index) {
+        int ins = Arrays.binarySearch(offsets, 0, count, index);
+        return ins < 0 ? -1 : ins;
+    }
+
+    /**
+     * Creates the JInstruction, with a copy of its arguments.
+     *
+     * @param ins Number of the instruction.
+     * @return Returns the instruction.
+     */
+    public JInstruction toInstruction(int ins) {
+        int argStart = getArgStart(ins);
+        int argLength = offsets[ins + 1] - argStart;
+        byte[] args = argLength == 0 ? null : Arrays.copyOfRange(bytecodes, argStart, argStart + argLength);
+        return new JInstruction(offsets[ins], getOpcode(ins), args, isWide(ins));
+    }
+
+    /**
+     * @return Returns a cursor placed before the first instruction.
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Walks through the instructions of the stream, reading
+     * them in place. The accessors are those of JInstruction.
+     */
+    public class Cursor {
+
+        /**
+         * Byte offset of the arguments of the current instruction.
+         */
+        private int argStart;
+        /**
+         * Number of the current instruction.
+         */
+        private int ins = -1;
+
+        /**
+         * Moves to the next instruction.
+         *
+         * @return Returns true, if there is one.
+         * false, if the end of the stream was reached.
+         */
+        public boolean next() {
+            if (ins < count) {
+                ins++;
+            }
+            if (ins == count) {
+                return false;
+            }
+            argStart = getArgStart(ins);
+            return true;
+        }
+
+        /**
+         * @return Returns the number of the current instruction.
+         */
+        public int getPosition() {
+            return ins;
+        }
+
+        /**
+         * @return Returns the byte offset of the current instruction.
+         */
+        public int getIndex() {
+            return offsets[ins];
+        }
+
+        /**
+         * @return Returns the opcode of the current instruction.
+         */
+        public int getOpcode() {
+            return opcodes[ins] & 0xFF;
+        }
+
+        /**
+         * @return Returns the opcode name
+         */
+        public String getInsName() {
+            return JJvmSet.getIns(getOpcode());
+        }
+
+        /**
+         * @return Returns true, if this is a wide instruction.
+         */
+        public boolean isWide() {
+            return JInstructionStream.this.isWide(ins);
+        }
+
+        /**
+         * @return Returns the number of bytes of the arguments.
+         */
+        public int getArgLength() {
+            return offsets[ins + 1] - argStart;
+        }
+
+        /**
+         * @param pos Position of the byte in the arguments.
+         * @return unsigned byte.
+         */
+        public int getArgUnsignedByte(int pos) {
+            return bytecodes[argStart + pos] & 0xFF;
+        }
+
+        /**
+         * @param pos Position of the first byte in the arguments.
+         * @return unsigned short.
+         */
+        public int getArgUnsignedShort(int pos) {
+            return ((bytecodes[argStart + pos] & 0xFF) << 8) | (bytecodes[argStart + pos + 1] & 0xFF);
+        }
+
+        /**
+         * @param pos Position of the first byte in the arguments.
+         * @return signed short.
+         */
+        public int getArgShort(int pos) {
+            return (bytecodes[argStart + pos] << 8) | (bytecodes[argStart + pos + 1] & 0xFF);
+        }
+
+        /**
+         * @param pos Position of the first byte in the arguments.
+         * @return signed integer.
+         */
+        public int getArgInt(int pos) {
+            return readInt(argStart + pos);
+        }
+
+        /**
+         * In case this instruction is a jump/branch instruction, this
+         * instruction returns the offset + index mentioned in the two
+         * bytes in the argument array.
+         *
+         * @return Returns the offset + index.
+         */
+        public int getTargetPc() {
+            return ((getArgShort(0) & 0xffff) + getIndex()) & 0xffff;
+        }
+
+        /**
+         * In case this instruction is a wide jump/branch instruction,
+         * this instruction returns the offset + index mentioned in the
+         * four bytes in the argument array.
+         *
+         * @return Returns the offset + index.
+         */
+        public int getTargetPcW() {
+            return (getArgInt(0) + getIndex()) & 0xffff;
+        }
+
+        /**
+         * @return Returns true, if this is an 'if' instruction.
+         */
+        public boolean isAnIfIns() {
+            return JJvmSet.hasFlag(getOpcode(), JJvmSet.FLAG_IF);
+        }
+
+        /**
+         * @return Returns true, if this is a switch instruction.
+         */
+        public boolean isASwitchIns() {
+            return JJvmSet.hasFlag(getOpcode(), JJvmSet.FLAG_SWITCH);
+        }
+
+        /**
+         * @return Returns the current instruction as a JInstruction.
+         */
+        public JInstruction toInstruction() {
+            return JInstructionStream.this.toInstruction(ins);
+        }
+    }
+}
@@ -26,6 +26,8 @@ package jreversepro.reflect;
 
 import jreversepro.reflect.method.JBlockObject;
 
+import java.io.IOException;
+
 /**
  * Represents a single line of code.
  *
@@ -308,6 +310,16 @@ public class JLineOfCode {
         return indent + viz;
     }
 
+    /**
+     * @param out    Output the stmt is written to.
+     * @param indent Indentation level.
+     * @throws IOException Thrown in case of any i/o error writing the stmt.
+     */
+    public void writeCode(Appendable out, String indent)
+            throws IOException {
+        out.append(indent).append(viz);
+    }
+
     /**
      * @param indent ??
      * @param debug  Not Used - ???
@@ -21,8 +21,6 @@
 package jreversepro.reflect;
 
 import jreversepro.common.Helper;
-import jreversepro.common.JJvmOpcodes;
-import jreversepro.common.JJvmSet;
 import jreversepro.common.KeyWords;
 import jreversepro.reflect.method.JBlockObject;
 import jreversepro.reflect.method.JMethodBlock;
@@ -30,6 +28,7 @@ import jreversepro.runtime.JSymbolTable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.*;
 
 /**
@@ -53,6 +52,10 @@ public class JMethod extends JMember implements KeyWords {
      * JException
      */
     private final List<JException> exceptionBlocks; // exception table
+    /**
+     * Exception blocks by their code block { startpc, endpc }.
+     */
+    private final Map<JException, JException> tryBlocks;
     /**
      * Information about fields, methods of the class being reverse engineered.
      */
@@ -82,6 +85,14 @@ public class JMethod extends JMember implements KeyWords {
      * JException
      */
     private List<JInstruction> instructions; //  Instructions here.
+    /**
+     * Compact form of the instructions, decoded lazily.
+     */
+    private JInstructionStream instructionStream;
+    /**
+     * Index of the exception blocks, built lazily.
+     */
+    private JExceptionTable exceptionTable;
 
     /**
      * This contains the LineNumberTable that may be
@@ -133,6 +144,7 @@ public class JMethod extends JMember implements KeyWords {
         blockStack.push(methodBlock);
 
         exceptionBlocks = new ArrayList<>();
+        tryBlocks = new HashMap<>();
 
         throwsClasses = new ArrayList(2);
         firstIns = null;
@@ -164,13 +176,14 @@ public class JMethod extends JMember implements KeyWords {
         JException exc = new JException(startPc, endPc, handlerPc, datatype);
 
         //Probably some changes to the keys put in the list.
-        int tryIndex = exceptionBlocks.indexOf(exc);
-        if (tryIndex == -1) {
+        JException oldTry = tryBlocks.get(exc);
+        if (oldTry == null) {
             exceptionBlocks.add(exc);
+            tryBlocks.put(exc, exc);
         } else {
-            JException oldTry = exceptionBlocks.get(tryIndex);
             oldTry.addCatchBlock(handlerPc, datatype);
         }
+        exceptionTable = null;
     }
 
     /**
@@ -201,13 +214,24 @@ public class JMethod extends JMember implements KeyWords {
      * Returns a map
      *
      * @return Returns a map of exception tables.
+     * Key - Handler Pc beginning, value - Handler datatype.
+     * The map can not be modified.
      */
     public Map<Object, Object> getAllCatchJExceptions() {
-        Map<Object, Object> newMap = new HashMap<>();
-        for (JException exceptionBlock : exceptionBlocks) {
-            newMap.putAll((exceptionBlock).excCatchTable);
+        return getExceptionTable().getHandlers();
+    }
+
+    /**
+     * Returns the index of the exception blocks of this method,
+     * building it the first time it is asked for.
+     *
+     * @return Returns the index of the exception blocks.
+     */
+    public JExceptionTable getExceptionTable() {
+        if (exceptionTable == null) {
+            exceptionTable = new JExceptionTable(exceptionBlocks);
         }
-        return newMap;
+        return exceptionTable;
     }
 
     /**
@@ -226,6 +250,7 @@ public class JMethod extends JMember implements KeyWords {
      */
     public void setBytes(byte[] bytecodes) {
         this.bytecodes = bytecodes;
+        instructionStream = null;
     }
 
     /**
@@ -249,15 +274,9 @@ public class JMethod extends JMember implements KeyWords {
             return null;
         }
 
-        //now search for the ins
-        JInstruction tIns = null;
-        for (JInstruction instruction : instructions) {
-            if (instruction.index == ind) {
-                tIns = instruction;
-                break;
-            }
-        }
-        return tIns;
+        //instructions are numbered as in the instruction stream.
+        int i = getInstructionStream().indexOf(ind);
+        return i < 0 ? null : instructions.get(i);
     }
 
     /**
@@ -274,43 +293,37 @@ public class JMethod extends JMember implements KeyWords {
         return instructions;
     }
 
+    /**
+     * Returns the compact form of the instructions of the method,
+     * decoded over the bytecode array without creating any
+     * JInstruction.
+     *
+     * @return Returns the instruction stream of the method.
+     */
+    public JInstructionStream getInstructionStream() {
+        if (instructionStream == null) {
+            instructionStream = new JInstructionStream(bytecodes == null ? new byte[0] : bytecodes);
+        }
+        return instructionStream;
+    }
+
     /**
      * Normalization of the bytecodes into JVM codes.
      * This method is responsible for converting the bytecode
-     * stream of the method into JVM opcodes.
-     * By default all JVM opcodes are of fixed length in all contexts,
-     * except some.
-     * tableswitch and lookupswitch are basically variable length
-     * opcodes and their length primarily depend on the number
-     * of switch legs in the source code since they are one
-     * componsite statement that contains information about
-     * all the possible targets.
+     * stream of the method into JVM opcodes, one JInstruction
+     * per instruction of the instruction stream.
+     *
+     * @see #getInstructionStream()
      */
     public void normalize() {
         instructions = new ArrayList<>();
         if (bytecodes == null) {
             return;
         }
-        int maxCode = bytecodes.length;
-        int index = 0;
-        int nextPc;
-        int startPc;
-        boolean bWide = false;
+        JInstructionStream stream = getInstructionStream();
         JInstruction curIns = firstIns;
-
-        while (index < maxCode) {
-            int curByte = Helper.signedToUnsigned(bytecodes[index]);
-            startPc = index + 1;
-            if (curByte == JJvmOpcodes.OPCODE_TABLESWITCH) {
-                startPc = index + 4 - (index % 4);
-                nextPc = dealTableSwitch(startPc);
-            } else if (curByte == JJvmOpcodes.OPCODE_LOOKUPSWITCH) {
-                startPc = index + 4 - (index % 4);
-                nextPc = dealLookupSwitch(startPc);
-            } else {
-                nextPc = index + JJvmSet.getInsLen(curByte, bWide);
-            }
-            JInstruction thisIns = new JInstruction(index, curByte, getArgArray(startPc, nextPc), bWide);
+        for (int i = 0; i < stream.size(); i++) {
+            JInstruction thisIns = stream.toInstruction(i);
             if (firstIns == null) {
                 firstIns = thisIns;
             } else {
@@ -319,111 +332,6 @@ public class JMethod extends JMember implements KeyWords {
             curIns = thisIns;
 
             instructions.add(thisIns);
-            bWide = (curByte == JJvmOpcodes.OPCODE_WIDE);
-            index = nextPc;
-        }
-    }
-
-    /**
-     * This method returns the length of the variable
-     * instruction tableswitch.
-     *
-     * @param index beginning index of the tableswitch statement
-     *              into the bytecode stream of the method.
-     *              The format is as follows.
-     *              The first 4 bytes are for defaultbyte.
-     *              The next 4 for the lowest value in the case leg values.
-     *              The next 4 for the highest value in the case high values.
-     *              Then we will have ( high - low ) * 4 bytes - all
-     *              containing the target index to be junmped into
-     *              relative to the index of the current switch instruction.
-     * @return Returns the integer that is Index + length of
-     * the instruction so that the next JVM opcode can proceed from
-     * there.
-     */
-    protected int dealTableSwitch(int index) {
-        //Read Default Byte
-        index += 4;
-
-        int lowByte = readTargetSwitch(index);
-        index += 4;
-
-        int highByte = readTargetSwitch(index);
-        index += 4;
-
-        index += (4 * (highByte - lowByte + 1));
-        return index;
-    }
-
-    /**
-     * This method returns the length of the variable
-     * instruction lookupswitch.
-     *
-     * @param index beginning index of the lookupswitch statement
-     *              into the bytecode stream of the method.
-     *              The format is as follows.
-     *              The first 4 bytes are for defaultbyte.
-     *              The next 4 for the number of pairs of ( case leg value, target)
-     *              that will appear as follows, say N.
-     *              Then there will be (2 * N)  * 4 bytes , ( N pairs of integers ),
-     *              with each pair containing the case leg value first and the
-     *              second integer letting us know the target of the case leg
-     *              relative to the index of the method.
-     * @return Returns the integer that is Index + length of
-     * the instruction so that the next JVM opcode can proceed from
-     * there.
-     */
-    protected int dealLookupSwitch(int index) {
-        //Read Default Byte
-        index += 4;
-
-        int nPairs = readTargetSwitch(index);
-        index += 4;
-
-        index += (8 * nPairs);
-
-        return index;
-    }
-
-    /**
-     * Given the start index and the end index this method
-     * returns a byte array that contain the byte values
-     * with the start array value included and end array
-     * excluded.
-     *
-     * @param start start index into the byte array.
-     * @param end   end index into the byte array.
-     * @return Returns a byte array containing the bytes
-     * from start to end , end exclusive and start inclusive.
-     */
-    protected byte[] getArgArray(int start, int end) {
-        if (start == end) {
-            return null;
-        } else {
-            byte[] result = new byte[end - start];
-            System.arraycopy(bytecodes, start, result, 0, end - start);
-            return result;
-        }
-    }
-
-    /**
-     * This method is used to return the signed integer
-     * value of the next four bytes, if given an bytecode index,
-     *
-     * @param newIndex Index from which the integer array starts.
-     *                 This is in big-endian order.
-     * @return Returns the integer value.
-     */
-    private int readTargetSwitch(int newIndex) {
-        int result = 0;
-        for (int i = 0; i < 4; i++) {
-            int thisByte = Helper.signedToUnsigned(bytecodes[newIndex + i]);
-            result += (int) (Math.pow(256, 3 - i)) * thisByte;
-        }
-        if (result < 0) {
-            return result + 256;
-        } else {
-            return result;
         }
     }
 
@@ -490,9 +398,36 @@ public class JMethod extends JMember implements KeyWords {
      * @return Returns the stringified method
      */
     public String getMethodAsString(boolean getBytecode, boolean includeStackInfo) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            writeMethod(sb, getBytecode, includeStackInfo);
+        } catch (IOException ex) {
+            //Never thrown by a StringBuilder.
+            throw new IllegalStateException(ex);
+        }
+        return sb.toString();
+    }
 
-        return getMethodHeader(includeStackInfo) + (getBytecode ? getStringifiedBytecode() : getBlock().toString
-                ());
+    /**
+     * Writes the method to the given output, the code of the method
+     * block going straight to the output instead of being built as a
+     * String first.
+     *
+     * @param out              Output the method is written to.
+     * @param getBytecode      TRUE if bytecode is to be written, FALSE if
+     *                         decompiled code should be written.
+     * @param includeStackInfo TRUE if stack and exception info should be
+     *                         output
+     * @throws IOException Thrown in case of any i/o error writing the method.
+     */
+    public void writeMethod(Appendable out, boolean getBytecode, boolean includeStackInfo)
+            throws IOException {
+        out.append(getMethodHeader(includeStackInfo));
+        if (getBytecode) {
+            out.append(getStringifiedBytecode());
+        } else {
+            getBlock().writeCode(out);
+        }
     }
 
     /**
@@ -676,20 +611,9 @@ public class JMethod extends JMember implements KeyWords {
             return null;
         }
 
-        //now search for the ins
-        JInstruction tIns = null;
-        for (int i = 0; i < instructions.size(); i++) {
-            JInstruction sIns = instructions.get(i);
-            if (sIns.index == ind) {
-                i++;
-                //now make sure it's not the last ins
-                if (i < instructions.size()) {
-                    tIns = instructions.get(i);
-                }
-                break;
-            }
-        }
-        return tIns;
+        int i = getInstructionStream().indexOf(ind);
+        //now make sure it's not the last ins
+        return i < 0 || i + 1 >= instructions.size() ? null : instructions.get(i + 1);
     }
 
     /**
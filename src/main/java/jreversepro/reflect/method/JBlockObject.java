@@ -26,6 +26,7 @@ package jreversepro.reflect.method;
 
 import jreversepro.reflect.JLineOfCode;
 
+import java.io.IOException;
 import java.util.Vector;
 
 /**
@@ -169,27 +170,39 @@ public abstract class JBlockObject {
      * (and sub-blocks) as a string
      */
     public String toString(String _indent) {
-
-        indent = _indent;
-
         StringBuilder sb = new StringBuilder();
+        try {
+            writeCode(sb, _indent);
+        } catch (IOException ex) {
+            //Never thrown by a StringBuilder.
+            throw new IllegalStateException(ex);
+        }
+        return sb.toString();
+    }
 
+    /**
+     * Writes the method code contained in this block (and sub-blocks)
+     * to the given output, each sub-block indenting its own code.
+     *
+     * @param out     Output the code is written to.
+     * @param _indent Indentation.
+     * @throws IOException Thrown in case of any i/o error writing the code.
+     */
+    public void writeCode(Appendable out, String _indent)
+            throws IOException {
+        indent = _indent;
         //Print block entry code
-        sb.append(indent).append(getEntryCode());
-
+        out.append(indent).append(getEntryCode());
         //Print code inside block
-        //log.info("[numBlocks="+blocksNstmts.size());
+        String innerIndent = indent + defaultIndent;
         for (Object o : blocksNstmts) {
             if (o instanceof JBlockObject) {
-                sb.append(((JBlockObject) o).toString(indent + defaultIndent));
+                ((JBlockObject) o).writeCode(out, innerIndent);
             } else if (o instanceof JLineOfCode) {
-                sb.append(((JLineOfCode) o).toString(indent + defaultIndent));
+                ((JLineOfCode) o).writeCode(out, innerIndent);
             }
         }
-
         //Print block exit code
-        sb.append(indent).append(getExitCode());
-
-        return sb.toString();
+        out.append(indent).append(getExitCode());
     }
 }
@@ -24,11 +24,18 @@
 
 package jreversepro.reflect.method;
 
+import java.io.IOException;
+
 /**
  * @author pazandak@objs.com -- Copyright 2002.
  */
 public class JMethodBlock extends JBlockObject {
 
+    /**
+     * Indentation of the method body.
+     */
+    private static final String INDENT = "    ";
+
     /**
      * Creates a new instance of JMethodBlock
      */
@@ -53,7 +60,19 @@ public class JMethodBlock extends JBlockObject {
      * Outputs the method code contained in this block (and sub-blocks) as a string
      */
     public String toString() {
-        return super.toString("    ");
+        return super.toString(INDENT);
+    }
+
+    /**
+     * Writes the method code contained in this block (and sub-blocks)
+     * to the given output.
+     *
+     * @param out Output the code is written to.
+     * @throws IOException Thrown in case of any i/o error writing the code.
+     */
+    public void writeCode(Appendable out)
+            throws IOException {
+        writeCode(out, INDENT);
     }
 
 }
@@ -0,0 +1,411 @@
+/*
+  @(#)JBatchReverseEngineer.java JReversePro - Java Decompiler / Disassembler.
+ * Copyright (C) 2000 2001 Karthik Kumar.
+ * EMail: akkumar@users.sourceforge.net
+ * <p>
+ * This program is free software; you can redistribute it and/or modify
+ * it , under the terms of the GNU General Public License as published
+ * by the Free Software Foundation; either version 2 of the License,
+ * or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program.If not, write to
+ * The Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+package jreversepro.revengine;
+
+import jreversepro.parser.JClassParser;
+import jreversepro.reflect.JClassInfo;
+import jreversepro.reflect.JConstantPool;
+import jreversepro.reflect.JMethod;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * <b>JBatchReverseEngineer</b> decompiles or disassembles every class of
+ * jars, directories or whole classpaths.
+ * <br>Classes are parsed on a work stealing pool, and the methods of
+ * each class are reverse engineered as tasks of the same pool. Every
+ * finished class is handed to a <code>JSourceSink</code> as soon as it is
+ * done. A jar or directory that can not be read, or a class that can
+ * not be parsed, is reported to the sink and skipped; a method that can
+ * not be reverse engineered is logged and does not prevent the rest of
+ * its class from being written.
+ * <br>The memory taken by the classes being worked on is bounded by a
+ * budget of class file bytes: no class is read until enough of the
+ * budget has been released by the classes already written.
+ * <br>With a <code>JDecompilationCache</code>, a class whose bytes are
+ * found in the cache is written without being parsed, and the others
+ * are stored in the cache once reverse engineered.
+ */
+public class JBatchReverseEngineer {
+
+    /**
+     * Default budget of class file bytes in flight.
+     */
+    public static final long DEFAULT_BYTES_IN_FLIGHT = 16L * 1024 * 1024;
+    /**
+     * Size assumed for jar entries whose size is unknown.
+     */
+    private static final int DEFAULT_CLASS_SIZE = 8 * 1024;
+    /**
+     * Class files of this size or larger are memory mapped, smaller ones
+     * are read into the heap, where they cost less than a mapping.
+     */
+    private static final long MAP_THRESHOLD = 1024 * 1024;
+    /**
+     * The budget is counted in permits of this many bytes.
+     */
+    private static final int PERMIT_SIZE = 1024;
+    private static final Logger log = LoggerFactory.getLogger(JBatchReverseEngineer.class);
+    /**
+     * Parser of each thread, since parsers are not thread safe.
+     */
+    private static final ThreadLocal<JClassParser> PARSER = ThreadLocal.withInitial(JClassParser::new);
+
+    /**
+     * Budget of class file bytes in flight, in permits.
+     */
+    private final int mBudget;
+    /**
+     * TRUE - disassemble, FALSE - decompile.
+     */
+    private final boolean mDisassemble;
+    /**
+     * Number of threads of the pool.
+     */
+    private final int mParallelism;
+    /**
+     * Cache of reverse engineered classes, null if none.
+     */
+    private JDecompilationCache mCache;
+
+    /**
+     * Decompiles with as many threads as processors and the
+     * default budget of bytes in flight.
+     */
+    public JBatchReverseEngineer() {
+        this(false, Runtime.getRuntime().availableProcessors(), DEFAULT_BYTES_IN_FLIGHT);
+    }
+
+    /**
+     * @param aDisassemble     TRUE - disassemble, FALSE - decompile.
+     * @param aParallelism     Number of threads.
+     * @param aBytesInFlight   Maximum bytes of the class files being
+     *                         worked on at any time.
+     * @throws IllegalArgumentException Thrown if the parallelism or the
+     *                                  budget are not positive.
+     */
+    public JBatchReverseEngineer(boolean aDisassemble, int aParallelism, long aBytesInFlight) {
+        if (aParallelism < 1 || aBytesInFlight < 1) {
+            throw new IllegalArgumentException("Parallelism and bytes in flight must be positive");
+        }
+        mDisassemble = aDisassemble;
+        mParallelism = aParallelism;
+        mBudget = (int) Math.min(Integer.MAX_VALUE, (aBytesInFlight + PERMIT_SIZE - 1) / PERMIT_SIZE);
+    }
+
+    /**
+     * Sets the cache consulted before parsing a class, and filled with
+     * the classes reverse engineered.
+     *
+     * @param aCache Cache of reverse engineered classes, null for none.
+     */
+    public void setCache(JDecompilationCache aCache) {
+        mCache = aCache;
+    }
+
+    /**
+     * Reverse engineers every class of a classpath.
+     *
+     * @param aClassPath Jars and directories separated by
+     *                   <code>File.pathSeparator</code>.
+     * @param aSink      Sink receiving the classes.
+     * @return Number of classes written to the sink.
+     * @throws IOException Thrown if a jar can not be closed.
+     * @see #process(List, JSourceSink)
+     */
+    public int process(String aClassPath, JSourceSink aSink)
+            throws IOException {
+        return process(Stream.of(aClassPath.split(File.pathSeparator)).filter(s -> !s.isEmpty()).map(File::new)
+                .collect(Collectors.toList()), aSink);
+    }
+
+    /**
+     * Reverse engineers every class found in the given jars, directories
+     * and class files. The sink is never called concurrently. A root that
+     * can not be read is reported to the sink, with the path of the root,
+     * and the others are processed all the same.
+     *
+     * @param aRoots Jars, directories and class files.
+     * @param aSink  Sink receiving the classes.
+     * @return Number of classes written to the sink.
+     * @throws IOException Thrown if a jar can not be closed.
+     */
+    public int process(List<File> aRoots, JSourceSink aSink)
+            throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(mParallelism);
+        Semaphore budget = new Semaphore(mBudget);
+        AtomicInteger written = new AtomicInteger();
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        List<ZipFile> jars = new ArrayList<>();
+        try {
+            for (File root : aRoots) {
+                try {
+                    submitRoot(root, pool, budget, aSink, written, tasks, jars);
+                } catch (IOException | UncheckedIOException e) {
+                    log.debug("Unable to read " + root + ": " + e);
+                    synchronized (aSink) {
+                        aSink.failed(root.toString(), e);
+                    }
+                }
+            }
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+        } finally {
+            pool.shutdownNow();
+            for (ZipFile jar : jars) {
+                jar.close();
+            }
+        }
+        return written.get();
+    }
+
+    /**
+     * Submits every class of a jar, directory or class file.
+     *
+     * @param aRoot    Jar, directory or class file.
+     * @param aPool    Pool of the run.
+     * @param aBudget  Budget of the run.
+     * @param aSink    Sink receiving the classes.
+     * @param aWritten Number of classes written.
+     * @param aTasks   Receives the tasks submitted.
+     * @param aJars    Receives the jars opened, to be closed by the caller.
+     * @throws IOException Thrown if the root can not be read.
+     */
+    private void submitRoot(File aRoot,
+                            ForkJoinPool aPool,
+                            Semaphore aBudget,
+                            JSourceSink aSink,
+                            AtomicInteger aWritten,
+                            List<ForkJoinTask<?>> aTasks,
+                            List<ZipFile> aJars)
+            throws IOException {
+        if (aRoot.isDirectory()) {
+            List<Path> classFiles;
+            try (Stream<Path> paths = Files.walk(aRoot.toPath())) {
+                classFiles = paths.filter(path -> path.toString().endsWith(".class")).collect(Collectors.toList());
+            }
+            for (Path classFile : classFiles) {
+                File file = classFile.toFile();
+                aTasks.add(submit(aPool, aBudget, file.length(), file.toString(), () -> read(classFile), aSink,
+                        aWritten));
+            }
+        } else if (aRoot.getName().endsWith(".class")) {
+            aTasks.add(submit(aPool, aBudget, aRoot.length(), aRoot.toString(), () -> read(aRoot.toPath()), aSink,
+                    aWritten));
+        } else if (aRoot.isFile()) {
+            ZipFile jar = new ZipFile(aRoot);
+            aJars.add(jar);
+            for (Enumeration<? extends ZipEntry> entries = jar.entries(); entries.hasMoreElements(); ) {
+                ZipEntry entry = entries.nextElement();
+                if (!entry.isDirectory() && entry.getName().endsWith(".class")) {
+                    aTasks.add(submit(aPool, aBudget, entry.getSize(), jar.getName() + "!/" + entry.getName(),
+                            () -> read(jar, entry), aSink, aWritten));
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits for enough budget, then submits a class to the pool.
+     *
+     * @param aPool    Pool of the run.
+     * @param aBudget  Budget of the run.
+     * @param aSize    Size of the class file, negative if unknown.
+     * @param aPath    Path of the class file.
+     * @param aSource  Reads the class file.
+     * @param aSink    Sink receiving the class.
+     * @param aWritten Number of classes written.
+     * @return the task submitted.
+     */
+    private ForkJoinTask<?> submit(ForkJoinPool aPool,
+                                   Semaphore aBudget,
+                                   long aSize,
+                                   String aPath,
+                                   ClassSource aSource,
+                                   JSourceSink aSink,
+                                   AtomicInteger aWritten) {
+        long size = aSize < 0 ? DEFAULT_CLASS_SIZE : aSize;
+        int permits = (int) Math.max(1, Math.min(mBudget, (size + PERMIT_SIZE - 1) / PERMIT_SIZE));
+        aBudget.acquireUninterruptibly(permits);
+        return aPool.submit(() -> {
+            try {
+                ByteBuffer bytes = aSource.read();
+                String key = null;
+                if (mCache != null) {
+                    key = JDecompilationCache.getKey(bytes);
+                    JDecompilationCache.Entry cached = mCache.get(key, mDisassemble);
+                    if (cached != null) {
+                        synchronized (aSink) {
+                            aSink.write(cached.getClassName(), cached.getSource());
+                        }
+                        aWritten.incrementAndGet();
+                        return;
+                    }
+                }
+                JClassParser parser = PARSER.get();
+                parser.parse(bytes, aPath);
+                JClassInfo infoClass = parser.getClassInfo();
+                reverseEngineer(infoClass, aPath);
+                if (key == null) {
+                    synchronized (aSink) {
+                        aSink.write(infoClass, mDisassemble);
+                    }
+                    aWritten.incrementAndGet();
+                } else {
+                    //The cache keeps the text, so build it once for both.
+                    String source = infoClass.getStringifiedClass(mDisassemble);
+                    synchronized (aSink) {
+                        aSink.write(infoClass.getThisClass(), source);
+                    }
+                    aWritten.incrementAndGet();
+                    try {
+                        mCache.put(key, mDisassemble, infoClass.getThisClass(), source);
+                    } catch (IOException e) {
+                        log.warn("Unable to cache " + aPath + ": " + e);
+                    }
+                }
+            } catch (Exception | LinkageError | StackOverflowError e) {
+                log.debug("Unable to reverse engineer " + aPath + ": " + e);
+                synchronized (aSink) {
+                    aSink.failed(aPath, e);
+                }
+            } finally {
+                aBudget.release(permits);
+            }
+        });
+    }
+
+    /**
+     * Reads a class file, memory mapping it if it is larger than
+     * MAP_THRESHOLD.
+     *
+     * @param aFile Class file.
+     * @return Returns the bytes of the class file.
+     * @throws IOException Thrown in case of any i/o error.
+     */
+    private static ByteBuffer read(Path aFile)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(aFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size >= MAP_THRESHOLD) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+        }
+        return ByteBuffer.wrap(Files.readAllBytes(aFile));
+    }
+
+    /**
+     * Reads an entry of a jar.
+     *
+     * @param aJar   Jar containing the class file.
+     * @param aEntry Entry of the class file.
+     * @return Returns the bytes of the class file.
+     * @throws IOException Thrown in case of any i/o error.
+     */
+    private static ByteBuffer read(ZipFile aJar, ZipEntry aEntry)
+            throws IOException {
+        try (InputStream is = aJar.getInputStream(aEntry)) {
+            long size = aEntry.getSize();
+            if (size >= 0 && size <= Integer.MAX_VALUE) {
+                byte[] bytes = new byte[(int) size];
+                new DataInputStream(is).readFully(bytes);
+                return ByteBuffer.wrap(bytes);
+            }
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(DEFAULT_CLASS_SIZE);
+            byte[] chunk = new byte[DEFAULT_CLASS_SIZE];
+            for (int n; (n = is.read(chunk)) != -1; ) {
+                bos.write(chunk, 0, n);
+            }
+            return ByteBuffer.wrap(bos.toByteArray());
+        }
+    }
+
+    /**
+     * Reverse engineers the methods of a class, in parallel.
+     *
+     * @param aInfoClass Class to be reverse engineered.
+     * @param aPath      Path of the class file.
+     */
+    private void reverseEngineer(JClassInfo aInfoClass, String aPath) {
+        JConstantPool cpInfo = aInfoClass.getConstantPool();
+        //Built lazily; build it once before the methods share it.
+        cpInfo.getImportedClasses();
+        List<ForkJoinTask<?>> methods = new ArrayList<>();
+        for (Object method : aInfoClass.getMethods()) {
+            methods.add(ForkJoinTask.adapt(() -> genCode((JMethod) method, cpInfo, aPath)));
+        }
+        ForkJoinTask.invokeAll(methods);
+    }
+
+    /**
+     * Reverse engineers a method. Failures are logged, and leave the
+     * method as far as it got.
+     *
+     * @param aMethod Method to be reverse engineered.
+     * @param aCpInfo ConstantPool of its class.
+     * @param aPath   Path of the class file.
+     */
+    private void genCode(JMethod aMethod, JConstantPool aCpInfo, String aPath) {
+        JReverseEngineer jre = mDisassemble ? new JDisAssembler(aMethod, aCpInfo) : new JDecompiler(aMethod, aCpInfo);
+        try {
+            jre.genCode();
+        } catch (Exception | LinkageError | StackOverflowError e) {
+            log.warn("Unable to reverse engineer method " + aMethod.getName() + " of " + aPath + ": " + e);
+        }
+    }
+
+    /**
+     * Reads a class file.
+     */
+    private interface ClassSource {
+
+        /**
+         * @return Returns the bytes of the class file.
+         * @throws IOException Thrown in case of any i/o error.
+         */
+        ByteBuffer read()
+                throws IOException;
+    }
+}
@@ -25,6 +25,7 @@ import jreversepro.common.Helper;
 import jreversepro.common.JJvmOpcodes;
 import jreversepro.reflect.JException;
 import jreversepro.reflect.JInstruction;
+import jreversepro.reflect.JInstructionStream;
 import jreversepro.reflect.JMethod;
 
 import java.util.*;
@@ -67,6 +68,17 @@ public class JBranchTable implements BranchConstants, JJvmOpcodes {
      * Value - TargetPc ( Absolute target -java.lang.Integer).
      */
     Map<Object, Integer> gotos;
+    /**
+     * Control flow graph of the method, built on first use.
+     */
+    private JControlFlowGraph cfg;
+    /**
+     * Index of the branches by the pc their block starts with.
+     * Key - start block pc, Value - branches in the order of the list.
+     * Built on first use and dropped whenever branches are added,
+     * removed or reordered.
+     */
+    private Map<Integer, List<JBranchEntry>> starts;
 
     /**
      * @param method Method reference.
@@ -87,6 +99,7 @@ public class JBranchTable implements BranchConstants, JJvmOpcodes {
      */
     public void add(JBranchEntry ent) {
         branches.add(ent);
+        starts = null;
     }
 
     /**
@@ -134,6 +147,7 @@ public class JBranchTable implements BranchConstants, JJvmOpcodes {
     public void addRetPc(int retPc) {
         int startPc = mJSRTarget.lastElement();
         branches.add(new JBranchEntry(method, startPc, startPc, retPc, TYPE_JSR, "", "", ""));
+        starts = null;
     }
 
     /**
@@ -167,6 +181,7 @@ public class JBranchTable implements BranchConstants, JJvmOpcodes {
             branches.add(ent);
         }
         branches.add(switchEntry.getBranchEntry());
+        starts = null;
     }
 
     /**
@@ -176,13 +191,14 @@ public class JBranchTable implements BranchConstants, JJvmOpcodes {
      */
     public void addTryBlocks(List<JException> excTryTable) {
         Helper.log("Number of Try..blocks " + excTryTable.size());
+        JInstructionStream stream = method.getInstructionStream();
         for (JException anExcTryTable : excTryTable) {
             int insIndex = anExcTryTable.getStartPc();
             if (insIndex == -1) {
                 continue;
             }
 
-            int endPc = anExcTryTable.getEffectiveEndPc(method.getInstructions());
+            int endPc = anExcTryTable.getEffectiveEndPc(stream);
             String syncLock = doesMonitorBegin(insIndex - 1);
             if (syncLock != null) {
                 branches.add(new JBranchEntry(method, insIndex, insIndex, endPc, TYPE_SYNC, syncLock, "", ""));
@@ -197,6 +213,7 @@ public class JBranchTable implements BranchConstants, JJvmOpcodes {
                         ""));
             }
         }
+        starts = null;
     }
 
     /**
@@ -222,6 +239,9 @@ public class JBranchTable implements BranchConstants, JJvmOpcodes {
             JBranchEntry jbe = (JBranchEntry) branches.get(i);
             if (jbe.getType() == TYPE_ELSE && jbe.getStartPc() == startElse) {
                 branches.remove(i);
+                if (starts != null && starts.containsKey(startElse)) {
+                    starts.get(startElse).remove(jbe);
+                }
             }
         }
     }
@@ -232,6 +252,7 @@ public class JBranchTable implements BranchConstants, JJvmOpcodes {
     protected void finalize() {
         branches = null;
         gotos = null;
+        starts = null;
     }
 
     /**
@@ -241,24 +262,22 @@ public class JBranchTable implements BranchConstants, JJvmOpcodes {
      * @return Returns a JInstruction reference.
      */
     public JInstruction findGotoIns(List<JInstruction> byteIns, int start, int end) {
-        int i;
-        for (i = 0; i < byteIns.size(); i++) {
-            if ((byteIns.get(i)).index == start) {
-                break;
-            }
+        JInstructionStream stream = method.getInstructionStream();
+        int i = getControlFlowGraph().indexOf(start);
+        if (i == -1) {
+            return null;
         }
-        JInstruction curIns = byteIns.get(i);
-        while (curIns != null && curIns.opcode != OPCODE_GOTO && curIns.opcode != OPCODE_GOTOW) {
-            if (curIns.index == end) {
-                curIns = null;
-                break;
-            } else if (curIns.opcode == OPCODE_RETURN) {
-                curIns = curIns.next();
-                break;
+        for (; i < stream.size(); i++) {
+            int opcode = stream.getOpcode(i);
+            if (opcode == OPCODE_GOTO || opcode == OPCODE_GOTOW) {
+                return byteIns.get(i);
+            } else if (stream.getIndex(i) == end) {
+                return null;
+            } else if (opcode == OPCODE_RETURN) {
+                return i + 1 < stream.size() ? byteIns.get(i + 1) : null;
             }
-            curIns = curIns.next();
         }
-        return curIns;
+        return null;
     }
 
     /**
@@ -289,6 +308,18 @@ public class JBranchTable implements BranchConstants, JJvmOpcodes {
         return gotos;
     }
 
+    /**
+     * Getter method for the control flow graph of the method.
+     *
+     * @return Control flow graph, built on the first call.
+     */
+    public JControlFlowGraph getControlFlowGraph() {
+        if (cfg == null) {
+            cfg = new JControlFlowGraph(method);
+        }
+        return cfg;
+    }
+
     /**
      * Identifies the else..if and else branches.
      * Identifies catch.. branches.
@@ -298,6 +329,7 @@ public class JBranchTable implements BranchConstants, JJvmOpcodes {
     public void identifyMoreBranches()
             throws RevEngineException {
 
+        JControlFlowGraph graph = getControlFlowGraph();
         for (int i = 0; i < branches.size(); i++) {
             JBranchEntry jbe = (JBranchEntry) branches.get(i);
             int gotoStartPc = jbe.getEndBlockPc() - 3;
@@ -326,6 +358,9 @@ public class JBranchTable implements BranchConstants, JJvmOpcodes {
                                         jbe.opr2,
                                         jbe.operator);
                                 branches.add(elseEntry);
+                                if (starts != null) {
+                                    indexStart(elseEntry);
+                                }
                             }
                         } else {
                             elsif.setType(TYPE_ELSE_IF);
@@ -333,7 +368,7 @@ public class JBranchTable implements BranchConstants, JJvmOpcodes {
                     }
                     break;
                 case TYPE_DO_WHILE:
-                    if (gotos.containsValue(jbe.startPc)) {
+                    if (graph.isGotoTarget(jbe.startPc)) {
                         jbe.setType(TYPE_WHILE);
                     }
                     break;
@@ -375,16 +410,38 @@ public class JBranchTable implements BranchConstants, JJvmOpcodes {
     public List<JBranchEntry> startsWith(int aInsIndex)
             throws RevEngineException {
 
+        if (starts == null) {
+            starts = new HashMap<>();
+            for (Object branche : branches) {
+                indexStart((JBranchEntry) branche);
+            }
+        }
         List<JBranchEntry> branchEntries = new Vector<>();
-        for (Object branche : branches) {
-            JBranchEntry jbe = (JBranchEntry) branche;
-            if (jbe.doesStartWith(aInsIndex)) {
-                branchEntries.add(jbe);
+        List<JBranchEntry> candidates = starts.get(aInsIndex);
+        if (candidates != null) {
+            //Check again, the type may have changed since.
+            for (JBranchEntry jbe : candidates) {
+                if (jbe.doesStartWith(aInsIndex)) {
+                    branchEntries.add(jbe);
+                }
             }
         }
         return branchEntries;
     }
 
+    /**
+     * Adds a branch to the index of the branches by start pc.
+     *
+     * @param jbe Branch entry, the last of the list of branches.
+     * @throws RevEngineException thrown in case of an error.
+     */
+    private void indexStart(JBranchEntry jbe)
+            throws RevEngineException {
+        if (jbe.getType() != TYPE_INVALID) {
+            starts.computeIfAbsent(jbe.getStartBlockPc(), k -> new Vector<>()).add(jbe);
+        }
+    }
+
     /**
      * Checks if the Pc passed as argument is the target for
      * any JSR instructions.
@@ -405,6 +462,7 @@ public class JBranchTable implements BranchConstants, JJvmOpcodes {
      */
     public void setTables(List<JBranchEntry> aBranches) {
         branches.addAll(aBranches);
+        starts = null;
     }
 
     /**
@@ -414,6 +472,7 @@ public class JBranchTable implements BranchConstants, JJvmOpcodes {
      */
     public void sort() {
         branches.sort(new JBranchComparator<>());
+        starts = null;
     }
 
     /**
@@ -25,6 +25,8 @@ import jreversepro.common.KeyWords;
 import jreversepro.reflect.JInstruction;
 import jreversepro.reflect.JMethod;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
@@ -48,6 +50,11 @@ public class JCollatingTable implements BranchConstants, KeyWords {
      * List of entries in an array format.
      */
     private JBranchEntry[] entries;
+    /**
+     * Index of the entries by start pc.
+     * Key - StartPc, Value - indexes in entries, in ascending order.
+     */
+    private Map<Integer, List<Integer>> entryStarts;
 
     /**
      * @param method Method in which this collating
@@ -131,8 +138,11 @@ public class JCollatingTable implements BranchConstants, KeyWords {
     private int convertToObjects() {
         int size = branches.size();
         entries = new JBranchEntry[size];
+        entryStarts = new HashMap<>();
         for (int i = 0; i < size; i++) {
             entries[i] = branches.get(i);
+            //Collating never changes the start pc of an entry.
+            entryStarts.computeIfAbsent(entries[i].getStartPc(), k -> new ArrayList<>()).add(i);
         }
         return size;
     }
@@ -177,9 +187,12 @@ public class JCollatingTable implements BranchConstants, KeyWords {
             return true;
         } else {
             if ((b - a) > 1) {
-                for (int k = b; k > a; k--) {
-                    if (entries[a].getTargetPc() == entries[k].getStartPc()) {
-                        return true;
+                List<Integer> starting = entryStarts.get(entries[a].getTargetPc());
+                if (starting != null) {
+                    for (int k : starting) {
+                        if (k > a && k <= b) {
+                            return true;
+                        }
                     }
                 }
                 return false;
@@ -195,6 +208,7 @@ public class JCollatingTable implements BranchConstants, KeyWords {
     protected void finalize() {
         branches = null;
         entries = null;
+        entryStarts = null;
     }
 
     /**
@@ -216,21 +230,19 @@ public class JCollatingTable implements BranchConstants, KeyWords {
 
     /**
      * Identifies the while loop in the list of branches mentioned.
+     * A 'if' branch is a while loop when the block it skips ends
+     * with a goto back to the condition, the condition being the
+     * header of a loop of the control flow graph.
      *
-     * @param mapGotos Map containing the goto entries in the
-     *                 method.
+     * @param cfg Control flow graph of the method.
      */
-    public void identifyWhileLoops(Map<Object, Integer> mapGotos) {
+    public void identifyWhileLoops(JControlFlowGraph cfg) {
         for (JBranchEntry branche : branches) {
             if (branche.getType() == TYPE_IF) {
-                int targetPc = branche.getTargetPc();
+                int gotoPc = branche.getTargetPc() - 3;
                 int startPc = branche.getStartPc();
-                Integer obj = mapGotos.get(targetPc - 3);
-                if (obj != null) {
-                    int gotoTarget = obj;
-                    if (startPc == gotoTarget) {
-                        branche.convertToWhile();
-                    }
+                if (cfg.getGotoTarget(gotoPc) == startPc && cfg.isBackEdge(gotoPc, startPc)) {
+                    branche.convertToWhile();
                 }
             }
         }
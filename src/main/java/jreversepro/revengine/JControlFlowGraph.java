@@ -0,0 +1,520 @@
+/*
+  @(#)JControlFlowGraph.java JReversePro - Java Decompiler / Disassembler.
+ * Copyright (C) 2000 2001 Karthik Kumar.
+ * EMail: akkumar@users.sourceforge.net
+ * <p>
+ * This program is free software; you can redistribute it and/or modify
+ * it , under the terms of the GNU General Public License as published
+ * by the Free Software Foundation; either version 2 of the License,
+ * or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program.If not, write to
+ * The Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package jreversepro.revengine;
+
+import jreversepro.common.JJvmOpcodes;
+import jreversepro.common.JJvmSet;
+import jreversepro.reflect.JException;
+import jreversepro.reflect.JExceptionTable;
+import jreversepro.reflect.JInstructionStream;
+import jreversepro.reflect.JMethod;
+
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <b>JControlFlowGraph</b> is the graph of the basic blocks of a method,
+ * with the immediate dominator of every block.
+ * <br>It is built once from the instruction stream and the exception
+ * table of the method, and answers the questions of the branch analysis
+ * by byte offset, in constant time: the block of an instruction, the
+ * target of a goto, whether an instruction is the target of a goto.
+ * <br>Blocks are numbered in the order they appear in the code, block 0
+ * being the entry of the method. Exception handlers are successors of
+ * every block of their try block.
+ *
+ * @author Karthik Kumar
+ */
+public class JControlFlowGraph implements JJvmOpcodes {
+
+    /**
+     * Instructions of the method.
+     */
+    private final JInstructionStream stream;
+    /**
+     * Number of the instruction starting at every byte offset,
+     * -1 if no instruction starts there.
+     */
+    private final int[] insAt;
+    /**
+     * Block of every instruction.
+     */
+    private final int[] blockOf;
+    /**
+     * First instruction of every block, followed by the number of
+     * instructions.
+     */
+    private final int[] blockStart;
+    /**
+     * Successors of every block.
+     */
+    private final int[][] successors;
+    /**
+     * Predecessors of every block.
+     */
+    private final int[][] predecessors;
+    /**
+     * Immediate dominator of every block. -1 for the entry block and
+     * for unreachable blocks.
+     */
+    private final int[] idom;
+    /**
+     * Reverse postorder number of every block, -1 if unreachable.
+     */
+    private final int[] order;
+    /**
+     * Byte offset of the target of every goto instruction,
+     * -1 for the other instructions.
+     */
+    private final int[] gotoTarget;
+    /**
+     * Set for the instructions that are the target of a goto.
+     */
+    private final boolean[] gotoTargeted;
+
+    /**
+     * Builds the graph of a method.
+     *
+     * @param method Method whose control flow is to be analysed.
+     */
+    public JControlFlowGraph(JMethod method) {
+        stream = method.getInstructionStream();
+        int count = stream.size();
+        int codeLength = count == 0 ? 0 : stream.getNextIndex(count - 1);
+
+        insAt = new int[codeLength + 1];
+        Arrays.fill(insAt, -1);
+        for (int i = 0; i < count; i++) {
+            insAt[stream.getIndex(i)] = i;
+        }
+
+        gotoTarget = new int[count];
+        gotoTargeted = new boolean[count];
+        Arrays.fill(gotoTarget, -1);
+        int[][] jumps = new int[count][];
+        boolean[] leader = new boolean[count + 1];
+        leader[0] = true;
+        leader[count] = true;
+        JInstructionStream.Cursor cursor = stream.cursor();
+        while (cursor.next()) {
+            int i = cursor.getPosition();
+            int opcode = cursor.getOpcode();
+            int targetPc = -1;
+            if (cursor.isAnIfIns() || opcode == OPCODE_GOTO || opcode == OPCODE_JSR) {
+                targetPc = cursor.getTargetPc();
+            } else if (opcode == OPCODE_GOTOW || opcode == OPCODE_JSRW) {
+                targetPc = cursor.getTargetPcW();
+            } else if (cursor.isASwitchIns()) {
+                jumps[i] = switchTargets(cursor);
+            } else if (!isExit(opcode)) {
+                continue;
+            }
+            if (targetPc != -1) {
+                int target = indexOf(targetPc);
+                jumps[i] = target == -1 ? new int[0] : new int[]{target};
+                if (opcode == OPCODE_GOTO || opcode == OPCODE_GOTOW) {
+                    gotoTarget[i] = targetPc;
+                    if (target != -1) {
+                        gotoTargeted[target] = true;
+                    }
+                }
+            }
+            leader[i + 1] = true;
+            if (jumps[i] != null) {
+                for (int target : jumps[i]) {
+                    leader[target] = true;
+                }
+            }
+        }
+
+        List<JException> excBlocks = method.getexceptionBlocks();
+        for (JException exc : excBlocks) {
+            markLeader(leader, exc.getStartPc());
+            markLeader(leader, exc.getEndPc());
+            for (Enumeration<Map.Entry<Object, String>> handlers = exc.getHandlers(); handlers.hasMoreElements(); ) {
+                markLeader(leader, (Integer) handlers.nextElement().getKey());
+            }
+        }
+
+        int numBlocks = 0;
+        blockOf = new int[count];
+        int[] starts = new int[count + 1];
+        for (int i = 0; i < count; i++) {
+            if (leader[i]) {
+                starts[numBlocks++] = i;
+            }
+            blockOf[i] = numBlocks - 1;
+        }
+        starts[numBlocks] = count;
+        blockStart = Arrays.copyOf(starts, numBlocks + 1);
+
+        //Edges, as pairs of blocks.
+        int[] edges = new int[16];
+        int numEdges = 0;
+        for (int b = 0; b < numBlocks; b++) {
+            int last = blockStart[b + 1] - 1;
+            int opcode = stream.getOpcode(last);
+            if (jumps[last] != null) {
+                for (int target : jumps[last]) {
+                    edges = addEdge(edges, numEdges++, b, blockOf[target]);
+                }
+            }
+            boolean fallsThrough = opcode != OPCODE_GOTO && opcode != OPCODE_GOTOW && !isExit(opcode) &&
+                    !JJvmSet.hasFlag(opcode, JJvmSet.FLAG_SWITCH);
+            if (fallsThrough && last + 1 < count) {
+                edges = addEdge(edges, numEdges++, b, b + 1);
+            }
+        }
+        JExceptionTable excTable = method.getExceptionTable();
+        for (int b = 0; excTable.size() != 0 && b < numBlocks; b++) {
+            for (JException exc : excTable.getCoveringBlocks(stream.getIndex(blockStart[b]))) {
+                if (getBlock(exc.getStartPc()) == -1) {
+                    continue;
+                }
+                for (Enumeration<Map.Entry<Object, String>> handlers = exc.getHandlers(); handlers.hasMoreElements(); ) {
+                    int handler = getBlock((Integer) handlers.nextElement().getKey());
+                    if (handler != -1) {
+                        edges = addEdge(edges, numEdges++, b, handler);
+                    }
+                }
+            }
+        }
+        successors = bucket(edges, numEdges, numBlocks, 0);
+        predecessors = bucket(edges, numEdges, numBlocks, 1);
+
+        order = new int[numBlocks];
+        idom = new int[numBlocks];
+        computeDominators();
+    }
+
+    /**
+     * @param opcode Opcode of an instruction.
+     * @return Returns true, if the execution never continues
+     * right after that instruction: return, athrow and ret.
+     */
+    private static boolean isExit(int opcode) {
+        return (opcode >= OPCODE_IRETURN && opcode <= OPCODE_RETURN) || opcode == OPCODE_ATHROW ||
+                opcode == OPCODE_RET;
+    }
+
+    /**
+     * Appends an edge to the list of edges.
+     *
+     * @param edges Pairs of blocks.
+     * @param n     Number of edges already in the list.
+     * @param from  Block the edge leaves.
+     * @param to    Block the edge enters.
+     * @return Returns the list, grown if need be.
+     */
+    private static int[] addEdge(int[] edges, int n, int from, int to) {
+        if (2 * n + 2 > edges.length) {
+            edges = Arrays.copyOf(edges, 2 * edges.length);
+        }
+        edges[2 * n] = from;
+        edges[2 * n + 1] = to;
+        return edges;
+    }
+
+    /**
+     * Groups the edges by block.
+     *
+     * @param edges     Pairs of blocks.
+     * @param numEdges  Number of edges.
+     * @param numBlocks Number of blocks.
+     * @param side      0 to group by the block left, which gives the
+     *                  successors, 1 to group by the block entered,
+     *                  which gives the predecessors.
+     * @return Returns the other block of the edges of every block.
+     */
+    private static int[][] bucket(int[] edges, int numEdges, int numBlocks, int side) {
+        int[] sizes = new int[numBlocks];
+        for (int e = 0; e < numEdges; e++) {
+            sizes[edges[2 * e + side]]++;
+        }
+        int[][] result = new int[numBlocks][];
+        for (int b = 0; b < numBlocks; b++) {
+            result[b] = new int[sizes[b]];
+            sizes[b] = 0;
+        }
+        for (int e = 0; e < numEdges; e++) {
+            int b = edges[2 * e + side];
+            result[b][sizes[b]++] = edges[2 * e + 1 - side];
+        }
+        return result;
+    }
+
+    /**
+     * Marks the instruction at the given byte offset as the first
+     * of a block, if an instruction starts there.
+     *
+     * @param leader Flag of every instruction.
+     * @param pc     Byte offset.
+     */
+    private void markLeader(boolean[] leader, int pc) {
+        int ins = indexOf(pc);
+        if (ins != -1) {
+            leader[ins] = true;
+        }
+    }
+
+    /**
+     * @param cursor Cursor on a tableswitch or lookupswitch instruction.
+     * @return Returns the instructions the switch may jump to, the
+     * default one first.
+     */
+    private int[] switchTargets(JInstructionStream.Cursor cursor) {
+        int index = cursor.getIndex();
+        int[] targets;
+        if (cursor.getOpcode() == OPCODE_TABLESWITCH) {
+            int legs = cursor.getArgInt(8) - cursor.getArgInt(4) + 1;
+            targets = new int[legs + 1];
+            for (int i = 0; i < legs; i++) {
+                targets[i + 1] = cursor.getArgInt(12 + 4 * i);
+            }
+        } else {
+            int legs = cursor.getArgInt(4);
+            targets = new int[legs + 1];
+            for (int i = 0; i < legs; i++) {
+                targets[i + 1] = cursor.getArgInt(12 + 8 * i);
+            }
+        }
+        targets[0] = cursor.getArgInt(0);
+        int n = 0;
+        for (int target : targets) {
+            int ins = indexOf(index + target);
+            if (ins != -1) {
+                targets[n++] = ins;
+            }
+        }
+        return Arrays.copyOf(targets, n);
+    }
+
+    /**
+     * Computes the immediate dominators, iterating over the blocks
+     * in reverse postorder until nothing changes.
+     */
+    private void computeDominators() {
+        int numBlocks = order.length;
+        Arrays.fill(order, -1);
+        Arrays.fill(idom, -1);
+        if (numBlocks == 0) {
+            return;
+        }
+        //Depth first search, without recursion.
+        int[] postorder = new int[numBlocks];
+        int numReached = 0;
+        int[] stack = new int[numBlocks];
+        int[] nextEdge = new int[numBlocks];
+        boolean[] visited = new boolean[numBlocks];
+        int top = 0;
+        stack[0] = 0;
+        visited[0] = true;
+        while (top >= 0) {
+            int b = stack[top];
+            if (nextEdge[b] < successors[b].length) {
+                int s = successors[b][nextEdge[b]++];
+                if (!visited[s]) {
+                    visited[s] = true;
+                    stack[++top] = s;
+                }
+            } else {
+                postorder[numReached++] = b;
+                top--;
+            }
+        }
+        int[] rpo = new int[numReached];
+        for (int i = 0; i < numReached; i++) {
+            rpo[i] = postorder[numReached - 1 - i];
+            order[rpo[i]] = i;
+        }
+
+        idom[0] = 0;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = 1; i < numReached; i++) {
+                int b = rpo[i];
+                int newIdom = -1;
+                for (int p : predecessors[b]) {
+                    if (idom[p] == -1) {
+                        continue;
+                    }
+                    newIdom = newIdom == -1 ? p : intersect(p, newIdom);
+                }
+                if (idom[b] != newIdom) {
+                    idom[b] = newIdom;
+                    changed = true;
+                }
+            }
+        }
+        idom[0] = -1;
+    }
+
+    /**
+     * @param b1 Block whose dominators are known.
+     * @param b2 Block whose dominators are known.
+     * @return Returns the nearest block dominating both.
+     */
+    private int intersect(int b1, int b2) {
+        while (b1 != b2) {
+            while (order[b1] > order[b2]) {
+                b1 = idom[b1];
+            }
+            while (order[b2] > order[b1]) {
+                b2 = idom[b2];
+            }
+        }
+        return b1;
+    }
+
+    /**
+     * @param pc Byte offset.
+     * @return Returns the number of the instruction starting at that
+     * offset, -1 if there is none.
+     */
+    public int indexOf(int pc) {
+        return pc >= 0 && pc < insAt.length ? insAt[pc] : -1;
+    }
+
+    /**
+     * @return Returns the number of blocks.
+     */
+    public int getBlockCount() {
+        return successors.length;
+    }
+
+    /**
+     * @param pc Byte offset of an instruction.
+     * @return Returns the block of the instruction, -1 if no
+     * instruction starts at that offset.
+     */
+    public int getBlock(int pc) {
+        int ins = indexOf(pc);
+        return ins == -1 ? -1 : blockOf[ins];
+    }
+
+    /**
+     * @param block Number of the block.
+     * @return Returns the byte offset of the first instruction
+     * of the block.
+     */
+    public int getBlockStartPc(int block) {
+        return stream.getIndex(blockStart[block]);
+    }
+
+    /**
+     * @param block Number of the block.
+     * @return Returns the byte offset right after the last instruction
+     * of the block.
+     */
+    public int getBlockEndPc(int block) {
+        return stream.getNextIndex(blockStart[block + 1] - 1);
+    }
+
+    /**
+     * @param pc Byte offset.
+     * @return Returns true, if a block begins at that offset.
+     */
+    public boolean isBlockStart(int pc) {
+        int block = getBlock(pc);
+        return block != -1 && stream.getIndex(blockStart[block]) == pc;
+    }
+
+    /**
+     * @param block Number of the block.
+     * @return Returns the blocks the block may continue with.
+     * The array is not to be modified.
+     */
+    public int[] getSuccessors(int block) {
+        return successors[block];
+    }
+
+    /**
+     * @param block Number of the block.
+     * @return Returns the blocks that may continue with the block.
+     * The array is not to be modified.
+     */
+    public int[] getPredecessors(int block) {
+        return predecessors[block];
+    }
+
+    /**
+     * @param block Number of the block.
+     * @return Returns the immediate dominator of the block.
+     * -1 for the entry block and for unreachable blocks.
+     */
+    public int getImmediateDominator(int block) {
+        return idom[block];
+    }
+
+    /**
+     * @param dominator Number of a block.
+     * @param block     Number of a block.
+     * @return Returns true, if every path from the entry of the method
+     * to <code>block</code> goes through <code>dominator</code>.
+     * A block dominates itself.
+     */
+    public boolean dominates(int dominator, int block) {
+        if (order[dominator] == -1 || order[block] == -1) {
+            return dominator == block;
+        }
+        while (block != -1 && order[block] > order[dominator]) {
+            block = idom[block];
+        }
+        return block == dominator;
+    }
+
+    /**
+     * Checks if a jump goes back to the header of a loop, that is to a
+     * block that dominates the block of the jump.
+     *
+     * @param fromPc Byte offset of the jump instruction.
+     * @param toPc   Byte offset it jumps to.
+     * @return Returns true, if it is the back edge of a loop.
+     */
+    public boolean isBackEdge(int fromPc, int toPc) {
+        int from = getBlock(fromPc);
+        int to = getBlock(toPc);
+        return from != -1 && to != -1 && isBlockStart(toPc) && dominates(to, from);
+    }
+
+    /**
+     * @param pc Byte offset of an instruction.
+     * @return Returns the target of the goto instruction at that offset,
+     * -1 if there is no goto there.
+     */
+    public int getGotoTarget(int pc) {
+        int ins = indexOf(pc);
+        return ins == -1 ? -1 : gotoTarget[ins];
+    }
+
+    /**
+     * @param pc Byte offset of an instruction.
+     * @return Returns true, if some goto instruction jumps to it.
+     */
+    public boolean isGotoTarget(int pc) {
+        int ins = indexOf(pc);
+        return ins != -1 && gotoTargeted[ins];
+    }
+}
@@ -0,0 +1,459 @@
+/*
+  @(#)JDecompilationCache.java JReversePro - Java Decompiler / Disassembler.
+ * Copyright (C) 2000 2001 Karthik Kumar.
+ * EMail: akkumar@users.sourceforge.net
+ * <p>
+ * This program is free software; you can redistribute it and/or modify
+ * it , under the terms of the GNU General Public License as published
+ * by the Free Software Foundation; either version 2 of the License,
+ * or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program.If not, write to
+ * The Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+package jreversepro.revengine;
+
+import jreversepro.common.AppConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * <b>JDecompilationCache</b> keeps the decompiled and disassembled code of
+ * classes on disk, so that classes that did not change need not be
+ * parsed nor reverse engineered again.
+ * <br>Entries are addressed by the SHA-256 digest of the bytes of the
+ * class file, under a directory named after the version of the
+ * decompiler: a new version never reads the code generated by an older
+ * one, and removes it when the cache is opened.
+ * <br>The total size of the entries is bounded. When it is exceeded,
+ * the least recently used entries are removed; the last modification
+ * time of an entry is its last use, so that the order is kept from one
+ * run to the next. The cache can be shared by the threads of a run.
+ *
+ * @author Karthik Kumar
+ * @see JBatchReverseEngineer#setCache(JDecompilationCache)
+ */
+public class JDecompilationCache {
+
+    /**
+     * Default bound of the total size of the entries.
+     */
+    public static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+    /**
+     * Revision of the code generated by the decompiler, to be increased
+     * whenever its output changes within a version.
+     */
+    private static final int REVISION = 1;
+    /**
+     * Name of the directory of the entries of this version.
+     */
+    static final String VERSION_STAMP = AppConstants.VERSION + "-" + REVISION;
+    /**
+     * File marking a directory as a cache directory, so that only those
+     * are removed when the version changes.
+     */
+    private static final String MARKER = ".jreversepro-cache";
+    /**
+     * Extension of the files of decompiled code.
+     */
+    private static final String SOURCE_EXT = ".src";
+    /**
+     * Extension of the files of disassembled code.
+     */
+    private static final String DISASSEMBLY_EXT = ".dis";
+    /**
+     * Age, in milliseconds, past which a temporary file is taken as left
+     * by an interrupted run rather than being written by a running one.
+     */
+    private static final long TEMP_GRACE_PERIOD = 60L * 60 * 1000;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final Logger log = LoggerFactory.getLogger(JDecompilationCache.class);
+    /**
+     * Digest of each thread, since digests are not thread safe.
+     */
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    /**
+     * Entries, from the least to the most recently used.
+     * Key - file of the entry, Value - its size.
+     */
+    private final LinkedHashMap<Path, Long> mEntries = new LinkedHashMap<>(256, 0.75f, true);
+    /**
+     * Bound of the total size of the entries.
+     */
+    private final long mMaxBytes;
+    /**
+     * Directory of the entries of this version.
+     */
+    private final Path mRoot;
+    /**
+     * Total size of the entries.
+     */
+    private long mTotalBytes;
+
+    /**
+     * Opens a cache with the default size bound.
+     *
+     * @param aDirectory Directory of the cache, created if need be.
+     * @throws IOException Thrown if the directory can not be read or created.
+     */
+    public JDecompilationCache(File aDirectory)
+            throws IOException {
+        this(aDirectory, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Opens a cache, removing the entries of other versions, and the
+     * least recently used ones if the bound is already exceeded.
+     *
+     * @param aDirectory Directory of the cache, created if need be.
+     * @param aMaxBytes  Bound of the total size of the entries.
+     * @throws IOException              Thrown if the directory can not be
+     *                                  read or created.
+     * @throws IllegalArgumentException Thrown if the bound is not positive.
+     */
+    public JDecompilationCache(File aDirectory, long aMaxBytes)
+            throws IOException {
+        if (aMaxBytes < 1) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        mMaxBytes = aMaxBytes;
+        Path directory = aDirectory.toPath();
+        mRoot = directory.resolve(VERSION_STAMP);
+        Files.createDirectories(mRoot);
+        Path marker = mRoot.resolve(MARKER);
+        if (!Files.exists(marker)) {
+            Files.createFile(marker);
+        }
+        removeOtherVersions(directory);
+        load();
+    }
+
+    /**
+     * Computes the key of a class file.
+     *
+     * @param aBytes Bytes of the class file.
+     * @return Returns the SHA-256 digest of the bytes, in hexadecimal.
+     */
+    public static String getKey(byte[] aBytes) {
+        return getKey(ByteBuffer.wrap(aBytes));
+    }
+
+    /**
+     * Computes the key of a class file. The position of the buffer
+     * is not changed.
+     *
+     * @param aBuffer Bytes of the class file, between the position and
+     *                the limit of the buffer.
+     * @return Returns the SHA-256 digest of the bytes, in hexadecimal.
+     */
+    public static String getKey(ByteBuffer aBuffer) {
+        MessageDigest digest = DIGEST.get();
+        digest.update(aBuffer.duplicate());
+        byte[] hash = digest.digest();
+        char[] key = new char[2 * hash.length];
+        for (int i = 0; i < hash.length; i++) {
+            key[2 * i] = HEX[(hash[i] >> 4) & 0xF];
+            key[2 * i + 1] = HEX[hash[i] & 0xF];
+        }
+        return new String(key);
+    }
+
+    /**
+     * Removes the directories of the other versions of the cache.
+     *
+     * @param aDirectory Directory of the cache.
+     * @throws IOException Thrown if the directory can not be read.
+     */
+    private void removeOtherVersions(Path aDirectory)
+            throws IOException {
+        try (DirectoryStream<Path> versions = Files.newDirectoryStream(aDirectory)) {
+            for (Path version : versions) {
+                if (!version.equals(mRoot) && Files.exists(version.resolve(MARKER))) {
+                    log.debug("Removing cache of version " + version.getFileName());
+                    deleteTree(version);
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes a directory and its contents, as far as possible.
+     *
+     * @param aDirectory Directory to be deleted.
+     * @throws IOException Thrown if the directory can not be read.
+     */
+    private static void deleteTree(Path aDirectory)
+            throws IOException {
+        List<Path> paths;
+        try (Stream<Path> walk = Files.walk(aDirectory)) {
+            paths = walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+        }
+        for (Path path : paths) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.debug("Unable to delete " + path + ": " + e);
+            }
+        }
+    }
+
+    /**
+     * Loads the entries already on disk, in the order of their last use.
+     *
+     * @throws IOException Thrown if the directory can not be read.
+     */
+    private void load()
+            throws IOException {
+        List<Path> files = new ArrayList<>();
+        long staleBefore = System.currentTimeMillis() - TEMP_GRACE_PERIOD;
+        try (Stream<Path> walk = Files.walk(mRoot)) {
+            for (Iterator<Path> it = walk.filter(Files::isRegularFile).iterator(); it.hasNext(); ) {
+                Path file = it.next();
+                String name = file.getFileName().toString();
+                if (name.endsWith(SOURCE_EXT) || name.endsWith(DISASSEMBLY_EXT)) {
+                    files.add(file);
+                } else if (!name.equals(MARKER) && isStale(file, staleBefore)) {
+                    //Left by a run that was interrupted while writing.
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        Map<Path, FileTime> times = new LinkedHashMap<>();
+        for (Path file : files) {
+            times.put(file, Files.getLastModifiedTime(file));
+        }
+        files.sort(Comparator.comparing(times::get));
+        List<Path> evicted;
+        synchronized (mEntries) {
+            for (Path file : files) {
+                long size = Files.size(file);
+                mEntries.put(file, size);
+                mTotalBytes += size;
+            }
+            evicted = evict();
+        }
+        delete(evicted);
+    }
+
+    /**
+     * @param aFile        A file that is not an entry.
+     * @param aStaleBefore Time before which it is taken as stale.
+     * @return Returns TRUE if the file was last modified before that time,
+     * FALSE if it is newer or already gone.
+     */
+    private static boolean isStale(Path aFile, long aStaleBefore) {
+        try {
+            return Files.getLastModifiedTime(aFile).toMillis() < aStaleBefore;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @param aKey         Key of the class file.
+     * @param aDisassemble TRUE - disassembled code, FALSE - decompiled code.
+     * @return Returns the file of the entry.
+     */
+    private Path getPath(String aKey, boolean aDisassemble) {
+        return mRoot.resolve(aKey.substring(0, 2)).resolve(aKey + (aDisassemble ? DISASSEMBLY_EXT : SOURCE_EXT));
+    }
+
+    /**
+     * Looks a class up.
+     *
+     * @param aKey         Key of the class file.
+     * @param aDisassemble TRUE - disassembled code, FALSE - decompiled code.
+     * @return Returns the class, null if it is not in the cache.
+     * @see #getKey(ByteBuffer)
+     */
+    public Entry get(String aKey, boolean aDisassemble) {
+        Path file = getPath(aKey, aDisassemble);
+        synchronized (mEntries) {
+            if (mEntries.get(file) == null) {
+                return null;
+            }
+        }
+        try {
+            String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            int newLine = content.indexOf('\n');
+            if (newLine == -1) {
+                throw new IOException("Corrupt cache entry " + file);
+            }
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return new Entry(content.substring(0, newLine), content.substring(newLine + 1));
+        } catch (IOException e) {
+            //Removed by another thread, or by hand.
+            log.debug("Unable to read " + file + ": " + e);
+            synchronized (mEntries) {
+                Long size = mEntries.remove(file);
+                if (size != null) {
+                    mTotalBytes -= size;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Stores a class, removing the least recently used entries if
+     * the bound is exceeded. A class larger than the bound is not stored.
+     *
+     * @param aKey         Key of the class file.
+     * @param aDisassemble TRUE - disassembled code, FALSE - decompiled code.
+     * @param aClassName   Name of the class.
+     * @param aSource      Decompiled or disassembled code of the class.
+     * @throws IOException Thrown in case of any i/o error writing the entry.
+     */
+    public void put(String aKey, boolean aDisassemble, String aClassName, String aSource)
+            throws IOException {
+        byte[] content = (aClassName + "\n" + aSource).getBytes(StandardCharsets.UTF_8);
+        if (content.length > mMaxBytes) {
+            return;
+        }
+        Path file = getPath(aKey, aDisassemble);
+        Files.createDirectories(file.getParent());
+        Path temp = Files.createTempFile(file.getParent(), aKey, ".tmp");
+        try {
+            Files.write(temp, content);
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        List<Path> evicted;
+        synchronized (mEntries) {
+            Long previous = mEntries.put(file, (long) content.length);
+            mTotalBytes += content.length - (previous == null ? 0 : previous);
+            evicted = evict();
+        }
+        delete(evicted);
+    }
+
+    /**
+     * Removes the least recently used entries from the index until
+     * the bound is no longer exceeded. To be called holding the lock
+     * of the index.
+     *
+     * @return Returns the files of the entries removed.
+     */
+    private List<Path> evict() {
+        List<Path> evicted = new ArrayList<>();
+        Iterator<Map.Entry<Path, Long>> it = mEntries.entrySet().iterator();
+        while (mTotalBytes > mMaxBytes && it.hasNext()) {
+            Map.Entry<Path, Long> eldest = it.next();
+            mTotalBytes -= eldest.getValue();
+            evicted.add(eldest.getKey());
+            it.remove();
+        }
+        return evicted;
+    }
+
+    /**
+     * Deletes the files of evicted entries.
+     *
+     * @param aFiles Files to be deleted.
+     */
+    private static void delete(List<Path> aFiles) {
+        for (Path file : aFiles) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.debug("Unable to delete " + file + ": " + e);
+            }
+        }
+    }
+
+    /**
+     * @return Returns the number of entries.
+     */
+    public int size() {
+        synchronized (mEntries) {
+            return mEntries.size();
+        }
+    }
+
+    /**
+     * @return Returns the total size of the entries, in bytes.
+     */
+    public long getTotalBytes() {
+        synchronized (mEntries) {
+            return mTotalBytes;
+        }
+    }
+
+    /**
+     * A class found in the cache.
+     */
+    public static final class Entry {
+
+        /**
+         * Name of the class.
+         */
+        private final String className;
+        /**
+         * Decompiled or disassembled code.
+         */
+        private final String source;
+
+        /**
+         * @param className Name of the class.
+         * @param source    Decompiled or disassembled code.
+         */
+        Entry(String className, String source) {
+            this.className = className;
+            this.source = source;
+        }
+
+        /**
+         * @return Returns the name of the class, with '/' as separator.
+         */
+        public String getClassName() {
+            return className;
+        }
+
+        /**
+         * @return Returns the decompiled or disassembled code.
+         */
+        public String getSource() {
+            return source;
+        }
+    }
+}
@@ -26,6 +26,8 @@ import jreversepro.common.JJvmOpcodes;
 import jreversepro.common.KeyWords;
 import jreversepro.parser.ClassParserException;
 import jreversepro.reflect.JConstantPool;
+import jreversepro.reflect.JException;
+import jreversepro.reflect.JExceptionTable;
 import jreversepro.reflect.JImport;
 import jreversepro.reflect.JInstruction;
 import jreversepro.reflect.JMethod;
@@ -33,7 +35,6 @@ import jreversepro.runtime.*;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.Map;
 import java.util.Vector;
 
 /**
@@ -46,7 +47,7 @@ public class JDecompiler implements BranchConstants, KeyWords, JReverseEngineer,
     /**
      * Reference to classes imported by this class.
      */
-    static JImport importInfo;
+    final JImport importInfo;
     /**
      * List containing the bytecode instructions.
      * List of 'JInstruction'.
@@ -66,9 +67,9 @@ public class JDecompiler implements BranchConstants, KeyWords, JReverseEngineer,
      */
     final JMethod curMethod;
     /**
-     * Map of exceptions in the given block.
+     * Index of the exception blocks of the method.
      */
-    final Map mapCatchJExceptions;
+    final JExceptionTable exceptionTable;
     /**
      * SymbolTable generated for the current method.
      */
@@ -103,7 +104,7 @@ public class JDecompiler implements BranchConstants, KeyWords, JReverseEngineer,
         catchBranches = new Vector<>();
 
         byteIns = rhsMethod.getInstructions();
-        mapCatchJExceptions = rhsMethod.getAllCatchJExceptions();
+        exceptionTable = rhsMethod.getExceptionTable();
     }
 
     /**
@@ -134,7 +135,7 @@ public class JDecompiler implements BranchConstants, KeyWords, JReverseEngineer,
                 //Start decompiling code.
                 JCollatingTable collatter = loadBranchTable();
                 Helper.log("Before collation " + collatter.toString());
-                collatter.identifyWhileLoops(branches.getGotoTable());
+                collatter.identifyWhileLoops(branches.getControlFlowGraph());
                 collatter.collate();
 
                 Helper.log("After collation " + collatter.toString());
@@ -148,9 +149,8 @@ public class JDecompiler implements BranchConstants, KeyWords, JReverseEngineer,
                 genSource();
                 //End Decompile
             } catch (Exception ex) {
-                ex.printStackTrace();
                 throw new RevEngineException(curMethod.getName() + " decompilation failed. Please feel " + " free to " +
-                        "" + "" + " report the problem to me at " + " akkumar@users.sourceforge.net. ");
+                        "" + "" + " report the problem to me at " + " akkumar@users.sourceforge.net. ", ex);
             }
         }
     }
@@ -170,12 +170,12 @@ public class JDecompiler implements BranchConstants, KeyWords, JReverseEngineer,
 
             JRunTimeFrame rtf = new JRunTimeFrame(cpInfo, symTable, curMethod.getReturnType());
 
-            JOperandStack jos = new JOperandStack();
+            JOperandStack jos = new JOperandStack(curMethod.getMaxStack());
 
             for (Object byteIn : byteIns) {
                 JInstruction ins = (JInstruction) byteIn;
                 int varIndex = ins.isStoreInstruction();
-                String excDataType = (String) mapCatchJExceptions.get(ins.index);
+                String excDataType = exceptionTable.getHandlerType(ins.index);
                 if (excDataType != null) {
                     if (varIndex == JInstruction.INVALID_VAR_INDEX && excDataType.equals(ANY)) {
                         varIndex = ins.referredVariable();
@@ -243,14 +243,14 @@ public class JDecompiler implements BranchConstants, KeyWords, JReverseEngineer,
             throws RevEngineException, IOException {
         JRunTimeFrame rtf = new JRunTimeFrame(cpInfo, symTable, curMethod.getReturnType());
 
-        JOperandStack jos = new JOperandStack();
+        JOperandStack jos = new JOperandStack(curMethod.getMaxStack());
         JCollatingTable collatter = new JCollatingTable(curMethod);
 
         int prevCode = 0;
         boolean eolFlag = false;
         for (Object byteIn : byteIns) {
             JInstruction thisIns = (JInstruction) byteIn;
-            if (thisIns.isEndOfCatch()) {
+            if (thisIns.isEndOfCatch() || endsCatchBody(thisIns.index)) {
                 closeCatchBranch(thisIns.getNextIndex());
             }
             if (eolFlag) {
@@ -258,7 +258,7 @@ public class JDecompiler implements BranchConstants, KeyWords, JReverseEngineer,
                 eolFlag = false;
             }
             int insIndex = thisIns.index;
-            String exc = (String) mapCatchJExceptions.get(insIndex);
+            String exc = exceptionTable.getHandlerType(insIndex);
             if (exc != null) {
                 // push exception on the operand stack for catch
                 jos.push(FOREIGN_OBJ, FOREIGN_CLASS, VALUE);
@@ -373,6 +373,31 @@ public class JDecompiler implements BranchConstants, KeyWords, JReverseEngineer,
         }
     }
 
+    /**
+     * Tells if the body of a catch block ends at the given Pc.
+     * For a try..catch..finally the compiler covers the body of
+     * every catch handler with a catch (any) block, whose handler
+     * is the finally block. The body of the catch ends where that
+     * block ends, even if it does not end with an end-of-catch
+     * instruction.
+     * A catch (any) block that is its own handler, as the one
+     * releasing the monitor of a synchronized block, is not counted.
+     *
+     * @param insIndex Instruction Index.
+     * @return true, if a catch (any) block starting at a handler
+     * ends at insIndex. false, otherwise.
+     */
+    private boolean endsCatchBody(int insIndex) {
+        for (JException exc : exceptionTable.getBlocksEndingAt(insIndex)) {
+            int startPc = exc.getStartPc();
+            if (exc.containsANYCatchBlock() && exceptionTable.getHandlerType(startPc) != null &&
+                    exc.getExceptionClass(startPc) == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Adds a Catch Branch entry.
      *
@@ -392,7 +417,7 @@ public class JDecompiler implements BranchConstants, KeyWords, JReverseEngineer,
      */
     private JRunTimeContext createRuntimeContext() {
         JRunTimeFrame rtf = new JRunTimeFrame(cpInfo, symTable, curMethod.getReturnType());
-        JOperandStack jos = new JOperandStack();
+        JOperandStack jos = new JOperandStack(curMethod.getMaxStack());
         return new JRunTimeContext(this, curMethod, rtf, jos, branches);
     }
 
@@ -411,7 +436,7 @@ public class JDecompiler implements BranchConstants, KeyWords, JReverseEngineer,
 
         JOperandStack jos = context.getOperandStack();
 
-        if (mapCatchJExceptions.get(ins.index) != null) {
+        if (exceptionTable.getHandlerType(ins.index) != null) {
             jos.push(FOREIGN_OBJ, FOREIGN_CLASS, VALUE);
         } else if (branches.isJSRTarget(ins.index)) {
             jos.push(FOREIGN_OBJ, FOREIGN_CLASS, VALUE);
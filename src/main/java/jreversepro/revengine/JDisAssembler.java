@@ -26,14 +26,11 @@ import jreversepro.common.JJvmOpcodes;
 import jreversepro.parser.ClassParserException;
 import jreversepro.reflect.JConstantPool;
 import jreversepro.reflect.JImport;
-import jreversepro.reflect.JInstruction;
+import jreversepro.reflect.JInstructionStream;
 import jreversepro.reflect.JMethod;
 import jreversepro.runtime.JSymbolTable;
 
 import java.io.IOException;
-import java.util.Collections;
-import java.util.Enumeration;
-import java.util.List;
 
 //import jreversepro.common.Helper;
 //import jreversepro.common.JJvmSet;
@@ -46,10 +43,10 @@ import java.util.List;
 public class JDisAssembler implements JReverseEngineer, JJvmOpcodes {
 
     /**
-     * byteIns is the Vector of instructions. Individual elements are
-     * JInstruction.
+     * byteIns is the compact stream of instructions, read in place
+     * so that no JInstruction is created but for switches.
      */
-    final List<JInstruction> byteIns;
+    final JInstructionStream byteIns;
 
     /**
      * ConstantPool Information.
@@ -66,7 +63,7 @@ public class JDisAssembler implements JReverseEngineer, JJvmOpcodes {
      * @param rhsCpInfo ConstantPool Information.
      */
     public JDisAssembler(JMethod rhsMethod, JConstantPool rhsCpInfo) {
-        byteIns = rhsMethod.getInstructions();
+        byteIns = rhsMethod.getInstructionStream();
         cpInfo = rhsCpInfo;
         curMethod = rhsMethod;
     }
@@ -90,18 +87,17 @@ public class JDisAssembler implements JReverseEngineer, JJvmOpcodes {
             JImport importInfo = cpInfo.getImportedClasses();
             curMethod.setSymbolTable(new JSymbolTable(curMethod, importInfo));
 
-            Enumeration<JInstruction> enumIns = Collections.enumeration(byteIns);
-            while (enumIns.hasMoreElements()) {
-                JInstruction thisIns = enumIns.nextElement();
-                if (thisIns.opcode != OPCODE_WIDE) {
-                    if (thisIns.opcode == OPCODE_TABLESWITCH) {
-                        JSwitchTable switches = new JSwitchTable(curMethod, thisIns, null);
-                        assembly.append("\n\t\t").append(thisIns.index).append(": ");
+            JInstructionStream.Cursor thisIns = byteIns.cursor();
+            while (thisIns.next()) {
+                if (thisIns.getOpcode() != OPCODE_WIDE) {
+                    if (thisIns.getOpcode() == OPCODE_TABLESWITCH) {
+                        JSwitchTable switches = new JSwitchTable(curMethod, thisIns.toInstruction(), null);
+                        assembly.append("\n\t\t").append(thisIns.getIndex()).append(": ");
                         assembly.append("tableswitch ");
                         assembly.append(switches.disassemble());
-                    } else if (thisIns.opcode == OPCODE_LOOKUPSWITCH) {
-                        JSwitchTable switches = new JSwitchTable(curMethod, thisIns, null);
-                        assembly.append("\n\t\t").append(thisIns.index).append(": ");
+                    } else if (thisIns.getOpcode() == OPCODE_LOOKUPSWITCH) {
+                        JSwitchTable switches = new JSwitchTable(curMethod, thisIns.toInstruction(), null);
+                        assembly.append("\n\t\t").append(thisIns.getIndex()).append(": ");
                         assembly.append("lookupswitch ");
                         assembly.append(switches.disassemble());
                     } else {
@@ -129,18 +125,16 @@ public class JDisAssembler implements JReverseEngineer, JJvmOpcodes {
      * @throws ClassParserException Thrown in case of an invalid
      *                              constantpool reference.
      */
-    private void dealDefault(StringBuffer assembly, JInstruction thisIns)
+    private void dealDefault(StringBuffer assembly, JInstructionStream.Cursor thisIns)
             throws ClassParserException {
-        assembly.append("\n\t\t").append(thisIns.index).append(": ");
+        assembly.append("\n\t\t").append(thisIns.getIndex()).append(": ");
         String ins = thisIns.getInsName();
         assembly.append(ins);
-        if (thisIns.args == null) {
-            return;
-        }
-        int len = thisIns.args.length;
+        int len = thisIns.getArgLength();
+        int opcode = thisIns.getOpcode();
         if (len == 1) {
-            int thisByte = thisIns.getArgUnsignedByte();
-            if (thisIns.opcode >= OPCODE_LDC && thisIns.opcode <= OPCODE_LDC2_W) {
+            int thisByte = thisIns.getArgUnsignedByte(0);
+            if (opcode >= OPCODE_LDC && opcode <= OPCODE_LDC2_W) {
 
                 assembly.append(" #");
                 //Indicates an index to the Constant Pool
@@ -151,14 +145,14 @@ public class JDisAssembler implements JReverseEngineer, JJvmOpcodes {
                 assembly.append(" ").append(thisByte);
             }
         } else if (len == 2) {
-            int value = thisIns.getArgUnsignedShort();
+            int value = thisIns.getArgUnsignedShort(0);
             assembly.append(" ");
-            if (ins.contains("if") || thisIns.opcode == OPCODE_GOTO || thisIns.opcode == OPCODE_JSR) {
+            if (ins.contains("if") || opcode == OPCODE_GOTO || opcode == OPCODE_JSR) {
 
                 assembly.append(thisIns.getTargetPc());
-            } else if (thisIns.opcode == OPCODE_IINC) {
-                assembly.append(thisIns.getArgUnsignedByte()).append(" ").append(thisIns.getArgUnsignedByte(1));
-            } else if (thisIns.opcode == OPCODE_SIPUSH) {
+            } else if (opcode == OPCODE_IINC) {
+                assembly.append(thisIns.getArgUnsignedByte(0)).append(" ").append(thisIns.getArgUnsignedByte(1));
+            } else if (opcode == OPCODE_SIPUSH) {
                 assembly.append(value);
             } else {
                 assembly.append("#");
@@ -168,7 +162,7 @@ public class JDisAssembler implements JReverseEngineer, JJvmOpcodes {
                 assembly.append(" >");
             }
         } else if (len == 4) {
-            int value = thisIns.getArgUnsignedShort();
+            int value = thisIns.getArgUnsignedShort(0);
             assembly.append(" #");
             //Indicates an index to the Constant Pool
             assembly.append(value).append(" <");
@@ -38,18 +38,12 @@ import java.net.URL;
  */
 public class JSerializer implements KeyWords {
 
-    /**
-     * Reference to a .classfile parser.
-     */
-    static final JClassParser classParser;
     private static final Logger log = LoggerFactory.getLogger(JSerializer.class);
-
-    /*
-      static initializer.
+    /**
+     * Reference to a .classfile parser, owned by this serializer since
+     * parsers are not thread safe.
      */
-    static {
-        classParser = new JClassParser();
-    }
+    final JClassParser classParser = new JClassParser();
 
     /**
      * Name of the current class to be reverse engineered.
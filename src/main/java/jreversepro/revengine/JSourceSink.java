@@ -0,0 +1,120 @@
+/*
+  @(#)JSourceSink.java JReversePro - Java Decompiler / Disassembler.
+ * Copyright (C) 2000 2001 Karthik Kumar.
+ * EMail: akkumar@users.sourceforge.net
+ * <p>
+ * This program is free software; you can redistribute it and/or modify
+ * it , under the terms of the GNU General Public License as published
+ * by the Free Software Foundation; either version 2 of the License,
+ * or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program.If not, write to
+ * The Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+package jreversepro.revengine;
+
+import jreversepro.reflect.JClassInfo;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Receives the reverse engineered classes of a
+ * <code>JBatchReverseEngineer</code> run, one at a time, in the order
+ * they are completed.
+ *
+ * @see JBatchReverseEngineer#process(java.util.List, JSourceSink)
+ */
+public interface JSourceSink {
+
+    /**
+     * Receives a reverse engineered class.
+     *
+     * @param aClassName Name of the class, with '/' as separator,
+     *                   e.g. <code>java/lang/String</code>.
+     * @param aSource    Decompiled or disassembled code of the class.
+     * @throws IOException Thrown in case of any i/o error writing the code.
+     */
+    void write(String aClassName, String aSource)
+            throws IOException;
+
+    /**
+     * Receives a reverse engineered class, before its code has been
+     * turned into text. By default the code of the class is built as
+     * a String and given to {@link #write(String, String)}; sinks able
+     * to stream should write it with
+     * {@link JClassInfo#writeClass(Appendable, boolean, boolean)}.
+     *
+     * @param aClass       Reverse engineered class.
+     * @param aDisassemble TRUE, if the disassembled code is to be written,
+     *                     FALSE for the decompiled code.
+     * @throws IOException Thrown in case of any i/o error writing the code.
+     */
+    default void write(JClassInfo aClass, boolean aDisassemble)
+            throws IOException {
+        write(aClass.getThisClass(), aClass.getStringifiedClass(aDisassemble));
+    }
+
+    /**
+     * Receives a class that could not be reverse engineered, or a jar
+     * or directory that could not be read. Does nothing by default.
+     *
+     * @param aPath  Path of the class file, jar or directory.
+     * @param aCause Reason of the failure.
+     */
+    default void failed(String aPath, Throwable aCause) {
+    }
+
+    /**
+     * Returns a sink writing every class to its own file, under
+     * the directory of its package.
+     *
+     * @param aDirectory Root directory of the files.
+     * @param aExtension Extension of the files, e.g. <code>.java</code>.
+     * @return a sink writing to the given directory.
+     */
+    static JSourceSink toDirectory(final File aDirectory, final String aExtension) {
+        return new JSourceSink() {
+            public void write(String aClassName, String aSource)
+                    throws IOException {
+                try (Writer writer = open(aClassName)) {
+                    writer.write(aSource);
+                }
+            }
+
+            public void write(JClassInfo aClass, boolean aDisassemble)
+                    throws IOException {
+                try (Writer writer = open(aClass.getThisClass())) {
+                    aClass.writeClass(writer, aDisassemble, false);
+                }
+            }
+
+            /**
+             * @param aClassName Name of the class.
+             * @return a writer to the file of the class.
+             * @throws IOException Thrown if the file can not be created.
+             */
+            private Writer open(String aClassName)
+                    throws IOException {
+                Path root = aDirectory.toPath().normalize();
+                Path path = root.resolve(aClassName + aExtension).normalize();
+                if (!path.startsWith(root)) {
+                    throw new IOException("Class " + aClassName + " would be written outside of " + aDirectory);
+                }
+                Files.createDirectories(path.getParent());
+                return Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+            }
+        };
+    }
+}
@@ -25,32 +25,54 @@ package jreversepro.runtime;
 import jreversepro.common.KeyWords;
 import jreversepro.revengine.RevEngineException;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EmptyStackException;
 import java.util.List;
 import java.util.Stack;
-import java.util.Vector;
 
 /**
  * Operand Stack is the abstraction of the Java Method Operand Stack.
  * The variables are pushed to and popped from, this stack.
+ * <br>The operands are kept in an array sized from the max_stack of the
+ * method, that grows only if that size turns out to be too small.
+ * push, pop, peek, empty and size work on that array without locking,
+ * as a stack is only used by the thread decompiling its method; the
+ * other methods inherited from Stack see the same contents.
  *
  * @author Karthik Kumar.
  */
 public class JOperandStack extends Stack<Operand> implements KeyWords, OperandConstants {
+
+    /**
+     * Initial size of a stack whose maximum depth is not known.
+     */
+    private static final int DEFAULT_SIZE = 16;
+
     /**
-     * A Vector of constants. The  individual members of this
-     * vector are 'String'. They are primarily used in the following
+     * A List of constants. The  individual members of this
+     * list are 'String'. They are primarily used in the following
      * case. Lets say - we have a code called .
      * String [] args = { "run", "args", "args1" };
      * In this case all the individual members of the array
      * namely args come into the constants.
      */
-    final Vector<String> constants;
+    final List<String> constants;
 
     /**
      * Empty constructor
      */
     public JOperandStack() {
-        constants = new Vector<>();
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * @param maxStack Maximum depth of the operand stack of the method,
+     *                 as mentioned in its Code attribute.
+     */
+    public JOperandStack(int maxStack) {
+        constants = new ArrayList<>();
+        elementData = new Object[Math.max(maxStack, 1)];
     }
 
     /**
@@ -99,7 +121,7 @@ public class JOperandStack extends Stack<Operand> implements KeyWords, OperandCo
         if (this.empty()) {
             return false;
         } else {
-            String dataType = ( this.peek()).getDatatype();
+            String dataType = this.peek().getDatatype();
             return dataType.equals(FOREIGN_CLASS) || dataType.contains("<");
         }
     }
@@ -135,7 +157,7 @@ public class JOperandStack extends Stack<Operand> implements KeyWords, OperandCo
      * @param precedence precedence of the stack element.
      */
     public void push(String value, String datatype, int precedence) {
-        super.push(new Operand(value, datatype, precedence));
+        push(new Operand(value, datatype, precedence));
     }
 
     /**
@@ -145,7 +167,65 @@ public class JOperandStack extends Stack<Operand> implements KeyWords, OperandCo
      * @param precedence precedence of the stack element.
      */
     public void push(int value, String datatype, int precedence) {
-        super.push(new Operand(value, datatype, precedence));
+        push(new Operand(value, datatype, precedence));
+    }
+
+    /**
+     * Pushes an operand onto the top of the stack.
+     *
+     * @param operand Operand to be pushed.
+     * @return Returns the operand.
+     */
+    @Override
+    public Operand push(Operand operand) {
+        if (elementCount == elementData.length) {
+            elementData = Arrays.copyOf(elementData, 2 * elementData.length);
+        }
+        elementData[elementCount++] = operand;
+        modCount++;
+        return operand;
+    }
+
+    /**
+     * Removes the operand at the top of the stack.
+     *
+     * @return Returns the operand removed.
+     * @throws EmptyStackException Thrown if the stack is empty.
+     */
+    @Override
+    public Operand pop() {
+        Operand operand = peek();
+        elementData[--elementCount] = null;
+        modCount++;
+        return operand;
+    }
+
+    /**
+     * @return Returns the operand at the top of the stack.
+     * @throws EmptyStackException Thrown if the stack is empty.
+     */
+    @Override
+    public Operand peek() {
+        if (elementCount == 0) {
+            throw new EmptyStackException();
+        }
+        return (Operand) elementData[elementCount - 1];
+    }
+
+    /**
+     * @return Returns true, if the stack is empty.
+     */
+    @Override
+    public boolean empty() {
+        return elementCount == 0;
+    }
+
+    /**
+     * @return Returns the number of operands on the stack.
+     */
+    @Override
+    public int size() {
+        return elementCount;
     }
 
     /**
@@ -153,7 +233,7 @@ public class JOperandStack extends Stack<Operand> implements KeyWords, OperandCo
      * vector already.
      */
     public void removeAllConstants() {
-        constants.removeAllElements();
+        constants.clear();
     }
 
     /**
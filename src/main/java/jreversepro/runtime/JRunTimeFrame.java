@@ -22,6 +22,7 @@ package jreversepro.runtime;
 
 import jreversepro.common.Helper;
 import jreversepro.common.JJvmOpcodes;
+import jreversepro.common.JMethodDescriptor;
 import jreversepro.common.KeyWords;
 import jreversepro.parser.ClassParserException;
 import jreversepro.reflect.JConstantPool;
@@ -1399,11 +1400,11 @@ public class JRunTimeFrame implements KeyWords, OperandConstants, BranchConstant
 
                 // Get No: of arguments
                 int argsIndex = cpInfo.getPtr2(nameIndex);
-                String argsList = cpInfo.getCpValue(argsIndex);
-                List args = Helper.getArguments(argsList);
+                JMethodDescriptor descriptor = JMethodDescriptor.getInstance(cpInfo.getCpValue(argsIndex));
+                List args = descriptor.getArguments();
                 int popMax = args.size();
 
-                String methodType = Helper.getReturnType(argsList);
+                String methodType = descriptor.getReturnType();
                 // Get Return type
 
                 List<String> argValues = new ArrayList<>(popMax);
@@ -1686,13 +1687,13 @@ public class JRunTimeFrame implements KeyWords, OperandConstants, BranchConstant
         int nameIndex = cpInfo.getPtr2(offset);
         String methodName = cpInfo.getFirstDirectName(nameIndex);
         String className = cpInfo.getClassName(classIndex);
-        String argsList = cpInfo.getCpValue(cpInfo.getPtr2(nameIndex));
+        JMethodDescriptor descriptor = JMethodDescriptor.getInstance(cpInfo.getCpValue(cpInfo.getPtr2(nameIndex)));
 
-        List args = Helper.getArguments(argsList);
+        List args = descriptor.getArguments();
         int popMax = args.size();
         //Equals Number of Arguments
 
-        String methodType = Helper.getReturnType(argsList);
+        String methodType = descriptor.getReturnType();
 
         //log.info(className);
         List<String> argValues = new ArrayList<>(popMax);
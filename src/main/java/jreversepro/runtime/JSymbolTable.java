@@ -76,13 +76,12 @@ public class JSymbolTable implements KeyWords {
      */
     Map<String, JLocalEntry> symNames;
     /**
-     * Map of the Symbols -
-     * Key - local variable index - java.lang.Integer
-     * Value - List of JLocalEntry.
+     * Symbols, indexed by the local variable index.
+     * Each slot holds a List of JLocalEntry,
      * since for the same localvariable index more than one
-     * datatype may exist.
+     * datatype may exist. Slots never used are null.
      */
-    Map<Integer, List<JLocalEntry>> symbols;
+    List<JLocalEntry>[] symbols;
 
     /**
      * @param rhsMethod Method for which this symbol table
@@ -98,8 +97,7 @@ public class JSymbolTable implements KeyWords {
         maxSymbols = rhsMethod.getMaxLocals();
         maxArgs = args.size();
 
-        //Symbols = new HashSet();
-        symbols = new HashMap<>();
+        symbols = newSlots(Math.max(maxSymbols, 1));
         symNames = new HashMap<>();
 
         basicIndex = 'i';
@@ -197,15 +195,16 @@ public class JSymbolTable implements KeyWords {
             //Not necessary to keep track of referenced line numbers.
             //Since the variable is an argument.
         }
-        List currentList = symbols.get(aVarIndex);
-        JLocalEntry createEntry = new JLocalEntry(-1, //VarIndex irrelevant
-                -1, //StoreIndex irrelevant.
-                aDatatype, "", //Name irrelevant
-                false); //Declared irrelevant
-        int objIndex = currentList.indexOf(createEntry);
-        if (objIndex != -1) {
-            JLocalEntry ent = (JLocalEntry) currentList.get(objIndex);
-            ent.setLastReferredIndex(aIndex);
+        List<JLocalEntry> currentList = getSlot(aVarIndex);
+        if (currentList == null) {
+            return;
+        }
+        //Entries of the same slot are told apart by their datatype.
+        for (JLocalEntry ent : currentList) {
+            if (ent.getDeclarationType().equals(aDatatype)) {
+                ent.setLastReferredIndex(aIndex);
+                return;
+            }
         }
     }
 
@@ -246,11 +245,10 @@ public class JSymbolTable implements KeyWords {
      * given the variable index and the instruction index.
      */
     private JLocalEntry getMatchingEntry(int aVarIndex, int aInsIndex) {
-        Object obj = symbols.get(aVarIndex);
-        if (obj != null) {
-            List currentList = (List) obj;
+        List<JLocalEntry> currentList = getSlot(aVarIndex);
+        if (currentList != null) {
             for (int i = currentList.size() - 1; i >= 0; i--) {
-                JLocalEntry ent = (JLocalEntry) currentList.get(i);
+                JLocalEntry ent = currentList.get(i);
                 if (aInsIndex >= ent.getStoreIndex()) {
                     return ent;
                 }
@@ -259,6 +257,27 @@ public class JSymbolTable implements KeyWords {
         return null;
     }
 
+    /**
+     * @param aVarIndex Index of local variable into symbol table.
+     * @return Returns the entries of the local variable, null if
+     * there are none.
+     */
+    private List<JLocalEntry> getSlot(int aVarIndex) {
+        if (aVarIndex < 0 || aVarIndex >= symbols.length) {
+            return null;
+        }
+        return symbols[aVarIndex];
+    }
+
+    /**
+     * @param aSize Number of local variable slots.
+     * @return Returns an empty array of local variable slots.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<JLocalEntry>[] newSlots(int aSize) {
+        return new List[aSize];
+    }
+
     /**
      * Adds a new entry to the localsymboltable.
      *
@@ -273,14 +292,16 @@ public class JSymbolTable implements KeyWords {
         Helper.log("Adding entry " + aVarIndex);
         aDeclared |= (aDatatype.contains("<"));
 
-        List<JLocalEntry> obj = symbols.get(aVarIndex);
-
-        List<JLocalEntry> currentList;
-        if (obj == null) {
-            currentList = new Vector<>();
-            symbols.put(aVarIndex, currentList);
-        } else {
-            currentList = obj;
+        if (aVarIndex >= symbols.length) {
+            //max_locals was smaller than the index in use.
+            List<JLocalEntry>[] newSymbols = newSlots(Math.max(aVarIndex + 1, 2 * symbols.length));
+            System.arraycopy(symbols, 0, newSymbols, 0, symbols.length);
+            symbols = newSymbols;
+        }
+        List<JLocalEntry> currentList = symbols[aVarIndex];
+        if (currentList == null) {
+            currentList = new ArrayList<>(2);
+            symbols[aVarIndex] = currentList;
         }
         String name = genName(aDatatype, aVarIndex);
         JLocalEntry ent = new JLocalEntry(aVarIndex, aStoreIndex, aDatatype, name, aDeclared);
@@ -378,11 +399,11 @@ public class JSymbolTable implements KeyWords {
      */
     public List<String> defineVariable(int endOfBranch) {
         List<String> result = new Vector<>();
-        Enumeration enumValues = Collections.enumeration(symbols.values());
-        while (enumValues.hasMoreElements()) {
-            List list = (List) enumValues.nextElement();
-            for (Object aList : list) {
-                JLocalEntry ent = (JLocalEntry) aList;
+        for (List<JLocalEntry> list : symbols) {
+            if (list == null) {
+                continue;
+            }
+            for (JLocalEntry ent : list) {
                 if (!ent.isDeclared() && ent.getLastReferredIndex() > endOfBranch) {
 
                     String type = JImport.getClassName(Helper.getJavaDataType(ent.getDeclarationType(), false));
@@ -457,13 +478,12 @@ public class JSymbolTable implements KeyWords {
     public String toString() {
         StringBuilder sb = new StringBuilder();
         if (symbols != null) {
-            for (Object o : symbols.keySet()) {
-                Integer k1 = (Integer) o;
-                Iterator i2 = ((List) symbols.get(k1)).iterator();
-                if (i2.hasNext()) {
+            for (int k1 = 0; k1 < symbols.length; k1++) {
+                List<JLocalEntry> list = symbols[k1];
+                if (list != null && !list.isEmpty()) {
                     sb.append(k1).append(" = ");
-                    while (i2.hasNext()) {
-                        sb.append(i2.next());
+                    for (JLocalEntry ent : list) {
+                        sb.append(ent);
                     }
                 }
             }
@@ -0,0 +1,140 @@
+package com.araguacaima.commons.utils;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+public class ClasspathScannerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static List<String> names(List<ClasspathScanner.Entry> entries) {
+        List<String> names = new ArrayList<>();
+        for (ClasspathScanner.Entry entry : entries) {
+            names.add(entry.getName());
+        }
+        Collections.sort(names);
+        return names;
+    }
+
+    private File jar(String... names) throws IOException {
+        File jar = folder.newFile("scanned.jar");
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+            for (String name : names) {
+                out.putNextEntry(new ZipEntry(name));
+                out.write(name.getBytes("UTF-8"));
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    @After
+    public void tearDown() {
+        ClasspathScanner.clearCache();
+    }
+
+    @Test
+    public void testPackagePrefixDoesNotMatchSiblingPackages() throws IOException {
+        File jar = jar("com/foo/A.class", "com/foo/bar/B.class", "com/foobar/C.class", "com/foo.txt");
+        ClasspathScanner scanner = new ClasspathScanner(null);
+
+        List<ClasspathScanner.Entry> entries = scanner.scan(Collections.singletonList(new File(jar.getPath() +
+                "!/com/foo")));
+        Assert.assertEquals(Arrays.asList("com/foo/A.class", "com/foo/bar/B.class"), names(entries));
+
+        entries = scanner.scan(Collections.singletonList(new File(jar.getPath() + "!/com/foo/")));
+        Assert.assertEquals(Arrays.asList("com/foo/A.class", "com/foo/bar/B.class"), names(entries));
+
+        entries = scanner.scan(Collections.singletonList(new File(jar.getPath() + "!/com/foo.txt")));
+        Assert.assertEquals(Collections.singletonList("com/foo.txt"), names(entries));
+    }
+
+    @Test
+    public void testPersistedIndexIsReusedAndCheckedAgainstItsChecksum() throws IOException {
+        File jar = jar("com/foo/A.class", "com/foobar/C.class");
+        File indexDirectory = new File(folder.getRoot(), "index");
+        ClasspathScanner scanner = new ClasspathScanner(indexDirectory);
+        List<String> expected = names(scanner.scan(Collections.singletonList(jar)));
+        Assert.assertEquals(Arrays.asList("com/foo/A.class", "com/foobar/C.class"), expected);
+
+        File[] indexes = indexDirectory.listFiles();
+        Assert.assertNotNull(indexes);
+        Assert.assertEquals(1, indexes.length);
+        ClasspathScanner.clearCache();
+        Assert.assertNotNull(ClasspathScanner.JarIndex.load(indexes[0], jar.getCanonicalPath()));
+
+        try (RandomAccessFile index = new RandomAccessFile(indexes[0], "rw")) {
+            long position = index.length() - 12;
+            index.seek(position);
+            int value = index.read();
+            index.seek(position);
+            index.write(value ^ 0xFF);
+        }
+        Assert.assertNull(ClasspathScanner.JarIndex.load(indexes[0], jar.getCanonicalPath()));
+        Assert.assertEquals(expected, names(scanner.scan(Collections.singletonList(jar))));
+    }
+
+    @Test
+    public void testTruncatedArchiveIsReportedAsAPlainFile() throws IOException {
+        File jar = jar("com/foo/A.class");
+        File directory = folder.newFolder("classes");
+        File truncated = new File(directory, "truncated.jar");
+        try (FileOutputStream out = new FileOutputStream(truncated)) {
+            out.write(new byte[]{'P', 'K', 3, 4, 0, 0, 0});
+        }
+        File index = new File(folder.getRoot(), "index");
+        ClasspathScanner scanner = new ClasspathScanner(index);
+
+        List<ClasspathScanner.Entry> entries = scanner.scan(Arrays.asList(truncated, directory, jar));
+        Assert.assertEquals(Arrays.asList("com/foo/A.class", "truncated.jar", "truncated.jar"), names(entries));
+        File[] indexes = index.listFiles();
+        Assert.assertNotNull(indexes);
+        Assert.assertEquals(1, indexes.length);
+    }
+
+    @Test
+    public void testDirectoriesSkipVersionControlFoldersAndIndexNestedJars() throws IOException {
+        File jar = jar("com/foo/A.class");
+        File directory = folder.newFolder("root");
+        Assert.assertTrue(new File(directory, ".svn").mkdir());
+        Assert.assertTrue(new File(directory, ".svn/entries").createNewFile());
+        Assert.assertTrue(new File(directory, "com").mkdir());
+        Assert.assertTrue(new File(directory, "com/B.txt").createNewFile());
+        Assert.assertTrue(jar.renameTo(new File(directory, "com/nested.jar")));
+
+        List<ClasspathScanner.Entry> entries = new ClasspathScanner(null).scan(Collections.singletonList(directory));
+        Assert.assertEquals(Arrays.asList("", "B.txt", "com/foo/A.class"), names(entries));
+    }
+
+    @Test
+    public void testClassFilesAreReportedWithTheirHeader() throws IOException {
+        File directory = folder.newFolder("classes");
+        File classFile = new File(directory, "ClasspathScannerTest.class");
+        try (InputStream in = ClasspathScannerTest.class.getResourceAsStream("ClasspathScannerTest.class")) {
+            Files.copy(in, classFile.toPath());
+        }
+
+        List<ClasspathScanner.Entry> entries = new ClasspathScanner(null).scan(Collections.singletonList(directory));
+        Assert.assertEquals(1, entries.size());
+        ClassFileHeader header = entries.get(0).getHeader();
+        Assert.assertNotNull(header);
+        Assert.assertEquals(ClasspathScannerTest.class.getName(), header.getClassName());
+        Assert.assertEquals(Object.class.getName(), header.getSuperClassName());
+        Assert.assertTrue(header.getInterfaces().isEmpty());
+        Assert.assertFalse(header.isInterface());
+    }
+}
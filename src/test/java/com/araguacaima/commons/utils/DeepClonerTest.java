@@ -0,0 +1,119 @@
+package com.araguacaima.commons.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+public class DeepClonerTest {
+
+    private final DeepCloner deepCloner = DeepCloner.getInstance();
+
+    @Test
+    public void priorityQueueKeepsItsComparator() {
+        PriorityQueue<Item> queue = new PriorityQueue<>(Comparator.comparing((Item item) -> item.name).reversed());
+        queue.add(new Item("a"));
+        queue.add(new Item("c"));
+        queue.add(new Item("b"));
+
+        PriorityQueue<Item> copy = deepCloner.deepClone(queue);
+
+        Assert.assertNotSame(queue, copy);
+        Assert.assertNotNull(copy.comparator());
+        Item head = copy.poll();
+        Assert.assertNotSame(queue.peek(), head);
+        Assert.assertEquals("c", head.name);
+        Assert.assertEquals("b", copy.poll().name);
+        Assert.assertEquals("a", copy.poll().name);
+    }
+
+    @Test
+    public void accessOrderedLinkedHashMapKeepsItsOrdering() {
+        Map<String, Item> map = new LinkedHashMap<>(16, 0.75f, true);
+        map.put("a", new Item("a"));
+        map.put("b", new Item("b"));
+        map.get("a");
+
+        Map<String, Item> copy = deepCloner.deepClone(map);
+
+        Assert.assertEquals(Arrays.asList("b", "a"), new ArrayList<>(copy.keySet()));
+        Assert.assertNotSame(map.get("b"), copy.get("b"));
+        copy.get("b");
+        Assert.assertEquals(Arrays.asList("a", "b"), new ArrayList<>(copy.keySet()));
+    }
+
+    @Test
+    public void sortedAndEnumContainersKeepTheirState() {
+        TreeMap<String, Item> sorted = new TreeMap<>(Comparator.reverseOrder());
+        sorted.put("a", new Item("a"));
+        sorted.put("b", new Item("b"));
+        EnumMap<TimeUnit, Item> byUnit = new EnumMap<>(TimeUnit.class);
+        byUnit.put(TimeUnit.SECONDS, new Item("s"));
+
+        TreeMap<String, Item> sortedCopy = deepCloner.deepClone(sorted);
+        EnumMap<TimeUnit, Item> byUnitCopy = deepCloner.deepClone(byUnit);
+
+        Assert.assertEquals("b", sortedCopy.firstKey());
+        Assert.assertNotSame(sorted.get("a"), sortedCopy.get("a"));
+        Assert.assertEquals("s", byUnitCopy.get(TimeUnit.SECONDS).name);
+        Assert.assertNotSame(byUnit.get(TimeUnit.SECONDS), byUnitCopy.get(TimeUnit.SECONDS));
+        byUnitCopy.put(TimeUnit.DAYS, new Item("d"));
+        Assert.assertEquals(2, byUnitCopy.size());
+    }
+
+    @Test
+    public void serializationHooksAreHonored() {
+        TimestampedDate date = new TimestampedDate(1234567890L);
+        date.label = "label";
+
+        TimestampedDate copy = deepCloner.deepClone(date);
+
+        Assert.assertNotSame(date, copy);
+        Assert.assertEquals(1234567890L, copy.getTime());
+        Assert.assertEquals("label", copy.label);
+        Assert.assertEquals(date.label.length(), copy.length);
+    }
+
+    @Test
+    public void sharedReferencesStayShared() {
+        Item item = new Item("a");
+        List<Item> items = new ArrayList<>(Arrays.asList(item, item));
+
+        List<Item> copy = deepCloner.deepClone(items);
+
+        Assert.assertNotSame(item, copy.get(0));
+        Assert.assertSame(copy.get(0), copy.get(1));
+    }
+
+    private static class Item {
+        private final String name;
+
+        private Item(String name) {
+            this.name = name;
+        }
+    }
+
+    private static class TimestampedDate extends Date {
+        private static final long serialVersionUID = 1L;
+        private String label;
+        private transient int length;
+
+        private TimestampedDate(long time) {
+            super(time);
+        }
+
+        private void writeObject(ObjectOutputStream out) throws IOException {
+            out.defaultWriteObject();
+        }
+
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            length = label == null ? 0 : label.length();
+        }
+    }
+}
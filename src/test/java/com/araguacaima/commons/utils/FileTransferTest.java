@@ -0,0 +1,105 @@
+package com.araguacaima.commons.utils;
+
+import org.evosuite.runtime.sandbox.Sandbox;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class FileTransferTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void leaveSandbox() {
+        // the EvoSuite tests run before leave their sandbox on, which denies writes to the copying threads
+        if (Sandbox.isSecurityManagerInitialized()) {
+            Sandbox.resetDefaultSecurityManager();
+        }
+    }
+
+    private static byte[] bytes(int length, long seed) {
+        byte[] bytes = new byte[length];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static Path write(Path file, byte[] content, long modified) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modified));
+        return file;
+    }
+
+    @Test
+    public void testCopyDirectoryPreservesContentsAndDates() throws IOException {
+        Path source = folder.newFolder("source").toPath();
+        long modified = 1500000000000L;
+        write(source.resolve("a.txt"), bytes(10, 1), modified);
+        write(source.resolve("sub/b.bin"), bytes(3 * FileTransfer.BUFFER_SIZE + 17, 2), modified + 2000);
+        write(source.resolve("sub/deeper/c.bin"), new byte[0], modified + 4000);
+        Files.createDirectories(source.resolve("empty"));
+        Path target = folder.getRoot().toPath().resolve("target");
+
+        AtomicLong reported = new AtomicLong();
+        FileTransfer transfer = new FileTransfer(2, (file, bytes, total, rate) -> reported.addAndGet(bytes));
+        long copied = transfer.copyDirectory(source.toFile(), target.toFile());
+
+        Assert.assertEquals(10 + 3 * FileTransfer.BUFFER_SIZE + 17, copied);
+        Assert.assertEquals(copied, reported.get());
+        for (String name : new String[]{"a.txt", "sub/b.bin", "sub/deeper/c.bin"}) {
+            Assert.assertArrayEquals(name, Files.readAllBytes(source.resolve(name)),
+                    Files.readAllBytes(target.resolve(name)));
+            Assert.assertEquals(name, Files.getLastModifiedTime(source.resolve(name)),
+                    Files.getLastModifiedTime(target.resolve(name)));
+        }
+        Assert.assertTrue(Files.isDirectory(target.resolve("empty")));
+    }
+
+    @Test
+    public void testCopyDirectoryMergesIntoExistingTarget() throws IOException {
+        Path source = folder.newFolder("source").toPath();
+        Path target = folder.newFolder("target").toPath();
+        write(source.resolve("a.txt"), bytes(5, 3), 1500000000000L);
+        write(target.resolve("a.txt"), bytes(50, 4), 1400000000000L);
+        write(target.resolve("kept.txt"), bytes(5, 5), 1400000000000L);
+
+        new FileTransfer().copyDirectory(source.toFile(), target.toFile());
+        Assert.assertArrayEquals(bytes(5, 3), Files.readAllBytes(target.resolve("a.txt")));
+        Assert.assertTrue(Files.exists(target.resolve("kept.txt")));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCopyDirectoryReportsUnexpectedFailures() throws IOException {
+        Path source = folder.newFolder("source").toPath();
+        write(source.resolve("a.txt"), bytes(5, 7), 1500000000000L);
+        new FileTransfer(1, (file, bytes, total, rate) -> {
+            throw new IllegalStateException("listener failed");
+        }).copyDirectory(source.toFile(), new File(folder.getRoot(), "target"));
+    }
+
+    @Test(expected = IOException.class)
+    public void testCopyDirectoryRejectsFiles() throws IOException {
+        File file = folder.newFile("file.txt");
+        new FileTransfer().copyDirectory(file, new File(folder.getRoot(), "target"));
+    }
+
+    @Test
+    public void testCopyStream() throws IOException {
+        byte[] content = bytes(FileTransfer.BUFFER_SIZE + 1, 6);
+        File target = new File(folder.getRoot(), "stream.bin");
+        Assert.assertEquals(content.length, new FileTransfer().copy(new ByteArrayInputStream(content), target));
+        Assert.assertArrayEquals(content, Files.readAllBytes(target.toPath()));
+    }
+}
@@ -0,0 +1,131 @@
+package com.araguacaima.commons.utils;
+
+import com.araguacaima.commons.utils.file.FileUtilsFilenameFilterImpl;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+public class FileWalkerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File root;
+
+    private static void zip(File archive, String... names) throws IOException {
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(archive))) {
+            for (String name : names) {
+                out.putNextEntry(new ZipEntry(name));
+                out.closeEntry();
+            }
+        }
+    }
+
+    private static void touch(File file) throws IOException {
+        Files.createDirectories(file.getParentFile().toPath());
+        Files.write(file.toPath(), file.getName().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        root = folder.newFolder("root");
+        touch(new File(root, "a.txt"));
+        touch(new File(root, "sub/b.txt"));
+        touch(new File(root, "sub/deep/c.txt"));
+        touch(new File(root, "CVS/Entries"));
+        touch(new File(root, "sub/.svn/entries"));
+        zip(new File(root, "lib.jar"), "p/", "p/E.class");
+        // an archive told apart by its magic bytes only
+        zip(new File(root, "sub/noext"), "z.txt");
+    }
+
+    private Set<String> relative(Collection<File> files) {
+        Set<String> names = new TreeSet<>();
+        for (File file : files) {
+            names.add(root.toPath().relativize(file.toPath()).toString().replace(File.separatorChar, '/'));
+        }
+        return names;
+    }
+
+    private Set<String> stream(FileWalker walker) {
+        try (Stream<File> files = walker.stream(Collections.singletonList(root))) {
+            return relative(files.collect(Collectors.toList()));
+        }
+    }
+
+    private Set<String> walk(FileWalker walker) {
+        List<File> files = Collections.synchronizedList(new ArrayList<>());
+        walker.walk(Collections.singletonList(root), files::add);
+        return relative(files);
+    }
+
+    private static Set<String> set(String... names) {
+        return new TreeSet<>(Arrays.asList(names));
+    }
+
+    @Test
+    public void testRecursionDepth() {
+        Set<String> top = set("a.txt", "sub", "lib.jar/p", "lib.jar/p/E.class");
+        FileWalker walker = new FileWalker(null, FileUtils.FILTER_TYPE_ALL, 0);
+        Assert.assertEquals(top, stream(walker));
+        Assert.assertEquals(top, walk(walker));
+
+        Set<String> second = new TreeSet<>(top);
+        second.addAll(set("sub/b.txt", "sub/deep", "sub/noext/z.txt"));
+        walker = new FileWalker(null, FileUtils.FILTER_TYPE_ALL, 1);
+        Assert.assertEquals(second, stream(walker));
+        Assert.assertEquals(second, walk(walker));
+
+        Set<String> all = new TreeSet<>(second);
+        all.add("sub/deep/c.txt");
+        walker = new FileWalker(null, FileUtils.FILTER_TYPE_ALL, -1);
+        Assert.assertEquals(all, stream(walker));
+        Assert.assertEquals(all, walk(walker));
+    }
+
+    @Test
+    public void testVersionControlFoldersAreSkipped() {
+        for (String name : stream(new FileWalker(null, FileUtils.FILTER_TYPE_ALL, -1))) {
+            Assert.assertFalse(name, name.contains("CVS") || name.contains(".svn"));
+        }
+    }
+
+    @Test
+    public void testArchiveEntriesAreFilteredWithTheArchiveAsDirectory() {
+        List<String> seen = Collections.synchronizedList(new ArrayList<>());
+        FileUtilsFilenameFilterImpl classes = new FileUtilsFilenameFilterImpl() {
+            @Override
+            public boolean accept(File dir, String name) {
+                if (dir.getName().equals("lib.jar")) {
+                    seen.add(name);
+                }
+                return name.endsWith(".class");
+            }
+        };
+        FileWalker walker = new FileWalker(Collections.singletonList(classes), FileUtils.FILTER_TYPE_SOME, -1);
+        Assert.assertEquals(set("lib.jar/p/E.class"), stream(walker));
+        Assert.assertEquals(set("lib.jar/p/E.class"), walk(walker));
+        Assert.assertTrue(seen.contains("p"));
+        Assert.assertTrue(seen.contains("p/E.class"));
+    }
+
+    @Test
+    public void testArchivesAreToldApartByMagicBytes() {
+        Assert.assertTrue(FileWalker.isArchive(new File(root, "sub/noext")));
+        Assert.assertTrue(FileWalker.isArchive(new File(root, "lib.jar")));
+        Assert.assertFalse(FileWalker.isArchive(new File(root, "a.txt")));
+    }
+}
@@ -0,0 +1,86 @@
+package com.araguacaima.commons.utils;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+public class MappedTextSearchTest {
+
+    private static final int SEGMENT_SIZE = 8;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File file(String text) throws IOException {
+        File file = folder.newFile();
+        Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static long countNonOverlapping(String text, String pattern) {
+        long count = 0;
+        for (int i = text.indexOf(pattern); i != -1; i = text.indexOf(pattern, i + pattern.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    @Test
+    public void testMatchStraddlingSegmentBoundary() throws IOException {
+        // "needle" starts at 5 and ends at 11, across the boundary at 8
+        String text = "01234needle7890123456789";
+        MappedTextSearch search = new MappedTextSearch("needle".getBytes(StandardCharsets.UTF_8), SEGMENT_SIZE);
+        File file = file(text);
+
+        Assert.assertEquals(1, search.count(file));
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            Assert.assertEquals(5, search.indexOf(channel, 0));
+            Assert.assertEquals(-1, search.indexOf(channel, 6));
+            Assert.assertEquals(5, search.lastIndexOf(channel, text.length()));
+            Assert.assertEquals(5, search.lastIndexOf(channel, 5));
+            Assert.assertEquals(-1, search.lastIndexOf(channel, 4));
+        }
+    }
+
+    @Test
+    public void testCountsMatchStringSearchAcrossSegments() throws IOException {
+        String text = "abcabcab-cabcab|abcabcabc..abc.ab" + "aaaaaaaaaaaaaaaaaaa" + "abc";
+        File file = file(text);
+        for (String pattern : new String[]{"abc", "cab", "abcab", "aa", "aaa", "c.", "abc.ab", "z"}) {
+            MappedTextSearch search = new MappedTextSearch(pattern.getBytes(StandardCharsets.UTF_8), SEGMENT_SIZE);
+            Assert.assertEquals(pattern, countNonOverlapping(text, pattern), search.count(file));
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                for (int from = 0; from < text.length(); from++) {
+                    Assert.assertEquals(pattern + " from " + from, text.indexOf(pattern, from),
+                            search.indexOf(channel, from));
+                    Assert.assertEquals(pattern + " back from " + from, text.lastIndexOf(pattern, from),
+                            search.lastIndexOf(channel, from));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDefaultSegmentsAndRead() throws IOException {
+        String text = "one two one two one";
+        File file = file(text);
+        Assert.assertEquals(3, new MappedTextSearch("one").count(file));
+        Assert.assertEquals(0, new MappedTextSearch("three").count(file));
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            Assert.assertEquals("two one", MappedTextSearch.read(channel, 4, 11));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyPatternIsRejected() {
+        new MappedTextSearch("");
+    }
+}
@@ -0,0 +1,108 @@
+package com.araguacaima.commons.utils;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class RecordBinderTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static RecordBinder<Person> binder() {
+        return new RecordBinder<>(Person.class, Arrays.asList("name", "age", "note"), ';');
+    }
+
+    @Test
+    public void testEmptyTrailingField() {
+        Person person = binder().bind("Ana;31;");
+        Assert.assertEquals("Ana", person.getName());
+        Assert.assertEquals(31, person.getAge());
+        Assert.assertEquals("", person.getNote());
+    }
+
+    @Test
+    public void testMissingTrailingFieldsAreLeftUntouched() {
+        Person person = binder().bind("Ana;31");
+        Assert.assertEquals("Ana", person.getName());
+        Assert.assertEquals(31, person.getAge());
+        Assert.assertEquals("unset", person.getNote());
+
+        person = binder().bind(";;x;ignored");
+        Assert.assertEquals("", person.getName());
+        Assert.assertEquals("x", person.getNote());
+    }
+
+    @Test
+    public void testBindFile() throws IOException {
+        File file = folder.newFile("people.txt");
+        Files.write(file.toPath(), Arrays.asList("Ana;31;first", "Luis;40;", "Eva;7"), StandardCharsets.UTF_8);
+
+        List<Person> people = binder().bindAll(file);
+        Assert.assertEquals(3, people.size());
+        Assert.assertEquals("Luis", people.get(1).getName());
+        Assert.assertEquals("", people.get(1).getNote());
+        Assert.assertEquals(7, people.get(2).getAge());
+
+        List<Integer> batchSizes = new ArrayList<>();
+        Assert.assertEquals(3, binder().bind(file, 2, batch -> batchSizes.add(batch.size())));
+        Assert.assertEquals(Arrays.asList(2, 1), batchSizes);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testClassWithoutNoArgConstructorIsRejected() {
+        new RecordBinder<>(Integer.class, Arrays.asList("value"), ';');
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFailingConstructorIsReported() {
+        new RecordBinder<>(Failing.class, Arrays.asList("value"), ';').bind("1");
+    }
+
+    public static class Person {
+
+        private int age;
+        private String name;
+        private String note = "unset";
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getNote() {
+            return note;
+        }
+
+        public void setNote(String note) {
+            this.note = note;
+        }
+    }
+
+    public static class Failing {
+
+        public Failing() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -3,6 +3,10 @@ package com.araguacaima.commons.utils;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.util.*;
+
 public class ReflectionUtilsTest {
 
     private A object;
@@ -21,6 +25,172 @@ public class ReflectionUtilsTest {
         Assert.assertEquals(reflectionUtils.extractByType(object, B.class).size(), 1);
     }
 
+    @Test
+    public void testInvokeGetter() {
+        Assert.assertEquals(0, reflectionUtils.invokeGetter(object, "field1"));
+        Assert.assertEquals("Test", reflectionUtils.invokeGetter(object.getField2(), "TYPE"));
+        Assert.assertNull(reflectionUtils.invokeGetter(object, "unknown"));
+    }
+
+    @Test
+    public void testMemberIndex() {
+        Assert.assertEquals(1, reflectionUtils.getAllFieldsOfType(A.class, B.class).size());
+        Assert.assertTrue(reflectionUtils.getAllFieldsOfType(A.class, String.class).isEmpty());
+        Assert.assertEquals("field2", reflectionUtils.getField(A.class, "field2").getName());
+        Assert.assertEquals(3, reflectionUtils.getGetterMethodsForField(A.class, "field1").size()
+                + reflectionUtils.getSetterMethodsForField(A.class, "field1").size()
+                + reflectionUtils.getGetterMethodsForField(A.class, "field2").size());
+        Collection<Field> fields = reflectionUtils.getAllFieldsIncludingParents(A.class);
+        fields.clear();
+        Assert.assertFalse(reflectionUtils.getAllFieldsIncludingParents(A.class).isEmpty());
+    }
+
+    @Test
+    public void testInvokeSimpleSetter() {
+        A a = new A();
+        reflectionUtils.invokeSimpleSetter(a, "field1", 5);
+        Assert.assertEquals(Integer.valueOf(5), a.getField1());
+        reflectionUtils.invokeSimpleSetter(a, "field1", "not an integer");
+        Assert.assertEquals(Integer.valueOf(5), a.getField1());
+    }
+
+    @Test
+    public void testDeepClone() {
+        Node root = new Node("root");
+        Node child = new Node("child");
+        root.children.add(child);
+        root.children.add(child);
+        child.parent = root;
+        child.weights = new int[]{1, 2, 3};
+        child.names = new String[]{"a", "b"};
+        child.attributes = Collections.unmodifiableMap(new TreeMap<>(Collections.singletonMap("key", root)));
+
+        Node copy = reflectionUtils.deepClone(root);
+        Assert.assertNotSame(root, copy);
+        Assert.assertEquals("root", copy.name);
+        Assert.assertEquals(2, copy.children.size());
+        Node childCopy = copy.children.get(0);
+        Assert.assertNotSame(child, childCopy);
+        Assert.assertSame(childCopy, copy.children.get(1));
+        Assert.assertSame(copy, childCopy.parent);
+        Assert.assertNotSame(child.weights, childCopy.weights);
+        Assert.assertArrayEquals(child.weights, childCopy.weights);
+        Assert.assertArrayEquals(child.names, childCopy.names);
+        Assert.assertSame(copy, childCopy.attributes.get("key"));
+        Assert.assertNull(childCopy.cached);
+
+        Node serialized = reflectionUtils.deepClone(root, true);
+        Assert.assertSame(serialized, serialized.children.get(0).parent);
+
+        A a = reflectionUtils.deepClone(object);
+        Assert.assertNotSame(object.getField2(), a.getField2());
+        Assert.assertEquals("Test", a.getField2().getType());
+    }
+
+    @Test
+    public void testDeepInitialization() {
+        Fixture fixture = reflectionUtils.deepInitialization(Fixture.class);
+        Assert.assertNotNull(fixture.name);
+        Assert.assertFalse(fixture.tags.isEmpty());
+        Assert.assertTrue(fixture.tags.iterator().next() instanceof String);
+        Assert.assertFalse(fixture.children.isEmpty());
+        Assert.assertNotNull(fixture.children.get(0).type);
+        Assert.assertNotNull(fixture.values);
+        Assert.assertFalse(fixture.byCode.isEmpty());
+        Assert.assertTrue(fixture.parents.isEmpty());
+
+        List<Fixture> fixtures = reflectionUtils.deepInitialization(Fixture.class, 600);
+        Assert.assertEquals(600, fixtures.size());
+        Assert.assertFalse(fixtures.contains(null));
+        Assert.assertEquals(fixture.name, reflectionUtils.deepInitialization(Fixture.class).name);
+    }
+
+    @Test
+    public void testFormatObjectValues() throws Exception {
+        Node root = new Node("root");
+        for (int i = 0; i < 30; i++) {
+            Node child = new Node("child" + i);
+            child.parent = root;
+            root.children.add(child);
+        }
+        StringBuilder sb = new StringBuilder();
+        reflectionUtils.formatObjectValues(root, sb, true, true);
+        String formatted = sb.toString();
+        Assert.assertTrue(formatted.contains("name (String) = root"));
+        Assert.assertTrue(formatted.contains("<cycle: Node>"));
+        Assert.assertTrue(formatted.contains("... 10 more"));
+        Assert.assertFalse(formatted.contains("child20"));
+
+        sb = new StringBuilder();
+        new ObjectRenderer(10, 1000, 100, true).render(root, sb, false);
+        Assert.assertEquals(103, sb.length());
+        Assert.assertTrue(sb.toString().endsWith("..."));
+
+        Map<?, ?> fieldValues = reflectionUtils.getFieldValueMap(object);
+        Assert.assertEquals(0, fieldValues.get("field1"));
+        Assert.assertSame(object.getField2(), fieldValues.get("field2"));
+    }
+
+    @Test
+    public void testExtractGenerics() throws Exception {
+        Field nested = Generics.class.getDeclaredField("nested");
+        Assert.assertEquals(Map.class, reflectionUtils.extractGenerics(nested));
+        Assert.assertEquals("java.util.List<java.util.Map<java.lang.String, "
+                + Leaf.class.getName() + ">>", ResolvedType.of(nested).toString());
+        Assert.assertEquals(Leaf.class, ResolvedType.of(nested).getElementType().getValueType().getRawType());
+        Assert.assertEquals(Leaf.class, reflectionUtils.extractGenerics(Generics.class.getDeclaredField("bounded")));
+        Assert.assertEquals(Leaf.class, reflectionUtils.extractGenerics(Generics.class.getDeclaredField("array")));
+        Field byName = Generics.class.getDeclaredField("byName");
+        Assert.assertEquals(String.class, reflectionUtils.extractGenericsKeyValue(byName, true));
+        Assert.assertEquals(Leaf.class, reflectionUtils.extractGenericsKeyValue(byName, false));
+        Assert.assertEquals(Leaf.class, reflectionUtils.extractGenerics(LeafList.class));
+        Assert.assertEquals(Object.class, reflectionUtils.extractGenerics(ArrayList.class));
+        Assert.assertEquals(String.class, reflectionUtils.extractGenerics(String[].class));
+        Assert.assertEquals(A.class, reflectionUtils.extractGenerics(A.class));
+        Assert.assertEquals(Object.class, reflectionUtils.extractTypedGenericsParameter(ArrayList.class));
+        Assert.assertEquals("Map<String, Foo>", reflectionUtils.getExtractedGenerics("List<Map<String, Foo>>"));
+        Assert.assertEquals("Foo", reflectionUtils.getExtractedGenerics(" Foo "));
+    }
+
+    public static class LeafList extends ArrayList<Leaf> {
+        private static final long serialVersionUID = 1L;
+    }
+
+    public static class Generics {
+        private Leaf[] array;
+        private List<? extends Leaf> bounded;
+        private Map<String, List<Leaf>> byName;
+        private List<Map<String, Leaf>> nested;
+    }
+
+    public static class Fixture {
+        private Map<Integer, Leaf> byCode;
+        private List<Leaf> children;
+        private List<Fixture> parents;
+        private String name;
+        private SortedSet<String> tags;
+        private long[] values;
+    }
+
+    public static class Leaf {
+        private String type;
+    }
+
+    public static class Node implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private final List<Node> children = new ArrayList<>();
+        private final String name;
+        private Map<String, Node> attributes;
+        private transient Object cached = new Object();
+        private String[] names;
+        private Node parent;
+        private int[] weights;
+
+        public Node(String name) {
+            this.name = name;
+        }
+    }
+
     public class A {
         private Integer field1;
         private B field2;
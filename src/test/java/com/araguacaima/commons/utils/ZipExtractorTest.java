@@ -0,0 +1,154 @@
+package com.araguacaima.commons.utils;
+
+import org.evosuite.runtime.sandbox.Sandbox;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+public class ZipExtractorTest {
+
+    private static final long TIME = 1500000000000L;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void leaveSandbox() {
+        // the EvoSuite tests run before leave their sandbox on, which denies writes to the extracting threads
+        if (Sandbox.isSecurityManagerInitialized()) {
+            Sandbox.resetDefaultSecurityManager();
+        }
+    }
+
+    private static byte[] bytes(int length, long seed) {
+        byte[] bytes = new byte[length];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * @param entries names and contents of the entries, in order; names ending in / are directories
+     */
+    private File zip(String name, Map<String, byte[]> entries) throws IOException {
+        File archive = new File(folder.getRoot(), name);
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(archive))) {
+            long time = TIME;
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                ZipEntry zipEntry = new ZipEntry(entry.getKey());
+                zipEntry.setTime(time += 60000);
+                out.putNextEntry(zipEntry);
+                if (entry.getValue() != null) {
+                    out.write(entry.getValue());
+                }
+                out.closeEntry();
+            }
+        }
+        return archive;
+    }
+
+    private static void assertExtracted(File archive, File outputFolder) throws IOException {
+        try (ZipFile zip = new ZipFile(archive)) {
+            for (Enumeration<? extends ZipEntry> entries = zip.entries(); entries.hasMoreElements(); ) {
+                ZipEntry entry = entries.nextElement();
+                File file = new File(outputFolder, entry.getName());
+                if (entry.isDirectory()) {
+                    Assert.assertTrue(entry.getName(), file.isDirectory());
+                    continue;
+                }
+                byte[] expected = new byte[(int) entry.getSize()];
+                try (DataInputStream in = new DataInputStream(zip.getInputStream(entry))) {
+                    in.readFully(expected);
+                }
+                Assert.assertArrayEquals(entry.getName(), expected, Files.readAllBytes(file.toPath()));
+                Assert.assertEquals(entry.getName(), entry.getTime(), file.lastModified());
+            }
+        }
+    }
+
+    @Test
+    public void testEntriesOutsideOfTheOutputFolderAreRejected() throws IOException {
+        for (String evil : new String[]{"../evil", "a/../../evil", "/abs/evil"}) {
+            Map<String, byte[]> entries = new LinkedHashMap<>();
+            entries.put("ok/", null);
+            entries.put("ok/first.txt", "first".getBytes(StandardCharsets.UTF_8));
+            entries.put(evil, "evil".getBytes(StandardCharsets.UTF_8));
+            entries.put("last.txt", "last".getBytes(StandardCharsets.UTF_8));
+            File archive = zip("evil.zip", entries);
+            File outputFolder = new File(folder.getRoot(), "out/extracted");
+            try {
+                new ZipExtractor(2).extract(archive, outputFolder);
+                Assert.fail("Entry '" + evil + "' was extracted");
+            } catch (IOException e) {
+                Assert.assertTrue(e.getMessage(), e.getMessage().contains(evil));
+            }
+            Assert.assertFalse(outputFolder.exists());
+            Assert.assertFalse(new File(folder.getRoot(), "out/evil").exists());
+            Assert.assertFalse(new File(folder.getRoot(), "evil").exists());
+            Assert.assertFalse(new File("/abs/evil").exists());
+        }
+    }
+
+    @Test
+    public void testNestedArchiveIsExtractedWithItsTimes() throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("a/", null);
+        entries.put("a/b/", null);
+        entries.put("a/b/big.bin", bytes(3 * FileTransfer.BUFFER_SIZE + 5, 1));
+        entries.put("a/b/empty.txt", new byte[0]);
+        entries.put("a/small.txt", bytes(100, 2));
+        entries.put("a/c/", null);
+        entries.put("top.txt", bytes(10, 3));
+        File archive = zip("nested.zip", entries);
+
+        for (int parallelism : new int[]{1, 4}) {
+            File outputFolder = new File(folder.getRoot(), "out" + parallelism);
+            Assert.assertEquals(4, new ZipExtractor(parallelism).extract(archive, outputFolder));
+            assertExtracted(archive, outputFolder);
+            Assert.assertTrue(new File(outputFolder, "a/c").isDirectory());
+        }
+    }
+
+    @Test
+    public void testArchiveWithoutDirectoryEntriesIsExtracted() throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("x/y/z.txt", bytes(20, 4));
+        entries.put("x/w.txt", bytes(30, 5));
+        entries.put("v.txt", bytes(40, 6));
+        File archive = zip("flat.jar", entries);
+
+        File outputFolder = new File(folder.getRoot(), "out");
+        Assert.assertEquals(3, new ZipExtractor().extract(archive, outputFolder));
+        assertExtracted(archive, outputFolder);
+
+        File jarFolder = new File(folder.getRoot(), "jar");
+        JarUtils.getInstance().unZip(jarFolder.getPath(), archive.getPath());
+        assertExtracted(archive, jarFolder);
+    }
+
+    @Test
+    public void testEntriesResolvingToTheSameFileAreWrittenOnce() throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("a/b.txt", "first".getBytes(StandardCharsets.UTF_8));
+        entries.put("a/./b.txt", "second".getBytes(StandardCharsets.UTF_8));
+        entries.put("c.txt", "c".getBytes(StandardCharsets.UTF_8));
+        File archive = zip("same.zip", entries);
+
+        File outputFolder = new File(folder.getRoot(), "out");
+        Assert.assertEquals(2, new ZipExtractor(2).extract(archive, outputFolder));
+        Assert.assertEquals("second", new String(Files.readAllBytes(new File(outputFolder, "a/b.txt").toPath()),
+                StandardCharsets.UTF_8));
+    }
+}
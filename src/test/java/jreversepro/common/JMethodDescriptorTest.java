@@ -0,0 +1,84 @@
+package jreversepro.common;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class JMethodDescriptorTest {
+
+    @Test
+    public void testArgumentsReturnTypeAndSlots() {
+        JMethodDescriptor descriptor = JMethodDescriptor.getInstance("(IJ[[Ljava/lang/String;DLjava/util/List;Z)[B");
+
+        Assert.assertEquals(Arrays.asList("I", "J", "[[Ljava/lang/String", "D", "Ljava/util/List", "Z"),
+                descriptor.getArguments());
+        Assert.assertEquals(6, descriptor.getArgumentCount());
+        // long and double take two slots each
+        Assert.assertEquals(8, descriptor.getArgumentSlots());
+        Assert.assertEquals("[B", descriptor.getReturnType());
+        Assert.assertEquals(1, descriptor.getReturnSlots());
+        Assert.assertEquals("java/lang/String[][]", descriptor.getArgumentType(2).getJavaType(false));
+        Assert.assertEquals("java/lang/String", descriptor.getArgumentType(2).getJavaType(true));
+        Assert.assertEquals(2, descriptor.getArgumentType(3).getSlotCount());
+    }
+
+    @Test
+    public void testMethodsWithoutArguments() {
+        JMethodDescriptor descriptor = JMethodDescriptor.getInstance("()V");
+        Assert.assertEquals(Collections.emptyList(), descriptor.getArguments());
+        Assert.assertEquals(0, descriptor.getArgumentSlots());
+        Assert.assertEquals(0, descriptor.getReturnSlots());
+        Assert.assertEquals(2, JMethodDescriptor.getInstance("()J").getReturnSlots());
+    }
+
+    @Test
+    public void testDescriptorsAreInternedAndShared() {
+        String signature = "(Ljava/lang/Object;I)Ljava/lang/String;";
+        JMethodDescriptor descriptor = JMethodDescriptor.getInstance(signature);
+        Assert.assertSame(descriptor, JMethodDescriptor.getInstance(new String(signature)));
+        Assert.assertSame(descriptor.getArgumentType(1), JFieldDescriptor.getInstance("I"));
+        Assert.assertSame(descriptor.getArguments(), Helper.getArguments(signature));
+        Assert.assertEquals("Ljava/lang/String;", Helper.getReturnType(signature));
+        Assert.assertEquals(signature, descriptor.toString());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testArgumentsCanNotBeModified() {
+        @SuppressWarnings("unchecked")
+        List<String> arguments = Helper.getArguments("(II)V");
+        arguments.clear();
+    }
+
+    @Test
+    public void testFieldDescriptors() {
+        Assert.assertEquals("int", Helper.getJavaDataType("I", false));
+        Assert.assertEquals("boolean[]", Helper.getJavaDataType("[Z", false));
+        Assert.assertEquals("boolean", Helper.getJavaDataType("[Z", true));
+        Assert.assertEquals("java/lang/String", Helper.getJavaDataType("Ljava/lang/String;", false));
+        Assert.assertEquals("java/lang/String", Helper.getJavaDataType("Ljava/lang/String", false));
+        Assert.assertEquals(2, JFieldDescriptor.getInstance("D").getSlotCount());
+        Assert.assertEquals(1, JFieldDescriptor.getInstance("[J").getSlotCount());
+    }
+
+    @Test
+    public void testSignTokenLength() {
+        Assert.assertEquals(1, Helper.getSignTokenLength("IJ"));
+        Assert.assertEquals(3, Helper.getSignTokenLength("[[I"));
+        Assert.assertEquals(19, Helper.getSignTokenLength("[Ljava/lang/String;I"));
+        Assert.assertEquals(18, Helper.getSignTokenLength("IJLjava/lang/String;", 2));
+        Assert.assertEquals(0, Helper.getSignTokenLength("X"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidArgumentTypesAreRejected() {
+        JMethodDescriptor.getInstance("(IX)V");
+    }
+
+    @Test(expected = StringIndexOutOfBoundsException.class)
+    public void testSignaturesWithoutArgumentsEndAreRejected() {
+        JMethodDescriptor.getInstance("(I");
+    }
+}
@@ -0,0 +1,78 @@
+package jreversepro.parser;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class JByteBufferInputTest {
+
+    private static byte[] written() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(-2);
+            out.writeLong(Long.MIN_VALUE + 1);
+            out.writeDouble(0.5);
+            out.writeUTF("café");
+            out.writeByte(-1);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Test
+    public void testReadsBigEndianValuesFromTheBufferPosition() throws IOException {
+        byte[] bytes = written();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length + 3);
+        buffer.put(new byte[]{1, 2, 3}).put(bytes);
+        buffer.position(3);
+
+        JByteBufferInput in = new JByteBufferInput(buffer);
+        Assert.assertEquals(0xCAFEBABE, in.readInt());
+        Assert.assertEquals(-2, in.readShort());
+        Assert.assertEquals(Long.MIN_VALUE + 1, in.readLong());
+        Assert.assertEquals(0.5, in.readDouble(), 0);
+        Assert.assertEquals("café", in.readUTF());
+        Assert.assertEquals(255, in.readUnsignedByte());
+        // the buffer itself is left untouched
+        Assert.assertEquals(3, buffer.position());
+    }
+
+    @Test
+    public void testStopsAtTheLimit() throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{0, 1, 2, 3, 4, 5});
+        buffer.limit(3);
+        JByteBufferInput in = new JByteBufferInput(buffer);
+        Assert.assertEquals(2, in.skipBytes(2));
+        Assert.assertEquals(1, in.skipBytes(10));
+        Assert.assertEquals(0, in.skipBytes(1));
+        try {
+            in.readByte();
+            Assert.fail("Bytes past the limit must not be read");
+        } catch (EOFException expected) {
+        }
+
+        in = new JByteBufferInput(buffer);
+        try {
+            in.readInt();
+            Assert.fail("Bytes past the limit must not be read");
+        } catch (EOFException expected) {
+        }
+    }
+
+    @Test
+    public void testReadLineHandlesEveryTerminator() {
+        byte[] bytes = "a\nb\r\nc\rd".getBytes(StandardCharsets.ISO_8859_1);
+        JByteBufferInput in = new JByteBufferInput(ByteBuffer.wrap(bytes));
+        Assert.assertEquals("a", in.readLine());
+        Assert.assertEquals("b", in.readLine());
+        Assert.assertEquals("c", in.readLine());
+        Assert.assertEquals("d", in.readLine());
+        Assert.assertNull(in.readLine());
+    }
+}
@@ -0,0 +1,150 @@
+package jreversepro.parser;
+
+import jreversepro.reflect.JClassInfo;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+public class JClassParserTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static byte[] fixtureBytes() throws IOException {
+        try (InputStream in = JClassParserTest.class.getResourceAsStream("JClassParserTest$Fixture.class")) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static JClassParser headerParser() {
+        JClassParser parser = new JClassParser();
+        parser.setParseMode(JClassParser.PARSE_HEADER);
+        return parser;
+    }
+
+    @Test
+    public void testHeaderModeStopsAfterTheInterfaces() throws IOException, ClassParserException {
+        byte[] bytes = fixtureBytes();
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        JClassParser parser = headerParser();
+        parser.parse(in, "Fixture.class");
+
+        JClassInfo classInfo = parser.getClassInfo();
+        Assert.assertEquals("jreversepro/parser/JClassParserTest$Fixture", classInfo.getThisClass());
+        Assert.assertEquals("java/lang/Object", classInfo.getSuperClass());
+        Assert.assertEquals(Arrays.asList("java/io/Serializable", "java/lang/Runnable"), classInfo.getInterfaces());
+        Assert.assertTrue(classInfo.getFields().isEmpty());
+        Assert.assertTrue(classInfo.getMethods().isEmpty());
+        // the fields count is the next thing to read
+        Assert.assertEquals(3, in.readUnsignedShort());
+    }
+
+    @Test
+    public void testHeaderModeNeverReadsMembersNorAttributes() throws IOException, ClassParserException {
+        byte[] bytes = fixtureBytes();
+        ByteArrayInputStream in = new ByteArrayInputStream(bytes);
+        headerParser().parse(new DataInputStream(in), "Fixture.class");
+        int headerLength = bytes.length - in.available();
+
+        // members and attributes replaced with garbage, then cut off
+        byte[] garbled = bytes.clone();
+        Arrays.fill(garbled, headerLength, garbled.length, (byte) 0xFF);
+        JClassParser parser = headerParser();
+        parser.parse(new DataInputStream(new ByteArrayInputStream(garbled)), "Fixture.class");
+        Assert.assertEquals("jreversepro/parser/JClassParserTest$Fixture", parser.getClassInfo().getThisClass());
+        parser.parse(new DataInputStream(new ByteArrayInputStream(Arrays.copyOf(bytes, headerLength))), "");
+        Assert.assertEquals(2, parser.getClassInfo().getInterfaces().size());
+    }
+
+    @Test
+    public void testFullModeRejectsVersionsHeaderModeAccepts() throws IOException, ClassParserException {
+        byte[] bytes = fixtureBytes();
+        JClassParser parser = new JClassParser();
+        try {
+            parser.parse(bytes);
+            Assert.fail("Class files newer than 48.0 are not decompiled");
+        } catch (ClassParserException expected) {
+            Assert.assertTrue(expected.toString().contains("version not supported"));
+        }
+        parser.setParseMode(JClassParser.PARSE_HEADER);
+        parser.parse(bytes);
+        Assert.assertEquals(JClassParser.PARSE_HEADER, parser.getParseMode());
+        Assert.assertEquals("java/lang/Object", parser.getClassInfo().getSuperClass());
+    }
+
+    @Test
+    public void testJarEntriesOfUnknownSizeAreReadWhole() throws IOException, ClassParserException {
+        byte[] bytes = fixtureBytes();
+        File jar = folder.newFile("fixture.jar");
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+            out.putNextEntry(new ZipEntry("Fixture.class"));
+            out.write(bytes);
+            out.closeEntry();
+        }
+        JClassParser parser = headerParser();
+        try (ZipFile zipFile = new ZipFile(jar)) {
+            // an entry built by name, as callers do, does not know its size
+            ZipEntry entry = new ZipEntry("Fixture.class");
+            Assert.assertEquals(-1, entry.getSize());
+            parser.parse(zipFile, entry);
+        }
+        Assert.assertEquals("jreversepro/parser/JClassParserTest$Fixture", parser.getClassInfo().getThisClass());
+        Assert.assertEquals(jar.getPath() + "!/Fixture.class", parser.getClassInfo().getPathName());
+    }
+
+    @Test
+    public void testStreamsLargerThanTheGivenLengthAreReadWhole() throws IOException, ClassParserException {
+        byte[] bytes = fixtureBytes();
+        // a class file larger than the buffer of the thread, preceded by another class file that fits in it
+        byte[] large = Arrays.copyOf(bytes, 64 * 1024);
+        JClassParser parser = headerParser();
+        parser.parse(new BufferedInputStream(new ByteArrayInputStream(bytes)), 0, "small");
+        parser.parse(new BufferedInputStream(new ByteArrayInputStream(large)), 0, "large");
+        Assert.assertEquals("jreversepro/parser/JClassParserTest$Fixture", parser.getClassInfo().getThisClass());
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length + 1);
+        buffer.put((byte) 0).put(bytes).position(1);
+        parser.parse(buffer, "direct");
+        Assert.assertEquals(1, buffer.position());
+        Assert.assertEquals("java/lang/Object", parser.getClassInfo().getSuperClass());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownParseModeIsRejected() {
+        new JClassParser().setParseMode(2);
+    }
+
+    @SuppressWarnings("unused")
+    private static class Fixture implements Serializable, Runnable {
+        private static final long serialVersionUID = 1L;
+        private String name;
+        private int[] values;
+
+        @Override
+        public void run() {
+            name = String.valueOf(values.length);
+        }
+    }
+}
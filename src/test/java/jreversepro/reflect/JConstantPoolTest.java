@@ -0,0 +1,80 @@
+package jreversepro.reflect;
+
+import jreversepro.parser.ClassParserException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+public class JConstantPoolTest {
+
+    private static void addUtf8(JConstantPool pool, String value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(value);
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        pool.addUtf8Entry(in, in.readUnsignedShort());
+    }
+
+    @Test
+    public void testNumbersAreFormattedFromTheirBits() throws ClassParserException {
+        JConstantPool pool = new JConstantPool(1);
+        pool.addNullEntry();
+        pool.addIntegerEntry(-5);
+        pool.addFloatEntry(1.5f);
+        pool.addLongEntry(Long.MIN_VALUE + 1);
+        pool.addNullEntry();
+        pool.addDoubleEntry(-0.25);
+        pool.addNullEntry();
+
+        Assert.assertEquals(7, pool.getMaxCpEntry());
+        Assert.assertEquals("-5", pool.getBasicDataTypeValue(1));
+        Assert.assertEquals("1.5f", pool.getBasicDataTypeValue(2));
+        Assert.assertEquals((Long.MIN_VALUE + 1) + "L", pool.getBasicDataTypeValue(3));
+        Assert.assertEquals("-0.25", pool.getBasicDataTypeValue(5));
+        // data held in the pointer slots is not exposed as pointers
+        Assert.assertEquals(JConstantPool.PTR_INVALID, pool.getPtr1(1));
+        Assert.assertEquals(JConstantPool.PTR_INVALID, pool.getPtr2(3));
+        Assert.assertEquals(JConstantPool.TAG_NOTHING, pool.getTagByte(4));
+        Assert.assertEquals(JConstantPool.STR_INVALID, pool.getCpValue(4));
+    }
+
+    @Test
+    public void testUtf8EntriesAreDecodedLazily() throws IOException {
+        JConstantPool pool = new JConstantPool(2);
+        pool.addNullEntry();
+        addUtf8(pool, "java/lang/String");
+        addUtf8(pool, "café €\u0000");
+        addUtf8(pool, "");
+        // past the initial capacity of both the entries and the string bytes
+        StringBuilder longName = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            longName.append("segment/");
+        }
+        addUtf8(pool, longName.toString());
+        pool.addClassEntry(1);
+        pool.addStringEntry(2);
+
+        Assert.assertEquals("java/lang/String", pool.getUtf8String(1));
+        Assert.assertEquals("café €\u0000", pool.getUtf8String(2));
+        Assert.assertEquals("", pool.getUtf8String(3));
+        Assert.assertEquals(longName.toString(), pool.getUtf8String(4));
+        Assert.assertEquals("java/lang/String", pool.getClassName(5));
+        Assert.assertEquals(1, pool.getPtr1(5));
+        Assert.assertEquals("café €\u0000", pool.getFirstDirectName(6));
+        Assert.assertEquals(7, pool.getEntries().size());
+        Assert.assertEquals(JConstantPool.TAG_CLASS, pool.getEntries().get(5).getTagByte());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIndexesOutOfThePoolAreRejected() {
+        JConstantPool pool = new JConstantPool(4);
+        pool.addNullEntry();
+        pool.getCpValue(1);
+    }
+}
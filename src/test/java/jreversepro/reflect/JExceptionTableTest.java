@@ -0,0 +1,95 @@
+package jreversepro.reflect;
+
+import jreversepro.common.KeyWords;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class JExceptionTableTest {
+
+    private static List<JException> coveringBruteForce(List<JException> blocks, int pc) {
+        List<JException> covering = new ArrayList<>();
+        for (JException block : blocks) {
+            if (block.getStartPc() <= pc && pc < block.getEndPc()) {
+                covering.add(block);
+            }
+        }
+        return covering;
+    }
+
+    private static List<JException> endingBruteForce(List<JException> blocks, int pc) {
+        List<JException> ending = new ArrayList<>();
+        for (JException block : blocks) {
+            if (block.getEndPc() == pc) {
+                ending.add(block);
+            }
+        }
+        return ending;
+    }
+
+    @Test
+    public void testNestedBlocksAreFoundInTableOrder() {
+        // try { try { ... } catch (inner) {} } catch (outer) {}, inner handlers first as javac lays them out
+        JException inner = new JException(4, 10, 12, "java/io/IOException");
+        JException outer = new JException(0, 20, 30, "java/lang/Exception");
+        JException sibling = new JException(40, 50, 52, "java/lang/RuntimeException");
+        JExceptionTable table = new JExceptionTable(Arrays.asList(inner, outer, sibling));
+
+        Assert.assertEquals(Collections.singletonList(outer), table.getCoveringBlocks(0));
+        Assert.assertEquals(Arrays.asList(inner, outer), table.getCoveringBlocks(4));
+        Assert.assertEquals(Arrays.asList(inner, outer), table.getCoveringBlocks(9));
+        Assert.assertEquals(Collections.singletonList(outer), table.getCoveringBlocks(10));
+        Assert.assertEquals(Collections.emptyList(), table.getCoveringBlocks(20));
+        Assert.assertEquals(Collections.singletonList(sibling), table.getCoveringBlocks(45));
+        Assert.assertEquals(Collections.emptyList(), table.getCoveringBlocks(60));
+        Assert.assertEquals("java/io/IOException", table.getHandlerType(12));
+        Assert.assertEquals("java/lang/Exception", table.getHandlerType(30));
+        Assert.assertNull(table.getHandlerType(4));
+    }
+
+    @Test
+    public void testOverlappingBlocksMatchLinearScan() {
+        List<JException> blocks = new ArrayList<>();
+        // many blocks sharing a start pc, more than the initial capacity of the positions found
+        for (int i = 0; i < 10; i++) {
+            blocks.add(new JException(0, 100 - i * 7, 200 + i, "E" + i));
+        }
+        blocks.add(new JException(35, 36, 300, "java/lang/Throwable"));
+        blocks.add(new JException(50, 120, 301, "java/lang/Error"));
+        JExceptionTable table = new JExceptionTable(blocks);
+
+        Assert.assertEquals(blocks.size(), table.size());
+        for (int pc = -1; pc <= 125; pc++) {
+            Assert.assertEquals("pc " + pc, coveringBruteForce(blocks, pc), table.getCoveringBlocks(pc));
+            Assert.assertEquals("pc " + pc, endingBruteForce(blocks, pc), table.getBlocksEndingAt(pc));
+        }
+    }
+
+    @Test
+    public void testEmptyTable() {
+        JExceptionTable table = new JExceptionTable(Collections.emptyList());
+        Assert.assertEquals(0, table.size());
+        Assert.assertEquals(Collections.emptyList(), table.getCoveringBlocks(0));
+        Assert.assertEquals(Collections.emptyList(), table.getBlocksEndingAt(0));
+    }
+
+    @Test
+    public void testBlocksEndingAtAPcAreFoundInTableOrder() {
+        // try { ... } catch (e) { ... } finally { ... }, the body of the catch covered by the finally
+        JException tryBody = new JException(0, 10, 13, "java/io/IOException");
+        tryBody.addCatchBlock(30, KeyWords.ANY);
+        JException catchBody = new JException(13, 25, 30, KeyWords.ANY);
+        // a second try..finally ending at the same pc, later in the table
+        JException other = new JException(5, 25, 40, KeyWords.ANY);
+        JExceptionTable table = new JExceptionTable(Arrays.asList(tryBody, catchBody, other));
+
+        Assert.assertEquals(Collections.singletonList(tryBody), table.getBlocksEndingAt(10));
+        Assert.assertEquals(Arrays.asList(catchBody, other), table.getBlocksEndingAt(25));
+        Assert.assertEquals(Collections.emptyList(), table.getBlocksEndingAt(13));
+        Assert.assertEquals(KeyWords.ANY, table.getHandlerType(30));
+    }
+}
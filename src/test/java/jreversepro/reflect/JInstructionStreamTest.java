@@ -0,0 +1,146 @@
+package jreversepro.reflect;
+
+import jreversepro.common.JJvmOpcodes;
+import jreversepro.revengine.JCaseEntry;
+import jreversepro.revengine.JSwitchTable;
+import jreversepro.revengine.RevEngineException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class JInstructionStreamTest {
+
+    private static byte[] bytes(int... code) {
+        byte[] bytes = new byte[code.length];
+        for (int i = 0; i < code.length; i++) {
+            bytes[i] = (byte) code[i];
+        }
+        return bytes;
+    }
+
+    private static List<Integer> targets(JSwitchTable table) {
+        List<Integer> targets = new ArrayList<>();
+        for (JCaseEntry entry : table.getCases()) {
+            targets.add(entry.getTarget());
+        }
+        Collections.sort(targets);
+        return targets;
+    }
+
+    /**
+     * switch (n) { case -1: jumps back to 0; case 0: return; default: 24 }, the switch padded from 1 to 4.
+     */
+    @Test
+    public void testTableSwitchWithNegativeKeysAndBackwardTargets() throws IOException, RevEngineException {
+        byte[] code = bytes(
+                0x1a,                       //  0: iload_0
+                0xaa, 0x00, 0x00,           //  1: tableswitch, padded
+                0x00, 0x00, 0x00, 0x17,     //  4: default 1 + 23 = 24
+                0xff, 0xff, 0xff, 0xff,     //  8: low -1
+                0x00, 0x00, 0x00, 0x00,     // 12: high 0
+                0xff, 0xff, 0xff, 0xff,     // 16: case -1, 1 - 1 = 0
+                0x00, 0x00, 0x00, 0x18,     // 20: case 0, 1 + 24 = 25
+                0x04,                       // 24: iconst_1
+                0xac);                      // 25: ireturn
+        JInstructionStream stream = new JInstructionStream(code);
+
+        Assert.assertEquals(4, stream.size());
+        Assert.assertEquals(JJvmOpcodes.OPCODE_TABLESWITCH, stream.getOpcode(1));
+        Assert.assertEquals(4, stream.getArgStart(1));
+        Assert.assertEquals(20, stream.getArgLength(1));
+        Assert.assertEquals(24, stream.getNextIndex(1));
+        Assert.assertEquals(2, stream.indexOf(24));
+        Assert.assertEquals(-1, stream.indexOf(4));
+
+        JInstructionStream.Cursor cursor = stream.cursor();
+        Assert.assertTrue(cursor.next());
+        Assert.assertTrue(cursor.next());
+        Assert.assertTrue(cursor.isASwitchIns());
+        Assert.assertEquals(-1, cursor.getArgInt(4));
+        Assert.assertEquals(-1, cursor.getArgInt(12));
+
+        JMethod method = new JMethod(new JClassInfo());
+        method.setBytes(code);
+        JSwitchTable table = new JSwitchTable(method, stream.toInstruction(1), null);
+        Assert.assertEquals(24, table.getDefaultByte());
+        Assert.assertEquals(Arrays.asList(0, 25), targets(table));
+    }
+
+    /**
+     * switch (n) { case -7: jumps back to 0; case 3: return; default: return }.
+     */
+    @Test
+    public void testLookupSwitchWithNegativeKeysAndBackwardTargets() throws IOException, RevEngineException {
+        byte[] code = bytes(
+                0x1a,                       //  0: iload_0
+                0xab, 0x00, 0x00,           //  1: lookupswitch, padded
+                0x00, 0x00, 0x00, 0x1b,     //  4: default 1 + 27 = 28
+                0x00, 0x00, 0x00, 0x02,     //  8: 2 pairs
+                0xff, 0xff, 0xff, 0xf9,     // 12: key -7
+                0xff, 0xff, 0xff, 0xff,     // 16: 1 - 1 = 0
+                0x00, 0x00, 0x00, 0x03,     // 20: key 3
+                0x00, 0x00, 0x00, 0x1b,     // 24: 1 + 27 = 28
+                0xb1);                      // 28: return
+        JInstructionStream stream = new JInstructionStream(code);
+
+        Assert.assertEquals(3, stream.size());
+        Assert.assertEquals(28, stream.getIndex(2));
+        Assert.assertEquals(24, stream.getArgLength(1));
+
+        JMethod method = new JMethod(new JClassInfo());
+        method.setBytes(code);
+        JSwitchTable table = new JSwitchTable(method, stream.toInstruction(1), null);
+        Assert.assertEquals(28, table.getDefaultByte());
+        Assert.assertEquals(Arrays.asList(0, 28), targets(table));
+    }
+
+    @Test
+    public void testWideInstructionsAndBranches() {
+        JInstructionStream stream = new JInstructionStream(bytes(
+                0xc4, 0x15, 0x01, 0x00,     //  0: wide iload 256
+                0x99, 0xff, 0xfc,           //  4: ifeq 0
+                0xb1));                     //  7: return
+
+        Assert.assertEquals(4, stream.size());
+        Assert.assertTrue(stream.isWide(1));
+        Assert.assertEquals(4, stream.getIndex(2));
+        JInstructionStream.Cursor cursor = stream.cursor();
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(cursor.next());
+        }
+        Assert.assertTrue(cursor.isAnIfIns());
+        Assert.assertEquals(0, cursor.getTargetPc());
+        Assert.assertTrue(cursor.next());
+        Assert.assertFalse(cursor.next());
+        Assert.assertFalse(cursor.next());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTableSwitchWithHighBelowLowIsRejected() {
+        new JInstructionStream(bytes(
+                0x00, 0x00, 0x00,           //  0: nop, nop, nop
+                0xaa,                       //  3: tableswitch
+                0x00, 0x00, 0x00, 0x00,     //  4: default
+                0x00, 0x00, 0x00, 0x05,     //  8: low 5
+                0x00, 0x00, 0x00, 0x01));   // 12: high 1
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLookupSwitchWithNegativePairCountIsRejected() {
+        new JInstructionStream(bytes(
+                0x00, 0x00, 0x00,           //  0: nop, nop, nop
+                0xab,                       //  3: lookupswitch
+                0x00, 0x00, 0x00, 0x00,     //  4: default
+                0x80, 0x00, 0x00, 0x01));   //  8: npairs Integer.MIN_VALUE + 1
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTruncatedInstructionIsRejected() {
+        new JInstructionStream(bytes(0x03, 0x11, 0x00));
+    }
+}
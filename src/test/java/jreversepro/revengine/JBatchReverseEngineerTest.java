@@ -0,0 +1,89 @@
+package jreversepro.revengine;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+public class JBatchReverseEngineerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * @return the class file of Fixture, relabelled as a 48.0 class file so that it is decompiled
+     */
+    private static byte[] fixtureBytes() throws IOException {
+        try (InputStream in = JBatchReverseEngineerTest.class.getResourceAsStream(
+                "JBatchReverseEngineerTest$Fixture.class")) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            byte[] bytes = out.toByteArray();
+            bytes[4] = 0;
+            bytes[5] = 0;
+            bytes[6] = 0;
+            bytes[7] = 48;
+            return bytes;
+        }
+    }
+
+    @Test
+    public void testUnreadableRootsAreReportedAndSkipped() throws IOException {
+        byte[] bytes = fixtureBytes();
+        File broken = folder.newFile("broken.jar");
+        Files.write(broken.toPath(), new byte[]{'n', 'o', 't', ' ', 'a', ' ', 'z', 'i', 'p'});
+        File directory = folder.newFolder("classes");
+        Files.write(new File(directory, "Fixture.class").toPath(), bytes);
+        File jar = folder.newFile("fixture.jar");
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+            out.putNextEntry(new ZipEntry("Fixture.class"));
+            out.write(bytes);
+            out.closeEntry();
+        }
+
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        List<String> failed = Collections.synchronizedList(new ArrayList<>());
+        JSourceSink sink = new JSourceSink() {
+            public void write(String aClassName, String aSource) {
+                written.add(aClassName);
+            }
+
+            public void failed(String aPath, Throwable aCause) {
+                failed.add(aPath);
+            }
+        };
+        int count = new JBatchReverseEngineer(false, 2, JBatchReverseEngineer.DEFAULT_BYTES_IN_FLIGHT).process(
+                Arrays.asList(broken, directory, jar), sink);
+
+        Assert.assertEquals(Collections.singletonList(broken.toString()), failed);
+        Assert.assertEquals(2, count);
+        Assert.assertEquals(Arrays.asList("jreversepro/revengine/JBatchReverseEngineerTest$Fixture",
+                "jreversepro/revengine/JBatchReverseEngineerTest$Fixture"), written);
+    }
+
+    @SuppressWarnings("unused")
+    private static class Fixture {
+        private int value;
+
+        int twice() {
+            return value * 2;
+        }
+    }
+}
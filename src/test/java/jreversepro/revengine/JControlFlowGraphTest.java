@@ -0,0 +1,106 @@
+package jreversepro.revengine;
+
+import jreversepro.reflect.JClassInfo;
+import jreversepro.reflect.JMethod;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JControlFlowGraphTest {
+
+    private static JControlFlowGraph graph(int... code) {
+        byte[] bytes = new byte[code.length];
+        for (int i = 0; i < code.length; i++) {
+            bytes[i] = (byte) code[i];
+        }
+        JMethod method = new JMethod(new JClassInfo());
+        method.setBytes(bytes);
+        return new JControlFlowGraph(method);
+    }
+
+    /**
+     * int i = 0; while (i &lt; n) { i++; } return i;
+     */
+    @Test
+    public void testLoopWithConditionFirst() {
+        JControlFlowGraph graph = graph(
+                0x03,               //  0: iconst_0
+                0x3c,               //  1: istore_1
+                0x1b,               //  2: iload_1
+                0x1a,               //  3: iload_0
+                0xa2, 0x00, 0x09,   //  4: if_icmpge 13
+                0x84, 0x01, 0x01,   //  7: iinc 1, 1
+                0xa7, 0xff, 0xf8,   // 10: goto 2
+                0x1b,               // 13: iload_1
+                0xac);              // 14: ireturn
+
+        Assert.assertEquals(4, graph.getBlockCount());
+        int entry = graph.getBlock(0);
+        int header = graph.getBlock(2);
+        int body = graph.getBlock(7);
+        int exit = graph.getBlock(13);
+        Assert.assertEquals(header, graph.getBlock(4));
+        Assert.assertEquals(body, graph.getBlock(10));
+        Assert.assertEquals(2, graph.getBlockStartPc(header));
+        Assert.assertEquals(7, graph.getBlockEndPc(header));
+        Assert.assertTrue(graph.isBlockStart(13));
+        Assert.assertFalse(graph.isBlockStart(3));
+
+        Assert.assertEquals(-1, graph.getImmediateDominator(entry));
+        Assert.assertEquals(entry, graph.getImmediateDominator(header));
+        Assert.assertEquals(header, graph.getImmediateDominator(body));
+        Assert.assertEquals(header, graph.getImmediateDominator(exit));
+        Assert.assertTrue(graph.dominates(header, body));
+        Assert.assertFalse(graph.dominates(body, exit));
+        Assert.assertEquals(2, graph.getPredecessors(header).length);
+
+        Assert.assertTrue(graph.isBackEdge(10, 2));
+        Assert.assertFalse(graph.isBackEdge(4, 13));
+        Assert.assertEquals(2, graph.getGotoTarget(10));
+        Assert.assertEquals(-1, graph.getGotoTarget(4));
+        Assert.assertTrue(graph.isGotoTarget(2));
+        Assert.assertFalse(graph.isGotoTarget(13));
+    }
+
+    /**
+     * int s = 0; for (int i = 0; i &lt; n; i++) { s += i; } return s; as laid out by javac, with the condition
+     * at the bottom of the loop.
+     */
+    @Test
+    public void testLoopWithConditionLast() {
+        JControlFlowGraph graph = graph(
+                0x03,               //  0: iconst_0
+                0x3c,               //  1: istore_1
+                0x03,               //  2: iconst_0
+                0x3d,               //  3: istore_2
+                0xa7, 0x00, 0x0a,   //  4: goto 14
+                0x1b,               //  7: iload_1
+                0x1c,               //  8: iload_2
+                0x60,               //  9: iadd
+                0x3c,               // 10: istore_1
+                0x84, 0x02, 0x01,   // 11: iinc 2, 1
+                0x1c,               // 14: iload_2
+                0x1a,               // 15: iload_0
+                0xa1, 0xff, 0xf7,   // 16: if_icmplt 7
+                0x1b,               // 19: iload_1
+                0xac);              // 20: ireturn
+
+        Assert.assertEquals(4, graph.getBlockCount());
+        int entry = graph.getBlock(0);
+        int body = graph.getBlock(7);
+        int condition = graph.getBlock(14);
+        int exit = graph.getBlock(19);
+
+        // the condition is the header: the body is only reached through it
+        Assert.assertEquals(entry, graph.getImmediateDominator(condition));
+        Assert.assertEquals(condition, graph.getImmediateDominator(body));
+        Assert.assertEquals(condition, graph.getImmediateDominator(exit));
+        Assert.assertFalse(graph.dominates(body, condition));
+
+        // the body falls through to the header, the conditional jump back into the body is a forward edge
+        Assert.assertTrue(graph.isBackEdge(11, 14));
+        Assert.assertFalse(graph.isBackEdge(16, 7));
+        Assert.assertFalse(graph.isBackEdge(4, 14));
+        Assert.assertEquals(14, graph.getGotoTarget(4));
+        Assert.assertTrue(graph.isGotoTarget(14));
+    }
+}
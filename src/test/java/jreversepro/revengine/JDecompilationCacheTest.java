@@ -0,0 +1,93 @@
+package jreversepro.revengine;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+public class JDecompilationCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static String key(String classBytes) {
+        return JDecompilationCache.getKey(classBytes.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testMissAndHit() throws IOException {
+        File directory = folder.newFolder("cache");
+        JDecompilationCache cache = new JDecompilationCache(directory);
+        String key = key("A");
+        Assert.assertNull(cache.get(key, false));
+
+        cache.put(key, false, "com/foo/A", "class A {\n}\n");
+        JDecompilationCache.Entry entry = cache.get(key, false);
+        Assert.assertNotNull(entry);
+        Assert.assertEquals("com/foo/A", entry.getClassName());
+        Assert.assertEquals("class A {\n}\n", entry.getSource());
+        Assert.assertNull(cache.get(key, true));
+
+        entry = new JDecompilationCache(directory).get(key, false);
+        Assert.assertNotNull(entry);
+        Assert.assertEquals("class A {\n}\n", entry.getSource());
+    }
+
+    @Test
+    public void testEntriesOfOtherVersionsAreRemoved() throws IOException {
+        File directory = folder.newFolder("cache");
+        Path oldVersion = directory.toPath().resolve("0.0-0");
+        Files.createDirectories(oldVersion.resolve("ab"));
+        Files.createFile(oldVersion.resolve(".jreversepro-cache"));
+        Files.write(oldVersion.resolve("ab").resolve("abcd.src"), "com/foo/A\nold".getBytes(StandardCharsets.UTF_8));
+        Path unrelated = Files.createDirectories(directory.toPath().resolve("unrelated"));
+
+        JDecompilationCache cache = new JDecompilationCache(directory);
+        Assert.assertFalse(Files.exists(oldVersion));
+        Assert.assertTrue(Files.exists(unrelated));
+        Assert.assertTrue(Files.isDirectory(directory.toPath().resolve(JDecompilationCache.VERSION_STAMP)));
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntriesAreEvicted() throws IOException {
+        String source = "0123456789";
+        int entrySize = ("com/foo/A\n" + source).length();
+        JDecompilationCache cache = new JDecompilationCache(folder.newFolder("cache"), 2 * entrySize);
+        String a = key("A");
+        String b = key("B");
+        String c = key("C");
+        cache.put(a, false, "com/foo/A", source);
+        cache.put(b, false, "com/foo/B", source);
+        Assert.assertNotNull(cache.get(a, false));
+
+        cache.put(c, false, "com/foo/C", source);
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(2 * entrySize, cache.getTotalBytes());
+        Assert.assertNotNull(cache.get(a, false));
+        Assert.assertNull(cache.get(b, false));
+        Assert.assertNotNull(cache.get(c, false));
+    }
+
+    @Test
+    public void testOnlyStaleTemporaryFilesAreRemoved() throws IOException {
+        File directory = folder.newFolder("cache");
+        new JDecompilationCache(directory);
+        Path entries = Files.createDirectories(directory.toPath().resolve(JDecompilationCache.VERSION_STAMP)
+                .resolve("ab"));
+        Path fresh = Files.createFile(entries.resolve("abcd1.tmp"));
+        Path stale = Files.createFile(entries.resolve("abcd2.tmp"));
+        Files.setLastModifiedTime(stale, FileTime.fromMillis(System.currentTimeMillis() - 24L * 60 * 60 * 1000));
+
+        new JDecompilationCache(directory);
+        Assert.assertTrue(Files.exists(fresh));
+        Assert.assertFalse(Files.exists(stale));
+    }
+}
@@ -0,0 +1,92 @@
+package jreversepro.runtime;
+
+import jreversepro.revengine.RevEngineException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.Stack;
+
+public class JOperandStackTest {
+
+    @Test
+    public void testGrowsPastTheDeclaredMaxStack() {
+        JOperandStack stack = new JOperandStack(1);
+        for (int i = 0; i < 5; i++) {
+            stack.push(i, "I", OperandConstants.VALUE);
+        }
+        Assert.assertEquals(5, stack.size());
+        Assert.assertEquals("4", stack.peek().getValue());
+        for (int i = 4; i >= 0; i--) {
+            Assert.assertEquals(String.valueOf(i), stack.pop().getValue());
+        }
+        Assert.assertTrue(stack.empty());
+        Assert.assertTrue(new JOperandStack(0).empty());
+    }
+
+    @Test
+    public void testInheritedStackMethodsSeeTheOperands() {
+        JOperandStack stack = new JOperandStack(4);
+        Operand first = stack.push(new Operand("a", "Ljava/lang/String;", OperandConstants.VALUE));
+        Operand second = stack.push(new Operand("b", "Ljava/lang/String;", OperandConstants.VALUE));
+
+        Stack<Operand> asStack = stack;
+        Assert.assertSame(first, asStack.get(0));
+        Assert.assertSame(second, asStack.lastElement());
+        Assert.assertEquals(2, asStack.search(first));
+        Assert.assertFalse(asStack.isEmpty());
+        Assert.assertEquals("[" + first + ", " + second + "]", stack.toString());
+
+        asStack.pop();
+        Assert.assertEquals(1, asStack.size());
+        asStack.clear();
+        Assert.assertTrue(stack.empty());
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIteratorsFailWhenTheStackChanges() {
+        JOperandStack stack = new JOperandStack(2);
+        stack.push(1, "I", OperandConstants.VALUE);
+        stack.push(2, "I", OperandConstants.VALUE);
+        Iterator<Operand> operands = stack.iterator();
+        operands.next();
+        stack.pop();
+        operands.next();
+    }
+
+    @Test
+    public void testMergeTopTwo() throws RevEngineException {
+        JOperandStack stack = new JOperandStack();
+        stack.push("x ? ", "I", OperandConstants.VALUE);
+        stack.push("1 : 2", "I", OperandConstants.VALUE);
+        stack.mergeTopTwo();
+        Assert.assertEquals(1, stack.size());
+        Assert.assertEquals("x ? 1 : 2", stack.peek().getValue());
+        Assert.assertEquals(OperandConstants.L_TERN, stack.peek().getPrecedence());
+        Assert.assertEquals("I", stack.topDatatype());
+    }
+
+    @Test(expected = RevEngineException.class)
+    public void testMergeTopTwoNeedsTwoOperands() throws RevEngineException {
+        JOperandStack stack = new JOperandStack();
+        stack.push(1, "I", OperandConstants.VALUE);
+        stack.mergeTopTwo();
+    }
+
+    @Test(expected = EmptyStackException.class)
+    public void testPopOfAnEmptyStackThrows() {
+        new JOperandStack().pop();
+    }
+
+    @Test
+    public void testConstants() {
+        JOperandStack stack = new JOperandStack();
+        stack.addConstant("\"run\"");
+        stack.addConstant("\"args\"");
+        Assert.assertEquals("{\"run\",\"args\"}", stack.getConstantValues());
+        stack.removeAllConstants();
+        Assert.assertEquals("{}", stack.getConstantValues());
+    }
+}